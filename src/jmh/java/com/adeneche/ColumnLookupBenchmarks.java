@@ -0,0 +1,85 @@
+package com.adeneche;
+
+import com.adeneche.metadata.Metadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads and builds synthetic caches with the same total number of row group columns but an increasing number of
+ * distinct columns. With a constant time column lookup the time should stay roughly the same for every width.<br>
+ * Run with: mvn -Pjmh package && java -cp target/benchmarks.jar org.openjdk.jmh.Main ColumnLookupBenchmarks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ColumnLookupBenchmarks {
+
+  /** number of distinct columns */
+  @Param({ "250", "500", "1000", "2000" })
+  public int width;
+  /** number of row group columns of the cache, split in files of width columns */
+  @Param("2000000")
+  public int totalColumns;
+
+  private byte[] json;
+
+  @Setup
+  public void setup() {
+    json = generate(totalColumns / width, width);
+  }
+
+  @Benchmark
+  public List<Metadata.ParquetFileMetadata> loadAndBuild() throws IOException {
+    final Holders.ParquetTableMetadata tableMetadata =
+      new JsonLoader().load(new JsonReader(new ByteArrayInputStream(json)));
+    final ProtoBuilder protoBuilder = new ProtoBuilder(tableMetadata);
+    protoBuilder.buildColumns();
+    return protoBuilder.buildFiles();
+  }
+
+  private static byte[] generate(final int numFiles, final int numColumns) {
+    final StringBuilder json = new StringBuilder("{\"metadata_version\":\"v2\",\"columnTypeInfo\":{");
+    for (int c = 0; c < numColumns; c++) {
+      if (c > 0) {
+        json.append(',');
+      }
+      json.append(String.format(
+        "\"`s`.`c%d`\":{\"name\":[\"s\",\"c%d\"],\"primitiveType\":\"INT64\",\"originalType\":null}", c, c));
+    }
+    json.append("},\"files\":[");
+    for (int f = 0; f < numFiles; f++) {
+      if (f > 0) {
+        json.append(',');
+      }
+      json.append(String.format("{\"path\":\"/table/file_%d.parquet\",\"length\":1000,\"rowGroups\":[{\"start\":4," +
+        "\"length\":996,\"rowCount\":10,\"hostAffinity\":{\"host\":1.0},\"columns\":[", f));
+      for (int c = 0; c < numColumns; c++) {
+        if (c > 0) {
+          json.append(',');
+        }
+        json.append("{\"name\":[\"s\",\"c").append(c).append("\"],\"mxValue\":").append(f).append(",\"nulls\":0}");
+      }
+      json.append("]}]}");
+    }
+    json.append("],\"directories\":[]}");
+    return json.toString().getBytes(StandardCharsets.UTF_8);
+  }
+}
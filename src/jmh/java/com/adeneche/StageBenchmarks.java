@@ -0,0 +1,136 @@
+package com.adeneche;
+
+import com.adeneche.metadata.Metadata;
+import com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName;
+import com.google.common.io.ByteStreams;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures each stage of a conversion separately on a synthetic cache: json loading, proto building, writing and
+ * parsing the binary cache.<br>
+ * Run with: mvn -Pjmh package && java -jar target/benchmarks.jar [jmh options], e.g. -p numFiles=10000 to change
+ * the size of the cache. The allocation rate of each stage is always reported with jmh's gc profiler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class StageBenchmarks {
+
+  @Param("1000")
+  public int numFiles;
+  @Param("2")
+  public int rowGroupsPerFile;
+  @Param("50")
+  public int numColumns;
+  /** comma separated primitive types of the columns, or ALL */
+  @Param("ALL")
+  public String types;
+
+  private byte[] json;
+  private Holders.ParquetTableMetadata tableMetadata;
+  private ProtoBuilder protoBuilder;
+  private MetadataHolder holder;
+  private byte[] cache;
+  private File cacheFile;
+
+  @Setup
+  public void setup() throws IOException {
+    final CacheGenerator generator = new CacheGenerator();
+    generator.numFiles = numFiles;
+    generator.rowGroupsPerFile = rowGroupsPerFile;
+    generator.numColumns = numColumns;
+    if (!"ALL".equals(types)) {
+      final String[] names = types.split(",");
+      generator.types = new PrimitiveTypeName[names.length];
+      for (int i = 0; i < names.length; i++) {
+        generator.types[i] = PrimitiveTypeName.valueOf(names[i].trim());
+      }
+    }
+
+    final ByteArrayOutputStream jsonStream = new ByteArrayOutputStream();
+    generator.write(jsonStream);
+    json = jsonStream.toByteArray();
+
+    tableMetadata = load();
+    protoBuilder = new ProtoBuilder(tableMetadata);
+    holder = new MetadataHolder();
+    holder.parseFrom(tableMetadata);
+
+    final ByteArrayOutputStream cacheStream = new ByteArrayOutputStream();
+    holder.writeTo(CodedOutputStream.newInstance(cacheStream));
+    cache = cacheStream.toByteArray();
+
+    cacheFile = File.createTempFile("benchmark", ".bin");
+    Files.write(cacheFile.toPath(), cache);
+  }
+
+  @TearDown
+  public void tearDown() {
+    cacheFile.delete();
+  }
+
+  @Benchmark
+  public Holders.ParquetTableMetadata load() throws IOException {
+    return new JsonLoader().load(new JsonReader(new ByteArrayInputStream(json)));
+  }
+
+  @Benchmark
+  public List<Metadata.ParquetFileMetadata> buildFiles() {
+    return protoBuilder.buildFiles();
+  }
+
+  @Benchmark
+  public void writeTo() throws IOException {
+    holder.writeTo(CodedOutputStream.newInstance(ByteStreams.nullOutputStream()));
+  }
+
+  @Benchmark
+  public MetadataHolder parseFrom() throws IOException {
+    final MetadataHolder parsed = new MetadataHolder();
+    parsed.parseFrom(CodedInputStream.newInstance(cache));
+    return parsed;
+  }
+
+  @Benchmark
+  public MetadataHolder parseFromMapped() throws IOException {
+    final MetadataHolder parsed = new MetadataHolder();
+    parsed.parseFrom(cacheFile.getPath());
+    return parsed;
+  }
+
+  public static void main(String[] args) throws Exception {
+    new Runner(new OptionsBuilder()
+      .parent(new CommandLineOptions(args))
+      .include(StageBenchmarks.class.getSimpleName())
+      .addProfiler(GCProfiler.class)
+      .build()).run();
+  }
+}
@@ -0,0 +1,81 @@
+package com.adeneche;
+
+import com.adeneche.metadata.Metadata.MetadataHeader.Compression;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compresses and decompresses the blocks of file records of a cache whose header has a compression. Only uses the
+ * codecs of the JDK, so caches can be read and written without any native library or extra dependency.
+ */
+class BlockCompression {
+  private static final int DEFLATE_LEVEL = Deflater.BEST_SPEED;
+
+  private BlockCompression() {
+  }
+
+  /**
+   * @return compressed bytes of data[0, length)
+   */
+  static byte[] compress(final Compression compression, final byte[] data, final int length) {
+    switch (compression) {
+      case DEFLATE:
+        final Deflater deflater = new Deflater(DEFLATE_LEVEL, true);
+        try {
+          deflater.setInput(data, 0, length);
+          deflater.finish();
+          final ByteArrayOutputStream compressed = new ByteArrayOutputStream(length / 2);
+          final byte[] buffer = new byte[8192];
+          while (!deflater.finished()) {
+            compressed.write(buffer, 0, deflater.deflate(buffer));
+          }
+          return compressed.toByteArray();
+        } finally {
+          deflater.end();
+        }
+      default:
+        throw new IllegalArgumentException("unsupported compression " + compression);
+    }
+  }
+
+  /**
+   * @return stream over the records of a block, without size limit
+   */
+  static CodedInputStream decompress(final Compression compression, final byte[] data, final int offset,
+                                     final int length, final int uncompressedLength)
+      throws InvalidProtocolBufferException {
+    final byte[] uncompressed = new byte[uncompressedLength];
+    switch (compression) {
+      case DEFLATE:
+        final Inflater inflater = new Inflater(true);
+        try {
+          inflater.setInput(data, offset, length);
+          int inflated = 0;
+          while (inflated < uncompressedLength) {
+            final int count = inflater.inflate(uncompressed, inflated, uncompressedLength - inflated);
+            if (count == 0 && (inflater.finished() || inflater.needsInput())) {
+              throw new InvalidProtocolBufferException("truncated block, expected " + uncompressedLength
+                + " bytes but got " + inflated);
+            }
+            inflated += count;
+          }
+        } catch (DataFormatException e) {
+          throw new InvalidProtocolBufferException("corrupted block: " + e.getMessage());
+        } finally {
+          inflater.end();
+        }
+        break;
+      default:
+        throw new InvalidProtocolBufferException("unsupported compression " + compression);
+    }
+
+    final CodedInputStream records = CodedInputStream.newInstance(uncompressed);
+    records.setSizeLimit(Integer.MAX_VALUE);
+    return records;
+  }
+}
@@ -0,0 +1,138 @@
+package com.adeneche;
+
+import com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * Writes synthetic v2 json caches. Files are generated and written one at a time, so the size of the output isn't
+ * limited by memory. The same settings and seed always generate the same cache.
+ */
+class CacheGenerator {
+  public int numFiles = 1000;
+  public int rowGroupsPerFile = 1;
+  public int numColumns = 50;
+  /** number of parts in each column name, all but the last one are shared by multiple columns */
+  public int nameDepth = 2;
+  /** column i is of type types[i % types.length] */
+  public PrimitiveTypeName[] types = PrimitiveTypeName.values();
+  public int numDirectories = 2;
+  /** size of the pool of hosts the row groups are spread on */
+  public int numHosts = 10;
+  public int hostsPerRowGroup = 1;
+  /** probability that a column chunk has a max value */
+  public double mxValueProbability = 0.8;
+  /** probability that a column chunk has nulls */
+  public double nullsProbability = 0.2;
+  public long seed = 1;
+
+  public void write(final OutputStream out) throws IOException {
+    final Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16);
+    final Random random = new Random(seed);
+
+    // json array of each column's name, written once per row group
+    final String[] names = new String[numColumns];
+    writer.write("{\"metadata_version\":\"v2\",\"columnTypeInfo\":{");
+    for (int c = 0; c < numColumns; c++) {
+      if (c > 0) {
+        writer.write(',');
+      }
+      final StringBuilder key = new StringBuilder();
+      final StringBuilder name = new StringBuilder("[");
+      for (int level = 0; level < nameDepth; level++) {
+        final String part = level == nameDepth - 1 ? "c" + c : "s" + level + "_" + c % (level + 2);
+        key.append(level > 0 ? ".`" : "`").append(part).append('`');
+        name.append(level > 0 ? ",\"" : "\"").append(part).append('"');
+      }
+      names[c] = name.append(']').toString();
+
+      final PrimitiveTypeName type = types[c % types.length];
+      writer.write("\"" + key + "\":{\"name\":" + names[c] + ",\"primitiveType\":\"" + type.name()
+        + "\",\"originalType\":" + (type == PrimitiveTypeName.BINARY ? "\"UTF8\"" : "null") + "}");
+    }
+
+    writer.write("},\"files\":[");
+    for (int f = 0; f < numFiles; f++) {
+      if (f > 0) {
+        writer.write(',');
+      }
+      writeFile(writer, random, names, f);
+    }
+
+    writer.write("],\"directories\":[");
+    for (int d = 0; d < numDirectories; d++) {
+      writer.write((d > 0 ? ",\"" : "\"") + directory(d) + "\"");
+    }
+    writer.write("]}");
+    writer.flush();
+  }
+
+  private void writeFile(final Writer writer, final Random random, final String[] names, final int f)
+      throws IOException {
+    final long[] lengths = new long[rowGroupsPerFile];
+    long fileLength = 4 + 100;
+    for (int r = 0; r < rowGroupsPerFile; r++) {
+      lengths[r] = 1000 + random.nextInt(100000);
+      fileLength += lengths[r];
+    }
+
+    writer.write("{\"path\":\"" + directory(f % numDirectories) + "/file_" + f + ".parquet\",\"length\":"
+      + fileLength + ",\"rowGroups\":[");
+    long start = 4;
+    for (int r = 0; r < rowGroupsPerFile; r++) {
+      if (r > 0) {
+        writer.write(',');
+      }
+      writer.write("{\"start\":" + start + ",\"length\":" + lengths[r] + ",\"rowCount\":" + random.nextInt(100000)
+        + ",\"hostAffinity\":{");
+      // consecutive hosts so a row group never has the same host twice
+      final int firstHost = random.nextInt(numHosts);
+      for (int h = 0; h < Math.min(hostsPerRowGroup, numHosts); h++) {
+        writer.write((h > 0 ? ",\"host" : "\"host") + (firstHost + h) % numHosts + ".example.com\":"
+          + random.nextFloat());
+      }
+
+      writer.write("},\"columns\":[");
+      for (int c = 0; c < numColumns; c++) {
+        if (c > 0) {
+          writer.write(',');
+        }
+        writer.write("{\"name\":" + names[c] + ",");
+        if (random.nextDouble() < mxValueProbability) {
+          writer.write("\"mxValue\":" + mxValue(random, types[c % types.length]) + ",");
+        }
+        writer.write("\"nulls\":" + (random.nextDouble() < nullsProbability ? 1 + random.nextInt(1000) : 0) + "}");
+      }
+      writer.write("]}");
+      start += lengths[r];
+    }
+    writer.write("]}");
+  }
+
+  private static String directory(final int d) {
+    return "/table/dir_" + d;
+  }
+
+  private static String mxValue(final Random random, final PrimitiveTypeName type) {
+    switch (type) {
+      case INT64:
+        return Long.toString(random.nextLong());
+      case INT32:
+        return Integer.toString(random.nextInt());
+      case BOOLEAN:
+        return Boolean.toString(random.nextBoolean());
+      case FLOAT:
+        return Float.toString(random.nextFloat());
+      case DOUBLE:
+        return Double.toString(random.nextDouble());
+      default:
+        return "\"value_" + random.nextInt(100000) + "\"";
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package com.adeneche;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Condition on the values of a column, evaluated by {@link RowGroupPruner}. Values are converted to the primitive
+ * type of the column when the pruner is created: numbers for the numeric types, booleans, and strings, byte arrays or
+ * ByteStrings for the binary types.
+ */
+class ColumnPredicate {
+  enum Op {
+    EQ, LT, GT, IN, IS_NULL
+  }
+
+  /** full name of the column, as in {@link com.adeneche.metadata.Metadata.MetadataColumns} */
+  final String column;
+  final Op op;
+  final List<Object> values;
+
+  private ColumnPredicate(final String column, final Op op, final List<Object> values) {
+    this.column = column;
+    this.op = op;
+    this.values = values;
+  }
+
+  static ColumnPredicate eq(final String column, final Object value) {
+    return new ColumnPredicate(column, Op.EQ, ImmutableList.of(value));
+  }
+
+  static ColumnPredicate lt(final String column, final Object value) {
+    return new ColumnPredicate(column, Op.LT, ImmutableList.of(value));
+  }
+
+  static ColumnPredicate gt(final String column, final Object value) {
+    return new ColumnPredicate(column, Op.GT, ImmutableList.of(value));
+  }
+
+  static ColumnPredicate in(final String column, final Object... values) {
+    return new ColumnPredicate(column, Op.IN, ImmutableList.copyOf(Arrays.asList(values)));
+  }
+
+  static ColumnPredicate isNull(final String column) {
+    return new ColumnPredicate(column, Op.IS_NULL, ImmutableList.<Object>of());
+  }
+
+  @Override
+  public String toString() {
+    return column + " " + op + (values.isEmpty() ? "" : " " + values);
+  }
+}
@@ -0,0 +1,143 @@
+package com.adeneche;
+
+import com.adeneche.metadata.Metadata;
+import com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats;
+import com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup;
+import com.google.common.collect.Maps;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Decodes file records keeping only the statistics of some columns. The records are decoded field by field instead
+ * of by the generated parser, and the statistics of a column that isn't projected are skipped as raw bytes once its
+ * name is read, without creating any message for them.<br>
+ * Works with both layouts of {@link ColumnStatsLayout}. Everything else in the file is decoded as usual.
+ */
+class ColumnProjection {
+  /** tag of the varint field 1, the name of both kinds of column statistics */
+  private static final int NAME_TAG = 1 << 3 | WireFormat.WIRETYPE_VARINT;
+
+  /** ids of the projected columns */
+  private final BitSet columns;
+
+  private ColumnProjection(final BitSet columns) {
+    this.columns = columns;
+  }
+
+  /**
+   * @param names full names of the columns, as in {@link Metadata.MetadataColumns}. Names the cache doesn't have are
+   *              ignored, no file has statistics for them
+   */
+  static ColumnProjection of(final Metadata.MetadataColumns cacheColumns, final Collection<String> names) {
+    final Map<String, Integer> ids = Maps.newHashMapWithExpectedSize(cacheColumns.getColumnsCount());
+    for (int i = 0; i < cacheColumns.getColumnsCount(); i++) {
+      ids.put(cacheColumns.getColumns(i).getName(), i);
+    }
+    final BitSet columns = new BitSet(cacheColumns.getColumnsCount());
+    for (final String name : names) {
+      final Integer id = ids.get(name);
+      if (id != null) {
+        columns.set(id);
+      }
+    }
+    return new ColumnProjection(columns);
+  }
+
+  boolean contains(final int column) {
+    return columns.get(column);
+  }
+
+  /**
+   * decodes a file record, input must be limited to the record
+   */
+  Metadata.ParquetFileMetadata parseFile(final CodedInputStream input) throws IOException {
+    final Metadata.ParquetFileMetadata.Builder file = Metadata.ParquetFileMetadata.newBuilder();
+    for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+      switch (WireFormat.getTagFieldNumber(tag)) {
+        case Metadata.ParquetFileMetadata.PATH_FIELD_NUMBER:
+          file.setPath(input.readString());
+          break;
+        case Metadata.ParquetFileMetadata.LENGTH_FIELD_NUMBER:
+          file.setLength(input.readUInt64());
+          break;
+        case Metadata.ParquetFileMetadata.ROWGROUPS_FIELD_NUMBER:
+          final int limit = input.pushLimit(input.readRawVarint32());
+          file.addRowGroups(parseRowGroup(input));
+          input.popLimit(limit);
+          break;
+        case Metadata.ParquetFileMetadata.DIRECTORY_FIELD_NUMBER:
+          file.setDirectory(input.readUInt32());
+          break;
+        case Metadata.ParquetFileMetadata.COLUMN_STATS_FIELD_NUMBER:
+          final int statsLimit = input.pushLimit(input.readRawVarint32());
+          final int name = readName(input);
+          if (contains(name)) {
+            file.addColumnStats(ColumnStats.newBuilder().setName(name).mergeFrom(input));
+          } else {
+            input.skipRawBytes(input.getBytesUntilLimit());
+          }
+          input.popLimit(statsLimit);
+          break;
+        default:
+          input.skipField(tag);
+      }
+    }
+    return file.build();
+  }
+
+  private RowGroup.Builder parseRowGroup(final CodedInputStream input) throws IOException {
+    final RowGroup.Builder rowGroup = RowGroup.newBuilder();
+    for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+      switch (WireFormat.getTagFieldNumber(tag)) {
+        case RowGroup.START_FIELD_NUMBER:
+          rowGroup.setStart(input.readUInt64());
+          break;
+        case RowGroup.LENGTH_FIELD_NUMBER:
+          rowGroup.setLength(input.readUInt64());
+          break;
+        case RowGroup.ROWCOUNT_FIELD_NUMBER:
+          rowGroup.setRowCount(input.readUInt64());
+          break;
+        case RowGroup.START_DELTA_FIELD_NUMBER:
+          rowGroup.setStartDelta(input.readSInt64());
+          break;
+        case RowGroup.AFFINITIES_FIELD_NUMBER:
+          final RowGroup.HostAffinity.Builder affinity = RowGroup.HostAffinity.newBuilder();
+          input.readMessage(affinity, ExtensionRegistryLite.getEmptyRegistry());
+          rowGroup.addAffinities(affinity);
+          break;
+        case RowGroup.COLUMNS_FIELD_NUMBER:
+          final int limit = input.pushLimit(input.readRawVarint32());
+          final int name = readName(input);
+          if (contains(name)) {
+            rowGroup.addColumns(RowGroup.ColumnMetadata.newBuilder().setName(name).mergeFrom(input));
+          } else {
+            input.skipRawBytes(input.getBytesUntilLimit());
+          }
+          input.popLimit(limit);
+          break;
+        default:
+          input.skipField(tag);
+      }
+    }
+    return rowGroup;
+  }
+
+  /**
+   * @return name of the column of a {@link RowGroup.ColumnMetadata} or {@link ColumnStats} record. Protobuf writes
+   * the fields in order, so it's the first one
+   */
+  private static int readName(final CodedInputStream input) throws IOException {
+    if (input.readTag() != NAME_TAG) {
+      throw new InvalidProtocolBufferException("column statistics don't start with the column name");
+    }
+    return input.readUInt32();
+  }
+}
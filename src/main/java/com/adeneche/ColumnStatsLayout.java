@@ -0,0 +1,270 @@
+package com.adeneche;
+
+import com.adeneche.metadata.Metadata;
+import com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats;
+import com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.protobuf.ByteString;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Converts files between the two layouts of their statistics: columns nested in each row group, or
+ * {@link ColumnStats} holding the statistics of a column in all the row groups of the file as arrays.<br>
+ * A file is in the column stats layout if it has any column stats, so files of both layouts can be mixed in memory
+ * and the header only tells in which layout the files are written. Both conversions return files already in the
+ * target layout as they are, and files with a single row group always keep their columns in it.
+ */
+class ColumnStatsLayout {
+
+  private ColumnStatsLayout() {
+  }
+
+  /**
+   * Statistics of a column being collected from the row groups of a file
+   */
+  private static class Collector {
+    private final ColumnStats.Builder stats = ColumnStats.newBuilder();
+    private final BitSet present = new BitSet();
+    private final BitSet hasNulls = new BitSet();
+    private final BitSet hasMax = new BitSet();
+    /** number of row groups that have the column */
+    private int count;
+    /** field number of the max values */
+    private int maxField;
+
+    Collector(final int name) {
+      stats.setName(name);
+    }
+
+    void add(final int rowGroup, final RowGroup.ColumnMetadata column) {
+      present.set(rowGroup);
+      if (column.hasNulls()) {
+        hasNulls.set(count);
+        stats.addNulls(column.getNulls());
+      }
+      final int field = addMax(column);
+      if (field != 0) {
+        if (maxField != 0 && maxField != field) {
+          throw new RuntimeException("column " + stats.getName() + " has max values of different types");
+        }
+        maxField = field;
+        hasMax.set(count);
+      }
+      count++;
+    }
+
+    /**
+     * @return field number of the column's max value, 0 if it has none
+     */
+    private int addMax(final RowGroup.ColumnMetadata column) {
+      if (column.hasVint64()) {
+        stats.addVint64(column.getVint64());
+        return ColumnStats.VINT64_FIELD_NUMBER;
+      } else if (column.hasVint32()) {
+        stats.addVint32(column.getVint32());
+        return ColumnStats.VINT32_FIELD_NUMBER;
+      } else if (column.hasVbool()) {
+        stats.addVbool(column.getVbool());
+        return ColumnStats.VBOOL_FIELD_NUMBER;
+      } else if (column.hasVbinary()) {
+        stats.addVbinary(column.getVbinary());
+        return ColumnStats.VBINARY_FIELD_NUMBER;
+      } else if (column.hasVfloat()) {
+        stats.addVfloat(column.getVfloat());
+        return ColumnStats.VFLOAT_FIELD_NUMBER;
+      } else if (column.hasVdouble()) {
+        stats.addVdouble(column.getVdouble());
+        return ColumnStats.VDOUBLE_FIELD_NUMBER;
+      }
+      return 0;
+    }
+
+    ColumnStats build(final int numRowGroups) {
+      if (present.cardinality() != numRowGroups) {
+        stats.setPresent(toBitmap(present));
+      }
+      // not needed when none or all of the row groups have a value, the size of the array tells which
+      if (hasNulls.cardinality() != 0 && hasNulls.cardinality() != count) {
+        stats.setHasNulls(toBitmap(hasNulls));
+      }
+      if (hasMax.cardinality() != 0 && hasMax.cardinality() != count) {
+        stats.setHasMax(toBitmap(hasMax));
+      }
+      return stats.build();
+    }
+  }
+
+  /**
+   * @return file with its statistics in column stats. If the row groups don't list their columns in a consistent
+   * order, converting it back may change the order of the columns in some row groups
+   */
+  static Metadata.ParquetFileMetadata toColumnStats(final Metadata.ParquetFileMetadata file) {
+    // a single row group has nothing to gain from arrays, its columns are smaller as they are
+    if (file.getColumnStatsCount() > 0 || file.getRowGroupsCount() < 2) {
+      return file;
+    }
+
+    // collectors are in the order the columns are first seen, successors[i] are the columns that directly follow
+    // column i in some row group
+    final Map<Integer, Integer> ids = Maps.newHashMap();
+    final List<Collector> collectors = Lists.newArrayList();
+    final List<Set<Integer>> successors = Lists.newArrayList();
+    for (int r = 0; r < file.getRowGroupsCount(); r++) {
+      int previous = -1;
+      for (final RowGroup.ColumnMetadata column : file.getRowGroups(r).getColumnsList()) {
+        Integer id = ids.get(column.getName());
+        if (id == null) {
+          id = collectors.size();
+          ids.put(column.getName(), id);
+          collectors.add(new Collector(column.getName()));
+          successors.add(Sets.<Integer>newHashSet());
+        }
+        collectors.get(id).add(r, column);
+        if (previous >= 0) {
+          successors.get(previous).add(id);
+        }
+        previous = id;
+      }
+    }
+    if (collectors.isEmpty()) {
+      return file;
+    }
+
+    final Metadata.ParquetFileMetadata.Builder builder = file.toBuilder();
+    for (final RowGroup.Builder rowGroup : builder.getRowGroupsBuilderList()) {
+      rowGroup.clearColumns();
+    }
+    for (final int id : order(successors)) {
+      builder.addColumnStats(collectors.get(id).build(file.getRowGroupsCount()));
+    }
+    return builder.build();
+  }
+
+  /**
+   * @return columns sorted so every column comes after its predecessors in the row groups, ties are broken by the
+   * order the columns were first seen. If the row groups order the columns differently, the first column not yet
+   * sorted breaks the cycle
+   */
+  private static List<Integer> order(final List<Set<Integer>> successors) {
+    final int[] predecessors = new int[successors.size()];
+    for (final Set<Integer> next : successors) {
+      for (final int id : next) {
+        predecessors[id]++;
+      }
+    }
+
+    final List<Integer> order = Lists.newArrayListWithCapacity(successors.size());
+    final boolean[] sorted = new boolean[successors.size()];
+    final PriorityQueue<Integer> ready = new PriorityQueue<>();
+    int first = 0;
+    while (order.size() < successors.size()) {
+      if (ready.isEmpty()) {
+        while (sorted[first]) {
+          first++;
+        }
+        for (int id = first; id < successors.size(); id++) {
+          if (!sorted[id] && predecessors[id] == 0) {
+            ready.add(id);
+          }
+        }
+        if (ready.isEmpty()) {
+          ready.add(first);
+        }
+      }
+      final int id = ready.poll();
+      if (sorted[id]) {
+        continue;
+      }
+      sorted[id] = true;
+      order.add(id);
+      for (final int next : successors.get(id)) {
+        if (--predecessors[next] == 0 && !sorted[next]) {
+          ready.add(next);
+        }
+      }
+    }
+    return order;
+  }
+
+  /**
+   * @return file with its statistics in the columns of its row groups, in the order of its column stats
+   */
+  static Metadata.ParquetFileMetadata toRowGroupColumns(final Metadata.ParquetFileMetadata file) {
+    if (file.getColumnStatsCount() == 0) {
+      return file;
+    }
+
+    final Metadata.ParquetFileMetadata.Builder builder = file.toBuilder().clearColumnStats();
+    for (final ColumnStats stats : file.getColumnStatsList()) {
+      final BitSet present = stats.hasPresent() ? fromBitmap(stats.getPresent()) : null;
+      final BitSet hasNulls = stats.hasHasNulls() ? fromBitmap(stats.getHasNulls()) : null;
+      final BitSet hasMax = stats.hasHasMax() ? fromBitmap(stats.getHasMax()) : null;
+      final boolean allNulls = stats.getNullsCount() > 0;
+      final boolean allMax = numMax(stats) > 0;
+      int index = 0;
+      int nullsIndex = 0;
+      int maxIndex = 0;
+      for (int r = 0; r < file.getRowGroupsCount(); r++) {
+        if (present != null && !present.get(r)) {
+          continue;
+        }
+        final RowGroup.ColumnMetadata.Builder column = RowGroup.ColumnMetadata.newBuilder().setName(stats.getName());
+        if (hasNulls == null ? allNulls : hasNulls.get(index)) {
+          column.setNulls(stats.getNulls(nullsIndex++));
+        }
+        if (hasMax == null ? allMax : hasMax.get(index)) {
+          setMax(column, stats, maxIndex++);
+        }
+        builder.getRowGroupsBuilder(r).addColumns(column);
+        index++;
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * @return number of row groups that have the column
+   */
+  static int numRowGroups(final ColumnStats stats, final int fileRowGroups) {
+    return stats.hasPresent() ? fromBitmap(stats.getPresent()).cardinality() : fileRowGroups;
+  }
+
+  private static int numMax(final ColumnStats stats) {
+    return stats.getVint64Count() + stats.getVint32Count() + stats.getVboolCount() + stats.getVbinaryCount()
+      + stats.getVfloatCount() + stats.getVdoubleCount();
+  }
+
+  private static void setMax(final RowGroup.ColumnMetadata.Builder column, final ColumnStats stats, final int index) {
+    if (stats.getVint64Count() > 0) {
+      column.setVint64(stats.getVint64(index));
+    } else if (stats.getVint32Count() > 0) {
+      column.setVint32(stats.getVint32(index));
+    } else if (stats.getVboolCount() > 0) {
+      column.setVbool(stats.getVbool(index));
+    } else if (stats.getVbinaryCount() > 0) {
+      column.setVbinary(stats.getVbinary(index));
+    } else if (stats.getVfloatCount() > 0) {
+      column.setVfloat(stats.getVfloat(index));
+    } else if (stats.getVdoubleCount() > 0) {
+      column.setVdouble(stats.getVdouble(index));
+    } else {
+      throw new RuntimeException("column " + stats.getName() + " has no max values");
+    }
+  }
+
+  private static ByteString toBitmap(final BitSet bits) {
+    // toByteArray stops at the last set bit, the missing bits are clear
+    return ByteString.copyFrom(bits.toByteArray());
+  }
+
+  static BitSet fromBitmap(final ByteString bitmap) {
+    return BitSet.valueOf(bitmap.toByteArray());
+  }
+}
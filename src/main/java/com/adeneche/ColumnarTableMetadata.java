@@ -0,0 +1,766 @@
+package com.adeneche;
+
+import com.adeneche.Holders.ColumnTypeMetadata;
+import com.adeneche.metadata.Metadata;
+import com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo;
+import com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.OriginalType;
+import com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName;
+import com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.protobuf.ByteString;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Columnar copy of a table's metadata, meant to be held in memory for a long time. Instead of an object per file,
+ * row group and column, each field is stored in a primitive array indexed by file, row group or column chunk:
+ * <ul>
+ *   <li>files: paths, lengths and the index of their first row group</li>
+ *   <li>row groups: start, length and row count, host affinities point into a dictionary of the table's hosts</li>
+ *   <li>column chunks: the ids of the columns each row group has, sorted. Max values and null counts are stored
+ *   per column, only for the row groups that have one, in arrays typed after the column's primitive type. A bitmap
+ *   of those row groups gives the index of their value, see {@link RankedBitmap}</li>
+ * </ul>
+ * So memory grows with the chunks that are present, not with row groups times columns.
+ * Row groups are numbered across the whole table, in file order. Columns are numbered like in the binary cache, in
+ * the order of their joined names.<br>
+ * {@link #getFile(int)} gives views with the same getters as {@link Holders}. It's immutable once built, so it can
+ * be shared between threads.
+ */
+public class ColumnarTableMetadata {
+  private final List<String> directories;
+
+  private final String[][] columnNames;
+  private final PrimitiveTypeName[] primitiveTypes;
+  private final OriginalType[] originalTypes;
+  private final Map<ColumnTypeMetadata.Key, Integer> columnIds;
+
+  private final String[] paths;
+  private final long[] fileLengths;
+  /** row groups of file f are firstRowGroups[f] until firstRowGroups[f + 1] */
+  private final int[] firstRowGroups;
+
+  private final long[] starts;
+  private final long[] lengths;
+  private final long[] rowCounts;
+
+  private final String[] hosts;
+  /** affinities of row group r are firstAffinities[r] until firstAffinities[r + 1] */
+  private final int[] firstAffinities;
+  private final int[] affinityHosts;
+  private final float[] affinityValues;
+
+  /** columns of row group r are chunkColumns[firstChunks[r]] until chunkColumns[firstChunks[r + 1]], sorted */
+  private final int[] firstChunks;
+  private final int[] chunkColumns;
+  private final ColumnChunks[] chunks;
+
+  /**
+   * Row groups with a value, set in increasing order. Values are only stored for the set bits, the value of a row
+   * group is at its rank: the number of set bits before it. The rank of each word is kept so it's found in constant
+   * time.
+   */
+  private static class RankedBitmap {
+    private static final long[] NO_WORDS = new long[0];
+
+    private long[] words = NO_WORDS;
+    /** number of set bits before each word, computed by {@link #trim()} */
+    private int[] ranks;
+    private int count;
+
+    /**
+     * @return rank of the bit, the index of its value
+     */
+    int add(final int bit) {
+      final int word = bit >>> 6;
+      if (word >= words.length) {
+        words = Arrays.copyOf(words, Math.max(word + 1, words.length * 2));
+      }
+      words[word] |= 1L << bit;
+      return count++;
+    }
+
+    int size() {
+      return count;
+    }
+
+    boolean get(final int bit) {
+      final int word = bit >>> 6;
+      return word < words.length && (words[word] & 1L << bit) != 0;
+    }
+
+    /**
+     * only meaningful once trimmed
+     */
+    int rank(final int bit) {
+      final int word = bit >>> 6;
+      return ranks[word] + Long.bitCount(words[word] & ((1L << bit) - 1));
+    }
+
+    /**
+     * drops the words after the last set bit, and computes the ranks
+     */
+    void trim() {
+      int numWords = words.length;
+      while (numWords > 0 && words[numWords - 1] == 0) {
+        numWords--;
+      }
+      words = Arrays.copyOf(words, numWords);
+      ranks = new int[numWords];
+      int rank = 0;
+      for (int w = 0; w < numWords; w++) {
+        ranks[w] = rank;
+        rank += Long.bitCount(words[w]);
+      }
+    }
+  }
+
+  /**
+   * Null counts and max values of a column, for the row groups that have them
+   */
+  private static class ColumnChunks {
+    final RankedBitmap hasMax = new RankedBitmap();
+    final RankedBitmap hasNulls = new RankedBitmap();
+    long[] nulls = new long[0];
+    /**
+     * long[], int[], float[], double[], BitSet or ByteString[] depending on the primitive type, null for a column
+     * without one: it has no max values
+     */
+    Object maxValues;
+
+    ColumnChunks(final PrimitiveTypeName primitiveType) {
+      if (primitiveType == null) {
+        return;
+      }
+      switch (primitiveType) {
+        case INT64:
+          maxValues = new long[0];
+          break;
+        case INT32:
+          maxValues = new int[0];
+          break;
+        case BOOLEAN:
+          maxValues = new BitSet();
+          break;
+        case FLOAT:
+          maxValues = new float[0];
+          break;
+        case DOUBLE:
+          maxValues = new double[0];
+          break;
+        default:
+          maxValues = new ByteString[0];
+      }
+    }
+
+    void addNulls(final int rowGroup, final long count) {
+      final int rank = hasNulls.add(rowGroup);
+      if (rank == nulls.length) {
+        nulls = Arrays.copyOf(nulls, grow(rank));
+      }
+      nulls[rank] = count;
+    }
+
+    void addMax(final int rowGroup, final Object maxValue) {
+      if (maxValues == null) {
+        return;
+      }
+      final int rank = hasMax.add(rowGroup);
+      if (maxValues instanceof long[]) {
+        long[] values = (long[]) maxValues;
+        if (rank == values.length) {
+          maxValues = values = Arrays.copyOf(values, grow(rank));
+        }
+        values[rank] = ((Number) maxValue).longValue();
+      } else if (maxValues instanceof int[]) {
+        int[] values = (int[]) maxValues;
+        if (rank == values.length) {
+          maxValues = values = Arrays.copyOf(values, grow(rank));
+        }
+        values[rank] = ((Number) maxValue).intValue();
+      } else if (maxValues instanceof BitSet) {
+        ((BitSet) maxValues).set(rank, (Boolean) maxValue);
+      } else if (maxValues instanceof float[]) {
+        float[] values = (float[]) maxValues;
+        if (rank == values.length) {
+          maxValues = values = Arrays.copyOf(values, grow(rank));
+        }
+        values[rank] = ((Number) maxValue).floatValue();
+      } else if (maxValues instanceof double[]) {
+        double[] values = (double[]) maxValues;
+        if (rank == values.length) {
+          maxValues = values = Arrays.copyOf(values, grow(rank));
+        }
+        values[rank] = ((Number) maxValue).doubleValue();
+      } else {
+        ByteString[] values = (ByteString[]) maxValues;
+        if (rank == values.length) {
+          maxValues = values = Arrays.copyOf(values, grow(rank));
+        }
+        values[rank] = (ByteString) maxValue;
+      }
+    }
+
+    private static int grow(final int length) {
+      return Math.max(4, length + (length >> 1));
+    }
+
+    /**
+     * drops the unused end of the arrays once all the row groups are added
+     */
+    void trim() {
+      hasMax.trim();
+      hasNulls.trim();
+      nulls = Arrays.copyOf(nulls, hasNulls.size());
+      final int numMax = hasMax.size();
+      if (maxValues instanceof long[]) {
+        maxValues = Arrays.copyOf((long[]) maxValues, numMax);
+      } else if (maxValues instanceof int[]) {
+        maxValues = Arrays.copyOf((int[]) maxValues, numMax);
+      } else if (maxValues instanceof float[]) {
+        maxValues = Arrays.copyOf((float[]) maxValues, numMax);
+      } else if (maxValues instanceof double[]) {
+        maxValues = Arrays.copyOf((double[]) maxValues, numMax);
+      } else if (maxValues instanceof ByteString[]) {
+        maxValues = Arrays.copyOf((ByteString[]) maxValues, numMax);
+      }
+    }
+  }
+
+  private ColumnarTableMetadata(final Builder builder) {
+    directories = builder.directories;
+    columnNames = builder.columnNames;
+    primitiveTypes = builder.primitiveTypes;
+    originalTypes = builder.originalTypes;
+    columnIds = builder.columnIds;
+    paths = builder.paths;
+    fileLengths = builder.fileLengths;
+    firstRowGroups = builder.firstRowGroups;
+    starts = builder.starts;
+    lengths = builder.lengths;
+    rowCounts = builder.rowCounts;
+    hosts = new String[builder.hostIds.size()];
+    for (final Map.Entry<String, Integer> host : builder.hostIds.entrySet()) {
+      hosts[host.getValue()] = host.getKey();
+    }
+    firstAffinities = builder.firstAffinities;
+    affinityHosts = builder.affinityHosts;
+    affinityValues = builder.affinityValues;
+    firstChunks = builder.firstChunks;
+    chunkColumns = builder.chunkColumns;
+    chunks = builder.chunks;
+    for (final ColumnChunks columnChunks : chunks) {
+      columnChunks.trim();
+    }
+  }
+
+  /**
+   * Fills the arrays one file at a time, they are sized upfront from the number of files, row groups, affinities and
+   * column chunks. The values of the chunks grow as they are added
+   */
+  private static class Builder {
+    final List<String> directories;
+
+    final String[][] columnNames;
+    final PrimitiveTypeName[] primitiveTypes;
+    final OriginalType[] originalTypes;
+    final Map<ColumnTypeMetadata.Key, Integer> columnIds;
+    final ColumnChunks[] chunks;
+
+    final String[] paths;
+    final long[] fileLengths;
+    final int[] firstRowGroups;
+    final long[] starts;
+    final long[] lengths;
+    final long[] rowCounts;
+
+    final Map<String, Integer> hostIds = Maps.newHashMap();
+    final int[] firstAffinities;
+    final int[] affinityHosts;
+    final float[] affinityValues;
+    final int[] firstChunks;
+    final int[] chunkColumns;
+
+    int numFiles;
+    int numRowGroups;
+    int numAffinities;
+    int numChunks;
+
+    Builder(final List<String> directories, final List<String[]> columnNames,
+            final List<PrimitiveTypeName> primitiveTypes, final List<OriginalType> originalTypes,
+            final int numFiles, final int numRowGroups, final int numAffinities, final int numChunks) {
+      this.directories = ImmutableList.copyOf(directories);
+
+      final int numColumns = columnNames.size();
+      this.columnNames = columnNames.toArray(new String[numColumns][]);
+      this.primitiveTypes = primitiveTypes.toArray(new PrimitiveTypeName[numColumns]);
+      this.originalTypes = originalTypes.toArray(new OriginalType[numColumns]);
+      final ImmutableMap.Builder<ColumnTypeMetadata.Key, Integer> columnIds = ImmutableMap.builder();
+      chunks = new ColumnChunks[numColumns];
+      for (int c = 0; c < numColumns; c++) {
+        columnIds.put(new ColumnTypeMetadata.Key(this.columnNames[c]), c);
+        chunks[c] = new ColumnChunks(this.primitiveTypes[c]);
+      }
+      this.columnIds = columnIds.build();
+
+      paths = new String[numFiles];
+      fileLengths = new long[numFiles];
+      firstRowGroups = new int[numFiles + 1];
+
+      starts = new long[numRowGroups];
+      lengths = new long[numRowGroups];
+      rowCounts = new long[numRowGroups];
+
+      firstAffinities = new int[numRowGroups + 1];
+      affinityHosts = new int[numAffinities];
+      affinityValues = new float[numAffinities];
+
+      firstChunks = new int[numRowGroups + 1];
+      chunkColumns = new int[numChunks];
+    }
+
+    void addFile(final String path, final long length) {
+      paths[numFiles] = path;
+      fileLengths[numFiles] = length;
+      numFiles++;
+      firstRowGroups[numFiles] = firstRowGroups[numFiles - 1];
+    }
+
+    /**
+     * adds a row group to the last added file
+     * @return index of the row group in the table
+     */
+    int addRowGroup(final long start, final long length, final long rowCount) {
+      final int rowGroup = numRowGroups++;
+      starts[rowGroup] = start;
+      lengths[rowGroup] = length;
+      rowCounts[rowGroup] = rowCount;
+      firstRowGroups[numFiles]++;
+      firstAffinities[rowGroup + 1] = firstAffinities[rowGroup];
+      firstChunks[rowGroup + 1] = firstChunks[rowGroup];
+      return rowGroup;
+    }
+
+    void addAffinity(final int rowGroup, final String host, final float value) {
+      Integer hostId = hostIds.get(host);
+      if (hostId == null) {
+        hostId = hostIds.size();
+        hostIds.put(host, hostId);
+      }
+      affinityHosts[numAffinities] = hostId;
+      affinityValues[numAffinities] = value;
+      numAffinities++;
+      firstAffinities[rowGroup + 1]++;
+    }
+
+    /**
+     * adds a column to the last added row group
+     */
+    void addColumn(final int rowGroup, final int column, final Long nulls, final Object maxValue) {
+      // keeps the columns of the row group sorted, they usually already are
+      int chunk = numChunks++;
+      while (chunk > firstChunks[rowGroup] && chunkColumns[chunk - 1] > column) {
+        chunkColumns[chunk] = chunkColumns[chunk - 1];
+        chunk--;
+      }
+      chunkColumns[chunk] = column;
+      firstChunks[rowGroup + 1]++;
+
+      final ColumnChunks columnChunks = chunks[column];
+      if (nulls != null) {
+        columnChunks.addNulls(rowGroup, nulls);
+      }
+      if (maxValue != null) {
+        columnChunks.addMax(rowGroup, maxValue);
+      }
+    }
+
+    ColumnarTableMetadata build() {
+      return new ColumnarTableMetadata(this);
+    }
+  }
+
+  public static ColumnarTableMetadata of(final Holders.ParquetTableMetadata tableMetadata) {
+    // same column order as the binary cache
+    final List<ColumnTypeMetadata> columnTypes = Lists.newArrayList(tableMetadata.columnTypeInfo.values());
+    Collections.sort(columnTypes, new Comparator<ColumnTypeMetadata>() {
+      @Override
+      public int compare(ColumnTypeMetadata o1, ColumnTypeMetadata o2) {
+        return Utils.COLUMN_NAME_JOINER.join(o1.name).compareTo(Utils.COLUMN_NAME_JOINER.join(o2.name));
+      }
+    });
+    final List<String[]> names = Lists.newArrayList();
+    final List<PrimitiveTypeName> primitiveTypes = Lists.newArrayList();
+    final List<OriginalType> originalTypes = Lists.newArrayList();
+    for (final ColumnTypeMetadata columnType : columnTypes) {
+      names.add(columnType.name);
+      primitiveTypes.add(columnType.primitiveType);
+      originalTypes.add(columnType.originalType);
+    }
+
+    int numRowGroups = 0;
+    int numAffinities = 0;
+    int numChunks = 0;
+    for (final Holders.ParquetFileMetadata file : tableMetadata.files) {
+      numRowGroups += file.rowGroups.size();
+      for (final Holders.RowGroupMetadata rowGroup : file.rowGroups) {
+        numAffinities += rowGroup.hostAffinity.size();
+        numChunks += rowGroup.columns.size();
+      }
+    }
+
+    final Builder table = new Builder(tableMetadata.directories, names, primitiveTypes, originalTypes,
+      tableMetadata.files.size(), numRowGroups, numAffinities, numChunks);
+    for (final Holders.ParquetFileMetadata file : tableMetadata.files) {
+      table.addFile(file.path, file.length);
+      for (final Holders.RowGroupMetadata rowGroupMetadata : file.rowGroups) {
+        final int rowGroup = table.addRowGroup(rowGroupMetadata.start, rowGroupMetadata.length,
+          rowGroupMetadata.rowCount);
+        for (final Map.Entry<String, Float> affinity : rowGroupMetadata.hostAffinity.entrySet()) {
+          table.addAffinity(rowGroup, affinity.getKey(), affinity.getValue());
+        }
+        for (final Holders.ColumnMetadata column : rowGroupMetadata.columns) {
+          table.addColumn(rowGroup, table.columnIds.get(new ColumnTypeMetadata.Key(column.name)), column.nulls,
+            column.mxValue);
+        }
+      }
+    }
+    return table.build();
+  }
+
+  /**
+   * @param hosts host dictionary of the cache, or null if it doesn't have one
+   */
+  static ColumnarTableMetadata of(final Metadata.MetadataHeader header, final Metadata.MetadataColumns columns,
+                                  final Metadata.MetadataHosts hosts, final List<Metadata.ParquetFileMetadata> files) {
+    final List<String[]> names = Lists.newArrayList();
+    final List<PrimitiveTypeName> primitiveTypes = Lists.newArrayList();
+    final List<OriginalType> originalTypes = Lists.newArrayList();
+    for (final ColumnTypeInfo column : columns.getColumnsList()) {
+      names.add(Iterables.toArray(Utils.COLUMN_NAME_SPLITTER.split(column.getName()), String.class));
+      primitiveTypes.add(column.getPrimitiveType());
+      originalTypes.add(column.hasOriginalType() ? column.getOriginalType() : null);
+    }
+
+    int numRowGroups = 0;
+    int numAffinities = 0;
+    int numChunks = 0;
+    for (final Metadata.ParquetFileMetadata file : files) {
+      numRowGroups += file.getRowGroupsCount();
+      for (final RowGroup rowGroup : file.getRowGroupsList()) {
+        numAffinities += rowGroup.getAffinitiesCount();
+      }
+      numChunks += Utils.numColumns(file);
+    }
+
+    final Builder table = new Builder(header.getDirectoriesList(), names, primitiveTypes, originalTypes,
+      files.size(), numRowGroups, numAffinities, numChunks);
+    for (final Metadata.ParquetFileMetadata stored : files) {
+      final Metadata.ParquetFileMetadata file = ColumnStatsLayout.toRowGroupColumns(stored);
+      table.addFile(Utils.path(file, header.getDirectoriesList()), file.getLength());
+      long expectedStart = Utils.FIRST_ROW_GROUP_START;
+      for (final RowGroup rowGroupMetadata : file.getRowGroupsList()) {
+        final long start = Utils.start(rowGroupMetadata, expectedStart, header.getStartDeltas());
+        expectedStart = start + rowGroupMetadata.getLength();
+        final int rowGroup = table.addRowGroup(start, rowGroupMetadata.getLength(), rowGroupMetadata.getRowCount());
+        for (final RowGroup.HostAffinity affinity : rowGroupMetadata.getAffinitiesList()) {
+          table.addAffinity(rowGroup, Utils.host(affinity, hosts), affinity.getValue());
+        }
+        for (final RowGroup.ColumnMetadata column : rowGroupMetadata.getColumnsList()) {
+          table.addColumn(rowGroup, column.getName(), column.hasNulls() ? column.getNulls() : null,
+            MetadataHolder.getMxValue(column));
+        }
+      }
+    }
+    return table.build();
+  }
+
+  public List<String> getDirectories() {
+    return directories;
+  }
+
+  public int getNumFiles() {
+    return paths.length;
+  }
+
+  public int getNumRowGroups() {
+    return starts.length;
+  }
+
+  public int getNumColumns() {
+    return columnNames.length;
+  }
+
+  /**
+   * @return id of the column, or -1 if the table doesn't have it
+   */
+  public int getColumnId(final String[] name) {
+    final Integer id = columnIds.get(new ColumnTypeMetadata.Key(name));
+    return id == null ? -1 : id;
+  }
+
+  public String[] getColumnName(final int column) {
+    return columnNames[column];
+  }
+
+  public PrimitiveTypeName getPrimitiveType(final int column) {
+    return primitiveTypes[column];
+  }
+
+  public OriginalType getOriginalType(final int column) {
+    return originalTypes[column];
+  }
+
+  public String getPath(final int file) {
+    return paths[file];
+  }
+
+  public long getFileLength(final int file) {
+    return fileLengths[file];
+  }
+
+  public int getFirstRowGroup(final int file) {
+    return firstRowGroups[file];
+  }
+
+  public int getNumRowGroups(final int file) {
+    return firstRowGroups[file + 1] - firstRowGroups[file];
+  }
+
+  public long getStart(final int rowGroup) {
+    return starts[rowGroup];
+  }
+
+  public long getLength(final int rowGroup) {
+    return lengths[rowGroup];
+  }
+
+  public long getRowCount(final int rowGroup) {
+    return rowCounts[rowGroup];
+  }
+
+  public boolean hasColumn(final int rowGroup, final int column) {
+    return Arrays.binarySearch(chunkColumns, firstChunks[rowGroup], firstChunks[rowGroup + 1], column) >= 0;
+  }
+
+  public boolean hasMaxValue(final int rowGroup, final int column) {
+    return chunks[column].hasMax.get(rowGroup);
+  }
+
+  public boolean hasNulls(final int rowGroup, final int column) {
+    return chunks[column].hasNulls.get(rowGroup);
+  }
+
+  /**
+   * only meaningful if {@link #hasNulls(int, int)}
+   */
+  public long getNulls(final int rowGroup, final int column) {
+    final ColumnChunks columnChunks = chunks[column];
+    return columnChunks.nulls[columnChunks.hasNulls.rank(rowGroup)];
+  }
+
+  /**
+   * the typed getters below don't box, they must match the column's primitive type and are only meaningful if
+   * {@link #hasMaxValue(int, int)}
+   */
+  public long getLongMax(final int rowGroup, final int column) {
+    final ColumnChunks columnChunks = chunks[column];
+    return ((long[]) columnChunks.maxValues)[columnChunks.hasMax.rank(rowGroup)];
+  }
+
+  public int getIntMax(final int rowGroup, final int column) {
+    final ColumnChunks columnChunks = chunks[column];
+    return ((int[]) columnChunks.maxValues)[columnChunks.hasMax.rank(rowGroup)];
+  }
+
+  public boolean getBooleanMax(final int rowGroup, final int column) {
+    final ColumnChunks columnChunks = chunks[column];
+    return ((BitSet) columnChunks.maxValues).get(columnChunks.hasMax.rank(rowGroup));
+  }
+
+  public float getFloatMax(final int rowGroup, final int column) {
+    final ColumnChunks columnChunks = chunks[column];
+    return ((float[]) columnChunks.maxValues)[columnChunks.hasMax.rank(rowGroup)];
+  }
+
+  public double getDoubleMax(final int rowGroup, final int column) {
+    final ColumnChunks columnChunks = chunks[column];
+    return ((double[]) columnChunks.maxValues)[columnChunks.hasMax.rank(rowGroup)];
+  }
+
+  public ByteString getBinaryMax(final int rowGroup, final int column) {
+    final ColumnChunks columnChunks = chunks[column];
+    return ((ByteString[]) columnChunks.maxValues)[columnChunks.hasMax.rank(rowGroup)];
+  }
+
+  /**
+   * @return boxed max value, or null if the chunk doesn't have one. Columns without a primitive type never do
+   */
+  public Object getMaxValue(final int rowGroup, final int column) {
+    if (!hasMaxValue(rowGroup, column)) {
+      return null;
+    }
+    switch (primitiveTypes[column]) {
+      case INT64:
+        return getLongMax(rowGroup, column);
+      case INT32:
+        return getIntMax(rowGroup, column);
+      case BOOLEAN:
+        return getBooleanMax(rowGroup, column);
+      case FLOAT:
+        return getFloatMax(rowGroup, column);
+      case DOUBLE:
+        return getDoubleMax(rowGroup, column);
+      default:
+        return getBinaryMax(rowGroup, column);
+    }
+  }
+
+  public Map<String, Float> getHostAffinity(final int rowGroup) {
+    final Map<String, Float> hostAffinity = Maps.newLinkedHashMap();
+    for (int a = firstAffinities[rowGroup]; a < firstAffinities[rowGroup + 1]; a++) {
+      hostAffinity.put(hosts[affinityHosts[a]], affinityValues[a]);
+    }
+    return hostAffinity;
+  }
+
+  public FileView getFile(final int file) {
+    return new FileView(file);
+  }
+
+  public List<FileView> getFiles() {
+    return new AbstractList<FileView>() {
+      @Override
+      public FileView get(int index) {
+        return getFile(index);
+      }
+
+      @Override
+      public int size() {
+        return getNumFiles();
+      }
+    };
+  }
+
+  /**
+   * Views are created on demand and only hold an index, with the same getters as {@link Holders}
+   */
+  public class FileView {
+    private final int file;
+
+    FileView(final int file) {
+      this.file = file;
+    }
+
+    public String getPath() {
+      return paths[file];
+    }
+
+    public long getLength() {
+      return fileLengths[file];
+    }
+
+    public List<RowGroupView> getRowGroups() {
+      return new AbstractList<RowGroupView>() {
+        @Override
+        public RowGroupView get(int index) {
+          return new RowGroupView(firstRowGroups[file] + index);
+        }
+
+        @Override
+        public int size() {
+          return getNumRowGroups(file);
+        }
+      };
+    }
+  }
+
+  public class RowGroupView {
+    private final int rowGroup;
+
+    RowGroupView(final int rowGroup) {
+      this.rowGroup = rowGroup;
+    }
+
+    public int getIndex() {
+      return rowGroup;
+    }
+
+    public long getStart() {
+      return starts[rowGroup];
+    }
+
+    public long getLength() {
+      return lengths[rowGroup];
+    }
+
+    public long getRowCount() {
+      return rowCounts[rowGroup];
+    }
+
+    public Map<String, Float> getHostAffinity() {
+      return ColumnarTableMetadata.this.getHostAffinity(rowGroup);
+    }
+
+    /**
+     * @return the columns present in this row group, in column id order
+     */
+    public List<ColumnView> getColumns() {
+      return new AbstractList<ColumnView>() {
+        @Override
+        public ColumnView get(int index) {
+          return new ColumnView(rowGroup, chunkColumns[firstChunks[rowGroup] + index]);
+        }
+
+        @Override
+        public int size() {
+          return firstChunks[rowGroup + 1] - firstChunks[rowGroup];
+        }
+      };
+    }
+  }
+
+  public class ColumnView {
+    private final int rowGroup;
+    private final int column;
+
+    ColumnView(final int rowGroup, final int column) {
+      this.rowGroup = rowGroup;
+      this.column = column;
+    }
+
+    public String[] getName() {
+      return columnNames[column];
+    }
+
+    public Long getNulls() {
+      return hasNulls(rowGroup, column) ? ColumnarTableMetadata.this.getNulls(rowGroup, column) : null;
+    }
+
+    public boolean hasSingleValue() {
+      return hasMaxValue(rowGroup, column);
+    }
+
+    public Object getMaxValue() {
+      return ColumnarTableMetadata.this.getMaxValue(rowGroup, column);
+    }
+
+    public PrimitiveTypeName getPrimitiveType() {
+      return primitiveTypes[column];
+    }
+
+    public OriginalType getOriginalType() {
+      return originalTypes[column];
+    }
+  }
+}
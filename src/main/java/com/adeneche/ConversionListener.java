@@ -0,0 +1,53 @@
+package com.adeneche;
+
+/**
+ * Notified as a conversion goes through its stages. Files are reported as they are processed, possibly from
+ * multiple threads at once, so implementations must be thread safe.
+ */
+public interface ConversionListener {
+
+  enum Stage {
+    /** json -> holders */
+    LOAD,
+    /** holders -> protos */
+    BUILD,
+    /** protos -> binary cache */
+    WRITE,
+    /** binary cache -> protos */
+    PARSE,
+    /** load, build and write one file at a time, see {@link StreamingConverter} */
+    STREAM
+  }
+
+  ConversionListener NONE = new ConversionListener() {
+    @Override
+    public void stageStarted(Stage stage) {
+    }
+
+    @Override
+    public void fileProcessed(Stage stage, int rowGroups, int columns) {
+    }
+
+    @Override
+    public void bytesProcessed(Stage stage, long bytes) {
+    }
+
+    @Override
+    public void stageFinished(Stage stage) {
+    }
+  };
+
+  void stageStarted(Stage stage);
+
+  /**
+   * @param columns total number of columns in all the row groups of the file
+   */
+  void fileProcessed(Stage stage, int rowGroups, int columns);
+
+  /**
+   * bytes read when loading or parsing, written when writing
+   */
+  void bytesProcessed(Stage stage, long bytes);
+
+  void stageFinished(Stage stage);
+}
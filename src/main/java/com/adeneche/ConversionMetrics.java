@@ -0,0 +1,224 @@
+package com.adeneche;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.Maps;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts files, row groups, columns and bytes processed by each stage, and measures how long each stage took and
+ * how much it allocated. A stage that runs again starts over, the metrics are those of its last run.<br>
+ * Allocations are an estimate: they are the difference between the bytes allocated by every live thread when the
+ * stage started and finished. Threads that terminate before the end of the stage, like the workers of a pool that
+ * is shut down, are counted up to the last file they processed. They are only available on JVMs that support thread
+ * allocation tracking.
+ */
+public class ConversionMetrics implements ConversionListener {
+  private static final int PROGRESS_INTERVAL = 1000;
+
+  private static class StageMetrics {
+    final AtomicLong files = new AtomicLong();
+    final AtomicLong rowGroups = new AtomicLong();
+    final AtomicLong columns = new AtomicLong();
+    final AtomicLong bytes = new AtomicLong();
+
+    // only accessed by the thread starting and finishing the stage
+    final Stopwatch watch = Stopwatch.createUnstarted();
+    long allocatedBytes;
+    /** bytes allocated by each thread when the stage started, null if the stage isn't running */
+    volatile Map<Long, Long> threadAllocations;
+    /** bytes allocated by each thread that processed files when it processed its last one */
+    final ConcurrentMap<Long, Long> lastAllocations = Maps.newConcurrentMap();
+  }
+
+  private final Map<Stage, StageMetrics> stages = new EnumMap<>(Stage.class);
+  private final PrintStream progress;
+
+  public ConversionMetrics() {
+    this(null);
+  }
+
+  /**
+   * @param progress if not null, the number of loaded files is printed to it every {@link #PROGRESS_INTERVAL} files
+   */
+  public ConversionMetrics(final PrintStream progress) {
+    this.progress = progress;
+    for (final Stage stage : Stage.values()) {
+      stages.put(stage, new StageMetrics());
+    }
+  }
+
+  @Override
+  public void stageStarted(final Stage stage) {
+    final StageMetrics metrics = stages.get(stage);
+    metrics.files.set(0);
+    metrics.rowGroups.set(0);
+    metrics.columns.set(0);
+    metrics.bytes.set(0);
+    metrics.allocatedBytes = 0;
+    metrics.lastAllocations.clear();
+    metrics.threadAllocations = threadAllocations();
+    metrics.watch.reset().start();
+  }
+
+  @Override
+  public void fileProcessed(final Stage stage, final int rowGroups, final int columns) {
+    final StageMetrics metrics = stages.get(stage);
+    final long files = metrics.files.incrementAndGet();
+    metrics.rowGroups.addAndGet(rowGroups);
+    metrics.columns.addAndGet(columns);
+    if (metrics.threadAllocations != null) {
+      final long threadId = Thread.currentThread().getId();
+      final long allocated = allocationTracker().getThreadAllocatedBytes(threadId);
+      if (allocated >= 0) {
+        metrics.lastAllocations.put(threadId, allocated);
+      }
+    }
+
+    if (progress != null && stage == Stage.LOAD && files % PROGRESS_INTERVAL == 0) {
+      progress.printf("processing file %d%n", files);
+    }
+  }
+
+  @Override
+  public void bytesProcessed(final Stage stage, final long bytes) {
+    stages.get(stage).bytes.addAndGet(bytes);
+  }
+
+  @Override
+  public void stageFinished(final Stage stage) {
+    final StageMetrics metrics = stages.get(stage);
+    metrics.watch.stop();
+
+    final Map<Long, Long> start = metrics.threadAllocations;
+    metrics.threadAllocations = null;
+    final Map<Long, Long> end = threadAllocations();
+    if (end == null || start == null) {
+      metrics.allocatedBytes = -1;
+      return;
+    }
+    // threads that terminated during the stage only have the bytes allocated up to their last file
+    for (final Map.Entry<Long, Long> thread : metrics.lastAllocations.entrySet()) {
+      if (!end.containsKey(thread.getKey())) {
+        end.put(thread.getKey(), thread.getValue());
+      }
+    }
+
+    long allocatedBytes = 0;
+    for (final Map.Entry<Long, Long> thread : end.entrySet()) {
+      final Long started = start.get(thread.getKey());
+      allocatedBytes += thread.getValue() - (started == null ? 0 : started);
+    }
+    metrics.allocatedBytes = allocatedBytes;
+  }
+
+  public long getFiles(final Stage stage) {
+    return stages.get(stage).files.get();
+  }
+
+  public long getRowGroups(final Stage stage) {
+    return stages.get(stage).rowGroups.get();
+  }
+
+  public long getColumns(final Stage stage) {
+    return stages.get(stage).columns.get();
+  }
+
+  public long getBytes(final Stage stage) {
+    return stages.get(stage).bytes.get();
+  }
+
+  public long getTime(final Stage stage, final TimeUnit unit) {
+    return stages.get(stage).watch.elapsed(unit);
+  }
+
+  /**
+   * @return estimated bytes allocated during the stage, or -1 if the JVM doesn't track allocations
+   */
+  public long getAllocatedBytes(final Stage stage) {
+    return stages.get(stage).allocatedBytes;
+  }
+
+  /**
+   * @return metrics of the stages that ran or processed files, as a json object
+   */
+  public String toJson() {
+    final StringBuilder json = new StringBuilder("{");
+    for (final Map.Entry<Stage, StageMetrics> entry : stages.entrySet()) {
+      final StageMetrics metrics = entry.getValue();
+      if (metrics.watch.elapsed(TimeUnit.NANOSECONDS) == 0 && metrics.files.get() == 0) {
+        continue;
+      }
+      if (json.length() > 1) {
+        json.append(',');
+      }
+      json.append('"').append(entry.getKey().name().toLowerCase()).append("\":{")
+        .append("\"timeMs\":").append(metrics.watch.elapsed(TimeUnit.MILLISECONDS))
+        .append(",\"files\":").append(metrics.files.get())
+        .append(",\"rowGroups\":").append(metrics.rowGroups.get())
+        .append(",\"columns\":").append(metrics.columns.get())
+        .append(",\"bytes\":").append(metrics.bytes.get())
+        .append(",\"allocatedBytes\":").append(metrics.allocatedBytes)
+        .append('}');
+    }
+    return json.append('}').toString();
+  }
+
+  /**
+   * writes {@link #toJson()} to path, or to stdout if path is "-"
+   */
+  public void writeJson(final String path) throws IOException {
+    if ("-".equals(path)) {
+      System.out.println(toJson());
+    } else {
+      Files.write(Paths.get(path), toJson().getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  /**
+   * @return bytes allocated so far by each live thread, or null if the JVM doesn't track allocations
+   */
+  private static Map<Long, Long> threadAllocations() {
+    final com.sun.management.ThreadMXBean allocations = allocationTracker();
+    if (allocations == null) {
+      return null;
+    }
+
+    final long[] ids = allocations.getAllThreadIds();
+    final long[] bytes = allocations.getThreadAllocatedBytes(ids);
+    final Map<Long, Long> result = Maps.newHashMap();
+    for (int i = 0; i < ids.length; i++) {
+      // -1 if the thread terminated in between
+      if (bytes[i] >= 0) {
+        result.put(ids[i], bytes[i]);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return the thread bean if it tracks allocations, null otherwise
+   */
+  private static com.sun.management.ThreadMXBean allocationTracker() {
+    final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+      return null;
+    }
+    final com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+    if (!allocations.isThreadAllocatedMemorySupported() || !allocations.isThreadAllocatedMemoryEnabled()) {
+      return null;
+    }
+    return allocations;
+  }
+}
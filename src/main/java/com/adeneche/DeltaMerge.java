@@ -0,0 +1,69 @@
+package com.adeneche;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Orders the files of a cache updated with a delta: the files of the cache that aren't removed keep their order, a
+ * file of the delta with the same path as one of them takes its place, and the other files of the delta are appended
+ * in order. If the delta has a path more than once its last file is used.<br>
+ * Only works with paths and ordinals so it can be shared by updates that hold the files, see
+ * {@link MetadataHolder#update}, and by updates that stream them, see {@link UpdateCache#update}.
+ */
+class DeltaMerge {
+
+  private DeltaMerge() {
+  }
+
+  /**
+   * @param cachePaths full path of each file of the cache, in order
+   * @param removed paths of the files to remove, paths that aren't in the cache are ignored
+   * @param delta files to add or replace
+   * @return source of each file of the updated cache, in order: the ordinal of a file of the cache, or
+   * {@link #deltaSource(int)} of the index of a file of the delta. Ordinals of the cache are increasing
+   */
+  static int[] merge(final List<String> cachePaths, final Collection<String> removed,
+                     final List<Holders.ParquetFileMetadata> delta) {
+    final Set<String> removedPaths = ImmutableSet.copyOf(removed);
+    final Map<String, Integer> positions = Maps.newHashMapWithExpectedSize(cachePaths.size() + delta.size());
+    final int[] sources = new int[cachePaths.size() + delta.size()];
+    int numFiles = 0;
+    for (int ordinal = 0; ordinal < cachePaths.size(); ordinal++) {
+      final String path = cachePaths.get(ordinal);
+      if (!removedPaths.contains(path)) {
+        positions.put(path, numFiles);
+        sources[numFiles++] = ordinal;
+      }
+    }
+    for (int i = 0; i < delta.size(); i++) {
+      final Integer position = positions.get(delta.get(i).path);
+      if (position != null) {
+        sources[position] = deltaSource(i);
+      } else {
+        positions.put(delta.get(i).path, numFiles);
+        sources[numFiles++] = deltaSource(i);
+      }
+    }
+    return Arrays.copyOf(sources, numFiles);
+  }
+
+  /**
+   * @return source of the file of the delta at index, negative so it can't be confused with an ordinal of the cache
+   */
+  static int deltaSource(final int index) {
+    return -1 - index;
+  }
+
+  /**
+   * @return index in the delta of a negative source
+   */
+  static int deltaIndex(final int source) {
+    return -1 - source;
+  }
+}
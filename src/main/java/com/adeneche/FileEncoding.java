@@ -0,0 +1,108 @@
+package com.adeneche;
+
+import com.adeneche.metadata.Metadata;
+import com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup;
+import com.google.common.collect.Maps;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts files between the encodings of {@link WriteOptions}: host ids or host names in the affinities, paths
+ * relative to a directory or full paths, and row group starts as deltas or as they are. Both sides share the
+ * directories of the header, and the same host dictionary if they both have one.<br>
+ * Works on either layout of {@link ColumnStatsLayout}. Immutable, can be used from multiple threads.
+ */
+class FileEncoding {
+  private final List<String> directories;
+  private final Map<String, Integer> directoryIds;
+  /** dictionary of the host ids of the source files, null if they have host names */
+  private final Metadata.MetadataHosts sourceHosts;
+  /** ids of the hosts in the converted files, null if they have host names */
+  private final Map<String, Integer> targetHostIds;
+  private final boolean sourceStartDeltas;
+  private final boolean targetStartDeltas;
+  private final boolean sourceRelativePaths;
+  private final boolean targetRelativePaths;
+
+  /**
+   * @param hosts host dictionary of whichever side has one, null if neither does
+   */
+  FileEncoding(final Metadata.MetadataHeader source, final Metadata.MetadataHeader target,
+               final Metadata.MetadataHosts hosts) {
+    if ((source.getHostDictionary() || target.getHostDictionary()) && hosts == null) {
+      throw new IllegalArgumentException("a host dictionary is needed to convert host ids");
+    }
+    directories = target.getDirectoriesList();
+    directoryIds = Utils.directoryIds(directories);
+    sourceHosts = source.getHostDictionary() ? hosts : null;
+    targetHostIds = target.getHostDictionary() ? hostIds(hosts) : null;
+    sourceStartDeltas = source.getStartDeltas();
+    targetStartDeltas = target.getStartDeltas();
+    sourceRelativePaths = source.getRelativePaths();
+    targetRelativePaths = target.getRelativePaths();
+  }
+
+  private static Map<String, Integer> hostIds(final Metadata.MetadataHosts hosts) {
+    final Map<String, Integer> ids = Maps.newHashMap();
+    for (int i = 0; i < hosts.getHostsCount(); i++) {
+      ids.put(hosts.getHosts(i), i);
+    }
+    return ids;
+  }
+
+  /**
+   * @return true if the files are the same in both encodings
+   */
+  boolean isIdentity() {
+    return (sourceHosts == null) == (targetHostIds == null) && sourceStartDeltas == targetStartDeltas
+      && sourceRelativePaths == targetRelativePaths;
+  }
+
+  Metadata.ParquetFileMetadata convert(final Metadata.ParquetFileMetadata file) {
+    if (isIdentity()) {
+      return file;
+    }
+    final Metadata.ParquetFileMetadata.Builder builder = file.toBuilder();
+
+    if (sourceRelativePaths != targetRelativePaths) {
+      final String path = Utils.path(file, directories);
+      if (targetRelativePaths) {
+        Utils.setRelativePath(builder, path, directoryIds);
+      } else {
+        builder.clearDirectory().setPath(path);
+      }
+    }
+
+    long expectedStart = Utils.FIRST_ROW_GROUP_START;
+    for (final RowGroup.Builder rowGroup : builder.getRowGroupsBuilderList()) {
+      if (sourceStartDeltas != targetStartDeltas) {
+        final long start = sourceStartDeltas ? expectedStart + rowGroup.getStartDelta() : rowGroup.getStart();
+        if (targetStartDeltas) {
+          rowGroup.clearStart();
+          if (start != expectedStart) {
+            rowGroup.setStartDelta(start - expectedStart);
+          }
+        } else {
+          rowGroup.clearStartDelta().setStart(start);
+        }
+        expectedStart = start + rowGroup.getLength();
+      }
+
+      if ((sourceHosts == null) != (targetHostIds == null)) {
+        for (final RowGroup.HostAffinity.Builder affinity : rowGroup.getAffinitiesBuilderList()) {
+          if (targetHostIds == null) {
+            affinity.setKey(sourceHosts.getHosts(affinity.getHost())).clearHost();
+            continue;
+          }
+          final Integer hostId = targetHostIds.get(affinity.getKey());
+          if (hostId == null) {
+            throw new RuntimeException("host '" + affinity.getKey() + "' not found in the host dictionary");
+          }
+          affinity.setHost(hostId).clearKey();
+        }
+      }
+    }
+    return builder.build();
+  }
+}
@@ -0,0 +1,123 @@
+package com.adeneche;
+
+import com.adeneche.metadata.Metadata;
+import com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats;
+import com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A file record as it is serialized in a cache, with what a writer needs to copy it to another cache with the same
+ * encodings: its full path and how many row groups and columns it has. They are read by walking the tags of the
+ * record, without decoding its row groups or statistics, see {@link MetadataWriter#writeRawFile(FileRecord)}
+ */
+class FileRecord {
+  private final ByteString bytes;
+  private final String path;
+  private final int numRowGroups;
+  private final int numColumns;
+
+  private FileRecord(final ByteString bytes, final String path, final int numRowGroups, final int numColumns) {
+    this.bytes = bytes;
+    this.path = path;
+    this.numRowGroups = numRowGroups;
+    this.numColumns = numColumns;
+  }
+
+  /**
+   * @param bytes serialized {@link Metadata.ParquetFileMetadata}, in either layout of {@link ColumnStatsLayout}
+   * @param directories directories of the cache's header
+   */
+  static FileRecord scan(final ByteString bytes, final List<String> directories) throws IOException {
+    final CodedInputStream input = bytes.newCodedInput();
+    String path = "";
+    Integer directory = null;
+    int numRowGroups = 0;
+    int numColumns = 0;
+    // statistics of columns present in all the row groups don't have a bitmap
+    int allRowGroupsColumns = 0;
+    for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+      switch (WireFormat.getTagFieldNumber(tag)) {
+        case Metadata.ParquetFileMetadata.PATH_FIELD_NUMBER:
+          path = input.readString();
+          break;
+        case Metadata.ParquetFileMetadata.DIRECTORY_FIELD_NUMBER:
+          directory = input.readUInt32();
+          break;
+        case Metadata.ParquetFileMetadata.ROWGROUPS_FIELD_NUMBER:
+          final int limit = input.pushLimit(input.readRawVarint32());
+          numColumns += countFields(input, RowGroup.COLUMNS_FIELD_NUMBER);
+          input.popLimit(limit);
+          numRowGroups++;
+          break;
+        case Metadata.ParquetFileMetadata.COLUMN_STATS_FIELD_NUMBER:
+          final int statsLimit = input.pushLimit(input.readRawVarint32());
+          final int present = countPresent(input);
+          input.popLimit(statsLimit);
+          if (present < 0) {
+            allRowGroupsColumns++;
+          } else {
+            numColumns += present;
+          }
+          break;
+        default:
+          input.skipField(tag);
+      }
+    }
+    numColumns += allRowGroupsColumns * numRowGroups;
+
+    return new FileRecord(bytes, directory == null ? path : Utils.path(directories.get(directory), path),
+      numRowGroups, numColumns);
+  }
+
+  /**
+   * skips a message up to the current limit
+   * @return number of fields with the given number
+   */
+  private static int countFields(final CodedInputStream input, final int fieldNumber) throws IOException {
+    int count = 0;
+    for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+      if (WireFormat.getTagFieldNumber(tag) == fieldNumber) {
+        count++;
+      }
+      input.skipField(tag);
+    }
+    return count;
+  }
+
+  /**
+   * skips a {@link ColumnStats} up to the current limit
+   * @return number of row groups that have the column, or -1 if all of them do
+   */
+  private static int countPresent(final CodedInputStream input) throws IOException {
+    int present = -1;
+    for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+      if (WireFormat.getTagFieldNumber(tag) == ColumnStats.PRESENT_FIELD_NUMBER) {
+        present = ColumnStatsLayout.fromBitmap(input.readBytes()).cardinality();
+      } else {
+        input.skipField(tag);
+      }
+    }
+    return present;
+  }
+
+  ByteString getBytes() {
+    return bytes;
+  }
+
+  String getPath() {
+    return path;
+  }
+
+  int getNumRowGroups() {
+    return numRowGroups;
+  }
+
+  int getNumColumns() {
+    return numColumns;
+  }
+}
@@ -0,0 +1,93 @@
+package com.adeneche;
+
+import com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName;
+import com.google.common.base.Stopwatch;
+import org.kohsuke.args4j.CmdLineException;
+import org.kohsuke.args4j.CmdLineParser;
+import org.kohsuke.args4j.Option;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates a synthetic v2 json metadata cache, to test the converter on caches of any size
+ */
+public class GenerateCache {
+
+  private static class Options {
+    @Option(name = "-o", required = true, usage = "output filename")
+    private String output;
+    @Option(name = "-files", usage = "number of files")
+    private int files = 1000;
+    @Option(name = "-rowGroups", usage = "number of row groups per file")
+    private int rowGroups = 1;
+    @Option(name = "-columns", usage = "number of columns")
+    private int columns = 50;
+    @Option(name = "-depth", usage = "number of parts in each column name")
+    private int depth = 2;
+    @Option(name = "-types", usage = "comma separated primitive types, assigned to the columns in turn")
+    private String types;
+    @Option(name = "-dirs", usage = "number of directories the files are spread on")
+    private int directories = 2;
+    @Option(name = "-hosts", usage = "number of hosts the row groups are spread on")
+    private int hosts = 10;
+    @Option(name = "-affinity", usage = "number of hosts in each row group's host affinity")
+    private int hostsPerRowGroup = 1;
+    @Option(name = "-mxValues", usage = "probability that a column chunk has a max value")
+    private double mxValues = 0.8;
+    @Option(name = "-nulls", usage = "probability that a column chunk has nulls")
+    private double nulls = 0.2;
+    @Option(name = "-seed")
+    private long seed = 1;
+
+    CacheGenerator toGenerator() {
+      final CacheGenerator generator = new CacheGenerator();
+      generator.numFiles = files;
+      generator.rowGroupsPerFile = rowGroups;
+      generator.numColumns = columns;
+      generator.nameDepth = depth;
+      if (types != null) {
+        final String[] names = types.split(",");
+        generator.types = new PrimitiveTypeName[names.length];
+        for (int i = 0; i < names.length; i++) {
+          generator.types[i] = PrimitiveTypeName.valueOf(names[i].trim());
+        }
+      }
+      generator.numDirectories = directories;
+      generator.numHosts = hosts;
+      generator.hostsPerRowGroup = hostsPerRowGroup;
+      generator.mxValueProbability = mxValues;
+      generator.nullsProbability = nulls;
+      generator.seed = seed;
+      return generator;
+    }
+  }
+
+  private static Options parseArguments(String[] args) {
+    final Options options = new Options();
+    final CmdLineParser parser = new CmdLineParser(options);
+
+    try {
+      parser.parseArgument(args);
+    } catch (CmdLineException e) {
+      System.err.println(e.getMessage());
+      parser.printUsage(System.err);
+      System.exit(-1);
+    }
+
+    return options;
+  }
+
+  public static void main(String[] args) throws IOException {
+    final Options options = parseArguments(args);
+
+    final Stopwatch watch = Stopwatch.createStarted();
+    try (FileOutputStream out = new FileOutputStream(options.output)) {
+      options.toGenerator().write(out);
+    }
+    System.out.printf("%d bytes generated in %d ms%n", new File(options.output).length(),
+      watch.elapsed(TimeUnit.MILLISECONDS));
+  }
+}
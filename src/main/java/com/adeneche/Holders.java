@@ -20,6 +20,8 @@ public class Holders {
      ColumnTypeInfo is schema information from all the files and row groups, merged into
      one. To get this info, we pass the ParquetTableMetadata object all the way dow to the
      RowGroup and the column type is built there as it is read from the footer.
+     It's also the dictionary of column names: the row group columns reference the name of their column type
+     instead of holding a copy.
      */
     public Map<ColumnTypeMetadata.Key, ColumnTypeMetadata> columnTypeInfo;
     List<ParquetFileMetadata> files;
@@ -0,0 +1,146 @@
+package com.adeneche;
+
+import com.adeneche.metadata.Metadata;
+import com.google.protobuf.CodedInputStream;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+
+/**
+ * Random access to the files of a cache written with {@link WriteOptions#index}. Only the header, columns and
+ * index are read when opening the cache, each file is then read straight from its offset.
+ */
+class IndexedMetadataReader implements Closeable {
+  private final RandomAccessFile file;
+  private final FileChannel channel;
+
+  private final Metadata.MetadataHeader header;
+  private final Metadata.MetadataColumns columns;
+  private final Metadata.MetadataHosts hosts;
+  private final Metadata.MetadataIndex index;
+  private final PathIndex pathIndex;
+
+  IndexedMetadataReader(final String path) throws IOException {
+    file = new RandomAccessFile(path, "r");
+    channel = file.getChannel();
+    try {
+      final MetadataReader reader = new MetadataReader(
+        CodedInputStream.newInstance(new BufferedInputStream(Channels.newInputStream(channel))));
+      header = reader.readHeader();
+      columns = reader.readColumns();
+      hosts = header.getHostDictionary() ? reader.readHosts() : null;
+      if (!header.getIndexed()) {
+        throw new IOException(path + " has no index");
+      }
+      index = readIndex();
+      pathIndex = PathIndex.of(index.getPathHashesList());
+    } catch (IOException | RuntimeException e) {
+      file.close();
+      throw e;
+    }
+  }
+
+  private Metadata.MetadataIndex readIndex() throws IOException {
+    final long trailerOffset = channel.size() - MetadataWriter.TRAILER_SIZE;
+    final ByteBuffer trailer = read(trailerOffset, MetadataWriter.TRAILER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    final int indexSize = trailer.getInt();
+    if (trailer.getInt() != MetadataWriter.INDEX_MAGIC) {
+      throw new IOException("index trailer not found");
+    }
+    return Metadata.MetadataIndex.parseFrom(read(trailerOffset - indexSize, indexSize).array());
+  }
+
+  public Metadata.MetadataHeader getHeader() {
+    return header;
+  }
+
+  public Metadata.MetadataColumns getColumns() {
+    return columns;
+  }
+
+  /**
+   * @return host dictionary, or null if the cache doesn't have one
+   */
+  public Metadata.MetadataHosts getHosts() {
+    return hosts;
+  }
+
+  /**
+   * @return full path of a file read from this cache
+   */
+  public String getPath(final Metadata.ParquetFileMetadata file) {
+    return Utils.path(file, header.getDirectoriesList());
+  }
+
+  public int getNumFiles() {
+    return index.getNumFiles();
+  }
+
+  public long getNumRowGroups() {
+    return index.getNumRowGroups();
+  }
+
+  public int getNumColumns() {
+    return index.getNumColumns();
+  }
+
+  public Metadata.ParquetFileMetadata getFile(final int ordinal) throws IOException {
+    final long offset = index.getOffsets(ordinal);
+    final Metadata.MetadataHeader.Compression compression = header.getCompression();
+    // record size is a varint of at most 5 bytes, followed by the uncompressed size of a block
+    final ByteBuffer sizeBuffer = read(offset, (int) Math.min(10, channel.size() - offset));
+    final CodedInputStream sizeStream = CodedInputStream.newInstance(sizeBuffer.array());
+    final int size = sizeStream.readRawVarint32();
+    if (compression == Metadata.MetadataHeader.Compression.NONE) {
+      return Metadata.ParquetFileMetadata.parseFrom(read(offset + sizeStream.getTotalBytesRead(), size).array());
+    }
+
+    final int uncompressedSize = sizeStream.readRawVarint32();
+    final byte[] compressed = read(offset + sizeStream.getTotalBytesRead(), size).array();
+    final CodedInputStream block = BlockCompression.decompress(compression, compressed, 0, size, uncompressedSize);
+    // skip the files of the block before this one
+    for (int i = ordinal % header.getBlockFiles(); i > 0; i--) {
+      block.skipRawBytes(block.readRawVarint32());
+    }
+    final int limit = block.pushLimit(block.readRawVarint32());
+    final Metadata.ParquetFileMetadata file = Metadata.ParquetFileMetadata.parseFrom(block);
+    block.popLimit(limit);
+    return file;
+  }
+
+  /**
+   * @return metadata of the file with the given path, or null if the cache doesn't contain it
+   */
+  public Metadata.ParquetFileMetadata getFile(final String path) throws IOException {
+    for (final int ordinal : pathIndex.candidates(path)) {
+      final Metadata.ParquetFileMetadata file = getFile(ordinal);
+      if (path.equals(getPath(file))) {
+        return file;
+      }
+    }
+    return null;
+  }
+
+  private ByteBuffer read(final long offset, final int length) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate(length);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, offset + buffer.position()) < 0) {
+        throw new EOFException();
+      }
+    }
+    buffer.flip();
+    return buffer;
+  }
+
+  @Override
+  public void close() throws IOException {
+    file.close();
+  }
+}
@@ -1,18 +1,26 @@
 package com.adeneche;
 
-import com.eclipsesource.json.JsonArray;
-import com.eclipsesource.json.JsonObject;
-import com.eclipsesource.json.JsonValue;
+import com.google.common.base.Throwables;
 import com.google.common.collect.Lists;
+import com.adeneche.ConversionListener.Stage;
 import com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.OriginalType;
 import com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName;
 import com.adeneche.Holders.ColumnTypeMetadata;
 import com.google.common.collect.Maps;
 import com.google.protobuf.ByteString;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static com.adeneche.Utils.parseStringArray;
 
@@ -21,151 +29,454 @@ import static com.adeneche.Utils.parseStringArray;
  */
 public class JsonLoader {
 
-  private Holders.ParquetTableMetadata tableMetadata;
+  private static final JsonReader.Names TABLE_FIELDS =
+    JsonReader.Names.of("metadata_version", "columnTypeInfo", "files", "directories");
+  private static final JsonReader.Names COLUMN_TYPE_FIELDS =
+    JsonReader.Names.of("name", "primitiveType", "originalType");
+  private static final JsonReader.Names FILE_FIELDS = JsonReader.Names.of("path", "length", "rowGroups");
+  private static final JsonReader.Names ROW_GROUP_FIELDS =
+    JsonReader.Names.of("start", "length", "rowCount", "hostAffinity", "columns");
+  private static final JsonReader.Names COLUMN_FIELDS = JsonReader.Names.of("name", "mxValue", "nulls");
 
-  private final List<String> columnNames = Lists.newArrayList();
-  private final List<PrimitiveTypeName> columnTypes = Lists.newArrayList();
+  private final ConversionListener listener;
+  private Holders.ParquetTableMetadata tableMetadata;
 
   public JsonLoader() {
+    this(ConversionListener.NONE);
+  }
+
+  public JsonLoader(final ConversionListener listener) {
+    this.listener = listener;
     tableMetadata = new Holders.ParquetTableMetadata();
   }
 
-  public Holders.ParquetTableMetadata load(final JsonObject obj) {
-    final String version = obj.get("metadata_version").asString();
-    if (!"v2".equals(version)) {
-      throw new RuntimeException("invalid metadata_version: " + version);
+  /**
+   * columnTypeInfo must come before files, which is always the case in caches written by Drill
+   */
+  public Holders.ParquetTableMetadata load(final JsonReader reader) throws IOException {
+    listener.stageStarted(Stage.LOAD);
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.selectName(TABLE_FIELDS)) {
+        case 0:
+          checkVersion(reader.nextString());
+          break;
+        case 1:
+          extractRootColumns(reader);
+          break;
+        case 2:
+          extractFiles(reader);
+          break;
+        case 3:
+          extractDirectories(reader);
+          break;
+        default:
+          reader.skipValue();
+      }
+    }
+    reader.endObject();
+
+    listener.bytesProcessed(Stage.LOAD, reader.position());
+    listener.stageFinished(Stage.LOAD);
+    return tableMetadata;
+  }
+
+  /**
+   * Loads the cache parsing its files with parallelism threads. A first pass skips over the files to find where each
+   * one starts in the input, then each thread parses a range of consecutive files starting from its offset.
+   * @param parallelism at least 1
+   */
+  public Holders.ParquetTableMetadata load(final File input, final int parallelism) throws IOException {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("parallelism must be positive, got " + parallelism);
+    }
+    listener.stageStarted(Stage.LOAD);
+    long[] offsets = new long[1024];
+    int numFiles = 0;
+
+    try (JsonReader reader = new JsonReader(new FileInputStream(input))) {
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.selectName(TABLE_FIELDS)) {
+          case 0:
+            checkVersion(reader.nextString());
+            break;
+          case 1:
+            extractRootColumns(reader);
+            break;
+          case 2:
+            reader.beginArray();
+            while (reader.hasNext()) {
+              if (numFiles == offsets.length) {
+                offsets = Arrays.copyOf(offsets, numFiles * 2);
+              }
+              offsets[numFiles++] = reader.position();
+              reader.skipValue();
+            }
+            reader.endArray();
+            break;
+          case 3:
+            extractDirectories(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+    }
+
+    if (tableMetadata.columnTypeInfo == null) {
+      throw new RuntimeException("columnTypeInfo not found");
+    }
+    tableMetadata.files = parseFiles(input, Arrays.copyOf(offsets, numFiles), parallelism);
+
+    listener.bytesProcessed(Stage.LOAD, input.length());
+    listener.stageFinished(Stage.LOAD);
+    return tableMetadata;
+  }
+
+  private List<Holders.ParquetFileMetadata> parseFiles(final File input, final long[] offsets, final int parallelism)
+      throws IOException {
+    final Holders.ParquetFileMetadata[] files = new Holders.ParquetFileMetadata[offsets.length];
+    // a few ranges per thread so a slow range doesn't hold everything back
+    final int numRanges = Math.min(offsets.length, parallelism * 4);
+
+    final ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+    try {
+      final List<Future<Void>> results = Lists.newArrayList();
+      for (int i = 0; i < numRanges; i++) {
+        final int start = (int) ((long) offsets.length * i / numRanges);
+        final int end = (int) ((long) offsets.length * (i + 1) / numRanges);
+        results.add(executor.submit(new Callable<Void>() {
+          @Override
+          public Void call() throws IOException {
+            try (FileInputStream stream = new FileInputStream(input)) {
+              stream.getChannel().position(offsets[start]);
+              final JsonReader reader = new JsonReader(stream);
+              reader.enterArray();
+              for (int f = start; f < end; f++) {
+                files[f] = parseFile(reader);
+              }
+            }
+            return null;
+          }
+        }));
+      }
+
+      for (final Future<Void> result : results) {
+        result.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    } catch (ExecutionException e) {
+      Throwables.propagateIfPossible(e.getCause(), IOException.class);
+      throw new RuntimeException(e.getCause());
+    } finally {
+      executor.shutdownNow();
     }
 
-    extractRootColumns(obj);
-    extractFiles(obj);
-    tableMetadata.directories = Arrays.asList(parseStringArray(obj.get("directories").asArray()));
+    return Lists.newArrayList(files);
+  }
 
+  Holders.ParquetTableMetadata getTableMetadata() {
     return tableMetadata;
   }
 
-  private void extractRootColumns(final JsonObject obj) {
+  void checkVersion(final String version) {
+    if (!"v2".equals(version)) {
+      throw new RuntimeException("invalid metadata_version: " + version);
+    }
+  }
+
+  void extractRootColumns(final JsonReader reader) throws IOException {
     tableMetadata.columnTypeInfo = Maps.newHashMap();
 
-    final JsonObject columns = obj.get("columnTypeInfo").asObject();
-    for (final String name : columns.names()) {
-      final Holders.ColumnTypeMetadata columnTypeMetadata = parseColumnTypeInfo(columns.get(name).asObject());
-      columnNames.add(Utils.COLUMN_NAME_JOINER.join(columnTypeMetadata.getName()));
-      columnTypes.add(columnTypeMetadata.getPrimitiveType());
+    reader.beginObject();
+    while (reader.hasNext()) {
+      reader.skipValue(); // name is "`a`.`b`", we use the name array instead
+      final Holders.ColumnTypeMetadata columnTypeMetadata = parseColumnTypeInfo(reader);
       tableMetadata.columnTypeInfo.put(columnTypeMetadata.key(), columnTypeMetadata);
     }
+    reader.endObject();
   }
 
-  private void extractFiles(JsonObject obj) {
+  void extractDirectories(final JsonReader reader) throws IOException {
+    tableMetadata.directories = Arrays.asList(parseStringArray(reader));
+  }
+
+  private void extractFiles(final JsonReader reader) throws IOException {
+    if (tableMetadata.columnTypeInfo == null) {
+      throw new RuntimeException("columnTypeInfo must be defined before files");
+    }
     tableMetadata.files = Lists.newArrayList();
 
-    final JsonArray files = obj.get("files").asArray();
-    for (int i = 0; i < files.size(); i++) {
-      if (i % 1000 == 0) {
-        System.out.printf("processing file %d/%d%n", i, files.size());
-      }
-      tableMetadata.files.add(parseFile(files.get(i).asObject()));
+    reader.beginArray();
+    while (reader.hasNext()) {
+      tableMetadata.files.add(parseFile(reader));
     }
+    reader.endArray();
   }
 
-  private ColumnTypeMetadata parseColumnTypeInfo(JsonObject object) {
-    final String[] name = Utils.parseStringArray(object.get("name").asArray());
-
-    final JsonValue primitiveTypeValue = object.get("primitiveType");
+  private ColumnTypeMetadata parseColumnTypeInfo(final JsonReader reader) throws IOException {
+    String[] name = null;
     PrimitiveTypeName primitiveType = null;
-    if (!primitiveTypeValue.isNull()) {
-      primitiveType = PrimitiveTypeName.valueOf(primitiveTypeValue.asString());
-    }
-
-    final JsonValue originalValue = object.get("originalType");
     OriginalType originalType = null;
-    if (!originalValue.isNull()) {
-      originalType = OriginalType.valueOf(originalValue.asString());
+
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.selectName(COLUMN_TYPE_FIELDS)) {
+        case 0:
+          name = parseStringArray(reader);
+          break;
+        case 1:
+          final String primitiveTypeValue = nextNullableString(reader);
+          if (primitiveTypeValue != null) {
+            primitiveType = PrimitiveTypeName.valueOf(primitiveTypeValue);
+          }
+          break;
+        case 2:
+          final String originalValue = nextNullableString(reader);
+          if (originalValue != null) {
+            originalType = OriginalType.valueOf(originalValue);
+          }
+          break;
+        default:
+          reader.skipValue();
+      }
     }
+    reader.endObject();
 
     return new ColumnTypeMetadata(name, primitiveType, originalType);
   }
 
-  private Holders.ParquetFileMetadata parseFile(final JsonObject obj) {
-
-    final JsonArray rowGroupsArray = obj.get("rowGroups").asArray();
+  Holders.ParquetFileMetadata parseFile(final JsonReader reader) throws IOException {
+    String path = "";
+    long length = -1;
     final List<Holders.RowGroupMetadata> rowGroups = Lists.newArrayList();
-    for (int i = 0; i < rowGroupsArray.size(); i++) {
-      rowGroups.add(parseRowGroup(rowGroupsArray.get(i).asObject()));
+
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.selectName(FILE_FIELDS)) {
+        case 0:
+          path = reader.nextString();
+          break;
+        case 1:
+          length = reader.nextLong();
+          break;
+        case 2:
+          reader.beginArray();
+          while (reader.hasNext()) {
+            rowGroups.add(parseRowGroup(reader));
+          }
+          reader.endArray();
+          break;
+        default:
+          reader.skipValue();
+      }
     }
+    reader.endObject();
 
-    return new Holders.ParquetFileMetadata(obj.getString("path", ""), obj.getLong("length", -1), rowGroups);
+    int numColumns = 0;
+    for (final Holders.RowGroupMetadata rowGroup : rowGroups) {
+      numColumns += rowGroup.columns.size();
+    }
+    listener.fileProcessed(Stage.LOAD, rowGroups.size(), numColumns);
+
+    return new Holders.ParquetFileMetadata(path, length, rowGroups);
   }
 
-  private Holders.RowGroupMetadata parseRowGroup(final JsonObject obj) {
+  private Holders.RowGroupMetadata parseRowGroup(final JsonReader reader) throws IOException {
+    long start = -1;
+    long length = -1;
+    long rowCount = -1;
     final Map<String, Float> affinites = Maps.newHashMap();
-    final JsonObject hostAffinity = obj.get("hostAffinity").asObject();
-    for (final String name : hostAffinity.names()) {
-      affinites.put(name, hostAffinity.getFloat(name, -1));
-    }
-
     final List<Holders.ColumnMetadata> columns = Lists.newArrayList();
-    final JsonArray columnsArray = obj.get("columns").asArray();
-    for (final JsonValue column : columnsArray) {
-      final Holders.ColumnMetadata columnMetadata = parseRowGroupColumn(column.asObject());
-      if (columnMetadata != null) {
-        columns.add(columnMetadata);
+
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.selectName(ROW_GROUP_FIELDS)) {
+        case 0:
+          start = reader.nextLong();
+          break;
+        case 1:
+          length = reader.nextLong();
+          break;
+        case 2:
+          rowCount = reader.nextLong();
+          break;
+        case 3:
+          reader.beginObject();
+          while (reader.hasNext()) {
+            affinites.put(reader.nextName(), reader.nextFloat());
+          }
+          reader.endObject();
+          break;
+        case 4:
+          reader.beginArray();
+          while (reader.hasNext()) {
+            final Holders.ColumnMetadata columnMetadata = parseRowGroupColumn(reader);
+            if (columnMetadata != null) {
+              columns.add(columnMetadata);
+            }
+          }
+          reader.endArray();
+          break;
+        default:
+          reader.skipValue();
       }
     }
+    reader.endObject();
+
+    return new Holders.RowGroupMetadata(start, length, rowCount, affinites, columns);
+  }
 
-    return new Holders.RowGroupMetadata(obj.getLong("start", -1), obj.getLong("length", -1),
-      obj.getLong("rowCount", -1), affinites, columns);
+  /**
+   * reads the hosts of a file's row groups into hosts, skipping everything else
+   */
+  void collectHosts(final JsonReader reader, final Set<String> hosts) throws IOException {
+    reader.beginObject();
+    while (reader.hasNext()) {
+      if (reader.selectName(FILE_FIELDS) != 2) {
+        reader.skipValue();
+        continue;
+      }
+      reader.beginArray();
+      while (reader.hasNext()) {
+        reader.beginObject();
+        while (reader.hasNext()) {
+          if (reader.selectName(ROW_GROUP_FIELDS) != 3) {
+            reader.skipValue();
+            continue;
+          }
+          reader.beginObject();
+          while (reader.hasNext()) {
+            hosts.add(reader.nextName());
+            reader.skipValue();
+          }
+          reader.endObject();
+        }
+        reader.endObject();
+      }
+      reader.endArray();
+    }
+    reader.endObject();
   }
 
-  private PrimitiveTypeName getColumnType(final String[] columnName) {
-    final String name = Utils.COLUMN_NAME_JOINER.join(columnName);
-    final int nameId = columnNames.indexOf(name);
-    if (nameId == -1) {
-      throw new RuntimeException("column '" + name + "' not found in columnNames");
+  private ColumnTypeMetadata getColumnType(final String[] columnName) {
+    final ColumnTypeMetadata columnType = tableMetadata.columnTypeInfo.get(new ColumnTypeMetadata.Key(columnName));
+    if (columnType == null) {
+      throw new RuntimeException("column '" + Utils.COLUMN_NAME_JOINER.join(columnName)
+        + "' not found in columnTypeInfo");
     }
-    return columnTypes.get(nameId);
+    return columnType;
   }
 
-  private Holders.ColumnMetadata parseRowGroupColumn(final JsonObject obj) {
-    Long nulls = obj.get("nulls").asLong();
-    final JsonValue mxJsonValue = obj.get("mxValue");
+  private Holders.ColumnMetadata parseRowGroupColumn(final JsonReader reader) throws IOException {
+    String[] columnName = null;
+    Long nulls = null;
+    ColumnTypeMetadata columnType = null;
+    boolean hasMxValue = false;
+    Object mxValue = null;
+    // only used if mxValue comes before name, Drill always writes name first
+    Object pendingMxValue = null;
 
-    if (nulls == 0 && mxJsonValue == null) {
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.selectName(COLUMN_FIELDS)) {
+        case 0:
+          columnName = parseStringArray(reader);
+          break;
+        case 1:
+          if (reader.peek() == JsonReader.Token.NULL) {
+            reader.nextNull();
+            break;
+          }
+          hasMxValue = true;
+          if (columnName == null) {
+            pendingMxValue = reader.peek() == JsonReader.Token.BOOLEAN ? reader.nextBoolean() : reader.nextString();
+          } else {
+            columnType = getColumnType(columnName);
+            mxValue = readMxValue(reader, columnType.primitiveType);
+          }
+          break;
+        case 2:
+          nulls = reader.nextLong();
+          break;
+        default:
+          reader.skipValue();
+      }
+    }
+    reader.endObject();
+
+    if (nulls == 0 && !hasMxValue) {
       return null;
     }
 
-    final String[] columnName = Utils.parseStringArray(obj.get("name").asArray());
-    final PrimitiveTypeName primitiveType = getColumnType(columnName);
+    if (columnType == null) {
+      columnType = getColumnType(columnName);
+    }
+    if (pendingMxValue != null) {
+      mxValue = convertMxValue(pendingMxValue, columnType.primitiveType);
+    }
 
     if (nulls > 0) {
       nulls = null;
     }
 
-    Object mxValue = null;
-    if (mxJsonValue != null) {
-      switch (primitiveType) {
-        case INT64:
-          mxValue = mxJsonValue.asLong();
-          break;
-        case INT32:
-          mxValue = mxJsonValue.asInt();
-          break;
-        case BOOLEAN:
-          mxValue = mxJsonValue.asBoolean();
-          break;
-        case BINARY:
-        case FIXED_LEN_BYTE_ARRAY:
-        case INT96:
-          mxValue = ByteString.copyFrom(mxJsonValue.asString().getBytes());
-          break;
-        case FLOAT:
-          mxValue = mxJsonValue.asFloat();
-          break;
-        case DOUBLE:
-          mxValue = mxJsonValue.asDouble();
-          break;
-      }
+    // the parsed name is only used for the lookup, all the columns share the name of their type so it's kept once
+    return new Holders.ColumnMetadata(columnType.name, columnType.primitiveType, mxValue, nulls);
+  }
+
+  private static Object readMxValue(final JsonReader reader, final PrimitiveTypeName primitiveType)
+      throws IOException {
+    switch (primitiveType) {
+      case INT64:
+        return reader.nextLong();
+      case INT32:
+        return reader.nextInt();
+      case BOOLEAN:
+        return reader.nextBoolean();
+      case BINARY:
+      case FIXED_LEN_BYTE_ARRAY:
+      case INT96:
+        return reader.nextUtf8();
+      case FLOAT:
+        return reader.nextFloat();
+      case DOUBLE:
+        return reader.nextDouble();
     }
+    reader.skipValue();
+    return null;
+  }
 
-    return new Holders.ColumnMetadata(columnName, primitiveType, mxValue, nulls);
+  private static Object convertMxValue(final Object value, final PrimitiveTypeName primitiveType) {
+    if (value instanceof Boolean) {
+      return value;
+    }
+    final String text = (String) value;
+    switch (primitiveType) {
+      case INT64:
+        return Long.parseLong(text);
+      case INT32:
+        return Integer.parseInt(text);
+      case BINARY:
+      case FIXED_LEN_BYTE_ARRAY:
+      case INT96:
+        return ByteString.copyFromUtf8(text);
+      case FLOAT:
+        return Float.parseFloat(text);
+      case DOUBLE:
+        return Double.parseDouble(text);
+    }
+    return null;
+  }
+
+  private static String nextNullableString(final JsonReader reader) throws IOException {
+    if (reader.peek() == JsonReader.Token.NULL) {
+      reader.nextNull();
+      return null;
+    }
+    return reader.nextString();
   }
 }
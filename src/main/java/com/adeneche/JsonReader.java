@@ -0,0 +1,575 @@
+package com.adeneche;
+
+import com.google.protobuf.ByteString;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Pull based reader of a UTF-8 json document. No tree is built: the caller walks the document token by token and
+ * numbers, booleans and strings are decoded straight from the input buffer into their final representation.<br>
+ * Object members can be matched with {@link #selectName(Names)}, which compares the raw bytes of the name and
+ * doesn't allocate a String for it.
+ */
+public class JsonReader implements Closeable {
+
+  public enum Token {
+    BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, NAME, STRING, NUMBER, BOOLEAN, NULL, END_DOCUMENT
+  }
+
+  /**
+   * Set of member names, encoded once so they can be matched against the input without decoding it
+   */
+  public static class Names {
+    private final String[] names;
+    private final byte[][] bytes;
+
+    private Names(final String[] names) {
+      this.names = names;
+      bytes = new byte[names.length][];
+      for (int i = 0; i < names.length; i++) {
+        bytes[i] = names[i].getBytes(StandardCharsets.UTF_8);
+      }
+    }
+
+    public static Names of(final String... names) {
+      return new Names(names);
+    }
+  }
+
+  // scopes
+  private static final int EMPTY_DOCUMENT = 0;
+  private static final int NONEMPTY_DOCUMENT = 1;
+  private static final int EMPTY_OBJECT = 2;
+  private static final int DANGLING_NAME = 3;
+  private static final int NONEMPTY_OBJECT = 4;
+  private static final int EMPTY_ARRAY = 5;
+  private static final int NONEMPTY_ARRAY = 6;
+
+  private final InputStream in;
+  private byte[] buffer = new byte[64 * 1024];
+  private int pos;
+  private int limit;
+  /** offset in the input of buffer[0] */
+  private long bufferOffset;
+
+  private int[] stack = new int[32];
+  private int stackSize = 1;
+
+  private Token peeked;
+
+  public JsonReader(final InputStream in) {
+    this.in = in;
+    stack[0] = EMPTY_DOCUMENT;
+  }
+
+  public Token peek() throws IOException {
+    if (peeked == null) {
+      peeked = doPeek();
+    }
+    return peeked;
+  }
+
+  public boolean hasNext() throws IOException {
+    final Token token = peek();
+    return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+  }
+
+  public void beginObject() throws IOException {
+    expect(Token.BEGIN_OBJECT);
+    pos++;
+    push(EMPTY_OBJECT);
+  }
+
+  public void endObject() throws IOException {
+    expect(Token.END_OBJECT);
+    pos++;
+    stackSize--;
+  }
+
+  public void beginArray() throws IOException {
+    expect(Token.BEGIN_ARRAY);
+    pos++;
+    push(EMPTY_ARRAY);
+  }
+
+  public void endArray() throws IOException {
+    expect(Token.END_ARRAY);
+    pos++;
+    stackSize--;
+  }
+
+  /**
+   * Continues reading inside an array whose opening bracket was consumed elsewhere: the reader must be positioned
+   * at the start of one of its elements. This allows parsing a slice of a large array from its offset in the input.
+   */
+  void enterArray() {
+    push(EMPTY_ARRAY);
+  }
+
+  public String nextName() throws IOException {
+    expect(Token.NAME);
+    return readString();
+  }
+
+  /**
+   * Consumes the next member name and returns its index in names, or -1 if it's not one of them
+   */
+  public int selectName(final Names names) throws IOException {
+    expect(Token.NAME);
+    final int end = findStringEnd();
+    if (end < 0) {
+      // escaped name, rare enough to take the slow path
+      final String name = readString();
+      for (int i = 0; i < names.names.length; i++) {
+        if (names.names[i].equals(name)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    final int start = pos + 1;
+    pos = end + 1;
+    for (int i = 0; i < names.bytes.length; i++) {
+      final byte[] name = names.bytes[i];
+      if (name.length == end - start && regionMatches(name, start)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @return next string, or the text of the next number
+   */
+  public String nextString() throws IOException {
+    if (peek() == Token.NUMBER) {
+      peeked = null;
+      return readNumber(readNumberLength());
+    }
+    expect(Token.STRING);
+    return readString();
+  }
+
+  /**
+   * @return UTF-8 bytes of the next string
+   */
+  public ByteString nextUtf8() throws IOException {
+    expect(Token.STRING);
+    final int end = findStringEnd();
+    if (end < 0) {
+      return ByteString.copyFromUtf8(readString());
+    }
+    final ByteString bytes = ByteString.copyFrom(buffer, pos + 1, end - pos - 1);
+    pos = end + 1;
+    return bytes;
+  }
+
+  public long nextLong() throws IOException {
+    expect(Token.NUMBER);
+    final int length = readNumberLength();
+    final int end = pos + length;
+
+    int i = pos;
+    final boolean negative = buffer[i] == '-';
+    if (negative) {
+      i++;
+    }
+    // up to 18 digits can't overflow
+    if (end - i > 0 && end - i <= 18) {
+      long value = 0;
+      for (; i < end; i++) {
+        final int digit = buffer[i] - '0';
+        if (digit < 0 || digit > 9) {
+          break;
+        }
+        value = value * 10 + digit;
+      }
+      if (i == end) {
+        pos = end;
+        peeked = null;
+        return negative ? -value : value;
+      }
+    }
+    return Long.parseLong(readNumber(length));
+  }
+
+  public int nextInt() throws IOException {
+    final long value = nextLong();
+    if (value != (int) value) {
+      throw new NumberFormatException("not an int: " + value);
+    }
+    return (int) value;
+  }
+
+  public double nextDouble() throws IOException {
+    expect(Token.NUMBER);
+    return Double.parseDouble(readNumber(readNumberLength()));
+  }
+
+  public float nextFloat() throws IOException {
+    expect(Token.NUMBER);
+    return Float.parseFloat(readNumber(readNumberLength()));
+  }
+
+  public boolean nextBoolean() throws IOException {
+    expect(Token.BOOLEAN);
+    if (buffer[pos] == 't') {
+      readLiteral("true");
+      return true;
+    }
+    readLiteral("false");
+    return false;
+  }
+
+  public void nextNull() throws IOException {
+    expect(Token.NULL);
+    readLiteral("null");
+  }
+
+  /**
+   * Skips the next value, or the next name if positioned on one. Nested values are skipped without being tokenized.
+   */
+  public void skipValue() throws IOException {
+    switch (peek()) {
+      case NAME:
+        final int end = findStringEnd();
+        if (end < 0) {
+          readString();
+        } else {
+          pos = end + 1;
+        }
+        break;
+      case BEGIN_OBJECT:
+      case BEGIN_ARRAY:
+        skipNested();
+        break;
+      case STRING:
+        skipString();
+        break;
+      case NUMBER:
+        final int length = readNumberLength();
+        pos += length;
+        break;
+      case BOOLEAN:
+        readLiteral(buffer[pos] == 't' ? "true" : "false");
+        break;
+      case NULL:
+        readLiteral("null");
+        break;
+      default:
+        throw syntaxError("expected a value but was " + peeked);
+    }
+    peeked = null;
+  }
+
+  /**
+   * @return offset in the input of the next unread byte. Right after {@link #peek()} returned a value token, this
+   * is the offset of the first byte of that value.
+   */
+  public long position() {
+    return bufferOffset + pos;
+  }
+
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+
+  private Token doPeek() throws IOException {
+    final int scope = stack[stackSize - 1];
+    switch (scope) {
+      case EMPTY_ARRAY:
+        stack[stackSize - 1] = NONEMPTY_ARRAY;
+        if (peekNonWhitespace() == ']') {
+          return Token.END_ARRAY;
+        }
+        break;
+      case NONEMPTY_ARRAY: {
+        final int c = peekNonWhitespace();
+        if (c == ']') {
+          return Token.END_ARRAY;
+        } else if (c != ',') {
+          throw syntaxError("expected ',' or ']'");
+        }
+        pos++;
+        break;
+      }
+      case EMPTY_OBJECT:
+      case NONEMPTY_OBJECT: {
+        stack[stackSize - 1] = DANGLING_NAME;
+        int c = peekNonWhitespace();
+        if (c == '}') {
+          return Token.END_OBJECT;
+        }
+        if (scope == NONEMPTY_OBJECT) {
+          if (c != ',') {
+            throw syntaxError("expected ',' or '}'");
+          }
+          pos++;
+          c = peekNonWhitespace();
+        }
+        if (c != '"') {
+          throw syntaxError("expected a name");
+        }
+        return Token.NAME;
+      }
+      case DANGLING_NAME:
+        stack[stackSize - 1] = NONEMPTY_OBJECT;
+        if (peekNonWhitespace() != ':') {
+          throw syntaxError("expected ':'");
+        }
+        pos++;
+        break;
+      case EMPTY_DOCUMENT:
+        stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+        break;
+      case NONEMPTY_DOCUMENT:
+        if (peekNonWhitespace() == -1) {
+          return Token.END_DOCUMENT;
+        }
+        throw syntaxError("expected end of document");
+    }
+
+    switch (peekNonWhitespace()) {
+      case '{':
+        return Token.BEGIN_OBJECT;
+      case '[':
+        return Token.BEGIN_ARRAY;
+      case '"':
+        return Token.STRING;
+      case 't':
+      case 'f':
+        return Token.BOOLEAN;
+      case 'n':
+        return Token.NULL;
+      case '-':
+      case '0': case '1': case '2': case '3': case '4':
+      case '5': case '6': case '7': case '8': case '9':
+        return Token.NUMBER;
+      case -1:
+        throw syntaxError("unexpected end of input");
+      default:
+        throw syntaxError("unexpected character '" + (char) buffer[pos] + "'");
+    }
+  }
+
+  private void expect(final Token expected) throws IOException {
+    if (peek() != expected) {
+      throw syntaxError("expected " + expected + " but was " + peeked);
+    }
+    peeked = null;
+  }
+
+  private void push(final int scope) {
+    if (stackSize == stack.length) {
+      stack = Arrays.copyOf(stack, stackSize * 2);
+    }
+    stack[stackSize++] = scope;
+  }
+
+  /**
+   * Makes sure the string starting at pos is entirely in the buffer
+   * @return index of the closing quote, or -1 if the string contains escape sequences
+   */
+  private int findStringEnd() throws IOException {
+    boolean escaped = false;
+    int i = pos + 1;
+    while (true) {
+      if (i >= limit) {
+        final int offset = i - pos;
+        if (!fill(offset + 1)) {
+          throw syntaxError("unterminated string");
+        }
+        i = pos + offset;
+      }
+      final byte b = buffer[i];
+      if (b == '"') {
+        return escaped ? -1 : i;
+      } else if (b == '\\') {
+        escaped = true;
+        i += 2;
+      } else {
+        i++;
+      }
+    }
+  }
+
+  private String readString() throws IOException {
+    int end = findStringEnd();
+    if (end >= 0) {
+      final String s = new String(buffer, pos + 1, end - pos - 1, StandardCharsets.UTF_8);
+      pos = end + 1;
+      return s;
+    }
+
+    // the whole string is in the buffer, decode it one escape sequence at a time
+    final StringBuilder builder = new StringBuilder();
+    int start = ++pos;
+    while (true) {
+      final byte b = buffer[pos];
+      if (b == '"' || b == '\\') {
+        builder.append(new String(buffer, start, pos - start, StandardCharsets.UTF_8));
+      }
+      if (b == '"') {
+        pos++;
+        return builder.toString();
+      } else if (b == '\\') {
+        final byte c = buffer[pos + 1];
+        pos += 2;
+        switch (c) {
+          case 'b': builder.append('\b'); break;
+          case 'f': builder.append('\f'); break;
+          case 'n': builder.append('\n'); break;
+          case 'r': builder.append('\r'); break;
+          case 't': builder.append('\t'); break;
+          case 'u':
+            builder.append((char) Integer.parseInt(new String(buffer, pos, 4, StandardCharsets.US_ASCII), 16));
+            pos += 4;
+            break;
+          default:
+            builder.append((char) c);
+        }
+        start = pos;
+      } else {
+        pos++;
+      }
+    }
+  }
+
+  private void skipString() throws IOException {
+    pos++;
+    while (true) {
+      final int c = read();
+      if (c == '\\') {
+        read();
+      } else if (c == '"') {
+        return;
+      }
+    }
+  }
+
+  private void skipNested() throws IOException {
+    int depth = 0;
+    do {
+      final int c = read();
+      if (c == '"') {
+        pos--;
+        skipString();
+      } else if (c == '{' || c == '[') {
+        depth++;
+      } else if (c == '}' || c == ']') {
+        depth--;
+      }
+    } while (depth > 0);
+  }
+
+  /**
+   * Makes sure the number starting at pos is entirely in the buffer
+   * @return length of the number
+   */
+  private int readNumberLength() throws IOException {
+    int i = pos;
+    while (true) {
+      if (i == limit) {
+        final int offset = i - pos;
+        if (!fill(offset + 1)) {
+          return offset;
+        }
+        i = pos + offset;
+      }
+      switch (buffer[i]) {
+        case '-': case '+': case '.': case 'e': case 'E':
+        case '0': case '1': case '2': case '3': case '4':
+        case '5': case '6': case '7': case '8': case '9':
+          i++;
+          break;
+        default:
+          return i - pos;
+      }
+    }
+  }
+
+  private String readNumber(final int length) {
+    final String number = new String(buffer, pos, length, StandardCharsets.US_ASCII);
+    pos += length;
+    return number;
+  }
+
+  private void readLiteral(final String literal) throws IOException {
+    if (!fill(literal.length())) {
+      throw syntaxError("unexpected end of input");
+    }
+    for (int i = 0; i < literal.length(); i++) {
+      if (buffer[pos + i] != literal.charAt(i)) {
+        throw syntaxError("expected " + literal);
+      }
+    }
+    pos += literal.length();
+  }
+
+  private boolean regionMatches(final byte[] bytes, final int start) {
+    for (int i = 0; i < bytes.length; i++) {
+      if (buffer[start + i] != bytes[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int peekNonWhitespace() throws IOException {
+    while (pos < limit || fill(1)) {
+      final byte c = buffer[pos];
+      if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+        return c;
+      }
+      pos++;
+    }
+    return -1;
+  }
+
+  private int read() throws IOException {
+    if (pos == limit && !fill(1)) {
+      throw syntaxError("unexpected end of input");
+    }
+    return buffer[pos++];
+  }
+
+  /**
+   * Makes sure at least minimum bytes are available in the buffer starting at pos, moving the unread bytes to the
+   * front of the buffer and growing it if necessary
+   * @return false if the input ended first
+   */
+  private boolean fill(final int minimum) throws IOException {
+    if (limit - pos >= minimum) {
+      return true;
+    }
+
+    if (pos > 0) {
+      System.arraycopy(buffer, pos, buffer, 0, limit - pos);
+      bufferOffset += pos;
+      limit -= pos;
+      pos = 0;
+    }
+    if (minimum > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(minimum, buffer.length * 2));
+    }
+
+    while (limit < minimum) {
+      final int read = in.read(buffer, limit, buffer.length - limit);
+      if (read == -1) {
+        return false;
+      }
+      limit += read;
+    }
+    return true;
+  }
+
+  private RuntimeException syntaxError(final String message) {
+    return new RuntimeException("malformed json at offset " + position() + ": " + message);
+  }
+}
@@ -1,14 +1,14 @@
 package com.adeneche;
 
-import com.eclipsesource.json.Json;
-import com.eclipsesource.json.JsonObject;
+import com.adeneche.metadata.Metadata;
 import com.google.protobuf.CodedOutputStream;
 import org.kohsuke.args4j.CmdLineException;
 import org.kohsuke.args4j.CmdLineParser;
 import org.kohsuke.args4j.Option;
 
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
-import java.io.FileReader;
 import java.io.IOException;
 
 /**
@@ -23,6 +23,48 @@ public class JsonToProto {
 
     @Option(name="-o",required = true, usage = "output filename")
     private String output;
+
+    @Option(name="-stream", usage = "convert one file entry at a time instead of loading the whole cache in memory")
+    private boolean stream;
+
+    @Option(name="-t", usage = "number of threads used to parse and build the files, ignored when streaming")
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    @Option(name="-index", usage = "write an index of the files after them, for random access")
+    private boolean index;
+
+    @Option(name="-compress", usage = "compress the files in blocks with this codec")
+    private Metadata.MetadataHeader.Compression compression = Metadata.MetadataHeader.Compression.NONE;
+
+    @Option(name="-blockFiles", usage = "number of files in each compressed block")
+    private int blockFiles = new WriteOptions().blockFiles;
+
+    @Option(name="-columnStats", usage = "write the statistics of each file by column instead of by row group")
+    private boolean columnStats;
+
+    @Option(name="-hostDictionary", usage = "write each host once, row groups reference them by id")
+    private boolean hostDictionary;
+
+    @Option(name="-relativePaths", usage = "write the paths of the files relative to the table's directories")
+    private boolean relativePaths;
+
+    @Option(name="-startDeltas", usage = "write row group starts relative to the end of the previous row group")
+    private boolean startDeltas;
+
+    @Option(name="-metrics", usage = "write the metrics of each stage to this file as json, - for stdout")
+    private String metrics;
+
+    WriteOptions toWriteOptions() {
+      final WriteOptions writeOptions = new WriteOptions();
+      writeOptions.index = index;
+      writeOptions.compression = compression;
+      writeOptions.blockFiles = blockFiles;
+      writeOptions.columnStats = columnStats;
+      writeOptions.hostDictionary = hostDictionary;
+      writeOptions.relativePaths = relativePaths;
+      writeOptions.startDeltas = startDeltas;
+      return writeOptions;
+    }
   }
 
   private static Options parseArguments(String[] args) {
@@ -45,21 +87,34 @@ public class JsonToProto {
   public static void main( String[] args ) throws IOException {
     final Options options = parseArguments(args);
 
-    final FileReader reader = new FileReader(options.input);
-    final JsonObject object = Json.parse(reader).asObject();
-
+    final ConversionMetrics metrics = new ConversionMetrics(System.out);
     final FileOutputStream fileStream = new FileOutputStream(options.output);
     final CodedOutputStream codedStream = CodedOutputStream.newInstance(fileStream);
 
-    Holders.ParquetTableMetadata tableMetadata = new JsonLoader().load(object);
-
-    final MetadataHolder holder = new MetadataHolder();
-    holder.parseFrom(tableMetadata);
-
-    holder.writeTo(codedStream);
+    if (options.stream) {
+      new StreamingConverter(new File(options.input), metrics).convert(codedStream, options.toWriteOptions());
+    } else {
+      final Holders.ParquetTableMetadata tableMetadata;
+      if (options.threads > 1) {
+        tableMetadata = new JsonLoader(metrics).load(new File(options.input), options.threads);
+      } else {
+        try (JsonReader reader = new JsonReader(new FileInputStream(options.input))) {
+          tableMetadata = new JsonLoader(metrics).load(reader);
+        }
+      }
+
+      final MetadataHolder holder = new MetadataHolder();
+      holder.setListener(metrics);
+      holder.parseFrom(tableMetadata, options.threads, options.toWriteOptions());
+
+      holder.writeTo(codedStream, options.toWriteOptions());
+    }
 
     fileStream.close();
-    reader.close();
+
+    if (options.metrics != null) {
+      metrics.writeJson(options.metrics);
+    }
   }
 
 }
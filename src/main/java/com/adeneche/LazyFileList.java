@@ -0,0 +1,62 @@
+package com.adeneche;
+
+import com.adeneche.metadata.Metadata;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Files of a mapped cache, each one is only decoded when it's accessed.<br>
+ * When caching is enabled a decoded file is kept for subsequent accesses, otherwise it's decoded again every time.
+ * In a compressed cache the whole block of a file is decompressed to access it, and with caching all the files of
+ * the block are kept.<br>
+ * Safe to use from multiple threads: two threads accessing the same file for the first time may both decode it.
+ */
+class LazyFileList extends AbstractList<Metadata.ParquetFileMetadata> implements RandomAccess {
+  private final MappedMetadataReader reader;
+  private final long[] blockOffsets;
+  private final int blockFiles;
+  private final AtomicReferenceArray<Metadata.ParquetFileMetadata> decoded;
+
+  LazyFileList(final MappedMetadataReader reader, final long[] blockOffsets, final boolean cache) {
+    this.reader = reader;
+    this.blockOffsets = blockOffsets;
+    this.blockFiles = reader.getBlockFiles();
+    this.decoded = cache ? new AtomicReferenceArray<Metadata.ParquetFileMetadata>(reader.getNumFiles()) : null;
+  }
+
+  @Override
+  public Metadata.ParquetFileMetadata get(final int index) {
+    if (index < 0 || index >= size()) {
+      throw new IndexOutOfBoundsException("index: " + index + ", size: " + size());
+    }
+    if (decoded != null) {
+      final Metadata.ParquetFileMetadata file = decoded.get(index);
+      if (file != null) {
+        return file;
+      }
+    }
+
+    final int block = index / blockFiles;
+    final Metadata.ParquetFileMetadata[] files = new Metadata.ParquetFileMetadata[blockFiles];
+    try {
+      reader.readBlock(blockOffsets[block], files, 0);
+    } catch (IOException e) {
+      throw new RuntimeException("could not decode file " + index, e);
+    }
+
+    if (decoded != null) {
+      for (int i = 0; i < files.length && files[i] != null; i++) {
+        decoded.set(block * blockFiles + i, files[i]);
+      }
+    }
+    return files[index - block * blockFiles];
+  }
+
+  @Override
+  public int size() {
+    return reader.getNumFiles();
+  }
+}
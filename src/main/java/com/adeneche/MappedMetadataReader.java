@@ -0,0 +1,392 @@
+package com.adeneche;
+
+import com.adeneche.metadata.Metadata;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Reads a binary metadata cache through memory mappings of the file instead of a stream. Each section is read from
+ * its own slice of the mapped pages, so there is no size limit and sections can be read in any order.<br>
+ * protobuf 2 can only decode arrays or streams, so each record is copied into an array owned by the reading thread
+ * and decoded from there. The array is reused for the next records: strings and bytes are copied out of it while
+ * decoding.<br>
+ * A single mapping can't exceed 2GB, so the file is mapped in segments of {@link #SEGMENT_SIZE} bytes. Each segment
+ * extends {@link #SEGMENT_OVERLAP} bytes into the next one, so any record smaller than that is contained in a
+ * single mapping.<br>
+ * The mappings are read only and never repositioned, so files can be read by multiple threads.<br>
+ * Files are read by block: a block is a single record in an uncompressed cache, or the compressed records of
+ * {@link #getBlockFiles()} files.<br>
+ * With a {@link ColumnProjection}, the files only have the statistics of the projected columns.
+ */
+class MappedMetadataReader implements Closeable {
+  private static final long SEGMENT_SIZE = 1L << 30;
+  private static final int SEGMENT_OVERLAP = 64 << 20;
+  /** records bigger than this get an array of their own instead of growing the thread's array */
+  private static final int MAX_RECORD_BUFFER = 1 << 20;
+
+  private static final ThreadLocal<byte[]> RECORD_BUFFER = new ThreadLocal<byte[]>() {
+    @Override
+    protected byte[] initialValue() {
+      return new byte[8192];
+    }
+  };
+
+  private final FileChannel channel;
+  private final MappedByteBuffer[] segments;
+  private final long size;
+
+  private final Metadata.MetadataHeader header;
+  private final Metadata.MetadataColumns columns;
+  private final Metadata.MetadataHosts hosts;
+  /** null if all the columns are read */
+  private final ColumnProjection projection;
+  private final int numFiles;
+  /** offset of the first file record */
+  private final long filesOffset;
+
+  MappedMetadataReader(final String path) throws IOException {
+    this(path, null);
+  }
+
+  /**
+   * @param projectedColumns full names of the columns whose statistics are read, null to read all of them
+   */
+  MappedMetadataReader(final String path, final Collection<String> projectedColumns) throws IOException {
+    channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ);
+    try {
+      size = channel.size();
+      segments = new MappedByteBuffer[(int) Math.max(1, (size + SEGMENT_SIZE - 1) / SEGMENT_SIZE)];
+      for (int i = 0; i < segments.length; i++) {
+        final long start = i * SEGMENT_SIZE;
+        final long length = Math.min(SEGMENT_SIZE + SEGMENT_OVERLAP, size - start);
+        segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+      }
+
+      long offset = 0;
+      int length = readRawVarint32(offset);
+      offset += CodedOutputStream.computeRawVarint32Size(length);
+      header = Metadata.MetadataHeader.parseFrom(newCodedInput(offset, length));
+      offset += length;
+
+      length = readRawVarint32(offset);
+      offset += CodedOutputStream.computeRawVarint32Size(length);
+      columns = Metadata.MetadataColumns.parseFrom(newCodedInput(offset, length));
+      offset += length;
+      projection = projectedColumns == null ? null : ColumnProjection.of(columns, projectedColumns);
+
+      if (header.getHostDictionary()) {
+        length = readRawVarint32(offset);
+        offset += CodedOutputStream.computeRawVarint32Size(length);
+        hosts = Metadata.MetadataHosts.parseFrom(newCodedInput(offset, length));
+        offset += length;
+      } else {
+        hosts = null;
+      }
+
+      numFiles = readRawVarint32(offset);
+      filesOffset = offset + CodedOutputStream.computeRawVarint32Size(numFiles);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  public Metadata.MetadataHeader getHeader() {
+    return header;
+  }
+
+  public Metadata.MetadataColumns getColumns() {
+    return columns;
+  }
+
+  /**
+   * @return host dictionary, or null if the cache doesn't have one
+   */
+  public Metadata.MetadataHosts getHosts() {
+    return hosts;
+  }
+
+  public int getNumFiles() {
+    return numFiles;
+  }
+
+  /**
+   * @return number of files in each block, the last one may have less. Blocks of an uncompressed cache are single
+   * records
+   */
+  public int getBlockFiles() {
+    return header.getCompression() == Metadata.MetadataHeader.Compression.NONE ? 1 : header.getBlockFiles();
+  }
+
+  /**
+   * @return hash of the path of each file from the cache's {@link Metadata.MetadataIndex}, or null if it has none
+   */
+  public List<Long> readPathHashes() throws IOException {
+    if (!header.getIndexed()) {
+      return null;
+    }
+    final long trailerOffset = size - MetadataWriter.TRAILER_SIZE;
+    final ByteBuffer trailer = slice(trailerOffset, MetadataWriter.TRAILER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    final int indexSize = trailer.getInt();
+    if (trailer.getInt() != MetadataWriter.INDEX_MAGIC) {
+      throw new IOException("index trailer not found");
+    }
+    return Metadata.MetadataIndex.parseFrom(newCodedInput(trailerOffset - indexSize, indexSize)).getPathHashesList();
+  }
+
+  /**
+   * Decodes all the files in order
+   */
+  public List<Metadata.ParquetFileMetadata> readFiles() throws IOException {
+    final Metadata.ParquetFileMetadata[] files = new Metadata.ParquetFileMetadata[numFiles];
+    final int blockFiles = getBlockFiles();
+    long offset = filesOffset;
+    for (int first = 0; first < numFiles; first += blockFiles) {
+      offset = readBlock(offset, files, first);
+    }
+    return Arrays.asList(files);
+  }
+
+  /**
+   * Decodes the files with parallelism worker threads
+   * @return files in the same order as the cache
+   */
+  public List<Metadata.ParquetFileMetadata> readFiles(final int parallelism) throws IOException {
+    if (parallelism <= 1) {
+      return readFiles();
+    }
+
+    final ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      return readFiles(pool);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Finds where each block starts with a single pass over the block sizes, then decompresses and decodes the
+   * blocks in pool
+   */
+  public List<Metadata.ParquetFileMetadata> readFiles(final ForkJoinPool pool) throws IOException {
+    final long[] offsets = scanBlockOffsets();
+    final Metadata.ParquetFileMetadata[] files = new Metadata.ParquetFileMetadata[numFiles];
+    pool.invoke(new ReadBlocksTask(offsets, files, 0, offsets.length));
+    return Arrays.asList(files);
+  }
+
+  /**
+   * Skips over the blocks, only reading their sizes
+   * @return offset of each block
+   */
+  public long[] scanBlockOffsets() throws IOException {
+    final int blockFiles = getBlockFiles();
+    final long[] offsets = new long[(numFiles + blockFiles - 1) / blockFiles];
+    final boolean compressed = header.getCompression() != Metadata.MetadataHeader.Compression.NONE;
+    long offset = filesOffset;
+    for (int i = 0; i < offsets.length; i++) {
+      offsets[i] = offset;
+      final int length = readRawVarint32(offset);
+      offset += CodedOutputStream.computeRawVarint32Size(length);
+      if (compressed) {
+        // uncompressed length
+        offset += CodedOutputStream.computeRawVarint32Size(readRawVarint32(offset));
+      }
+      offset += length;
+    }
+    return offsets;
+  }
+
+  /**
+   * Decodes the files of the block that starts at offset into files, starting at index first
+   * @return offset of the next block
+   */
+  public long readBlock(long offset, final Metadata.ParquetFileMetadata[] files, final int first)
+      throws IOException {
+    final int length = readRawVarint32(offset);
+    offset += CodedOutputStream.computeRawVarint32Size(length);
+    if (header.getCompression() == Metadata.MetadataHeader.Compression.NONE) {
+      files[first] = parseFile(newCodedInput(offset, length));
+      return offset + length;
+    }
+
+    final int uncompressedLength = readRawVarint32(offset);
+    offset += CodedOutputStream.computeRawVarint32Size(uncompressedLength);
+    final CodedInputStream block = decompress(offset, length, uncompressedLength);
+    for (int i = first; !block.isAtEnd(); i++) {
+      final int limit = block.pushLimit(block.readRawVarint32());
+      files[i] = parseFile(block);
+      block.popLimit(limit);
+    }
+    return offset + length;
+  }
+
+  /**
+   * Reads the records of the block that starts at offset as they are serialized, without decoding them. They can be
+   * copied to a cache with the same encodings, see {@link MetadataWriter#writeRawFile(FileRecord)}
+   * @param records where the records of the block are added, in order
+   * @return offset of the next block
+   */
+  public long readRawBlock(long offset, final List<ByteString> records) throws IOException {
+    final int length = readRawVarint32(offset);
+    offset += CodedOutputStream.computeRawVarint32Size(length);
+    if (header.getCompression() == Metadata.MetadataHeader.Compression.NONE) {
+      records.add(ByteString.copyFrom(slice(offset, length)));
+      return offset + length;
+    }
+
+    final int uncompressedLength = readRawVarint32(offset);
+    offset += CodedOutputStream.computeRawVarint32Size(uncompressedLength);
+    final CodedInputStream block = decompress(offset, length, uncompressedLength);
+    while (!block.isAtEnd()) {
+      records.add(block.readBytes());
+    }
+    return offset + length;
+  }
+
+  private CodedInputStream decompress(final long offset, final int length, final int uncompressedLength)
+      throws IOException {
+    final ByteBuffer compressed = slice(offset, length);
+    final byte[] bytes;
+    final int bytesOffset;
+    if (compressed.hasArray()) {
+      bytes = compressed.array();
+      bytesOffset = compressed.arrayOffset() + compressed.position();
+    } else {
+      bytes = new byte[length];
+      bytesOffset = 0;
+      compressed.get(bytes);
+    }
+    return BlockCompression.decompress(header.getCompression(), bytes, bytesOffset, length, uncompressedLength);
+  }
+
+  private Metadata.ParquetFileMetadata parseFile(final CodedInputStream record) throws IOException {
+    return projection == null ? Metadata.ParquetFileMetadata.parseFrom(record) : projection.parseFile(record);
+  }
+
+  /**
+   * Decodes a range of blocks, splitting it in halves until it's small enough
+   */
+  private class ReadBlocksTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+    private static final int BATCH_SIZE = 64;
+
+    private final long[] offsets;
+    private final Metadata.ParquetFileMetadata[] files;
+    private final int start;
+    private final int end;
+
+    ReadBlocksTask(final long[] offsets, final Metadata.ParquetFileMetadata[] files, final int start,
+                   final int end) {
+      this.offsets = offsets;
+      this.files = files;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute() {
+      // a compressed block already holds enough work for a task
+      final int batchSize = getBlockFiles() > 1 ? 1 : BATCH_SIZE;
+      if (end - start <= batchSize) {
+        for (int i = start; i < end; i++) {
+          try {
+            readBlock(offsets[i], files, i * getBlockFiles());
+          } catch (IOException e) {
+            throw new RuntimeException("could not decode block " + i, e);
+          }
+        }
+        return;
+      }
+
+      final int middle = (start + end) >>> 1;
+      invokeAll(new ReadBlocksTask(offsets, files, start, middle), new ReadBlocksTask(offsets, files, middle, end));
+    }
+  }
+
+  /**
+   * Files can still be read after closing the reader, the mappings stay valid until they are garbage collected
+   */
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  /**
+   * @return input over a copy of the record in the thread's record buffer, it must be decoded before the thread reads
+   * another record
+   */
+  private CodedInputStream newCodedInput(final long offset, final int length) {
+    final ByteBuffer record = slice(offset, length);
+    if (record.hasArray()) {
+      return CodedInputStream.newInstance(record.array(), record.arrayOffset() + record.position(), length);
+    }
+
+    // CodedInputStream.newInstance(ByteBuffer) would copy a mapped buffer into a new array for each record
+    byte[] buffer = RECORD_BUFFER.get();
+    if (buffer.length < length) {
+      buffer = new byte[length];
+      if (length <= MAX_RECORD_BUFFER) {
+        RECORD_BUFFER.set(buffer);
+      }
+    }
+    record.get(buffer, 0, length);
+    return CodedInputStream.newInstance(buffer, 0, length);
+  }
+
+  private ByteBuffer slice(final long offset, final int length) {
+    final int segment = (int) (offset / SEGMENT_SIZE);
+    final int start = (int) (offset - segment * SEGMENT_SIZE);
+    final ByteBuffer buffer = segments[segment].duplicate();
+    if (start + length <= buffer.capacity()) {
+      buffer.position(start);
+      buffer.limit(start + length);
+      return buffer.slice();
+    }
+
+    // record bigger than SEGMENT_OVERLAP, copy it from consecutive segments
+    final byte[] bytes = new byte[length];
+    int copied = 0;
+    for (int i = segment; copied < length; i++) {
+      final ByteBuffer source = segments[i].duplicate();
+      source.position((int) (offset + copied - i * SEGMENT_SIZE));
+      final int count = Math.min(length - copied, (int) (SEGMENT_SIZE - source.position()));
+      source.get(bytes, copied, count);
+      copied += count;
+    }
+    return ByteBuffer.wrap(bytes);
+  }
+
+  private int readRawVarint32(final long offset) throws IOException {
+    int result = 0;
+    for (int shift = 0, i = 0; shift < 32; shift += 7, i++) {
+      final long position = offset + i;
+      final int segment = (int) (position / SEGMENT_SIZE);
+      if (segment >= segments.length || position - segment * SEGMENT_SIZE >= segments[segment].capacity()) {
+        throw new InvalidProtocolBufferException("truncated varint at offset " + offset);
+      }
+      final byte b = segments[segment].get((int) (position - segment * SEGMENT_SIZE));
+      result |= (b & 0x7f) << shift;
+      if (b >= 0) {
+        return result;
+      }
+    }
+    throw new InvalidProtocolBufferException("malformed varint at offset " + offset);
+  }
+}
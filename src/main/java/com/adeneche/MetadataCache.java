@@ -0,0 +1,166 @@
+package com.adeneche;
+
+import com.adeneche.metadata.Metadata;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.cache.Weigher;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Keeps the holders of the binary caches read recently, so a process that opens the same tables again doesn't parse
+ * them every time. A cache file is parsed again once its modification time or size changes.<br>
+ * The holders are weighed by the serialized size of their header, columns, hosts and files, and the least recently
+ * used ones are evicted when the total goes over the budget. Decoded messages take a few times more memory than
+ * their serialized size, the budget should account for it.<br>
+ * The holders are shared by all the callers, they are read only: parsing or updating them throws. Safe to use from
+ * multiple threads.
+ */
+class MetadataCache {
+
+  /**
+   * a version of a cache file
+   */
+  private static class Key {
+    private final String path;
+    private final long lastModified;
+    private final long size;
+
+    Key(final String path, final long lastModified, final long size) {
+      this.path = path;
+      this.lastModified = lastModified;
+      this.size = size;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      final Key other = (Key) obj;
+      return path.equals(other.path) && lastModified == other.lastModified && size == other.size;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(path, lastModified, size);
+    }
+
+    @Override
+    public String toString() {
+      return path + "@" + lastModified + "/" + size;
+    }
+  }
+
+  private static final Weigher<Key, MetadataHolder> SERIALIZED_SIZE = new Weigher<Key, MetadataHolder>() {
+    @Override
+    public int weigh(final Key key, final MetadataHolder holder) {
+      long size = holder.getHeader().getSerializedSize() + holder.getColumns().getSerializedSize();
+      if (holder.getHosts() != null) {
+        size += holder.getHosts().getSerializedSize();
+      }
+      for (final Metadata.ParquetFileMetadata file : holder.getFiles()) {
+        size += file.getSerializedSize();
+      }
+      return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+  };
+
+  private final Cache<Key, MetadataHolder> holders;
+  /**
+   * latest version of each cache file, older ones are invalidated when a new one is read. Only has the versions of
+   * the holders in the cache and of the ones being parsed
+   */
+  private final ConcurrentMap<String, Key> versions = Maps.newConcurrentMap();
+  private final int parallelism;
+
+  /**
+   * @param maxSerializedBytes budget of the serialized size of all the holders
+   * @param parallelism number of threads used to decode the files of a cache
+   */
+  MetadataCache(final long maxSerializedBytes, final int parallelism) {
+    this.holders = CacheBuilder.newBuilder()
+      // the budget is split between the segments, a single one lets a holder use all of it
+      .concurrencyLevel(1)
+      .maximumWeight(maxSerializedBytes)
+      .weigher(SERIALIZED_SIZE)
+      .removalListener(new RemovalListener<Key, MetadataHolder>() {
+        @Override
+        public void onRemoval(final RemovalNotification<Key, MetadataHolder> notification) {
+          // unless a newer version was read in the meantime
+          final Key key = notification.getKey();
+          versions.remove(key.path, key);
+        }
+      })
+      .recordStats()
+      .build();
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * @return read only holder of the current version of the cache file, parsed if it isn't in the cache. Concurrent
+   * calls for the same version parse it once
+   */
+  MetadataHolder get(final String path) throws IOException {
+    final Path file = Paths.get(path).toAbsolutePath().normalize();
+    final BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+    final Key key = new Key(file.toString(), attributes.lastModifiedTime().toMillis(), attributes.size());
+
+    final Key previous = versions.put(key.path, key);
+    if (previous != null && !previous.equals(key)) {
+      holders.invalidate(previous);
+    }
+
+    try {
+      return holders.get(key, new Callable<MetadataHolder>() {
+        @Override
+        public MetadataHolder call() throws IOException {
+          final MetadataHolder holder = new MetadataHolder();
+          holder.parseFrom(key.path, parallelism);
+          holder.setReadOnly();
+          return holder;
+        }
+      });
+    } catch (ExecutionException e) {
+      versions.remove(key.path, key);
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException("could not read " + key, e.getCause());
+    } catch (UncheckedExecutionException e) {
+      versions.remove(key.path, key);
+      throw new RuntimeException("could not read " + key, e.getCause());
+    }
+  }
+
+  /**
+   * drops the holders of a cache file, e.g. after it was updated in place within the resolution of its modification
+   * time
+   */
+  void invalidate(final String path) {
+    final Key key = versions.remove(Paths.get(path).toAbsolutePath().normalize().toString());
+    if (key != null) {
+      holders.invalidate(key);
+    }
+  }
+
+  /**
+   * @return hits, misses, load times and evictions since the cache was created
+   */
+  CacheStats stats() {
+    return holders.stats();
+  }
+}
@@ -1,22 +1,82 @@
 package com.adeneche;
 
+import com.adeneche.ConversionListener.Stage;
 import com.adeneche.metadata.Metadata;
 import com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo;
 import com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.CodedOutputStream;
 
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 class MetadataHolder {
   private Metadata.MetadataHeader header;
   private Metadata.MetadataColumns columns;
+  /** null if the cache has no host dictionary */
+  private Metadata.MetadataHosts hosts;
   private List<Metadata.ParquetFileMetadata> files;
+  /** index of the paths of the files, null until it's needed. Volatile as read only holders are shared */
+  private volatile PathIndex pathIndex;
+  /** column types indexed by column id, null until a file is decoded */
+  private volatile Holders.ColumnTypeMetadata[] columnTypes;
+  private ConversionListener listener = ConversionListener.NONE;
+  private boolean readOnly;
+
+  void setListener(ConversionListener listener) {
+    checkWritable();
+    this.listener = listener;
+  }
+
+  /**
+   * Rejects any further parse, update or listener change, and makes the list of files unmodifiable, so the holder
+   * can be shared by multiple threads. Writing it doesn't change its header either
+   */
+  void setReadOnly() {
+    files = Collections.unmodifiableList(files);
+    readOnly = true;
+  }
+
+  boolean isReadOnly() {
+    return readOnly;
+  }
+
+  private void checkWritable() {
+    if (readOnly) {
+      throw new IllegalStateException("holder is read only");
+    }
+  }
+
+  Metadata.MetadataHeader getHeader() {
+    return header;
+  }
+
+  Metadata.MetadataColumns getColumns() {
+    return columns;
+  }
+
+  /**
+   * @return host dictionary the affinities of the files refer to, or null if they have host names
+   */
+  Metadata.MetadataHosts getHosts() {
+    return hosts;
+  }
+
+  /**
+   * @return files as they are stored, in the encodings of the header. See {@link #getFile(String)} for decoded files
+   */
+  List<Metadata.ParquetFileMetadata> getFiles() {
+    return files;
+  }
 
   @Override
   public boolean equals(Object obj) {
@@ -25,116 +85,337 @@ class MetadataHolder {
     MetadataHolder holder = (MetadataHolder) obj;
     return Objects.equals(header, holder.header) &&
       Objects.equals(columns, holder.columns) &&
+      Objects.equals(hosts, holder.hosts) &&
       Objects.equals(files, holder.files);
   }
 
+  @Override
+  public int hashCode() {
+    return Objects.hash(header, columns, hosts, files);
+  }
+
   public void parseFrom(CodedInputStream codedStream) throws IOException {
-    // read header
-    int length = codedStream.readRawVarint32();
-    int limit = codedStream.pushLimit(length);
-    header = Metadata.MetadataHeader.parseFrom(codedStream);
-    codedStream.popLimit(limit);
-    codedStream.resetSizeCounter();
-
-    // read columns
-    length = codedStream.readRawVarint32();
-    limit = codedStream.pushLimit(length);
-    columns = Metadata.MetadataColumns.parseFrom(codedStream);
-    codedStream.popLimit(limit);
-    codedStream.resetSizeCounter();
-
-    // read files
-    int numFiles = codedStream.readRawVarint32();
+    parseFrom(codedStream, null);
+  }
+
+  /**
+   * Only keeps the statistics of some columns, the others are skipped while decoding the files. The columns of the
+   * holder are still all the columns of the cache. Writing it or updating it loses the statistics that weren't read
+   * @param projectedColumns full names of the columns whose statistics are read, null to read all of them
+   */
+  public void parseFrom(CodedInputStream codedStream, Collection<String> projectedColumns) throws IOException {
+    checkWritable();
+    listener.stageStarted(Stage.PARSE);
+    final MetadataReader reader = new MetadataReader(codedStream, projectedColumns);
+    header = reader.readHeader();
+    columns = reader.readColumns();
+    hosts = header.getHostDictionary() ? reader.readHosts() : null;
+
+    int numFiles = reader.readFileCount();
     files = Lists.newArrayList();
+    pathIndex = null;
+    columnTypes = null;
     for (int i = 0; i < numFiles; i++) {
-      length = codedStream.readRawVarint32();
-      limit = codedStream.pushLimit(length);
-      files.add(Metadata.ParquetFileMetadata.parseFrom(codedStream));
-      codedStream.popLimit(limit);
-      codedStream.resetSizeCounter();
+      final Metadata.ParquetFileMetadata file = reader.readFile();
+      listener.fileProcessed(Stage.PARSE, file.getRowGroupsCount(), Utils.numColumns(file));
+      files.add(file);
     }
+    listener.stageFinished(Stage.PARSE);
   }
 
   public void writeTo(CodedOutputStream codedStream) throws IOException {
-    codedStream.writeRawVarint32(header.getSerializedSize());
-    header.writeTo(codedStream);
+    writeTo(codedStream, new WriteOptions());
+  }
 
-    codedStream.writeRawVarint32(columns.getSerializedSize());
-    columns.writeTo(codedStream);
+  /**
+   * The files are converted to the encodings of the options as they are written, the holder keeps its own. The
+   * header of a writable holder takes the other options, e.g. whether it's indexed or compressed
+   */
+  public void writeTo(CodedOutputStream codedStream, WriteOptions options) throws IOException {
+    listener.stageStarted(Stage.WRITE);
+    final MetadataWriter writer = new MetadataWriter(codedStream, options, listener);
+    final Metadata.MetadataHeader written = writer.writeHeader(header);
+    writer.writeColumns(columns);
+    if (hosts != null) {
+      writer.writeHosts(hosts);
+    } else if (options.hostDictionary) {
+      writer.writeHosts(collectHosts(files));
+    }
 
-    codedStream.writeRawVarint32(files.size());
+    writer.writeFileCount(files.size());
     for (final Metadata.ParquetFileMetadata file : files) {
-      codedStream.writeRawVarint32(file.getSerializedSize());
-      file.writeTo(codedStream);
+      writer.writeFile(file);
     }
 
-    codedStream.flush();
+    writer.finish();
+    final WriteOptions kept = WriteOptions.of(written);
+    kept.hostDictionary = header.getHostDictionary();
+    kept.relativePaths = header.getRelativePaths();
+    kept.startDeltas = header.getStartDeltas();
+    if (!readOnly) {
+      header = kept.applyTo(written);
+    }
+    listener.stageFinished(Stage.WRITE);
   }
 
   public void parseFrom(String path) throws IOException {
-    CodedInputStream codedStream = CodedInputStream.newInstance(new FileInputStream(path));
-    codedStream.setSizeLimit(200_000_000);
+    try (MappedMetadataReader reader = new MappedMetadataReader(path)) {
+      parseFrom(reader);
+    }
+  }
+
+  /**
+   * @param parallelism number of threads used to decode the files
+   */
+  public void parseFrom(String path, int parallelism) throws IOException {
+    parseFrom(path, parallelism, null);
+  }
+
+  /**
+   * @param projectedColumns full names of the columns whose statistics are read, null to read all of them. See
+   *                         {@link #parseFrom(CodedInputStream, Collection)}
+   */
+  public void parseFrom(String path, int parallelism, Collection<String> projectedColumns) throws IOException {
+    try (MappedMetadataReader reader = new MappedMetadataReader(path, projectedColumns)) {
+      parseFrom(reader, parallelism);
+    }
+  }
 
-    parseFrom(codedStream);
+  public void parseFrom(MappedMetadataReader reader) throws IOException {
+    parseFrom(reader, 1);
+  }
+
+  public void parseFrom(MappedMetadataReader reader, int parallelism) throws IOException {
+    checkWritable();
+    listener.stageStarted(Stage.PARSE);
+    header = reader.getHeader();
+    columns = reader.getColumns();
+    hosts = reader.getHosts();
+    files = reader.readFiles(parallelism);
+    pathIndex = pathIndex(reader);
+    columnTypes = null;
+    for (final Metadata.ParquetFileMetadata file : files) {
+      listener.fileProcessed(Stage.PARSE, file.getRowGroupsCount(), Utils.numColumns(file));
+    }
+    listener.stageFinished(Stage.PARSE);
   }
 
   public void parseFrom(Holders.ParquetTableMetadata tableMetadata) {
-    final ProtoBuilder protoBuilder = new ProtoBuilder(tableMetadata);
+    parseFrom(tableMetadata, 1);
+  }
+
+  /**
+   * @param parallelism number of threads used to build the files
+   */
+  public void parseFrom(Holders.ParquetTableMetadata tableMetadata, int parallelism) {
+    parseFrom(tableMetadata, parallelism, new WriteOptions());
+  }
+
+  /**
+   * @param encoding the files are built with its host dictionary, relative paths and start deltas options. Building
+   *                 them with the options they'll be written with saves converting them
+   */
+  public void parseFrom(Holders.ParquetTableMetadata tableMetadata, int parallelism, WriteOptions encoding) {
+    checkWritable();
+    listener.stageStarted(Stage.BUILD);
+    final ProtoBuilder protoBuilder = new ProtoBuilder(tableMetadata, encoding, listener);
 
     header = protoBuilder.buildHeader("v2");
     columns = protoBuilder.buildColumns();
-    files = protoBuilder.buildFiles();
+    hosts = protoBuilder.buildHosts();
+    files = protoBuilder.buildFiles(parallelism);
+    pathIndex = null;
+    columnTypes = null;
+    listener.stageFinished(Stage.BUILD);
   }
 
-  public Holders.ParquetTableMetadata toParquetTableMetadata() {
-    final Holders.ParquetTableMetadata tableMetadata = new Holders.ParquetTableMetadata();
+  /**
+   * Applies a delta to the cache: the files of the cache that aren't removed or replaced are kept as they are,
+   * only the files of the delta are built, with the encodings of the cache. Columns, hosts and directories the cache
+   * doesn't have are appended to its dictionaries, and entries no longer used by any file are kept.<br>
+   * To update a cache file without decoding its files see {@link UpdateCache#update}
+   * @param delta files to add, a file with the same path as one in the cache replaces it
+   * @param removed paths of the files to remove, paths that aren't in the cache are ignored
+   */
+  public void update(Holders.ParquetTableMetadata delta, Collection<String> removed) {
+    checkWritable();
+    listener.stageStarted(Stage.BUILD);
+    final ProtoBuilder protoBuilder = new ProtoBuilder(delta, header, columns, hosts, listener);
 
-    tableMetadata.columnTypeInfo = Maps.newHashMap();
-    for (final ColumnTypeInfo column : columns.getColumnsList()) {
-      final Holders.ColumnTypeMetadata columnMetadata = new Holders.ColumnTypeMetadata();
-      columnMetadata.name = column.getName().split(".");
-      columnMetadata.primitiveType = column.getPrimitiveType();
-      columnMetadata.originalType = column.getOriginalType();
-      tableMetadata.columnTypeInfo.put(columnMetadata.key(), columnMetadata);
+    final List<String> paths = Lists.newArrayListWithCapacity(files.size());
+    for (final Metadata.ParquetFileMetadata file : files) {
+      paths.add(Utils.path(file, header.getDirectoriesList()));
+    }
+    final int[] sources = DeltaMerge.merge(paths, removed, delta.files);
+    final List<Metadata.ParquetFileMetadata> updated = Lists.newArrayListWithCapacity(sources.length);
+    for (final int source : sources) {
+      updated.add(source >= 0
+        ? files.get(source) : protoBuilder.buildFile(delta.files.get(DeltaMerge.deltaIndex(source))));
     }
 
-    tableMetadata.files = Lists.newArrayList();
+    // keeps the options of the cache
+    header = header.toBuilder()
+      .clearDirectories()
+      .mergeFrom(protoBuilder.buildHeader(header.getMetadataVersion()))
+      .build();
+    columns = protoBuilder.buildColumns();
+    hosts = protoBuilder.buildHosts();
+    files = updated;
+    pathIndex = null;
+    columnTypes = null;
+    listener.stageFinished(Stage.BUILD);
+  }
+
+  /**
+   * @return dictionary of the hosts of files without one, sorted
+   */
+  private static Metadata.MetadataHosts collectHosts(List<Metadata.ParquetFileMetadata> files) {
+    final Set<String> names = Sets.newTreeSet();
     for (final Metadata.ParquetFileMetadata file : files) {
-      final Holders.ParquetFileMetadata fileMetadata = new Holders.ParquetFileMetadata();
-      fileMetadata.path = file.getPath();
-      fileMetadata.length = file.getLength();
-      fileMetadata.rowGroups = Lists.newArrayList();
       for (final RowGroup rowGroup : file.getRowGroupsList()) {
-        final Holders.RowGroupMetadata rowGroupMetadata = new Holders.RowGroupMetadata();
-        rowGroupMetadata.start = rowGroup.getStart();
-        rowGroupMetadata.length = rowGroup.getLength();
-        rowGroupMetadata.rowCount = rowGroup.getRowCount();
-
-        rowGroupMetadata.hostAffinity = Maps.newHashMap();
         for (final RowGroup.HostAffinity affinity : rowGroup.getAffinitiesList()) {
-          rowGroupMetadata.hostAffinity.put(affinity.getKey(), affinity.getValue());
+          names.add(affinity.getKey());
         }
+      }
+    }
+    return Metadata.MetadataHosts.newBuilder().addAllHosts(names).build();
+  }
 
-        rowGroupMetadata.columns = Lists.newArrayList();
-        for (final RowGroup.ColumnMetadata rowGroupColumn : rowGroup.getColumnsList()) {
-          final Metadata.MetadataColumns.ColumnTypeInfo colMeta = columns.getColumns(rowGroupColumn.getName());
-          final Holders.ColumnMetadata columnMetadata = new Holders.ColumnMetadata(
-            colMeta.getName().split("."),
-            colMeta.getPrimitiveType(),
-            getMxValue(rowGroupColumn),
-            rowGroupColumn.getNulls()
-          );
-          rowGroupMetadata.columns.add(columnMetadata);
-        }
+  /**
+   * Only reads the header and columns, and where each block of files starts. Files are decoded when accessed.
+   * @param cacheFiles if true decoded files are kept in memory, otherwise they are decoded on every access
+   */
+  public void parseLazily(MappedMetadataReader reader, boolean cacheFiles) throws IOException {
+    checkWritable();
+    listener.stageStarted(Stage.PARSE);
+    header = reader.getHeader();
+    columns = reader.getColumns();
+    hosts = reader.getHosts();
+    files = new LazyFileList(reader, reader.scanBlockOffsets(), cacheFiles);
+    pathIndex = pathIndex(reader);
+    columnTypes = null;
+    listener.stageFinished(Stage.PARSE);
+  }
+
+  /**
+   * @return index built from the hashes of the cache's own index, null if it doesn't have one
+   */
+  private static PathIndex pathIndex(MappedMetadataReader reader) throws IOException {
+    final List<Long> pathHashes = reader.readPathHashes();
+    return pathHashes == null ? null : PathIndex.of(pathHashes);
+  }
+
+  /**
+   * Finds a file through an index of the paths. The index is read with the files if the cache has one, otherwise
+   * the first call hashes the paths of all the files, decoding them if they're read lazily
+   * @return metadata of the file with the given path, decoded to full paths, host names, row group starts and row
+   * group columns. Null if there is none
+   */
+  public Holders.ParquetFileMetadata getFile(String path) {
+    PathIndex index = pathIndex;
+    if (index == null) {
+      index = PathIndex.of(files, header.getDirectoriesList());
+      pathIndex = index;
+    }
+    for (final int ordinal : index.candidates(path)) {
+      final Metadata.ParquetFileMetadata file = files.get(ordinal);
+      if (path.equals(Utils.path(file, header.getDirectoriesList()))) {
+        return toFileMetadata(file);
       }
     }
+    return null;
+  }
+
+  /**
+   * @param predicates all of them must match, see {@link RowGroupPruner}
+   * @return indexes of the row groups that may match, by path in the order of the files. Files without any are left
+   * out
+   */
+  public Map<String, List<Integer>> prune(Collection<ColumnPredicate> predicates) {
+    return new RowGroupPruner(columns, predicates).prune(header, files);
+  }
+
+  /**
+   * @return a columnar copy of the table, see {@link ColumnarTableMetadata}
+   */
+  public ColumnarTableMetadata toColumnar() {
+    return ColumnarTableMetadata.of(header, columns, hosts, files);
+  }
+
+  public Holders.ParquetTableMetadata toParquetTableMetadata() {
+    final Holders.ParquetTableMetadata tableMetadata = new Holders.ParquetTableMetadata();
+    tableMetadata.columnTypeInfo = Maps.newHashMap();
+    for (final Holders.ColumnTypeMetadata columnType : columnTypes()) {
+      tableMetadata.columnTypeInfo.put(columnType.key(), columnType);
+    }
+
+    tableMetadata.files = Lists.newArrayList();
+    for (final Metadata.ParquetFileMetadata stored : files) {
+      tableMetadata.files.add(toFileMetadata(stored));
+    }
 
     tableMetadata.directories = header.getDirectoriesList();
 
     return tableMetadata;
   }
 
-  private static Object getMxValue(final RowGroup.ColumnMetadata columnMetadata) {
+  /**
+   * @return column types indexed by column id, the row group columns share their names
+   */
+  private Holders.ColumnTypeMetadata[] columnTypes() {
+    Holders.ColumnTypeMetadata[] types = columnTypes;
+    if (types == null) {
+      types = new Holders.ColumnTypeMetadata[columns.getColumnsCount()];
+      for (int i = 0; i < types.length; i++) {
+        final ColumnTypeInfo column = columns.getColumns(i);
+        types[i] = new Holders.ColumnTypeMetadata(
+          Iterables.toArray(Utils.COLUMN_NAME_SPLITTER.split(column.getName()), String.class),
+          column.getPrimitiveType(),
+          column.hasOriginalType() ? column.getOriginalType() : null
+        );
+      }
+      columnTypes = types;
+    }
+    return types;
+  }
+
+  private Holders.ParquetFileMetadata toFileMetadata(final Metadata.ParquetFileMetadata stored) {
+    final Holders.ColumnTypeMetadata[] columnTypes = columnTypes();
+    final Metadata.ParquetFileMetadata file = ColumnStatsLayout.toRowGroupColumns(stored);
+    final Holders.ParquetFileMetadata fileMetadata = new Holders.ParquetFileMetadata();
+    fileMetadata.path = Utils.path(file, header.getDirectoriesList());
+    fileMetadata.length = file.getLength();
+    fileMetadata.rowGroups = Lists.newArrayList();
+    long expectedStart = Utils.FIRST_ROW_GROUP_START;
+    for (final RowGroup rowGroup : file.getRowGroupsList()) {
+      final Holders.RowGroupMetadata rowGroupMetadata = new Holders.RowGroupMetadata();
+      rowGroupMetadata.start = Utils.start(rowGroup, expectedStart, header.getStartDeltas());
+      rowGroupMetadata.length = rowGroup.getLength();
+      expectedStart = rowGroupMetadata.start + rowGroupMetadata.length;
+      rowGroupMetadata.rowCount = rowGroup.getRowCount();
+
+      rowGroupMetadata.hostAffinity = Maps.newHashMap();
+      for (final RowGroup.HostAffinity affinity : rowGroup.getAffinitiesList()) {
+        rowGroupMetadata.hostAffinity.put(Utils.host(affinity, hosts), affinity.getValue());
+      }
+
+      rowGroupMetadata.columns = Lists.newArrayList();
+      for (final RowGroup.ColumnMetadata rowGroupColumn : rowGroup.getColumnsList()) {
+        final Holders.ColumnTypeMetadata columnType = columnTypes[rowGroupColumn.getName()];
+        final Holders.ColumnMetadata columnMetadata = new Holders.ColumnMetadata(
+          columnType.name,
+          columnType.primitiveType,
+          getMxValue(rowGroupColumn),
+          rowGroupColumn.hasNulls() ? rowGroupColumn.getNulls() : null
+        );
+        rowGroupMetadata.columns.add(columnMetadata);
+      }
+      fileMetadata.rowGroups.add(rowGroupMetadata);
+    }
+    return fileMetadata;
+  }
+
+  static Object getMxValue(final RowGroup.ColumnMetadata columnMetadata) {
     if (columnMetadata.hasVbinary()) return columnMetadata.getVbinary();
     else if (columnMetadata.hasVbool()) return columnMetadata.getVbool();
     else if (columnMetadata.hasVdouble()) return columnMetadata.getVdouble();
@@ -146,6 +427,6 @@ class MetadataHolder {
 
   @Override
   public String toString() {
-    return "" + header + "\n" + columns + "\n" + files;
+    return "" + header + "\n" + columns + "\n" + (hosts == null ? "" : hosts + "\n") + files;
   }
 }
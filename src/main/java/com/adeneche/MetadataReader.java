@@ -0,0 +1,97 @@
+package com.adeneche;
+
+import com.adeneche.metadata.Metadata;
+import com.google.protobuf.CodedInputStream;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Reads the sections of a binary metadata cache in the order they were written by {@link MetadataWriter}. With a
+ * {@link ColumnProjection}, the files only have the statistics of the projected columns.
+ */
+class MetadataReader {
+  private final CodedInputStream codedStream;
+  /** full names of the projected columns, null if all the columns are read */
+  private final Collection<String> projectedColumns;
+  private ColumnProjection projection;
+
+  // only used if the files are compressed, records of the current block
+  private Metadata.MetadataHeader.Compression compression = Metadata.MetadataHeader.Compression.NONE;
+  private CodedInputStream block;
+
+  MetadataReader(final CodedInputStream codedStream) {
+    this(codedStream, null);
+  }
+
+  /**
+   * @param projectedColumns full names of the columns whose statistics are read, null to read all of them
+   */
+  MetadataReader(final CodedInputStream codedStream, final Collection<String> projectedColumns) {
+    this.codedStream = codedStream;
+    this.projectedColumns = projectedColumns;
+  }
+
+  Metadata.MetadataHeader readHeader() throws IOException {
+    final int limit = codedStream.pushLimit(codedStream.readRawVarint32());
+    final Metadata.MetadataHeader header = Metadata.MetadataHeader.parseFrom(codedStream);
+    popLimit(limit);
+    compression = header.getCompression();
+    return header;
+  }
+
+  Metadata.MetadataColumns readColumns() throws IOException {
+    final int limit = codedStream.pushLimit(codedStream.readRawVarint32());
+    final Metadata.MetadataColumns columns = Metadata.MetadataColumns.parseFrom(codedStream);
+    popLimit(limit);
+    if (projectedColumns != null) {
+      projection = ColumnProjection.of(columns, projectedColumns);
+    }
+    return columns;
+  }
+
+  /**
+   * only present if the header has a host dictionary
+   */
+  Metadata.MetadataHosts readHosts() throws IOException {
+    final int limit = codedStream.pushLimit(codedStream.readRawVarint32());
+    final Metadata.MetadataHosts hosts = Metadata.MetadataHosts.parseFrom(codedStream);
+    popLimit(limit);
+    return hosts;
+  }
+
+  int readFileCount() throws IOException {
+    return codedStream.readRawVarint32();
+  }
+
+  Metadata.ParquetFileMetadata readFile() throws IOException {
+    if (compression == Metadata.MetadataHeader.Compression.NONE) {
+      final int limit = codedStream.pushLimit(codedStream.readRawVarint32());
+      final Metadata.ParquetFileMetadata file = parseFile(codedStream);
+      popLimit(limit);
+      return file;
+    }
+
+    if (block == null || block.isAtEnd()) {
+      final int length = codedStream.readRawVarint32();
+      final int uncompressedLength = codedStream.readRawVarint32();
+      final byte[] compressed = codedStream.readRawBytes(length);
+      codedStream.resetSizeCounter();
+      block = BlockCompression.decompress(compression, compressed, 0, length, uncompressedLength);
+    }
+    final int limit = block.pushLimit(block.readRawVarint32());
+    final Metadata.ParquetFileMetadata file = parseFile(block);
+    block.popLimit(limit);
+    return file;
+  }
+
+  private Metadata.ParquetFileMetadata parseFile(final CodedInputStream record) throws IOException {
+    return projection == null ? Metadata.ParquetFileMetadata.parseFrom(record) : projection.parseFile(record);
+  }
+
+  private void popLimit(final int limit) {
+    codedStream.popLimit(limit);
+    // size limit applies to each section, not the whole cache
+    codedStream.resetSizeCounter();
+  }
+}
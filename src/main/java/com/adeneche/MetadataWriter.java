@@ -0,0 +1,235 @@
+package com.adeneche;
+
+import com.adeneche.metadata.Metadata;
+import com.google.common.primitives.Longs;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes the sections of a binary metadata cache in order: header, columns, hosts if the header has a host
+ * dictionary, number of files, then each file as a length delimited record. Files can be written as soon as they
+ * are built, so callers don't need to hold the whole table in memory.<br>
+ * Files are given in the encoding of the header passed to {@link #writeHeader}, they are converted to the encoding
+ * of the options if it's different, see {@link FileEncoding}. Records of a cache with the same encodings can be
+ * copied without being decoded, see {@link #writeRawFile(FileRecord)}.<br>
+ * If the options have a compression, the records are buffered and written in compressed blocks instead, see
+ * {@link Metadata.MetadataHeader#getCompression()}.<br>
+ * If the options ask for it, a {@link Metadata.MetadataIndex} is written after the files followed by its size
+ * and {@link #INDEX_MAGIC}, both as little endian fixed32.
+ */
+class MetadataWriter {
+  static final int INDEX_MAGIC = 0x4950324A; // "J2PI"
+  static final int TRAILER_SIZE = 8;
+
+  private final CodedOutputStream codedStream;
+  private final WriteOptions options;
+  private final ConversionListener listener;
+
+  /** number of bytes written so far */
+  private long position;
+
+  private Metadata.MetadataHeader source;
+  private Metadata.MetadataHeader written;
+  private boolean hostsExpected;
+  private FileEncoding encoding;
+  private List<String> directories;
+  private boolean columnStats;
+  private int numFiles = -1;
+  private int filesWritten;
+
+  // only used when compressing, records of the current block
+  private Metadata.MetadataHeader.Compression compression = Metadata.MetadataHeader.Compression.NONE;
+  private int blockFiles;
+  private ByteArrayOutputStream block;
+  private CodedOutputStream blockStream;
+  private int filesInBlock;
+
+  // only used when writing an index
+  private int numColumns;
+  private long numRowGroups;
+  private long[] pathHashes;
+  private long[] offsets;
+
+  MetadataWriter(final CodedOutputStream codedStream) {
+    this(codedStream, new WriteOptions());
+  }
+
+  MetadataWriter(final CodedOutputStream codedStream, final WriteOptions options) {
+    this(codedStream, options, ConversionListener.NONE);
+  }
+
+  MetadataWriter(final CodedOutputStream codedStream, final WriteOptions options,
+                 final ConversionListener listener) {
+    this.codedStream = codedStream;
+    this.options = options;
+    this.listener = listener;
+  }
+
+  /**
+   * @param header header of the files that will be written, with their encoding
+   * @return the header as written, with the options applied to it
+   */
+  Metadata.MetadataHeader writeHeader(final Metadata.MetadataHeader header) throws IOException {
+    source = header;
+    written = options.applyTo(header);
+    hostsExpected = source.getHostDictionary() || written.getHostDictionary();
+    directories = written.getDirectoriesList();
+    columnStats = written.getColumnStats();
+    if (written.getCompression() != Metadata.MetadataHeader.Compression.NONE) {
+      compression = written.getCompression();
+      blockFiles = written.getBlockFiles();
+      block = new ByteArrayOutputStream();
+      blockStream = CodedOutputStream.newInstance(block);
+    }
+    writeDelimited(written);
+    return written;
+  }
+
+  void writeColumns(final Metadata.MetadataColumns columns) throws IOException {
+    numColumns = columns.getColumnsCount();
+    writeDelimited(columns);
+  }
+
+  /**
+   * Must be called if either the files or the options have a host dictionary. It's only written if the options have
+   * one, otherwise it's used to convert the host ids of the files
+   */
+  void writeHosts(final Metadata.MetadataHosts hosts) throws IOException {
+    if (!hostsExpected) {
+      throw new IllegalStateException("the header has no host dictionary");
+    }
+    hostsExpected = false;
+    encoding = new FileEncoding(source, written, hosts);
+    if (written.getHostDictionary()) {
+      writeDelimited(hosts);
+    }
+  }
+
+  void writeFileCount(final int numFiles) throws IOException {
+    if (hostsExpected) {
+      throw new IllegalStateException("the header has a host dictionary but no hosts were written");
+    }
+    if (encoding == null) {
+      encoding = new FileEncoding(source, written, null);
+    }
+    this.numFiles = numFiles;
+    if (options.index) {
+      pathHashes = new long[numFiles];
+      offsets = new long[numFiles];
+    }
+    codedStream.writeRawVarint32(numFiles);
+    position += CodedOutputStream.computeRawVarint32Size(numFiles);
+  }
+
+  /**
+   * @param file in any layout, it is converted to the layout and encoding of the options if needed
+   */
+  void writeFile(final Metadata.ParquetFileMetadata file) throws IOException {
+    if (filesWritten == numFiles) {
+      throw new IllegalStateException("expected " + numFiles + " files but got more");
+    }
+    final Metadata.ParquetFileMetadata encoded = encoding.convert(file);
+    final Metadata.ParquetFileMetadata stored =
+      columnStats ? ColumnStatsLayout.toColumnStats(encoded) : ColumnStatsLayout.toRowGroupColumns(encoded);
+    if (options.index) {
+      pathHashes[filesWritten] = Utils.pathHash(Utils.path(stored, directories));
+      // the current block is written at position
+      offsets[filesWritten] = position;
+      numRowGroups += stored.getRowGroupsCount();
+    }
+    if (blockStream == null) {
+      writeDelimited(stored);
+    } else {
+      blockStream.writeRawVarint32(stored.getSerializedSize());
+      stored.writeTo(blockStream);
+      if (++filesInBlock == blockFiles) {
+        writeBlock();
+      }
+    }
+    filesWritten++;
+    listener.fileProcessed(ConversionListener.Stage.WRITE, stored.getRowGroupsCount(), Utils.numColumns(stored));
+  }
+
+  /**
+   * Copies a record read from a cache as it is, without decoding it. The files must already be in the layout and
+   * encoding of the options, see {@link MappedMetadataReader#readRawBlock}
+   */
+  void writeRawFile(final FileRecord record) throws IOException {
+    if (filesWritten == numFiles) {
+      throw new IllegalStateException("expected " + numFiles + " files but got more");
+    }
+    if (!encoding.isIdentity() || source.getColumnStats() != columnStats) {
+      throw new IllegalStateException("records can only be copied between caches with the same encodings");
+    }
+    if (options.index) {
+      pathHashes[filesWritten] = Utils.pathHash(record.getPath());
+      offsets[filesWritten] = position;
+      numRowGroups += record.getNumRowGroups();
+    }
+    final ByteString bytes = record.getBytes();
+    if (blockStream == null) {
+      codedStream.writeRawVarint32(bytes.size());
+      codedStream.writeRawBytes(bytes);
+      position += CodedOutputStream.computeRawVarint32Size(bytes.size()) + bytes.size();
+    } else {
+      blockStream.writeRawVarint32(bytes.size());
+      blockStream.writeRawBytes(bytes);
+      if (++filesInBlock == blockFiles) {
+        writeBlock();
+      }
+    }
+    filesWritten++;
+    listener.fileProcessed(ConversionListener.Stage.WRITE, record.getNumRowGroups(), record.getNumColumns());
+  }
+
+  void finish() throws IOException {
+    if (filesWritten != numFiles) {
+      throw new IllegalStateException("expected " + numFiles + " files but only " + filesWritten + " were written");
+    }
+    if (filesInBlock > 0) {
+      writeBlock();
+    }
+
+    if (options.index) {
+      final Metadata.MetadataIndex index = Metadata.MetadataIndex.newBuilder()
+        .setNumFiles(numFiles)
+        .setNumRowGroups(numRowGroups)
+        .setNumColumns(numColumns)
+        .addAllPathHashes(Longs.asList(pathHashes))
+        .addAllOffsets(Longs.asList(offsets))
+        .build();
+      index.writeTo(codedStream);
+      codedStream.writeRawLittleEndian32(index.getSerializedSize());
+      codedStream.writeRawLittleEndian32(INDEX_MAGIC);
+      position += index.getSerializedSize() + TRAILER_SIZE;
+    }
+
+    codedStream.flush();
+    listener.bytesProcessed(ConversionListener.Stage.WRITE, position);
+  }
+
+  private void writeBlock() throws IOException {
+    blockStream.flush();
+    final byte[] compressed = BlockCompression.compress(compression, block.toByteArray(), block.size());
+    codedStream.writeRawVarint32(compressed.length);
+    codedStream.writeRawVarint32(block.size());
+    codedStream.writeRawBytes(compressed);
+    position += CodedOutputStream.computeRawVarint32Size(compressed.length)
+      + CodedOutputStream.computeRawVarint32Size(block.size()) + compressed.length;
+
+    block.reset();
+    filesInBlock = 0;
+  }
+
+  private void writeDelimited(final MessageLite message) throws IOException {
+    final int size = message.getSerializedSize();
+    codedStream.writeRawVarint32(size);
+    message.writeTo(codedStream);
+    position += CodedOutputStream.computeRawVarint32Size(size) + size;
+  }
+}
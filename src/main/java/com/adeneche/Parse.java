@@ -1,6 +1,7 @@
 package com.adeneche;
 
 import com.adeneche.metadata.Metadata;
+import com.google.common.base.Splitter;
 import com.google.common.base.Stopwatch;
 import com.google.common.collect.Lists;
 import com.google.protobuf.CodedInputStream;
@@ -8,8 +9,12 @@ import org.kohsuke.args4j.CmdLineException;
 import org.kohsuke.args4j.CmdLineParser;
 import org.kohsuke.args4j.Option;
 
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -24,6 +29,18 @@ public class Parse {
     private int size = -1;
     @Option(name = "-e")
     private boolean export = false;
+    @Option(name = "-m", usage = "memory map the file instead of streaming it")
+    private boolean mapped;
+    @Option(name = "-t", usage = "number of threads used to decode the files of a memory mapped file")
+    private int threads = 1;
+    @Option(name = "-l", usage = "memory map the file and only decode files when they are accessed")
+    private boolean lazy;
+    @Option(name = "-metrics", usage = "write the metrics of the parse to this file as json, - for stdout")
+    private String metrics;
+    @Option(name = "-columns", usage = "comma separated full names of the only columns whose statistics are read")
+    private String columns;
+    @Option(name = "-f", usage = "only read the metadata of this parquet file, the cache must have an index")
+    private String file;
   }
 
   private static Options parseArguments(String[] args) {
@@ -43,21 +60,58 @@ public class Parse {
     return options;
   }
 
+  /**
+   * @return resident set size of the process as reported by /proc, only available on Linux
+   */
+  private static String residentSetSize() {
+    try {
+      for (final String line : Files.readAllLines(Paths.get("/proc/self/status"), StandardCharsets.US_ASCII)) {
+        if (line.startsWith("VmRSS:")) {
+          return line.substring("VmRSS:".length()).trim();
+        }
+      }
+    } catch (IOException e) {
+      // not on Linux
+    }
+    return "unknown";
+  }
+
   public static void main(String[] args) throws IOException {
     final Options options = parseArguments(args);
 
     Stopwatch watch = Stopwatch.createStarted();
-    CodedInputStream codedStream = CodedInputStream.newInstance(new FileInputStream(options.input));
-    if (options.size > 0) {
-      codedStream.setSizeLimit(options.size);
+    if (options.file != null) {
+      try (IndexedMetadataReader reader = new IndexedMetadataReader(options.input)) {
+        final Metadata.ParquetFileMetadata file = reader.getFile(options.file);
+        System.out.println(file == null ? options.file + " not found" : file);
+      }
+      System.out.printf("File read in %d ms%n", watch.elapsed(TimeUnit.MILLISECONDS));
+      return;
     }
 
+    final List<String> columns = options.columns == null ? null : Splitter.on(',').splitToList(options.columns);
+    final ConversionMetrics metrics = new ConversionMetrics();
     final MetadataHolder holder = new MetadataHolder();
-    holder.parseFrom(codedStream);
-
+    holder.setListener(metrics);
+    if (options.lazy) {
+      try (MappedMetadataReader reader = new MappedMetadataReader(options.input, columns)) {
+        holder.parseLazily(reader, false);
+      }
+    } else if (options.mapped) {
+      try (MappedMetadataReader reader = new MappedMetadataReader(options.input, columns)) {
+        holder.parseFrom(reader, options.threads);
+      }
+    } else {
+      CodedInputStream codedStream = CodedInputStream.newInstance(new FileInputStream(options.input));
+      if (options.size > 0) {
+        codedStream.setSizeLimit(options.size);
+      }
+      holder.parseFrom(codedStream, columns);
+    }
+    metrics.bytesProcessed(ConversionListener.Stage.PARSE, new File(options.input).length());
 
     if (!options.verbose) {
-      System.out.printf("File parsed in %d ms%n", watch.elapsed(TimeUnit.MILLISECONDS));
+      System.out.printf("File parsed in %d ms, RSS: %s%n", watch.elapsed(TimeUnit.MILLISECONDS), residentSetSize());
     } else {
       System.out.println(holder);
     }
@@ -66,5 +120,9 @@ public class Parse {
       System.out.println("converting to parquetTableMetadata");
       holder.toParquetTableMetadata();
     }
+
+    if (options.metrics != null) {
+      metrics.writeJson(options.metrics);
+    }
   }
 }
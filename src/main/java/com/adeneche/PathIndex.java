@@ -0,0 +1,80 @@
+package com.adeneche;
+
+import com.adeneche.metadata.Metadata;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Open addressing hash table from the {@link Utils#pathHash(String)} of the files of a cache to their ordinals.
+ * Only the hashes are kept, so different paths can share a hash and callers check the path of the candidates.<br>
+ * Immutable once built, can be used from multiple threads.
+ */
+class PathIndex {
+  private static final int[] NONE = new int[0];
+
+  /** hash of the file in each slot */
+  private final long[] hashes;
+  /** ordinal + 1 of the file in each slot, 0 if the slot is empty */
+  private final int[] ordinals;
+  private final int mask;
+
+  private PathIndex(final int numFiles) {
+    // at most half full so probe sequences stay short
+    final int capacity = Integer.highestOneBit(Math.max(2, numFiles) * 2 - 1) << 1;
+    hashes = new long[capacity];
+    ordinals = new int[capacity];
+    mask = capacity - 1;
+  }
+
+  /**
+   * @param pathHashes hash of the path of each file, in order. Usually those of the {@link Metadata.MetadataIndex}
+   */
+  static PathIndex of(final List<Long> pathHashes) {
+    final PathIndex index = new PathIndex(pathHashes.size());
+    for (int i = 0; i < pathHashes.size(); i++) {
+      index.add(pathHashes.get(i), i);
+    }
+    return index;
+  }
+
+  /**
+   * hashes the paths of the files
+   * @param directories directories of the cache's header
+   */
+  static PathIndex of(final List<Metadata.ParquetFileMetadata> files, final List<String> directories) {
+    final PathIndex index = new PathIndex(files.size());
+    for (int i = 0; i < files.size(); i++) {
+      index.add(Utils.pathHash(Utils.path(files.get(i), directories)), i);
+    }
+    return index;
+  }
+
+  private void add(final long hash, final int ordinal) {
+    int slot = slot(hash);
+    while (ordinals[slot] != 0) {
+      slot = (slot + 1) & mask;
+    }
+    hashes[slot] = hash;
+    ordinals[slot] = ordinal + 1;
+  }
+
+  /**
+   * @return ordinals of the files whose path may be this one, in order
+   */
+  int[] candidates(final String path) {
+    final long hash = Utils.pathHash(path);
+    int[] candidates = NONE;
+    for (int slot = slot(hash); ordinals[slot] != 0; slot = (slot + 1) & mask) {
+      if (hashes[slot] == hash) {
+        candidates = Arrays.copyOf(candidates, candidates.length + 1);
+        candidates[candidates.length - 1] = ordinals[slot] - 1;
+      }
+    }
+    return candidates;
+  }
+
+  private int slot(final long hash) {
+    return (int) (hash ^ (hash >>> 32)) & mask;
+  }
+}
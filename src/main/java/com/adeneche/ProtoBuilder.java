@@ -5,57 +5,224 @@ import com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo;
 import com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup;
 import com.adeneche.metadata.Metadata;
 import com.google.common.base.Function;
-import com.google.common.collect.Iterables;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Ordering;
+import com.google.common.collect.Sets;
 import com.google.protobuf.ByteString;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 public class ProtoBuilder {
-  private final Holders.ParquetTableMetadata tableMetadata;
+  private static final Comparator<ColumnTypeInfo> BY_NAME = new Comparator<ColumnTypeInfo>() {
+    @Override
+    public int compare(ColumnTypeInfo o1, ColumnTypeInfo o2) {
+      return o1.getName().compareTo(o2.getName());
+    }
+  };
 
-  private static final List<String> columnNames = Lists.newArrayList();
+  private final Holders.ParquetTableMetadata tableMetadata;
+  private final ConversionListener listener;
+
+  // computed once and never modified, so a builder can be used by multiple threads
+  private final List<ColumnTypeInfo> columns;
+  private final Map<ColumnTypeMetadata.Key, Integer> columnIds;
+  private final List<String> hosts;
+  private final Map<String, Integer> hostIds;
+  private final List<String> directories;
+  private final Map<String, Integer> directoryIds;
+  // encodings of the files, see WriteOptions
+  private final boolean hostDictionary;
+  private final boolean relativePaths;
+  private final boolean startDeltas;
 
   public ProtoBuilder(final Holders.ParquetTableMetadata tableMetadata) {
-    this.tableMetadata = tableMetadata;
+    this(tableMetadata, new WriteOptions(), ConversionListener.NONE);
   }
 
-  public Metadata.MetadataHeader buildHeader(final String version) {
-    return Metadata.MetadataHeader.newBuilder()
-      .setMetadataVersion(version)
-      .addAllDirectories(tableMetadata.directories)
-      .build();
+  public ProtoBuilder(final Holders.ParquetTableMetadata tableMetadata, final ConversionListener listener) {
+    this(tableMetadata, new WriteOptions(), listener);
   }
 
-  public Metadata.MetadataColumns buildColumns() {
-    final Metadata.MetadataColumns.Builder metadataColumns = Metadata.MetadataColumns.newBuilder();
+  /**
+   * @param encoding the files are built with its host dictionary, relative paths and start deltas options
+   */
+  public ProtoBuilder(final Holders.ParquetTableMetadata tableMetadata, final WriteOptions encoding,
+                      final ConversionListener listener) {
+    this(tableMetadata, encoding.hostDictionary ? collectHosts(tableMetadata) : ImmutableSet.<String>of(), encoding,
+      listener);
+  }
 
-    List<ColumnTypeInfo> columns = Lists.newArrayList();
+  /**
+   * @param hosts all the hosts of the table's row groups, for when its files aren't loaded in tableMetadata. Only
+   *              used with a host dictionary
+   */
+  public ProtoBuilder(final Holders.ParquetTableMetadata tableMetadata, final Collection<String> hosts,
+                      final WriteOptions encoding, final ConversionListener listener) {
+    this.tableMetadata = tableMetadata;
+    this.listener = listener;
+    this.hostDictionary = encoding.hostDictionary;
+    this.relativePaths = encoding.relativePaths;
+    this.startDeltas = encoding.startDeltas;
+
+    final List<ColumnTypeInfo> columns = Lists.newArrayList();
+    final Map<String, ColumnTypeMetadata.Key> keys = Maps.newHashMap();
     for (final ColumnTypeMetadata.Key key : tableMetadata.columnTypeInfo.keySet()) {
       final ColumnTypeInfo columnTypeInfo = buildColumnTypeInfo(tableMetadata.columnTypeInfo.get(key));
       columns.add(columnTypeInfo);
+      keys.put(columnTypeInfo.getName(), key);
     }
 
     //make sure we sort keySet so we always have same order
-    Collections.sort(columns, new Comparator<ColumnTypeInfo>() {
-      @Override
-      public int compare(ColumnTypeInfo o1, ColumnTypeInfo o2) {
-        return o1.getName().compareTo(o2.getName());
+    Collections.sort(columns, BY_NAME);
+
+    final ImmutableMap.Builder<ColumnTypeMetadata.Key, Integer> columnIds = ImmutableMap.builder();
+    for (int i = 0; i < columns.size(); i++) {
+      columnIds.put(keys.get(columns.get(i).getName()), i);
+    }
+
+    this.columns = ImmutableList.copyOf(columns);
+    this.columnIds = columnIds.build();
+
+    this.hosts = Ordering.natural().immutableSortedCopy(ImmutableSet.copyOf(hosts));
+    this.hostIds = ids(this.hosts);
+    this.directories = tableMetadata.directories == null ?
+      ImmutableList.<String>of() : ImmutableList.copyOf(tableMetadata.directories);
+    this.directoryIds = Utils.directoryIds(directories);
+  }
+
+  /**
+   * Builds the files of tableMetadata against the dictionaries of an existing cache, with its encodings. Columns,
+   * hosts and directories the cache doesn't have are appended after its own, so the ids used by its files stay
+   * valid.
+   */
+  ProtoBuilder(final Holders.ParquetTableMetadata tableMetadata, final Metadata.MetadataHeader cacheHeader,
+               final Metadata.MetadataColumns cacheColumns, final Metadata.MetadataHosts cacheHosts,
+               final ConversionListener listener) {
+    this.tableMetadata = tableMetadata;
+    this.listener = listener;
+    this.hostDictionary = cacheHeader.getHostDictionary();
+    this.relativePaths = cacheHeader.getRelativePaths();
+    this.startDeltas = cacheHeader.getStartDeltas();
+
+    final Map<String, Integer> names = ids(Lists.transform(cacheColumns.getColumnsList(),
+      new Function<ColumnTypeInfo, String>() {
+        @Override
+        public String apply(ColumnTypeInfo column) {
+          return column.getName();
+        }
+      }));
+    final List<ColumnTypeInfo> newColumns = Lists.newArrayList();
+    final Map<String, ColumnTypeMetadata.Key> keys = Maps.newHashMap();
+    final ImmutableMap.Builder<ColumnTypeMetadata.Key, Integer> columnIds = ImmutableMap.builder();
+    for (final ColumnTypeMetadata.Key key : tableMetadata.columnTypeInfo.keySet()) {
+      final ColumnTypeInfo columnTypeInfo = buildColumnTypeInfo(tableMetadata.columnTypeInfo.get(key));
+      final Integer id = names.get(columnTypeInfo.getName());
+      if (id == null) {
+        newColumns.add(columnTypeInfo);
+        keys.put(columnTypeInfo.getName(), key);
+        continue;
+      }
+      final ColumnTypeInfo cacheColumn = cacheColumns.getColumns(id);
+      if (cacheColumn.getPrimitiveType() != columnTypeInfo.getPrimitiveType()) {
+        throw new RuntimeException("column '" + columnTypeInfo.getName() + "' is " + cacheColumn.getPrimitiveType()
+          + " in the cache but " + columnTypeInfo.getPrimitiveType() + " in the new files");
+      }
+      columnIds.put(key, id);
+    }
+    Collections.sort(newColumns, BY_NAME);
+    for (int i = 0; i < newColumns.size(); i++) {
+      columnIds.put(keys.get(newColumns.get(i).getName()), cacheColumns.getColumnsCount() + i);
+    }
+    this.columns = ImmutableList.<ColumnTypeInfo>builder()
+      .addAll(cacheColumns.getColumnsList())
+      .addAll(newColumns)
+      .build();
+    this.columnIds = columnIds.build();
+
+    this.hosts = hostDictionary ? append(cacheHosts.getHostsList(), collectHosts(tableMetadata)) :
+      ImmutableList.<String>of();
+    this.hostIds = ids(this.hosts);
+    this.directories = append(cacheHeader.getDirectoriesList(),
+      tableMetadata.directories == null ? ImmutableList.<String>of() : tableMetadata.directories);
+    this.directoryIds = Utils.directoryIds(directories);
+  }
+
+  /**
+   * @return values followed by the sorted additions it doesn't contain yet
+   */
+  private static List<String> append(final List<String> values, final Collection<String> additions) {
+    final Set<String> existing = ImmutableSet.copyOf(values);
+    final Set<String> added = Sets.newTreeSet();
+    for (final String addition : additions) {
+      if (!existing.contains(addition)) {
+        added.add(addition);
       }
-    });
-    metadataColumns.addAllColumns(columns);
+    }
+    return ImmutableList.<String>builder().addAll(values).addAll(added).build();
+  }
 
-    Iterables.addAll(columnNames, Iterables.transform(columns, new Function<ColumnTypeInfo, String>() {
-      @Override
-      public String apply(ColumnTypeInfo input) {
-        return input.getName();
+  private static Map<String, Integer> ids(final List<String> values) {
+    final Map<String, Integer> ids = Maps.newHashMap();
+    for (int i = 0; i < values.size(); i++) {
+      ids.put(values.get(i), i);
+    }
+    return ImmutableMap.copyOf(ids);
+  }
+
+  private static Set<String> collectHosts(final Holders.ParquetTableMetadata tableMetadata) {
+    final Set<String> hosts = Sets.newHashSet();
+    for (final Holders.ParquetFileMetadata file : tableMetadata.files) {
+      for (final Holders.RowGroupMetadata rowGroup : file.rowGroups) {
+        hosts.addAll(rowGroup.hostAffinity.keySet());
       }
-    }));
+    }
+    return hosts;
+  }
 
-    return metadataColumns.build();
+  public Metadata.MetadataHeader buildHeader(final String version) {
+    final Metadata.MetadataHeader.Builder header = Metadata.MetadataHeader.newBuilder()
+      .setMetadataVersion(version)
+      .addAllDirectories(directories);
+    if (hostDictionary) {
+      header.setHostDictionary(true);
+    }
+    if (relativePaths) {
+      header.setRelativePaths(true);
+    }
+    if (startDeltas) {
+      header.setStartDeltas(true);
+    }
+    return header.build();
+  }
+
+  /**
+   * @return the host dictionary, null if the files are built without one
+   */
+  public Metadata.MetadataHosts buildHosts() {
+    if (!hostDictionary) {
+      return null;
+    }
+    return Metadata.MetadataHosts.newBuilder()
+      .addAllHosts(hosts)
+      .build();
+  }
+
+  public Metadata.MetadataColumns buildColumns() {
+    return Metadata.MetadataColumns.newBuilder()
+      .addAllColumns(columns)
+      .build();
   }
 
   public List<Metadata.ParquetFileMetadata> buildFiles() {
@@ -68,6 +235,60 @@ public class ProtoBuilder {
     return files;
   }
 
+  /**
+   * Builds the files with parallelism worker threads
+   * @return files in the same order as the table's files
+   */
+  public List<Metadata.ParquetFileMetadata> buildFiles(final int parallelism) {
+    if (parallelism <= 1) {
+      return buildFiles();
+    }
+
+    final ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      return buildFiles(pool);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  public List<Metadata.ParquetFileMetadata> buildFiles(final ForkJoinPool pool) {
+    final Metadata.ParquetFileMetadata[] files = new Metadata.ParquetFileMetadata[tableMetadata.files.size()];
+    pool.invoke(new BuildFilesTask(files, 0, files.length));
+    return Arrays.asList(files);
+  }
+
+  /**
+   * Builds a range of the table's files, splitting it in halves until it's small enough
+   */
+  private class BuildFilesTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+    private static final int BATCH_SIZE = 64;
+
+    private final Metadata.ParquetFileMetadata[] files;
+    private final int start;
+    private final int end;
+
+    BuildFilesTask(final Metadata.ParquetFileMetadata[] files, final int start, final int end) {
+      this.files = files;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start <= BATCH_SIZE) {
+        for (int i = start; i < end; i++) {
+          files[i] = buildFile(tableMetadata.files.get(i));
+        }
+        return;
+      }
+
+      final int middle = (start + end) >>> 1;
+      invokeAll(new BuildFilesTask(files, start, middle), new BuildFilesTask(files, middle, end));
+    }
+  }
+
   private ColumnTypeInfo buildColumnTypeInfo(ColumnTypeMetadata columnTypeMetadata) {
     final ColumnTypeInfo.Builder columnTypeInfo = ColumnTypeInfo.newBuilder();
 
@@ -84,32 +305,56 @@ public class ProtoBuilder {
     return columnTypeInfo.build();
   }
 
-  private Metadata.ParquetFileMetadata buildFile(Holders.ParquetFileMetadata fileMetadata) {
+  public Metadata.ParquetFileMetadata buildFile(Holders.ParquetFileMetadata fileMetadata) {
     final Metadata.ParquetFileMetadata.Builder file = Metadata.ParquetFileMetadata.newBuilder();
 
-    file.setPath(fileMetadata.path);
+    if (relativePaths) {
+      Utils.setRelativePath(file, fileMetadata.path, directoryIds);
+    } else {
+      file.setPath(fileMetadata.path);
+    }
     file.setLength(fileMetadata.length);
 
+    long expectedStart = Utils.FIRST_ROW_GROUP_START;
     for (final Holders.RowGroupMetadata rowGroupMetadata : fileMetadata.rowGroups) {
-      file.addRowGroups(buildRowGroup(rowGroupMetadata));
+      file.addRowGroups(buildRowGroup(rowGroupMetadata, expectedStart));
+      expectedStart = rowGroupMetadata.start + rowGroupMetadata.length;
     }
 
-    return file.build();
+    final Metadata.ParquetFileMetadata built = file.build();
+    listener.fileProcessed(ConversionListener.Stage.BUILD, built.getRowGroupsCount(), Utils.numColumns(built));
+    return built;
   }
 
-  private RowGroup buildRowGroup(Holders.RowGroupMetadata rowGroupMetadata) {
+  /**
+   * @param expectedStart end of the previous row group of the file, the start is stored relative to it with start
+   *                      deltas
+   */
+  private RowGroup buildRowGroup(Holders.RowGroupMetadata rowGroupMetadata, long expectedStart) {
     final RowGroup.Builder rowGroup = Metadata.ParquetFileMetadata.RowGroup.newBuilder();
 
-    rowGroup.setStart(rowGroupMetadata.start);
+    if (!startDeltas) {
+      rowGroup.setStart(rowGroupMetadata.start);
+    } else if (rowGroupMetadata.start != expectedStart) {
+      rowGroup.setStartDelta(rowGroupMetadata.start - expectedStart);
+    }
     rowGroup.setLength(rowGroupMetadata.length);
     rowGroup.setRowCount(rowGroupMetadata.rowCount);
 
     final Map<String, Float> hostAffinity = rowGroupMetadata.hostAffinity;
     for (final String name : hostAffinity.keySet()) {
-      rowGroup.addAffinities(Metadata.ParquetFileMetadata.RowGroup.HostAffinity.newBuilder()
-          .setKey(name)
-          .setValue(hostAffinity.get(name))
-      );
+      final RowGroup.HostAffinity.Builder affinity = RowGroup.HostAffinity.newBuilder()
+        .setValue(hostAffinity.get(name));
+      if (hostDictionary) {
+        final Integer hostId = hostIds.get(name);
+        if (hostId == null) {
+          throw new RuntimeException("host '" + name + "' not found in the host dictionary");
+        }
+        affinity.setHost(hostId);
+      } else {
+        affinity.setKey(name);
+      }
+      rowGroup.addAffinities(affinity);
     }
 
     for (final Holders.ColumnMetadata column : rowGroupMetadata.columns) {
@@ -164,10 +409,9 @@ public class ProtoBuilder {
   }
 
   private int getColumnId(final String[] columnName) {
-    final String name = Utils.COLUMN_NAME_JOINER.join(columnName);
-    final int nameId = columnNames.indexOf(name);
-    if (nameId == -1) {
-      throw new RuntimeException("column '" + name + "' not found in columnNames");
+    final Integer nameId = columnIds.get(new ColumnTypeMetadata.Key(columnName));
+    if (nameId == null) {
+      throw new RuntimeException("column '" + Utils.COLUMN_NAME_JOINER.join(columnName) + "' not found in columnIds");
     }
     return nameId;
   }
@@ -0,0 +1,286 @@
+package com.adeneche;
+
+import com.adeneche.metadata.Metadata;
+import com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo;
+import com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.OriginalType;
+import com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.primitives.UnsignedInts;
+import com.google.common.primitives.UnsignedLongs;
+import com.google.protobuf.ByteString;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds the row groups that may have rows matching all of the predicates, using the statistics of the cache.<br>
+ * As in Drill's cache, a row group only has a max value for a column whose non null values are all the same, and
+ * it's then the value of all of them. Row groups are only pruned when their statistics prove no row can match:
+ * a column without statistics, a null or row count that isn't known (missing or negative), values that can't be
+ * ordered (INT96, decimals) or NaNs all may match.
+ */
+class RowGroupPruner {
+
+  /**
+   * Predicate whose values were converted to the type of its column
+   */
+  private static class Condition {
+    private final ColumnPredicate predicate;
+    private final int column;
+    private final ColumnTypeInfo type;
+    private final List<Object> values;
+
+    Condition(final ColumnPredicate predicate, final int column, final ColumnTypeInfo type) {
+      this.predicate = predicate;
+      this.column = column;
+      this.type = type;
+      final List<Object> values = Lists.newArrayListWithCapacity(predicate.values.size());
+      for (final Object value : predicate.values) {
+        values.add(convert(value));
+      }
+      this.values = values;
+    }
+
+    private Object convert(final Object value) {
+      switch (type.getPrimitiveType()) {
+        case INT64:
+          if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+          }
+          break;
+        case INT32:
+          if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).intValue();
+          }
+          break;
+        case BOOLEAN:
+          if (value instanceof Boolean) {
+            return value;
+          }
+          break;
+        case FLOAT:
+          if (value instanceof Number) {
+            return ((Number) value).floatValue();
+          }
+          break;
+        case DOUBLE:
+          if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+          }
+          break;
+        case BINARY:
+        case FIXED_LEN_BYTE_ARRAY:
+        case INT96:
+          if (value instanceof ByteString) {
+            return value;
+          } else if (value instanceof String) {
+            return ByteString.copyFromUtf8((String) value);
+          } else if (value instanceof byte[]) {
+            return ByteString.copyFrom((byte[]) value);
+          }
+          break;
+      }
+      throw new IllegalArgumentException("column " + predicate.column + " is " + type.getPrimitiveType()
+        + ", can't compare it to " + value + " (" + value.getClass().getSimpleName() + ")");
+    }
+
+    boolean mayMatch(final RowGroup rowGroup, final RowGroup.ColumnMetadata stats) {
+      if (stats == null) {
+        return true;
+      }
+      // Drill writes -1 for counts it doesn't know, they read back negative from the uint64 fields
+      final long nulls = stats.hasNulls() ? stats.getNulls() : -1;
+      if (predicate.op == ColumnPredicate.Op.IS_NULL) {
+        return nulls != 0;
+      }
+      // only nulls, no value can match
+      final long rowCount = rowGroup.hasRowCount() ? rowGroup.getRowCount() : -1;
+      if (nulls >= 0 && rowCount >= 0 && nulls >= rowCount) {
+        return false;
+      }
+      final Object max = MetadataHolder.getMxValue(stats);
+      if (max == null) {
+        return true;
+      }
+
+      for (final Object value : values) {
+        final Integer comparison = compare(max, value);
+        if (comparison == null) {
+          return true;
+        }
+        switch (predicate.op) {
+          case EQ:
+          case IN:
+            if (comparison == 0) {
+              return true;
+            }
+            break;
+          case LT:
+            return comparison < 0;
+          case GT:
+            return comparison > 0;
+        }
+      }
+      return false;
+    }
+
+    /**
+     * @return sign of max - value, null if the values can't be compared
+     */
+    private Integer compare(final Object max, final Object value) {
+      final OriginalType originalType = type.hasOriginalType() ? type.getOriginalType() : null;
+      switch (type.getPrimitiveType()) {
+        case INT64:
+          return originalType == OriginalType.UINT_64
+            ? UnsignedLongs.compare((Long) max, (Long) value) : Long.compare((Long) max, (Long) value);
+        case INT32:
+          return isUnsigned(originalType)
+            ? UnsignedInts.compare((Integer) max, (Integer) value) : Integer.compare((Integer) max, (Integer) value);
+        case BOOLEAN:
+          return Boolean.compare((Boolean) max, (Boolean) value);
+        case FLOAT:
+          return compare(((Float) max).doubleValue(), ((Float) value).doubleValue());
+        case DOUBLE:
+          return compare((Double) max, (Double) value);
+        case INT96:
+          // equality is all the bytes of a timestamp tell
+          return max.equals(value) ? 0 : null;
+        case BINARY:
+        case FIXED_LEN_BYTE_ARRAY:
+          if (originalType == OriginalType.DECIMAL || originalType == OriginalType.INTERVAL) {
+            return max.equals(value) ? 0 : null;
+          }
+          return compare((ByteString) max, (ByteString) value);
+      }
+      return null;
+    }
+
+    private static boolean isUnsigned(final OriginalType originalType) {
+      return originalType == OriginalType.UINT_8 || originalType == OriginalType.UINT_16
+        || originalType == OriginalType.UINT_32;
+    }
+
+    private static Integer compare(final double max, final double value) {
+      if (Double.isNaN(max) || Double.isNaN(value)) {
+        return null;
+      }
+      // -0.0 and 0.0 are equal
+      return max < value ? -1 : max > value ? 1 : 0;
+    }
+
+    /**
+     * unsigned lexicographic order, as parquet orders binary values
+     */
+    private static int compare(final ByteString max, final ByteString value) {
+      final int length = Math.min(max.size(), value.size());
+      for (int i = 0; i < length; i++) {
+        final int comparison = (max.byteAt(i) & 0xff) - (value.byteAt(i) & 0xff);
+        if (comparison != 0) {
+          return comparison;
+        }
+      }
+      return max.size() - value.size();
+    }
+  }
+
+  private final List<Condition> conditions;
+
+  /**
+   * @param predicates all of them must match. A predicate on a column the cache doesn't have may match any row group
+   */
+  RowGroupPruner(final Metadata.MetadataColumns columns, final Collection<ColumnPredicate> predicates) {
+    final Map<String, Integer> ids = Maps.newHashMapWithExpectedSize(columns.getColumnsCount());
+    for (int i = 0; i < columns.getColumnsCount(); i++) {
+      ids.put(columns.getColumns(i).getName(), i);
+    }
+    final List<Condition> conditions = Lists.newArrayList();
+    for (final ColumnPredicate predicate : predicates) {
+      final Integer id = ids.get(predicate.column);
+      if (id != null) {
+        conditions.add(new Condition(predicate, id, columns.getColumns(id)));
+      }
+    }
+    this.conditions = ImmutableList.copyOf(conditions);
+  }
+
+  /**
+   * @return indexes of the row groups of the file that may match, in either layout of {@link ColumnStatsLayout}
+   */
+  List<Integer> matchingRowGroups(final Metadata.ParquetFileMetadata stored) {
+    final Metadata.ParquetFileMetadata file = ColumnStatsLayout.toRowGroupColumns(stored);
+    final List<Integer> matching = Lists.newArrayList();
+    for (int r = 0; r < file.getRowGroupsCount(); r++) {
+      if (mayMatch(file.getRowGroups(r))) {
+        matching.add(r);
+      }
+    }
+    return matching;
+  }
+
+  boolean mayMatch(final RowGroup rowGroup) {
+    for (final Condition condition : conditions) {
+      RowGroup.ColumnMetadata stats = null;
+      for (final RowGroup.ColumnMetadata column : rowGroup.getColumnsList()) {
+        if (column.getName() == condition.column) {
+          stats = column;
+          break;
+        }
+      }
+      if (!condition.mayMatch(rowGroup, stats)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return matching row groups of the files, by path in the order of the files. Files without any are left out
+   */
+  Map<String, List<Integer>> prune(final Metadata.MetadataHeader header,
+                                   final Collection<Metadata.ParquetFileMetadata> files) {
+    final Map<String, List<Integer>> matching = Maps.newLinkedHashMap();
+    for (final Metadata.ParquetFileMetadata file : files) {
+      addMatching(header, file, matching);
+    }
+    return matching;
+  }
+
+  /**
+   * Prunes the files of a cache while decoding them, only the statistics of the columns of the predicates are
+   * decoded and the files are dropped once evaluated
+   * @return matching row groups of the files, by path in the order of the files. Files without any are left out
+   */
+  static Map<String, List<Integer>> prune(final String path, final Collection<ColumnPredicate> predicates)
+      throws IOException {
+    final List<String> columnNames = Lists.newArrayList();
+    for (final ColumnPredicate predicate : predicates) {
+      columnNames.add(predicate.column);
+    }
+
+    try (MappedMetadataReader reader = new MappedMetadataReader(path, columnNames)) {
+      final RowGroupPruner pruner = new RowGroupPruner(reader.getColumns(), predicates);
+      final Map<String, List<Integer>> matching = Maps.newLinkedHashMap();
+      final Metadata.ParquetFileMetadata[] block = new Metadata.ParquetFileMetadata[reader.getBlockFiles()];
+      for (final long offset : reader.scanBlockOffsets()) {
+        reader.readBlock(offset, block, 0);
+        for (int i = 0; i < block.length && block[i] != null; i++) {
+          pruner.addMatching(reader.getHeader(), block[i], matching);
+          block[i] = null;
+        }
+      }
+      return matching;
+    }
+  }
+
+  private void addMatching(final Metadata.MetadataHeader header, final Metadata.ParquetFileMetadata file,
+                           final Map<String, List<Integer>> matching) {
+    final List<Integer> rowGroups = matchingRowGroups(file);
+    if (!rowGroups.isEmpty()) {
+      matching.put(Utils.path(file, header.getDirectoriesList()), rowGroups);
+    }
+  }
+}
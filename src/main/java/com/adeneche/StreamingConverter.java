@@ -0,0 +1,123 @@
+package com.adeneche;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * json -> proto conversion that never holds more than one file entry in memory.<br>
+ * The json is read twice: a first pass collects the version, columns, directories and, for a host dictionary, hosts
+ * and counts the files, as they are all needed before the first file can be written. A second pass then converts
+ * and writes each file as soon as it's parsed.
+ */
+class StreamingConverter {
+  private static final JsonReader.Names TABLE_FIELDS =
+    JsonReader.Names.of("metadata_version", "columnTypeInfo", "files", "directories");
+
+  private final File input;
+  private final ConversionListener listener;
+
+  StreamingConverter(final File input) {
+    this(input, ConversionListener.NONE);
+  }
+
+  /**
+   * listener is notified of the whole conversion as a {@link ConversionListener.Stage#STREAM} stage, each file is
+   * still reported by the load, build and write stages it goes through
+   */
+  StreamingConverter(final File input, final ConversionListener listener) {
+    this.input = input;
+    this.listener = listener;
+  }
+
+  public void convert(final CodedOutputStream codedStream, final WriteOptions options) throws IOException {
+    listener.stageStarted(ConversionListener.Stage.STREAM);
+    final JsonLoader loader = new JsonLoader(listener);
+    // hosts are only collected for the dictionary
+    final Set<String> hosts = options.hostDictionary ? Sets.<String>newHashSet() : null;
+    final int numFiles = loadSummary(loader, hosts);
+
+    final Holders.ParquetTableMetadata tableMetadata = loader.getTableMetadata();
+    // files are built with the encodings they're written with
+    final ProtoBuilder protoBuilder =
+      new ProtoBuilder(tableMetadata, hosts == null ? ImmutableSet.<String>of() : hosts, options, listener);
+
+    final MetadataWriter writer = new MetadataWriter(codedStream, options, listener);
+    writer.writeHeader(protoBuilder.buildHeader("v2"));
+    writer.writeColumns(protoBuilder.buildColumns());
+    if (options.hostDictionary) {
+      writer.writeHosts(protoBuilder.buildHosts());
+    }
+    writer.writeFileCount(numFiles);
+
+    try (JsonReader reader = new JsonReader(new FileInputStream(input))) {
+      reader.beginObject();
+      while (reader.hasNext()) {
+        if (reader.selectName(TABLE_FIELDS) != 2) {
+          reader.skipValue();
+          continue;
+        }
+
+        reader.beginArray();
+        while (reader.hasNext()) {
+          writer.writeFile(protoBuilder.buildFile(loader.parseFile(reader)));
+        }
+        break;
+      }
+      listener.bytesProcessed(ConversionListener.Stage.STREAM, reader.position());
+    }
+
+    writer.finish();
+    listener.stageFinished(ConversionListener.Stage.STREAM);
+  }
+
+  /**
+   * first pass: loads everything but the files in loader's table metadata, and the hosts of the files
+   * @param hosts where the hosts of the files are added, null to skip the files without reading them
+   * @return number of files
+   */
+  private int loadSummary(final JsonLoader loader, final Set<String> hosts) throws IOException {
+    int numFiles = 0;
+    try (JsonReader reader = new JsonReader(new FileInputStream(input))) {
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.selectName(TABLE_FIELDS)) {
+          case 0:
+            loader.checkVersion(reader.nextString());
+            break;
+          case 1:
+            loader.extractRootColumns(reader);
+            break;
+          case 2:
+            reader.beginArray();
+            while (reader.hasNext()) {
+              if (hosts != null) {
+                loader.collectHosts(reader, hosts);
+              } else {
+                reader.skipValue();
+              }
+              numFiles++;
+            }
+            reader.endArray();
+            break;
+          case 3:
+            loader.extractDirectories(reader);
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      listener.bytesProcessed(ConversionListener.Stage.STREAM, reader.position());
+    }
+
+    loader.getTableMetadata().files = Lists.newArrayList();
+    return numFiles;
+  }
+}
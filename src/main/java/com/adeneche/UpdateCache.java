@@ -0,0 +1,180 @@
+package com.adeneche;
+
+import com.adeneche.metadata.Metadata;
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import org.kohsuke.args4j.CmdLineException;
+import org.kohsuke.args4j.CmdLineParser;
+import org.kohsuke.args4j.Option;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies a delta to a binary cache without converting the whole json cache again. Only the files of the delta are
+ * built, the records of the files that are kept are copied as they are, see {@link #update}
+ */
+public class UpdateCache {
+
+  private static class Options {
+    @Option(name = "-i", required = true, usage = "binary cache to update")
+    private String input;
+    @Option(name = "-o", usage = "output filename, by default the input is replaced")
+    private String output;
+    @Option(name = "-add", usage = "json cache of the files to add or replace")
+    private String add;
+    @Option(name = "-remove", usage = "file with the paths of the files to remove, one per line")
+    private String remove;
+    @Option(name = "-metrics", usage = "write the metrics of each stage to this file as json, - for stdout")
+    private String metrics;
+  }
+
+  private static Options parseArguments(String[] args) {
+    final Options options = new Options();
+    final CmdLineParser parser = new CmdLineParser(options);
+
+    try {
+      parser.parseArgument(args);
+    } catch (CmdLineException e) {
+      System.err.println(e.getMessage());
+      parser.printUsage(System.err);
+      System.exit(-1);
+    }
+
+    return options;
+  }
+
+  public static void main(String[] args) throws IOException {
+    final Options options = parseArguments(args);
+    final Stopwatch watch = Stopwatch.createStarted();
+    final ConversionMetrics metrics = new ConversionMetrics();
+
+    final Holders.ParquetTableMetadata delta;
+    if (options.add != null) {
+      try (JsonReader reader = new JsonReader(new FileInputStream(options.add))) {
+        delta = new JsonLoader(metrics).load(reader);
+      }
+    } else {
+      delta = new Holders.ParquetTableMetadata();
+      delta.files = ImmutableList.of();
+      delta.columnTypeInfo = Maps.newHashMap();
+    }
+    final List<String> removed = Lists.newArrayList();
+    if (options.remove != null) {
+      for (final String line : Files.readAllLines(Paths.get(options.remove), StandardCharsets.UTF_8)) {
+        if (!line.trim().isEmpty()) {
+          removed.add(line.trim());
+        }
+      }
+    }
+
+    // written next to the output then moved, so readers never see a partial cache
+    final Path output = Paths.get(options.output == null ? options.input : options.output).toAbsolutePath();
+    final Path temp = Paths.get(output + ".tmp");
+    try {
+      try (MappedMetadataReader reader = new MappedMetadataReader(options.input);
+           FileOutputStream stream = new FileOutputStream(temp.toFile())) {
+        update(reader, delta, removed, CodedOutputStream.newInstance(stream), metrics);
+        metrics.bytesProcessed(ConversionListener.Stage.PARSE, new File(options.input).length());
+      }
+      Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+
+    System.out.printf("%d files added or replaced, %d paths to remove, %d bytes written in %d ms%n",
+      delta.files.size(), removed.size(), new File(output.toString()).length(),
+      watch.elapsed(TimeUnit.MILLISECONDS));
+    if (options.metrics != null) {
+      metrics.writeJson(options.metrics);
+    }
+  }
+
+  /**
+   * Writes the cache with the delta applied, the same cache as
+   * {@link MetadataHolder#update(Holders.ParquetTableMetadata, Collection)} then a write with the options of the
+   * cache. The cache is read twice, one block at a time: first for the paths of its files, then to copy the records
+   * of the files that are kept as they are. Only the files of the delta are built, with the encodings of the cache
+   * @param removed paths of the files to remove, paths that aren't in the cache are ignored
+   */
+  static void update(final MappedMetadataReader reader, final Holders.ParquetTableMetadata delta,
+                     final Collection<String> removed, final CodedOutputStream output,
+                     final ConversionListener listener) throws IOException {
+    final Metadata.MetadataHeader cacheHeader = reader.getHeader();
+    final long[] offsets = reader.scanBlockOffsets();
+    final List<ByteString> records = Lists.newArrayListWithCapacity(reader.getBlockFiles());
+
+    listener.stageStarted(ConversionListener.Stage.PARSE);
+    final List<String> paths = Lists.newArrayListWithCapacity(reader.getNumFiles());
+    for (final long offset : offsets) {
+      records.clear();
+      reader.readRawBlock(offset, records);
+      for (final ByteString bytes : records) {
+        final FileRecord record = FileRecord.scan(bytes, cacheHeader.getDirectoriesList());
+        listener.fileProcessed(ConversionListener.Stage.PARSE, record.getNumRowGroups(), record.getNumColumns());
+        paths.add(record.getPath());
+      }
+    }
+    listener.stageFinished(ConversionListener.Stage.PARSE);
+    final int[] sources = DeltaMerge.merge(paths, removed, delta.files);
+
+    listener.stageStarted(ConversionListener.Stage.BUILD);
+    final ProtoBuilder protoBuilder =
+      new ProtoBuilder(delta, cacheHeader, reader.getColumns(), reader.getHosts(), listener);
+    final Map<Integer, Metadata.ParquetFileMetadata> built = Maps.newHashMap();
+    for (final int source : sources) {
+      if (source < 0) {
+        built.put(source, protoBuilder.buildFile(delta.files.get(DeltaMerge.deltaIndex(source))));
+      }
+    }
+    // keeps the options of the cache
+    final Metadata.MetadataHeader header = cacheHeader.toBuilder()
+      .clearDirectories()
+      .mergeFrom(protoBuilder.buildHeader(cacheHeader.getMetadataVersion()))
+      .build();
+    final Metadata.MetadataColumns columns = protoBuilder.buildColumns();
+    final Metadata.MetadataHosts hosts = protoBuilder.buildHosts();
+    listener.stageFinished(ConversionListener.Stage.BUILD);
+
+    listener.stageStarted(ConversionListener.Stage.WRITE);
+    final MetadataWriter writer = new MetadataWriter(output, WriteOptions.of(header), listener);
+    writer.writeHeader(header);
+    writer.writeColumns(columns);
+    if (hosts != null) {
+      writer.writeHosts(hosts);
+    }
+    writer.writeFileCount(sources.length);
+    // ordinals of the kept files are increasing, each block is read at most once
+    final int blockFiles = reader.getBlockFiles();
+    int block = -1;
+    for (final int source : sources) {
+      if (source < 0) {
+        writer.writeFile(built.get(source));
+        continue;
+      }
+      if (source / blockFiles != block) {
+        block = source / blockFiles;
+        records.clear();
+        reader.readRawBlock(offsets[block], records);
+      }
+      writer.writeRawFile(FileRecord.scan(records.get(source % blockFiles), cacheHeader.getDirectoriesList()));
+    }
+    writer.finish();
+    listener.stageFinished(ConversionListener.Stage.WRITE);
+  }
+}
@@ -1,17 +1,128 @@
 package com.adeneche;
 
-import com.eclipsesource.json.JsonArray;
+import com.adeneche.metadata.Metadata;
 import com.google.common.base.Joiner;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 public class Utils {
   public static final Joiner COLUMN_NAME_JOINER = Joiner.on(".");
+  public static final Splitter COLUMN_NAME_SPLITTER = Splitter.on('.');
+
+  /** start of the first row group of a parquet file, right after its magic number */
+  static final long FIRST_ROW_GROUP_START = 4;
+
+  private static final HashFunction PATH_HASH = Hashing.murmur3_128();
+
+  /**
+   * hash of a file path as stored in the {@link com.adeneche.metadata.Metadata.MetadataIndex}
+   */
+  static long pathHash(final String path) {
+    return PATH_HASH.hashString(path, StandardCharsets.UTF_8).asLong();
+  }
+
+  /**
+   * total number of columns in all the row groups of a file, as reported to {@link ConversionListener}s
+   */
+  static int numColumns(final Metadata.ParquetFileMetadata file) {
+    int numColumns = 0;
+    for (final Metadata.ParquetFileMetadata.RowGroup rowGroup : file.getRowGroupsList()) {
+      numColumns += rowGroup.getColumnsCount();
+    }
+    for (final Metadata.ParquetFileMetadata.ColumnStats stats : file.getColumnStatsList()) {
+      numColumns += ColumnStatsLayout.numRowGroups(stats, file.getRowGroupsCount());
+    }
+    return numColumns;
+  }
+
+  /**
+   * @param hosts dictionary of the cache, or null if it doesn't have one
+   * @return name of the affinity's host
+   */
+  static String host(final Metadata.ParquetFileMetadata.RowGroup.HostAffinity affinity,
+                     final Metadata.MetadataHosts hosts) {
+    return hosts == null ? affinity.getKey() : hosts.getHosts(affinity.getHost());
+  }
+
+  /**
+   * @param directories directories of the cache's header
+   * @return full path of the file
+   */
+  static String path(final Metadata.ParquetFileMetadata file, final List<String> directories) {
+    return file.hasDirectory() ? path(directories.get(file.getDirectory()), file.getPath()) : file.getPath();
+  }
+
+  /**
+   * @return full path of a file relative to a directory
+   */
+  static String path(final String directory, final String relativePath) {
+    return directory.endsWith("/") ? directory + relativePath : directory + '/' + relativePath;
+  }
+
+  /**
+   * @return id of each directory, without its trailing slash so it can be looked up with the parents of a path
+   */
+  static Map<String, Integer> directoryIds(final List<String> directories) {
+    final Map<String, Integer> directoryIds = Maps.newHashMap();
+    for (int i = 0; i < directories.size(); i++) {
+      final String directory = directories.get(i);
+      final String key = directory.endsWith("/") ? directory.substring(0, directory.length() - 1) : directory;
+      if (!key.isEmpty() && !directoryIds.containsKey(key)) {
+        directoryIds.put(key, i);
+      }
+    }
+    return ImmutableMap.copyOf(directoryIds);
+  }
+
+  /**
+   * stores path relative to the deepest directory containing it, or as is if none of the directories contains it
+   * @param directoryIds see {@link #directoryIds(List)}
+   */
+  static void setRelativePath(final Metadata.ParquetFileMetadata.Builder file, final String path,
+                              final Map<String, Integer> directoryIds) {
+    for (int slash = path.lastIndexOf('/'); slash > 0; slash = path.lastIndexOf('/', slash - 1)) {
+      final Integer directory = directoryIds.get(path.substring(0, slash));
+      if (directory != null) {
+        file.setDirectory(directory);
+        file.setPath(path.substring(slash + 1));
+        return;
+      }
+    }
+    file.clearDirectory();
+    file.setPath(path);
+  }
+
+  /**
+   * @param expected end of the previous row group of the file, or {@link #FIRST_ROW_GROUP_START}
+   * @param startDeltas if the header has start deltas
+   * @return start of the row group
+   */
+  static long start(final Metadata.ParquetFileMetadata.RowGroup rowGroup, final long expected,
+                    final boolean startDeltas) {
+    return startDeltas ? expected + rowGroup.getStartDelta() : rowGroup.getStart();
+  }
 
-  static String[] parseStringArray(final JsonArray array) {
-    final String[] strings = new String[array.size()];
-    for (int i = 0; i < array.size(); i++) {
-      strings[i] = array.get(i).asString();
+  static String[] parseStringArray(final JsonReader reader) throws IOException {
+    String[] strings = new String[4];
+    int size = 0;
+    reader.beginArray();
+    while (reader.hasNext()) {
+      if (size == strings.length) {
+        strings = Arrays.copyOf(strings, size * 2);
+      }
+      strings[size++] = reader.nextString();
     }
-    return strings;
+    reader.endArray();
+    return size == strings.length ? strings : Arrays.copyOf(strings, size);
   }
 
 }
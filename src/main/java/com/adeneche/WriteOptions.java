@@ -0,0 +1,79 @@
+package com.adeneche;
+
+import com.adeneche.metadata.Metadata;
+import com.adeneche.metadata.Metadata.MetadataHeader.Compression;
+
+/**
+ * Optional features of the binary cache. They are recorded in the header so readers know how to decode it.
+ */
+public class WriteOptions {
+  /** write a trailing {@link Metadata.MetadataIndex} after the files, see {@link IndexedMetadataReader} */
+  public boolean index;
+  /** compress the files in blocks of {@link #blockFiles} records, see {@link BlockCompression} */
+  public Compression compression = Compression.NONE;
+  /** number of files in each compressed block, bigger blocks compress better but random accesses decode more */
+  public int blockFiles = 64;
+  /** write the statistics of each file by column instead of by row group, see {@link ColumnStatsLayout} */
+  public boolean columnStats;
+  /** write each host once in a {@link Metadata.MetadataHosts}, the affinities reference them by id */
+  public boolean hostDictionary;
+  /** write the paths of the files relative to the deepest of the header's directories containing them */
+  public boolean relativePaths;
+  /** write the start of each row group relative to the end of the previous one, usually 0 and then not written */
+  public boolean startDeltas;
+
+  /**
+   * @return the options a cache with this header was written with
+   */
+  public static WriteOptions of(final Metadata.MetadataHeader header) {
+    final WriteOptions options = new WriteOptions();
+    options.index = header.getIndexed();
+    options.columnStats = header.getColumnStats();
+    options.hostDictionary = header.getHostDictionary();
+    options.relativePaths = header.getRelativePaths();
+    options.startDeltas = header.getStartDeltas();
+    options.compression = header.getCompression();
+    if (header.hasBlockFiles()) {
+      options.blockFiles = header.getBlockFiles();
+    }
+    return options;
+  }
+
+  Metadata.MetadataHeader applyTo(final Metadata.MetadataHeader header) {
+    final Metadata.MetadataHeader.Builder builder = header.toBuilder();
+    if (index) {
+      builder.setIndexed(true);
+    } else {
+      builder.clearIndexed();
+    }
+    if (columnStats) {
+      builder.setColumnStats(true);
+    } else {
+      builder.clearColumnStats();
+    }
+    if (hostDictionary) {
+      builder.setHostDictionary(true);
+    } else {
+      builder.clearHostDictionary();
+    }
+    if (relativePaths) {
+      builder.setRelativePaths(true);
+    } else {
+      builder.clearRelativePaths();
+    }
+    if (startDeltas) {
+      builder.setStartDeltas(true);
+    } else {
+      builder.clearStartDeltas();
+    }
+    if (compression != Compression.NONE) {
+      if (blockFiles <= 0) {
+        throw new IllegalArgumentException("blockFiles must be positive, got " + blockFiles);
+      }
+      builder.setCompression(compression).setBlockFiles(blockFiles);
+    } else {
+      builder.clearCompression().clearBlockFiles();
+    }
+    return builder.build();
+  }
+}
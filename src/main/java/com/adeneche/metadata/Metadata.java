@@ -45,6 +45,126 @@ public final class Metadata {
      */
     com.google.protobuf.ByteString
         getDirectoriesBytes(int index);
+
+    // optional bool indexed = 5;
+    /**
+     * <code>optional bool indexed = 5;</code>
+     *
+     * <pre>
+     * a MetadataIndex follows the files
+     * </pre>
+     */
+    boolean hasIndexed();
+    /**
+     * <code>optional bool indexed = 5;</code>
+     *
+     * <pre>
+     * a MetadataIndex follows the files
+     * </pre>
+     */
+    boolean getIndexed();
+
+    // optional bool host_dictionary = 6;
+    /**
+     * <code>optional bool host_dictionary = 6;</code>
+     *
+     * <pre>
+     * a MetadataHosts follows the columns, affinities reference it by host
+     * </pre>
+     */
+    boolean hasHostDictionary();
+    /**
+     * <code>optional bool host_dictionary = 6;</code>
+     *
+     * <pre>
+     * a MetadataHosts follows the columns, affinities reference it by host
+     * </pre>
+     */
+    boolean getHostDictionary();
+
+    // optional .metadata.MetadataHeader.Compression compression = 7;
+    /**
+     * <code>optional .metadata.MetadataHeader.Compression compression = 7;</code>
+     *
+     * <pre>
+     * if set, the files are written in blocks of block_files records. Each block is its compressed size and
+     * uncompressed size as varints followed by the compressed records
+     * </pre>
+     */
+    boolean hasCompression();
+    /**
+     * <code>optional .metadata.MetadataHeader.Compression compression = 7;</code>
+     *
+     * <pre>
+     * if set, the files are written in blocks of block_files records. Each block is its compressed size and
+     * uncompressed size as varints followed by the compressed records
+     * </pre>
+     */
+    com.adeneche.metadata.Metadata.MetadataHeader.Compression getCompression();
+
+    // optional uint32 block_files = 8;
+    /**
+     * <code>optional uint32 block_files = 8;</code>
+     */
+    boolean hasBlockFiles();
+    /**
+     * <code>optional uint32 block_files = 8;</code>
+     */
+    int getBlockFiles();
+
+    // optional bool start_deltas = 9;
+    /**
+     * <code>optional bool start_deltas = 9;</code>
+     *
+     * <pre>
+     * row groups have a start_delta instead of a start
+     * </pre>
+     */
+    boolean hasStartDeltas();
+    /**
+     * <code>optional bool start_deltas = 9;</code>
+     *
+     * <pre>
+     * row groups have a start_delta instead of a start
+     * </pre>
+     */
+    boolean getStartDeltas();
+
+    // optional bool column_stats = 10;
+    /**
+     * <code>optional bool column_stats = 10;</code>
+     *
+     * <pre>
+     * files have column_stats instead of columns in their row groups
+     * </pre>
+     */
+    boolean hasColumnStats();
+    /**
+     * <code>optional bool column_stats = 10;</code>
+     *
+     * <pre>
+     * files have column_stats instead of columns in their row groups
+     * </pre>
+     */
+    boolean getColumnStats();
+
+    // optional bool relative_paths = 11;
+    /**
+     * <code>optional bool relative_paths = 11;</code>
+     *
+     * <pre>
+     * files may have a directory, their path is then relative to it
+     * </pre>
+     */
+    boolean hasRelativePaths();
+    /**
+     * <code>optional bool relative_paths = 11;</code>
+     *
+     * <pre>
+     * files may have a directory, their path is then relative to it
+     * </pre>
+     */
+    boolean getRelativePaths();
   }
   /**
    * Protobuf type {@code metadata.MetadataHeader}
@@ -110,6 +230,47 @@ public final class Metadata {
               directories_.add(input.readBytes());
               break;
             }
+            case 40: {
+              bitField0_ |= 0x00000002;
+              indexed_ = input.readBool();
+              break;
+            }
+            case 48: {
+              bitField0_ |= 0x00000004;
+              hostDictionary_ = input.readBool();
+              break;
+            }
+            case 56: {
+              int rawValue = input.readEnum();
+              com.adeneche.metadata.Metadata.MetadataHeader.Compression value = com.adeneche.metadata.Metadata.MetadataHeader.Compression.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(7, rawValue);
+              } else {
+                bitField0_ |= 0x00000008;
+                compression_ = value;
+              }
+              break;
+            }
+            case 64: {
+              bitField0_ |= 0x00000010;
+              blockFiles_ = input.readUInt32();
+              break;
+            }
+            case 72: {
+              bitField0_ |= 0x00000020;
+              startDeltas_ = input.readBool();
+              break;
+            }
+            case 80: {
+              bitField0_ |= 0x00000040;
+              columnStats_ = input.readBool();
+              break;
+            }
+            case 88: {
+              bitField0_ |= 0x00000080;
+              relativePaths_ = input.readBool();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -152,6 +313,96 @@ public final class Metadata {
       return PARSER;
     }
 
+    /**
+     * Protobuf enum {@code metadata.MetadataHeader.Compression}
+     */
+    public enum Compression
+        implements com.google.protobuf.ProtocolMessageEnum {
+      /**
+       * <code>NONE = 0;</code>
+       */
+      NONE(0, 0),
+      /**
+       * <code>DEFLATE = 1;</code>
+       *
+       * <pre>
+       * raw deflate stream, without zlib header
+       * </pre>
+       */
+      DEFLATE(1, 1),
+      ;
+
+      /**
+       * <code>NONE = 0;</code>
+       */
+      public static final int NONE_VALUE = 0;
+      /**
+       * <code>DEFLATE = 1;</code>
+       *
+       * <pre>
+       * raw deflate stream, without zlib header
+       * </pre>
+       */
+      public static final int DEFLATE_VALUE = 1;
+
+
+      public final int getNumber() { return value; }
+
+      public static Compression valueOf(int value) {
+        switch (value) {
+          case 0: return NONE;
+          case 1: return DEFLATE;
+          default: return null;
+        }
+      }
+
+      public static com.google.protobuf.Internal.EnumLiteMap<Compression>
+          internalGetValueMap() {
+        return internalValueMap;
+      }
+      private static com.google.protobuf.Internal.EnumLiteMap<Compression>
+          internalValueMap =
+            new com.google.protobuf.Internal.EnumLiteMap<Compression>() {
+              public Compression findValueByNumber(int number) {
+                return Compression.valueOf(number);
+              }
+            };
+
+      public final com.google.protobuf.Descriptors.EnumValueDescriptor
+          getValueDescriptor() {
+        return getDescriptor().getValues().get(index);
+      }
+      public final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptorForType() {
+        return getDescriptor();
+      }
+      public static final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptor() {
+        return com.adeneche.metadata.Metadata.MetadataHeader.getDescriptor().getEnumTypes().get(0);
+      }
+
+      private static final Compression[] VALUES = values();
+
+      public static Compression valueOf(
+          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+        if (desc.getType() != getDescriptor()) {
+          throw new java.lang.IllegalArgumentException(
+            "EnumValueDescriptor is not for this type.");
+        }
+        return VALUES[desc.getIndex()];
+      }
+
+      private final int index;
+      private final int value;
+
+      private Compression(int index, int value) {
+        this.index = index;
+        this.value = value;
+      }
+
+      // @@protoc_insertion_point(enum_scope:metadata.MetadataHeader.Compression)
+    }
+
     private int bitField0_;
     // required string metadata_version = 1;
     public static final int METADATA_VERSION_FIELD_NUMBER = 1;
@@ -226,9 +477,178 @@ public final class Metadata {
       return directories_.getByteString(index);
     }
 
+    // optional bool indexed = 5;
+    public static final int INDEXED_FIELD_NUMBER = 5;
+    private boolean indexed_;
+    /**
+     * <code>optional bool indexed = 5;</code>
+     *
+     * <pre>
+     * a MetadataIndex follows the files
+     * </pre>
+     */
+    public boolean hasIndexed() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional bool indexed = 5;</code>
+     *
+     * <pre>
+     * a MetadataIndex follows the files
+     * </pre>
+     */
+    public boolean getIndexed() {
+      return indexed_;
+    }
+
+    // optional bool host_dictionary = 6;
+    public static final int HOST_DICTIONARY_FIELD_NUMBER = 6;
+    private boolean hostDictionary_;
+    /**
+     * <code>optional bool host_dictionary = 6;</code>
+     *
+     * <pre>
+     * a MetadataHosts follows the columns, affinities reference it by host
+     * </pre>
+     */
+    public boolean hasHostDictionary() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional bool host_dictionary = 6;</code>
+     *
+     * <pre>
+     * a MetadataHosts follows the columns, affinities reference it by host
+     * </pre>
+     */
+    public boolean getHostDictionary() {
+      return hostDictionary_;
+    }
+
+    // optional .metadata.MetadataHeader.Compression compression = 7;
+    public static final int COMPRESSION_FIELD_NUMBER = 7;
+    private com.adeneche.metadata.Metadata.MetadataHeader.Compression compression_;
+    /**
+     * <code>optional .metadata.MetadataHeader.Compression compression = 7;</code>
+     *
+     * <pre>
+     * if set, the files are written in blocks of block_files records. Each block is its compressed size and
+     * uncompressed size as varints followed by the compressed records
+     * </pre>
+     */
+    public boolean hasCompression() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional .metadata.MetadataHeader.Compression compression = 7;</code>
+     *
+     * <pre>
+     * if set, the files are written in blocks of block_files records. Each block is its compressed size and
+     * uncompressed size as varints followed by the compressed records
+     * </pre>
+     */
+    public com.adeneche.metadata.Metadata.MetadataHeader.Compression getCompression() {
+      return compression_;
+    }
+
+    // optional uint32 block_files = 8;
+    public static final int BLOCK_FILES_FIELD_NUMBER = 8;
+    private int blockFiles_;
+    /**
+     * <code>optional uint32 block_files = 8;</code>
+     */
+    public boolean hasBlockFiles() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional uint32 block_files = 8;</code>
+     */
+    public int getBlockFiles() {
+      return blockFiles_;
+    }
+
+    // optional bool start_deltas = 9;
+    public static final int START_DELTAS_FIELD_NUMBER = 9;
+    private boolean startDeltas_;
+    /**
+     * <code>optional bool start_deltas = 9;</code>
+     *
+     * <pre>
+     * row groups have a start_delta instead of a start
+     * </pre>
+     */
+    public boolean hasStartDeltas() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional bool start_deltas = 9;</code>
+     *
+     * <pre>
+     * row groups have a start_delta instead of a start
+     * </pre>
+     */
+    public boolean getStartDeltas() {
+      return startDeltas_;
+    }
+
+    // optional bool column_stats = 10;
+    public static final int COLUMN_STATS_FIELD_NUMBER = 10;
+    private boolean columnStats_;
+    /**
+     * <code>optional bool column_stats = 10;</code>
+     *
+     * <pre>
+     * files have column_stats instead of columns in their row groups
+     * </pre>
+     */
+    public boolean hasColumnStats() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional bool column_stats = 10;</code>
+     *
+     * <pre>
+     * files have column_stats instead of columns in their row groups
+     * </pre>
+     */
+    public boolean getColumnStats() {
+      return columnStats_;
+    }
+
+    // optional bool relative_paths = 11;
+    public static final int RELATIVE_PATHS_FIELD_NUMBER = 11;
+    private boolean relativePaths_;
+    /**
+     * <code>optional bool relative_paths = 11;</code>
+     *
+     * <pre>
+     * files may have a directory, their path is then relative to it
+     * </pre>
+     */
+    public boolean hasRelativePaths() {
+      return ((bitField0_ & 0x00000080) == 0x00000080);
+    }
+    /**
+     * <code>optional bool relative_paths = 11;</code>
+     *
+     * <pre>
+     * files may have a directory, their path is then relative to it
+     * </pre>
+     */
+    public boolean getRelativePaths() {
+      return relativePaths_;
+    }
+
     private void initFields() {
       metadataVersion_ = "";
       directories_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      indexed_ = false;
+      hostDictionary_ = false;
+      compression_ = com.adeneche.metadata.Metadata.MetadataHeader.Compression.NONE;
+      blockFiles_ = 0;
+      startDeltas_ = false;
+      columnStats_ = false;
+      relativePaths_ = false;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -252,6 +672,27 @@ public final class Metadata {
       for (int i = 0; i < directories_.size(); i++) {
         output.writeBytes(4, directories_.getByteString(i));
       }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBool(5, indexed_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBool(6, hostDictionary_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeEnum(7, compression_.getNumber());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeUInt32(8, blockFiles_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeBool(9, startDeltas_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeBool(10, columnStats_);
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        output.writeBool(11, relativePaths_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -274,6 +715,34 @@ public final class Metadata {
         size += dataSize;
         size += 1 * getDirectoriesList().size();
       }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(5, indexed_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(6, hostDictionary_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(7, compression_.getNumber());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(8, blockFiles_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(9, startDeltas_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(10, columnStats_);
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(11, relativePaths_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -394,6 +863,20 @@ public final class Metadata {
         bitField0_ = (bitField0_ & ~0x00000001);
         directories_ = com.google.protobuf.LazyStringArrayList.EMPTY;
         bitField0_ = (bitField0_ & ~0x00000002);
+        indexed_ = false;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        hostDictionary_ = false;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        compression_ = com.adeneche.metadata.Metadata.MetadataHeader.Compression.NONE;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        blockFiles_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        startDeltas_ = false;
+        bitField0_ = (bitField0_ & ~0x00000040);
+        columnStats_ = false;
+        bitField0_ = (bitField0_ & ~0x00000080);
+        relativePaths_ = false;
+        bitField0_ = (bitField0_ & ~0x00000100);
         return this;
       }
 
@@ -432,6 +915,34 @@ public final class Metadata {
           bitField0_ = (bitField0_ & ~0x00000002);
         }
         result.directories_ = directories_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.indexed_ = indexed_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.hostDictionary_ = hostDictionary_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.compression_ = compression_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.blockFiles_ = blockFiles_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.startDeltas_ = startDeltas_;
+        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.columnStats_ = columnStats_;
+        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+          to_bitField0_ |= 0x00000080;
+        }
+        result.relativePaths_ = relativePaths_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -463,6 +974,27 @@ public final class Metadata {
           }
           onChanged();
         }
+        if (other.hasIndexed()) {
+          setIndexed(other.getIndexed());
+        }
+        if (other.hasHostDictionary()) {
+          setHostDictionary(other.getHostDictionary());
+        }
+        if (other.hasCompression()) {
+          setCompression(other.getCompression());
+        }
+        if (other.hasBlockFiles()) {
+          setBlockFiles(other.getBlockFiles());
+        }
+        if (other.hasStartDeltas()) {
+          setStartDeltas(other.getStartDeltas());
+        }
+        if (other.hasColumnStats()) {
+          setColumnStats(other.getColumnStats());
+        }
+        if (other.hasRelativePaths()) {
+          setRelativePaths(other.getRelativePaths());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -661,31 +1193,377 @@ public final class Metadata {
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:metadata.MetadataHeader)
-    }
+      // optional bool indexed = 5;
+      private boolean indexed_ ;
+      /**
+       * <code>optional bool indexed = 5;</code>
+       *
+       * <pre>
+       * a MetadataIndex follows the files
+       * </pre>
+       */
+      public boolean hasIndexed() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional bool indexed = 5;</code>
+       *
+       * <pre>
+       * a MetadataIndex follows the files
+       * </pre>
+       */
+      public boolean getIndexed() {
+        return indexed_;
+      }
+      /**
+       * <code>optional bool indexed = 5;</code>
+       *
+       * <pre>
+       * a MetadataIndex follows the files
+       * </pre>
+       */
+      public Builder setIndexed(boolean value) {
+        bitField0_ |= 0x00000004;
+        indexed_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool indexed = 5;</code>
+       *
+       * <pre>
+       * a MetadataIndex follows the files
+       * </pre>
+       */
+      public Builder clearIndexed() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        indexed_ = false;
+        onChanged();
+        return this;
+      }
 
-    static {
-      defaultInstance = new MetadataHeader(true);
-      defaultInstance.initFields();
-    }
+      // optional bool host_dictionary = 6;
+      private boolean hostDictionary_ ;
+      /**
+       * <code>optional bool host_dictionary = 6;</code>
+       *
+       * <pre>
+       * a MetadataHosts follows the columns, affinities reference it by host
+       * </pre>
+       */
+      public boolean hasHostDictionary() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional bool host_dictionary = 6;</code>
+       *
+       * <pre>
+       * a MetadataHosts follows the columns, affinities reference it by host
+       * </pre>
+       */
+      public boolean getHostDictionary() {
+        return hostDictionary_;
+      }
+      /**
+       * <code>optional bool host_dictionary = 6;</code>
+       *
+       * <pre>
+       * a MetadataHosts follows the columns, affinities reference it by host
+       * </pre>
+       */
+      public Builder setHostDictionary(boolean value) {
+        bitField0_ |= 0x00000008;
+        hostDictionary_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool host_dictionary = 6;</code>
+       *
+       * <pre>
+       * a MetadataHosts follows the columns, affinities reference it by host
+       * </pre>
+       */
+      public Builder clearHostDictionary() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        hostDictionary_ = false;
+        onChanged();
+        return this;
+      }
 
-    // @@protoc_insertion_point(class_scope:metadata.MetadataHeader)
-  }
+      // optional .metadata.MetadataHeader.Compression compression = 7;
+      private com.adeneche.metadata.Metadata.MetadataHeader.Compression compression_ = com.adeneche.metadata.Metadata.MetadataHeader.Compression.NONE;
+      /**
+       * <code>optional .metadata.MetadataHeader.Compression compression = 7;</code>
+       *
+       * <pre>
+       * if set, the files are written in blocks of block_files records. Each block is its compressed size and
+       * uncompressed size as varints followed by the compressed records
+       * </pre>
+       */
+      public boolean hasCompression() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional .metadata.MetadataHeader.Compression compression = 7;</code>
+       *
+       * <pre>
+       * if set, the files are written in blocks of block_files records. Each block is its compressed size and
+       * uncompressed size as varints followed by the compressed records
+       * </pre>
+       */
+      public com.adeneche.metadata.Metadata.MetadataHeader.Compression getCompression() {
+        return compression_;
+      }
+      /**
+       * <code>optional .metadata.MetadataHeader.Compression compression = 7;</code>
+       *
+       * <pre>
+       * if set, the files are written in blocks of block_files records. Each block is its compressed size and
+       * uncompressed size as varints followed by the compressed records
+       * </pre>
+       */
+      public Builder setCompression(com.adeneche.metadata.Metadata.MetadataHeader.Compression value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000010;
+        compression_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .metadata.MetadataHeader.Compression compression = 7;</code>
+       *
+       * <pre>
+       * if set, the files are written in blocks of block_files records. Each block is its compressed size and
+       * uncompressed size as varints followed by the compressed records
+       * </pre>
+       */
+      public Builder clearCompression() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        compression_ = com.adeneche.metadata.Metadata.MetadataHeader.Compression.NONE;
+        onChanged();
+        return this;
+      }
 
-  public interface ParquetFileMetadataOrBuilder
-      extends com.google.protobuf.MessageOrBuilder {
+      // optional uint32 block_files = 8;
+      private int blockFiles_ ;
+      /**
+       * <code>optional uint32 block_files = 8;</code>
+       */
+      public boolean hasBlockFiles() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional uint32 block_files = 8;</code>
+       */
+      public int getBlockFiles() {
+        return blockFiles_;
+      }
+      /**
+       * <code>optional uint32 block_files = 8;</code>
+       */
+      public Builder setBlockFiles(int value) {
+        bitField0_ |= 0x00000020;
+        blockFiles_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 block_files = 8;</code>
+       */
+      public Builder clearBlockFiles() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        blockFiles_ = 0;
+        onChanged();
+        return this;
+      }
 
-    // optional string path = 1;
-    /**
-     * <code>optional string path = 1;</code>
-     */
+      // optional bool start_deltas = 9;
+      private boolean startDeltas_ ;
+      /**
+       * <code>optional bool start_deltas = 9;</code>
+       *
+       * <pre>
+       * row groups have a start_delta instead of a start
+       * </pre>
+       */
+      public boolean hasStartDeltas() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional bool start_deltas = 9;</code>
+       *
+       * <pre>
+       * row groups have a start_delta instead of a start
+       * </pre>
+       */
+      public boolean getStartDeltas() {
+        return startDeltas_;
+      }
+      /**
+       * <code>optional bool start_deltas = 9;</code>
+       *
+       * <pre>
+       * row groups have a start_delta instead of a start
+       * </pre>
+       */
+      public Builder setStartDeltas(boolean value) {
+        bitField0_ |= 0x00000040;
+        startDeltas_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool start_deltas = 9;</code>
+       *
+       * <pre>
+       * row groups have a start_delta instead of a start
+       * </pre>
+       */
+      public Builder clearStartDeltas() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        startDeltas_ = false;
+        onChanged();
+        return this;
+      }
+
+      // optional bool column_stats = 10;
+      private boolean columnStats_ ;
+      /**
+       * <code>optional bool column_stats = 10;</code>
+       *
+       * <pre>
+       * files have column_stats instead of columns in their row groups
+       * </pre>
+       */
+      public boolean hasColumnStats() {
+        return ((bitField0_ & 0x00000080) == 0x00000080);
+      }
+      /**
+       * <code>optional bool column_stats = 10;</code>
+       *
+       * <pre>
+       * files have column_stats instead of columns in their row groups
+       * </pre>
+       */
+      public boolean getColumnStats() {
+        return columnStats_;
+      }
+      /**
+       * <code>optional bool column_stats = 10;</code>
+       *
+       * <pre>
+       * files have column_stats instead of columns in their row groups
+       * </pre>
+       */
+      public Builder setColumnStats(boolean value) {
+        bitField0_ |= 0x00000080;
+        columnStats_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool column_stats = 10;</code>
+       *
+       * <pre>
+       * files have column_stats instead of columns in their row groups
+       * </pre>
+       */
+      public Builder clearColumnStats() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        columnStats_ = false;
+        onChanged();
+        return this;
+      }
+
+      // optional bool relative_paths = 11;
+      private boolean relativePaths_ ;
+      /**
+       * <code>optional bool relative_paths = 11;</code>
+       *
+       * <pre>
+       * files may have a directory, their path is then relative to it
+       * </pre>
+       */
+      public boolean hasRelativePaths() {
+        return ((bitField0_ & 0x00000100) == 0x00000100);
+      }
+      /**
+       * <code>optional bool relative_paths = 11;</code>
+       *
+       * <pre>
+       * files may have a directory, their path is then relative to it
+       * </pre>
+       */
+      public boolean getRelativePaths() {
+        return relativePaths_;
+      }
+      /**
+       * <code>optional bool relative_paths = 11;</code>
+       *
+       * <pre>
+       * files may have a directory, their path is then relative to it
+       * </pre>
+       */
+      public Builder setRelativePaths(boolean value) {
+        bitField0_ |= 0x00000100;
+        relativePaths_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool relative_paths = 11;</code>
+       *
+       * <pre>
+       * files may have a directory, their path is then relative to it
+       * </pre>
+       */
+      public Builder clearRelativePaths() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        relativePaths_ = false;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:metadata.MetadataHeader)
+    }
+
+    static {
+      defaultInstance = new MetadataHeader(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:metadata.MetadataHeader)
+  }
+
+  public interface ParquetFileMetadataOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional string path = 1;
+    /**
+     * <code>optional string path = 1;</code>
+     *
+     * <pre>
+     * relative to the directory if it is set
+     * </pre>
+     */
     boolean hasPath();
     /**
      * <code>optional string path = 1;</code>
+     *
+     * <pre>
+     * relative to the directory if it is set
+     * </pre>
      */
     java.lang.String getPath();
     /**
      * <code>optional string path = 1;</code>
+     *
+     * <pre>
+     * relative to the directory if it is set
+     * </pre>
      */
     com.google.protobuf.ByteString
         getPathBytes();
@@ -724,6 +1602,69 @@ public final class Metadata {
      */
     com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroupOrBuilder getRowGroupsOrBuilder(
         int index);
+
+    // optional uint32 directory = 4;
+    /**
+     * <code>optional uint32 directory = 4;</code>
+     *
+     * <pre>
+     * index in the header's directories of the deepest one containing the file
+     * </pre>
+     */
+    boolean hasDirectory();
+    /**
+     * <code>optional uint32 directory = 4;</code>
+     *
+     * <pre>
+     * index in the header's directories of the deepest one containing the file
+     * </pre>
+     */
+    int getDirectory();
+
+    // repeated .metadata.ParquetFileMetadata.ColumnStats column_stats = 5;
+    /**
+     * <code>repeated .metadata.ParquetFileMetadata.ColumnStats column_stats = 5;</code>
+     *
+     * <pre>
+     * only used if the header has column_stats
+     * </pre>
+     */
+    java.util.List<com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats> 
+        getColumnStatsList();
+    /**
+     * <code>repeated .metadata.ParquetFileMetadata.ColumnStats column_stats = 5;</code>
+     *
+     * <pre>
+     * only used if the header has column_stats
+     * </pre>
+     */
+    com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats getColumnStats(int index);
+    /**
+     * <code>repeated .metadata.ParquetFileMetadata.ColumnStats column_stats = 5;</code>
+     *
+     * <pre>
+     * only used if the header has column_stats
+     * </pre>
+     */
+    int getColumnStatsCount();
+    /**
+     * <code>repeated .metadata.ParquetFileMetadata.ColumnStats column_stats = 5;</code>
+     *
+     * <pre>
+     * only used if the header has column_stats
+     * </pre>
+     */
+    java.util.List<? extends com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStatsOrBuilder> 
+        getColumnStatsOrBuilderList();
+    /**
+     * <code>repeated .metadata.ParquetFileMetadata.ColumnStats column_stats = 5;</code>
+     *
+     * <pre>
+     * only used if the header has column_stats
+     * </pre>
+     */
+    com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStatsOrBuilder getColumnStatsOrBuilder(
+        int index);
   }
   /**
    * Protobuf type {@code metadata.ParquetFileMetadata}
@@ -794,6 +1735,19 @@ public final class Metadata {
               rowGroups_.add(input.readMessage(com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.PARSER, extensionRegistry));
               break;
             }
+            case 32: {
+              bitField0_ |= 0x00000004;
+              directory_ = input.readUInt32();
+              break;
+            }
+            case 42: {
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                columnStats_ = new java.util.ArrayList<com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              columnStats_.add(input.readMessage(com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats.PARSER, extensionRegistry));
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -805,6 +1759,9 @@ public final class Metadata {
         if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
           rowGroups_ = java.util.Collections.unmodifiableList(rowGroups_);
         }
+        if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+          columnStats_ = java.util.Collections.unmodifiableList(columnStats_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
@@ -842,10 +1799,18 @@ public final class Metadata {
       // optional uint64 start = 1;
       /**
        * <code>optional uint64 start = 1;</code>
+       *
+       * <pre>
+       * only used if the header has no start_deltas
+       * </pre>
        */
       boolean hasStart();
       /**
        * <code>optional uint64 start = 1;</code>
+       *
+       * <pre>
+       * only used if the header has no start_deltas
+       * </pre>
        */
       long getStart();
 
@@ -869,6 +1834,26 @@ public final class Metadata {
        */
       long getRowCount();
 
+      // optional sint64 start_delta = 6;
+      /**
+       * <code>optional sint64 start_delta = 6;</code>
+       *
+       * <pre>
+       * start minus the end of the previous row group, or minus 4 for the first one. Usually 0 as the row groups
+       * of a file are contiguous, and not written then
+       * </pre>
+       */
+      boolean hasStartDelta();
+      /**
+       * <code>optional sint64 start_delta = 6;</code>
+       *
+       * <pre>
+       * start minus the end of the previous row group, or minus 4 for the first one. Usually 0 as the row groups
+       * of a file are contiguous, and not written then
+       * </pre>
+       */
+      long getStartDelta();
+
       // repeated .metadata.ParquetFileMetadata.RowGroup.HostAffinity affinities = 4;
       /**
        * <code>repeated .metadata.ParquetFileMetadata.RowGroup.HostAffinity affinities = 4;</code>
@@ -986,21 +1971,26 @@ public final class Metadata {
                 break;
               }
               case 34: {
-                if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
                   affinities_ = new java.util.ArrayList<com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.HostAffinity>();
-                  mutable_bitField0_ |= 0x00000008;
+                  mutable_bitField0_ |= 0x00000010;
                 }
                 affinities_.add(input.readMessage(com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.HostAffinity.PARSER, extensionRegistry));
                 break;
               }
               case 42: {
-                if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                if (!((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
                   columns_ = new java.util.ArrayList<com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.ColumnMetadata>();
-                  mutable_bitField0_ |= 0x00000010;
+                  mutable_bitField0_ |= 0x00000020;
                 }
                 columns_.add(input.readMessage(com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.ColumnMetadata.PARSER, extensionRegistry));
                 break;
               }
+              case 48: {
+                bitField0_ |= 0x00000008;
+                startDelta_ = input.readSInt64();
+                break;
+              }
             }
           }
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -1009,10 +1999,10 @@ public final class Metadata {
           throw new com.google.protobuf.InvalidProtocolBufferException(
               e.getMessage()).setUnfinishedMessage(this);
         } finally {
-          if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
             affinities_ = java.util.Collections.unmodifiableList(affinities_);
           }
-          if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+          if (((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
             columns_ = java.util.Collections.unmodifiableList(columns_);
           }
           this.unknownFields = unknownFields.build();
@@ -1052,14 +2042,26 @@ public final class Metadata {
         // optional string key = 1;
         /**
          * <code>optional string key = 1;</code>
+         *
+         * <pre>
+         * only used if the header has no host_dictionary
+         * </pre>
          */
         boolean hasKey();
         /**
          * <code>optional string key = 1;</code>
+         *
+         * <pre>
+         * only used if the header has no host_dictionary
+         * </pre>
          */
         java.lang.String getKey();
         /**
          * <code>optional string key = 1;</code>
+         *
+         * <pre>
+         * only used if the header has no host_dictionary
+         * </pre>
          */
         com.google.protobuf.ByteString
             getKeyBytes();
@@ -1073,6 +2075,24 @@ public final class Metadata {
          * <code>optional float value = 2;</code>
          */
         float getValue();
+
+        // optional uint32 host = 3;
+        /**
+         * <code>optional uint32 host = 3;</code>
+         *
+         * <pre>
+         * index of the host in MetadataHosts
+         * </pre>
+         */
+        boolean hasHost();
+        /**
+         * <code>optional uint32 host = 3;</code>
+         *
+         * <pre>
+         * index of the host in MetadataHosts
+         * </pre>
+         */
+        int getHost();
       }
       /**
        * Protobuf type {@code metadata.ParquetFileMetadata.RowGroup.HostAffinity}
@@ -1135,6 +2155,11 @@ public final class Metadata {
                   value_ = input.readFloat();
                   break;
                 }
+                case 24: {
+                  bitField0_ |= 0x00000004;
+                  host_ = input.readUInt32();
+                  break;
+                }
               }
             }
           } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -1180,12 +2205,20 @@ public final class Metadata {
         private java.lang.Object key_;
         /**
          * <code>optional string key = 1;</code>
+         *
+         * <pre>
+         * only used if the header has no host_dictionary
+         * </pre>
          */
         public boolean hasKey() {
           return ((bitField0_ & 0x00000001) == 0x00000001);
         }
         /**
          * <code>optional string key = 1;</code>
+         *
+         * <pre>
+         * only used if the header has no host_dictionary
+         * </pre>
          */
         public java.lang.String getKey() {
           java.lang.Object ref = key_;
@@ -1203,6 +2236,10 @@ public final class Metadata {
         }
         /**
          * <code>optional string key = 1;</code>
+         *
+         * <pre>
+         * only used if the header has no host_dictionary
+         * </pre>
          */
         public com.google.protobuf.ByteString
             getKeyBytes() {
@@ -1234,9 +2271,34 @@ public final class Metadata {
           return value_;
         }
 
+        // optional uint32 host = 3;
+        public static final int HOST_FIELD_NUMBER = 3;
+        private int host_;
+        /**
+         * <code>optional uint32 host = 3;</code>
+         *
+         * <pre>
+         * index of the host in MetadataHosts
+         * </pre>
+         */
+        public boolean hasHost() {
+          return ((bitField0_ & 0x00000004) == 0x00000004);
+        }
+        /**
+         * <code>optional uint32 host = 3;</code>
+         *
+         * <pre>
+         * index of the host in MetadataHosts
+         * </pre>
+         */
+        public int getHost() {
+          return host_;
+        }
+
         private void initFields() {
           key_ = "";
           value_ = 0F;
+          host_ = 0;
         }
         private byte memoizedIsInitialized = -1;
         public final boolean isInitialized() {
@@ -1256,6 +2318,9 @@ public final class Metadata {
           if (((bitField0_ & 0x00000002) == 0x00000002)) {
             output.writeFloat(2, value_);
           }
+          if (((bitField0_ & 0x00000004) == 0x00000004)) {
+            output.writeUInt32(3, host_);
+          }
           getUnknownFields().writeTo(output);
         }
 
@@ -1273,6 +2338,10 @@ public final class Metadata {
             size += com.google.protobuf.CodedOutputStream
               .computeFloatSize(2, value_);
           }
+          if (((bitField0_ & 0x00000004) == 0x00000004)) {
+            size += com.google.protobuf.CodedOutputStream
+              .computeUInt32Size(3, host_);
+          }
           size += getUnknownFields().getSerializedSize();
           memoizedSerializedSize = size;
           return size;
@@ -1393,6 +2462,8 @@ public final class Metadata {
             bitField0_ = (bitField0_ & ~0x00000001);
             value_ = 0F;
             bitField0_ = (bitField0_ & ~0x00000002);
+            host_ = 0;
+            bitField0_ = (bitField0_ & ~0x00000004);
             return this;
           }
 
@@ -1429,6 +2500,10 @@ public final class Metadata {
               to_bitField0_ |= 0x00000002;
             }
             result.value_ = value_;
+            if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+              to_bitField0_ |= 0x00000004;
+            }
+            result.host_ = host_;
             result.bitField0_ = to_bitField0_;
             onBuilt();
             return result;
@@ -1453,6 +2528,9 @@ public final class Metadata {
             if (other.hasValue()) {
               setValue(other.getValue());
             }
+            if (other.hasHost()) {
+              setHost(other.getHost());
+            }
             this.mergeUnknownFields(other.getUnknownFields());
             return this;
           }
@@ -1484,12 +2562,20 @@ public final class Metadata {
           private java.lang.Object key_ = "";
           /**
            * <code>optional string key = 1;</code>
+           *
+           * <pre>
+           * only used if the header has no host_dictionary
+           * </pre>
            */
           public boolean hasKey() {
             return ((bitField0_ & 0x00000001) == 0x00000001);
           }
           /**
            * <code>optional string key = 1;</code>
+           *
+           * <pre>
+           * only used if the header has no host_dictionary
+           * </pre>
            */
           public java.lang.String getKey() {
             java.lang.Object ref = key_;
@@ -1504,6 +2590,10 @@ public final class Metadata {
           }
           /**
            * <code>optional string key = 1;</code>
+           *
+           * <pre>
+           * only used if the header has no host_dictionary
+           * </pre>
            */
           public com.google.protobuf.ByteString
               getKeyBytes() {
@@ -1520,6 +2610,10 @@ public final class Metadata {
           }
           /**
            * <code>optional string key = 1;</code>
+           *
+           * <pre>
+           * only used if the header has no host_dictionary
+           * </pre>
            */
           public Builder setKey(
               java.lang.String value) {
@@ -1533,6 +2627,10 @@ public final class Metadata {
           }
           /**
            * <code>optional string key = 1;</code>
+           *
+           * <pre>
+           * only used if the header has no host_dictionary
+           * </pre>
            */
           public Builder clearKey() {
             bitField0_ = (bitField0_ & ~0x00000001);
@@ -1542,6 +2640,10 @@ public final class Metadata {
           }
           /**
            * <code>optional string key = 1;</code>
+           *
+           * <pre>
+           * only used if the header has no host_dictionary
+           * </pre>
            */
           public Builder setKeyBytes(
               com.google.protobuf.ByteString value) {
@@ -1587,6 +2689,55 @@ public final class Metadata {
             return this;
           }
 
+          // optional uint32 host = 3;
+          private int host_ ;
+          /**
+           * <code>optional uint32 host = 3;</code>
+           *
+           * <pre>
+           * index of the host in MetadataHosts
+           * </pre>
+           */
+          public boolean hasHost() {
+            return ((bitField0_ & 0x00000004) == 0x00000004);
+          }
+          /**
+           * <code>optional uint32 host = 3;</code>
+           *
+           * <pre>
+           * index of the host in MetadataHosts
+           * </pre>
+           */
+          public int getHost() {
+            return host_;
+          }
+          /**
+           * <code>optional uint32 host = 3;</code>
+           *
+           * <pre>
+           * index of the host in MetadataHosts
+           * </pre>
+           */
+          public Builder setHost(int value) {
+            bitField0_ |= 0x00000004;
+            host_ = value;
+            onChanged();
+            return this;
+          }
+          /**
+           * <code>optional uint32 host = 3;</code>
+           *
+           * <pre>
+           * index of the host in MetadataHosts
+           * </pre>
+           */
+          public Builder clearHost() {
+            bitField0_ = (bitField0_ & ~0x00000004);
+            host_ = 0;
+            onChanged();
+            return this;
+          }
+
           // @@protoc_insertion_point(builder_scope:metadata.ParquetFileMetadata.RowGroup.HostAffinity)
         }
 
@@ -2610,12 +3761,20 @@ public final class Metadata {
       private long start_;
       /**
        * <code>optional uint64 start = 1;</code>
+       *
+       * <pre>
+       * only used if the header has no start_deltas
+       * </pre>
        */
       public boolean hasStart() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
        * <code>optional uint64 start = 1;</code>
+       *
+       * <pre>
+       * only used if the header has no start_deltas
+       * </pre>
        */
       public long getStart() {
         return start_;
@@ -2653,6 +3812,32 @@ public final class Metadata {
         return rowCount_;
       }
 
+      // optional sint64 start_delta = 6;
+      public static final int START_DELTA_FIELD_NUMBER = 6;
+      private long startDelta_;
+      /**
+       * <code>optional sint64 start_delta = 6;</code>
+       *
+       * <pre>
+       * start minus the end of the previous row group, or minus 4 for the first one. Usually 0 as the row groups
+       * of a file are contiguous, and not written then
+       * </pre>
+       */
+      public boolean hasStartDelta() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional sint64 start_delta = 6;</code>
+       *
+       * <pre>
+       * start minus the end of the previous row group, or minus 4 for the first one. Usually 0 as the row groups
+       * of a file are contiguous, and not written then
+       * </pre>
+       */
+      public long getStartDelta() {
+        return startDelta_;
+      }
+
       // repeated .metadata.ParquetFileMetadata.RowGroup.HostAffinity affinities = 4;
       public static final int AFFINITIES_FIELD_NUMBER = 4;
       private java.util.List<com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.HostAffinity> affinities_;
@@ -2729,6 +3914,7 @@ public final class Metadata {
         start_ = 0L;
         length_ = 0L;
         rowCount_ = 0L;
+        startDelta_ = 0L;
         affinities_ = java.util.Collections.emptyList();
         columns_ = java.util.Collections.emptyList();
       }
@@ -2765,6 +3951,9 @@ public final class Metadata {
         for (int i = 0; i < columns_.size(); i++) {
           output.writeMessage(5, columns_.get(i));
         }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          output.writeSInt64(6, startDelta_);
+        }
         getUnknownFields().writeTo(output);
       }
 
@@ -2794,6 +3983,10 @@ public final class Metadata {
           size += com.google.protobuf.CodedOutputStream
             .computeMessageSize(5, columns_.get(i));
         }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeSInt64Size(6, startDelta_);
+        }
         size += getUnknownFields().getSerializedSize();
         memoizedSerializedSize = size;
         return size;
@@ -2918,15 +4111,17 @@ public final class Metadata {
           bitField0_ = (bitField0_ & ~0x00000002);
           rowCount_ = 0L;
           bitField0_ = (bitField0_ & ~0x00000004);
+          startDelta_ = 0L;
+          bitField0_ = (bitField0_ & ~0x00000008);
           if (affinitiesBuilder_ == null) {
             affinities_ = java.util.Collections.emptyList();
-            bitField0_ = (bitField0_ & ~0x00000008);
+            bitField0_ = (bitField0_ & ~0x00000010);
           } else {
             affinitiesBuilder_.clear();
           }
           if (columnsBuilder_ == null) {
             columns_ = java.util.Collections.emptyList();
-            bitField0_ = (bitField0_ & ~0x00000010);
+            bitField0_ = (bitField0_ & ~0x00000020);
           } else {
             columnsBuilder_.clear();
           }
@@ -2970,19 +4165,23 @@ public final class Metadata {
             to_bitField0_ |= 0x00000004;
           }
           result.rowCount_ = rowCount_;
+          if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+            to_bitField0_ |= 0x00000008;
+          }
+          result.startDelta_ = startDelta_;
           if (affinitiesBuilder_ == null) {
-            if (((bitField0_ & 0x00000008) == 0x00000008)) {
+            if (((bitField0_ & 0x00000010) == 0x00000010)) {
               affinities_ = java.util.Collections.unmodifiableList(affinities_);
-              bitField0_ = (bitField0_ & ~0x00000008);
+              bitField0_ = (bitField0_ & ~0x00000010);
             }
             result.affinities_ = affinities_;
           } else {
             result.affinities_ = affinitiesBuilder_.build();
           }
           if (columnsBuilder_ == null) {
-            if (((bitField0_ & 0x00000010) == 0x00000010)) {
+            if (((bitField0_ & 0x00000020) == 0x00000020)) {
               columns_ = java.util.Collections.unmodifiableList(columns_);
-              bitField0_ = (bitField0_ & ~0x00000010);
+              bitField0_ = (bitField0_ & ~0x00000020);
             }
             result.columns_ = columns_;
           } else {
@@ -3013,11 +4212,14 @@ public final class Metadata {
           if (other.hasRowCount()) {
             setRowCount(other.getRowCount());
           }
+          if (other.hasStartDelta()) {
+            setStartDelta(other.getStartDelta());
+          }
           if (affinitiesBuilder_ == null) {
             if (!other.affinities_.isEmpty()) {
               if (affinities_.isEmpty()) {
                 affinities_ = other.affinities_;
-                bitField0_ = (bitField0_ & ~0x00000008);
+                bitField0_ = (bitField0_ & ~0x00000010);
               } else {
                 ensureAffinitiesIsMutable();
                 affinities_.addAll(other.affinities_);
@@ -3030,7 +4232,7 @@ public final class Metadata {
                 affinitiesBuilder_.dispose();
                 affinitiesBuilder_ = null;
                 affinities_ = other.affinities_;
-                bitField0_ = (bitField0_ & ~0x00000008);
+                bitField0_ = (bitField0_ & ~0x00000010);
                 affinitiesBuilder_ = 
                   com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
                      getAffinitiesFieldBuilder() : null;
@@ -3043,7 +4245,7 @@ public final class Metadata {
             if (!other.columns_.isEmpty()) {
               if (columns_.isEmpty()) {
                 columns_ = other.columns_;
-                bitField0_ = (bitField0_ & ~0x00000010);
+                bitField0_ = (bitField0_ & ~0x00000020);
               } else {
                 ensureColumnsIsMutable();
                 columns_.addAll(other.columns_);
@@ -3056,7 +4258,7 @@ public final class Metadata {
                 columnsBuilder_.dispose();
                 columnsBuilder_ = null;
                 columns_ = other.columns_;
-                bitField0_ = (bitField0_ & ~0x00000010);
+                bitField0_ = (bitField0_ & ~0x00000020);
                 columnsBuilder_ = 
                   com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
                      getColumnsFieldBuilder() : null;
@@ -3102,18 +4304,30 @@ public final class Metadata {
         private long start_ ;
         /**
          * <code>optional uint64 start = 1;</code>
+         *
+         * <pre>
+         * only used if the header has no start_deltas
+         * </pre>
          */
         public boolean hasStart() {
           return ((bitField0_ & 0x00000001) == 0x00000001);
         }
         /**
          * <code>optional uint64 start = 1;</code>
+         *
+         * <pre>
+         * only used if the header has no start_deltas
+         * </pre>
          */
         public long getStart() {
           return start_;
         }
         /**
          * <code>optional uint64 start = 1;</code>
+         *
+         * <pre>
+         * only used if the header has no start_deltas
+         * </pre>
          */
         public Builder setStart(long value) {
           bitField0_ |= 0x00000001;
@@ -3123,6 +4337,10 @@ public final class Metadata {
         }
         /**
          * <code>optional uint64 start = 1;</code>
+         *
+         * <pre>
+         * only used if the header has no start_deltas
+         * </pre>
          */
         public Builder clearStart() {
           bitField0_ = (bitField0_ & ~0x00000001);
@@ -3197,15 +4415,68 @@ public final class Metadata {
           return this;
         }
 
-        // repeated .metadata.ParquetFileMetadata.RowGroup.HostAffinity affinities = 4;
-        private java.util.List<com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.HostAffinity> affinities_ =
-          java.util.Collections.emptyList();
-        private void ensureAffinitiesIsMutable() {
-          if (!((bitField0_ & 0x00000008) == 0x00000008)) {
-            affinities_ = new java.util.ArrayList<com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.HostAffinity>(affinities_);
-            bitField0_ |= 0x00000008;
-           }
-        }
+        // optional sint64 start_delta = 6;
+        private long startDelta_ ;
+        /**
+         * <code>optional sint64 start_delta = 6;</code>
+         *
+         * <pre>
+         * start minus the end of the previous row group, or minus 4 for the first one. Usually 0 as the row groups
+         * of a file are contiguous, and not written then
+         * </pre>
+         */
+        public boolean hasStartDelta() {
+          return ((bitField0_ & 0x00000008) == 0x00000008);
+        }
+        /**
+         * <code>optional sint64 start_delta = 6;</code>
+         *
+         * <pre>
+         * start minus the end of the previous row group, or minus 4 for the first one. Usually 0 as the row groups
+         * of a file are contiguous, and not written then
+         * </pre>
+         */
+        public long getStartDelta() {
+          return startDelta_;
+        }
+        /**
+         * <code>optional sint64 start_delta = 6;</code>
+         *
+         * <pre>
+         * start minus the end of the previous row group, or minus 4 for the first one. Usually 0 as the row groups
+         * of a file are contiguous, and not written then
+         * </pre>
+         */
+        public Builder setStartDelta(long value) {
+          bitField0_ |= 0x00000008;
+          startDelta_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional sint64 start_delta = 6;</code>
+         *
+         * <pre>
+         * start minus the end of the previous row group, or minus 4 for the first one. Usually 0 as the row groups
+         * of a file are contiguous, and not written then
+         * </pre>
+         */
+        public Builder clearStartDelta() {
+          bitField0_ = (bitField0_ & ~0x00000008);
+          startDelta_ = 0L;
+          onChanged();
+          return this;
+        }
+
+        // repeated .metadata.ParquetFileMetadata.RowGroup.HostAffinity affinities = 4;
+        private java.util.List<com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.HostAffinity> affinities_ =
+          java.util.Collections.emptyList();
+        private void ensureAffinitiesIsMutable() {
+          if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+            affinities_ = new java.util.ArrayList<com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.HostAffinity>(affinities_);
+            bitField0_ |= 0x00000010;
+           }
+        }
 
         private com.google.protobuf.RepeatedFieldBuilder<
             com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.HostAffinity, com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.HostAffinity.Builder, com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.HostAffinityOrBuilder> affinitiesBuilder_;
@@ -3352,7 +4623,7 @@ public final class Metadata {
         public Builder clearAffinities() {
           if (affinitiesBuilder_ == null) {
             affinities_ = java.util.Collections.emptyList();
-            bitField0_ = (bitField0_ & ~0x00000008);
+            bitField0_ = (bitField0_ & ~0x00000010);
             onChanged();
           } else {
             affinitiesBuilder_.clear();
@@ -3429,7 +4700,7 @@ public final class Metadata {
             affinitiesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
                 com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.HostAffinity, com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.HostAffinity.Builder, com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.HostAffinityOrBuilder>(
                     affinities_,
-                    ((bitField0_ & 0x00000008) == 0x00000008),
+                    ((bitField0_ & 0x00000010) == 0x00000010),
                     getParentForChildren(),
                     isClean());
             affinities_ = null;
@@ -3441,9 +4712,9 @@ public final class Metadata {
         private java.util.List<com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.ColumnMetadata> columns_ =
           java.util.Collections.emptyList();
         private void ensureColumnsIsMutable() {
-          if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          if (!((bitField0_ & 0x00000020) == 0x00000020)) {
             columns_ = new java.util.ArrayList<com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.ColumnMetadata>(columns_);
-            bitField0_ |= 0x00000010;
+            bitField0_ |= 0x00000020;
            }
         }
 
@@ -3592,7 +4863,7 @@ public final class Metadata {
         public Builder clearColumns() {
           if (columnsBuilder_ == null) {
             columns_ = java.util.Collections.emptyList();
-            bitField0_ = (bitField0_ & ~0x00000010);
+            bitField0_ = (bitField0_ & ~0x00000020);
             onChanged();
           } else {
             columnsBuilder_.clear();
@@ -3669,7 +4940,7 @@ public final class Metadata {
             columnsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
                 com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.ColumnMetadata, com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.ColumnMetadata.Builder, com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.ColumnMetadataOrBuilder>(
                     columns_,
-                    ((bitField0_ & 0x00000010) == 0x00000010),
+                    ((bitField0_ & 0x00000020) == 0x00000020),
                     getParentForChildren(),
                     isClean());
             columns_ = null;
@@ -3688,1966 +4959,5898 @@ public final class Metadata {
       // @@protoc_insertion_point(class_scope:metadata.ParquetFileMetadata.RowGroup)
     }
 
-    private int bitField0_;
-    // optional string path = 1;
-    public static final int PATH_FIELD_NUMBER = 1;
-    private java.lang.Object path_;
-    /**
-     * <code>optional string path = 1;</code>
-     */
-    public boolean hasPath() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
-    }
-    /**
-     * <code>optional string path = 1;</code>
-     */
-    public java.lang.String getPath() {
-      java.lang.Object ref = path_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          path_ = s;
-        }
-        return s;
-      }
-    }
-    /**
-     * <code>optional string path = 1;</code>
-     */
-    public com.google.protobuf.ByteString
-        getPathBytes() {
-      java.lang.Object ref = path_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        path_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
+    public interface ColumnStatsOrBuilder
+        extends com.google.protobuf.MessageOrBuilder {
 
-    // optional uint64 length = 2;
-    public static final int LENGTH_FIELD_NUMBER = 2;
-    private long length_;
-    /**
-     * <code>optional uint64 length = 2;</code>
-     */
-    public boolean hasLength() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
-    }
-    /**
-     * <code>optional uint64 length = 2;</code>
-     */
-    public long getLength() {
-      return length_;
-    }
+      // required uint32 name = 1;
+      /**
+       * <code>required uint32 name = 1;</code>
+       */
+      boolean hasName();
+      /**
+       * <code>required uint32 name = 1;</code>
+       */
+      int getName();
 
-    // repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;
-    public static final int ROWGROUPS_FIELD_NUMBER = 3;
-    private java.util.List<com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup> rowGroups_;
-    /**
-     * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
-     */
-    public java.util.List<com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup> getRowGroupsList() {
-      return rowGroups_;
-    }
-    /**
-     * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
-     */
-    public java.util.List<? extends com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroupOrBuilder> 
-        getRowGroupsOrBuilderList() {
-      return rowGroups_;
-    }
-    /**
-     * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
-     */
-    public int getRowGroupsCount() {
-      return rowGroups_.size();
-    }
-    /**
-     * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
-     */
-    public com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup getRowGroups(int index) {
-      return rowGroups_.get(index);
+      // optional bytes present = 2;
+      /**
+       * <code>optional bytes present = 2;</code>
+       *
+       * <pre>
+       * over the row groups of the file, set if the row group has the column
+       * </pre>
+       */
+      boolean hasPresent();
+      /**
+       * <code>optional bytes present = 2;</code>
+       *
+       * <pre>
+       * over the row groups of the file, set if the row group has the column
+       * </pre>
+       */
+      com.google.protobuf.ByteString getPresent();
+
+      // optional bytes has_nulls = 3;
+      /**
+       * <code>optional bytes has_nulls = 3;</code>
+       *
+       * <pre>
+       * over the row groups that have the column
+       * </pre>
+       */
+      boolean hasHasNulls();
+      /**
+       * <code>optional bytes has_nulls = 3;</code>
+       *
+       * <pre>
+       * over the row groups that have the column
+       * </pre>
+       */
+      com.google.protobuf.ByteString getHasNulls();
+
+      // optional bytes has_max = 4;
+      /**
+       * <code>optional bytes has_max = 4;</code>
+       *
+       * <pre>
+       * over the row groups that have the column
+       * </pre>
+       */
+      boolean hasHasMax();
+      /**
+       * <code>optional bytes has_max = 4;</code>
+       *
+       * <pre>
+       * over the row groups that have the column
+       * </pre>
+       */
+      com.google.protobuf.ByteString getHasMax();
+
+      // repeated uint64 nulls = 5 [packed = true];
+      /**
+       * <code>repeated uint64 nulls = 5 [packed = true];</code>
+       *
+       * <pre>
+       * of the row groups that have nulls
+       * </pre>
+       */
+      java.util.List<java.lang.Long> getNullsList();
+      /**
+       * <code>repeated uint64 nulls = 5 [packed = true];</code>
+       *
+       * <pre>
+       * of the row groups that have nulls
+       * </pre>
+       */
+      int getNullsCount();
+      /**
+       * <code>repeated uint64 nulls = 5 [packed = true];</code>
+       *
+       * <pre>
+       * of the row groups that have nulls
+       * </pre>
+       */
+      long getNulls(int index);
+
+      // repeated sint64 vint64 = 6 [packed = true];
+      /**
+       * <code>repeated sint64 vint64 = 6 [packed = true];</code>
+       *
+       * <pre>
+       * max values of the row groups that have one, only the field used by the column's type is set
+       * </pre>
+       */
+      java.util.List<java.lang.Long> getVint64List();
+      /**
+       * <code>repeated sint64 vint64 = 6 [packed = true];</code>
+       *
+       * <pre>
+       * max values of the row groups that have one, only the field used by the column's type is set
+       * </pre>
+       */
+      int getVint64Count();
+      /**
+       * <code>repeated sint64 vint64 = 6 [packed = true];</code>
+       *
+       * <pre>
+       * max values of the row groups that have one, only the field used by the column's type is set
+       * </pre>
+       */
+      long getVint64(int index);
+
+      // repeated sint32 vint32 = 7 [packed = true];
+      /**
+       * <code>repeated sint32 vint32 = 7 [packed = true];</code>
+       */
+      java.util.List<java.lang.Integer> getVint32List();
+      /**
+       * <code>repeated sint32 vint32 = 7 [packed = true];</code>
+       */
+      int getVint32Count();
+      /**
+       * <code>repeated sint32 vint32 = 7 [packed = true];</code>
+       */
+      int getVint32(int index);
+
+      // repeated bool vbool = 8 [packed = true];
+      /**
+       * <code>repeated bool vbool = 8 [packed = true];</code>
+       */
+      java.util.List<java.lang.Boolean> getVboolList();
+      /**
+       * <code>repeated bool vbool = 8 [packed = true];</code>
+       */
+      int getVboolCount();
+      /**
+       * <code>repeated bool vbool = 8 [packed = true];</code>
+       */
+      boolean getVbool(int index);
+
+      // repeated bytes vbinary = 9;
+      /**
+       * <code>repeated bytes vbinary = 9;</code>
+       */
+      java.util.List<com.google.protobuf.ByteString> getVbinaryList();
+      /**
+       * <code>repeated bytes vbinary = 9;</code>
+       */
+      int getVbinaryCount();
+      /**
+       * <code>repeated bytes vbinary = 9;</code>
+       */
+      com.google.protobuf.ByteString getVbinary(int index);
+
+      // repeated float vfloat = 10 [packed = true];
+      /**
+       * <code>repeated float vfloat = 10 [packed = true];</code>
+       */
+      java.util.List<java.lang.Float> getVfloatList();
+      /**
+       * <code>repeated float vfloat = 10 [packed = true];</code>
+       */
+      int getVfloatCount();
+      /**
+       * <code>repeated float vfloat = 10 [packed = true];</code>
+       */
+      float getVfloat(int index);
+
+      // repeated double vdouble = 11 [packed = true];
+      /**
+       * <code>repeated double vdouble = 11 [packed = true];</code>
+       */
+      java.util.List<java.lang.Double> getVdoubleList();
+      /**
+       * <code>repeated double vdouble = 11 [packed = true];</code>
+       */
+      int getVdoubleCount();
+      /**
+       * <code>repeated double vdouble = 11 [packed = true];</code>
+       */
+      double getVdouble(int index);
     }
     /**
-     * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+     * Protobuf type {@code metadata.ParquetFileMetadata.ColumnStats}
+     *
+     * <pre>
+     * Statistics of a column in all the row groups of the file, one value per row group in the arrays.
+     * The bitmaps have a bit per row group, bit i of byte i / 8 for the i-th one, and stop at the last set bit.
+     * present isn't written if all bits are set, has_nulls and has_max aren't written if their array is empty or has
+     * a value for each row group that has the column. Files with a single row group keep their columns in it
+     * </pre>
      */
-    public com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroupOrBuilder getRowGroupsOrBuilder(
-        int index) {
-      return rowGroups_.get(index);
-    }
-
-    private void initFields() {
-      path_ = "";
-      length_ = 0L;
-      rowGroups_ = java.util.Collections.emptyList();
-    }
-    private byte memoizedIsInitialized = -1;
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
-
-      for (int i = 0; i < getRowGroupsCount(); i++) {
-        if (!getRowGroups(i).isInitialized()) {
-          memoizedIsInitialized = 0;
-          return false;
-        }
+    public static final class ColumnStats extends
+        com.google.protobuf.GeneratedMessage
+        implements ColumnStatsOrBuilder {
+      // Use ColumnStats.newBuilder() to construct.
+      private ColumnStats(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
       }
-      memoizedIsInitialized = 1;
-      return true;
-    }
+      private ColumnStats(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      getSerializedSize();
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, getPathBytes());
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeUInt64(2, length_);
-      }
-      for (int i = 0; i < rowGroups_.size(); i++) {
-        output.writeMessage(3, rowGroups_.get(i));
+      private static final ColumnStats defaultInstance;
+      public static ColumnStats getDefaultInstance() {
+        return defaultInstance;
       }
-      getUnknownFields().writeTo(output);
-    }
-
-    private int memoizedSerializedSize = -1;
-    public int getSerializedSize() {
-      int size = memoizedSerializedSize;
-      if (size != -1) return size;
 
-      size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, getPathBytes());
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeUInt64Size(2, length_);
+      public ColumnStats getDefaultInstanceForType() {
+        return defaultInstance;
       }
-      for (int i = 0; i < rowGroups_.size(); i++) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(3, rowGroups_.get(i));
-      }
-      size += getUnknownFields().getSerializedSize();
-      memoizedSerializedSize = size;
-      return size;
-    }
-
-    private static final long serialVersionUID = 0L;
-    @java.lang.Override
-    protected java.lang.Object writeReplace()
-        throws java.io.ObjectStreamException {
-      return super.writeReplace();
-    }
-
-    public static com.adeneche.metadata.Metadata.ParquetFileMetadata parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static com.adeneche.metadata.Metadata.ParquetFileMetadata parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static com.adeneche.metadata.Metadata.ParquetFileMetadata parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static com.adeneche.metadata.Metadata.ParquetFileMetadata parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static com.adeneche.metadata.Metadata.ParquetFileMetadata parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input);
-    }
-    public static com.adeneche.metadata.Metadata.ParquetFileMetadata parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input, extensionRegistry);
-    }
-    public static com.adeneche.metadata.Metadata.ParquetFileMetadata parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return PARSER.parseDelimitedFrom(input);
-    }
-    public static com.adeneche.metadata.Metadata.ParquetFileMetadata parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseDelimitedFrom(input, extensionRegistry);
-    }
-    public static com.adeneche.metadata.Metadata.ParquetFileMetadata parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input);
-    }
-    public static com.adeneche.metadata.Metadata.ParquetFileMetadata parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input, extensionRegistry);
-    }
-
-    public static Builder newBuilder() { return Builder.create(); }
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.adeneche.metadata.Metadata.ParquetFileMetadata prototype) {
-      return newBuilder().mergeFrom(prototype);
-    }
-    public Builder toBuilder() { return newBuilder(this); }
 
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * Protobuf type {@code metadata.ParquetFileMetadata}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements com.adeneche.metadata.Metadata.ParquetFileMetadataOrBuilder {
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private ColumnStats(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 8: {
+                bitField0_ |= 0x00000001;
+                name_ = input.readUInt32();
+                break;
+              }
+              case 18: {
+                bitField0_ |= 0x00000002;
+                present_ = input.readBytes();
+                break;
+              }
+              case 26: {
+                bitField0_ |= 0x00000004;
+                hasNulls_ = input.readBytes();
+                break;
+              }
+              case 34: {
+                bitField0_ |= 0x00000008;
+                hasMax_ = input.readBytes();
+                break;
+              }
+              case 40: {
+                if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                  nulls_ = new java.util.ArrayList<java.lang.Long>();
+                  mutable_bitField0_ |= 0x00000010;
+                }
+                nulls_.add(input.readUInt64());
+                break;
+              }
+              case 42: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                if (!((mutable_bitField0_ & 0x00000010) == 0x00000010) && input.getBytesUntilLimit() > 0) {
+                  nulls_ = new java.util.ArrayList<java.lang.Long>();
+                  mutable_bitField0_ |= 0x00000010;
+                }
+                while (input.getBytesUntilLimit() > 0) {
+                  nulls_.add(input.readUInt64());
+                }
+                input.popLimit(limit);
+                break;
+              }
+              case 48: {
+                if (!((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+                  vint64_ = new java.util.ArrayList<java.lang.Long>();
+                  mutable_bitField0_ |= 0x00000020;
+                }
+                vint64_.add(input.readSInt64());
+                break;
+              }
+              case 50: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                if (!((mutable_bitField0_ & 0x00000020) == 0x00000020) && input.getBytesUntilLimit() > 0) {
+                  vint64_ = new java.util.ArrayList<java.lang.Long>();
+                  mutable_bitField0_ |= 0x00000020;
+                }
+                while (input.getBytesUntilLimit() > 0) {
+                  vint64_.add(input.readSInt64());
+                }
+                input.popLimit(limit);
+                break;
+              }
+              case 56: {
+                if (!((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
+                  vint32_ = new java.util.ArrayList<java.lang.Integer>();
+                  mutable_bitField0_ |= 0x00000040;
+                }
+                vint32_.add(input.readSInt32());
+                break;
+              }
+              case 58: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                if (!((mutable_bitField0_ & 0x00000040) == 0x00000040) && input.getBytesUntilLimit() > 0) {
+                  vint32_ = new java.util.ArrayList<java.lang.Integer>();
+                  mutable_bitField0_ |= 0x00000040;
+                }
+                while (input.getBytesUntilLimit() > 0) {
+                  vint32_.add(input.readSInt32());
+                }
+                input.popLimit(limit);
+                break;
+              }
+              case 64: {
+                if (!((mutable_bitField0_ & 0x00000080) == 0x00000080)) {
+                  vbool_ = new java.util.ArrayList<java.lang.Boolean>();
+                  mutable_bitField0_ |= 0x00000080;
+                }
+                vbool_.add(input.readBool());
+                break;
+              }
+              case 66: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                if (!((mutable_bitField0_ & 0x00000080) == 0x00000080) && input.getBytesUntilLimit() > 0) {
+                  vbool_ = new java.util.ArrayList<java.lang.Boolean>();
+                  mutable_bitField0_ |= 0x00000080;
+                }
+                while (input.getBytesUntilLimit() > 0) {
+                  vbool_.add(input.readBool());
+                }
+                input.popLimit(limit);
+                break;
+              }
+              case 74: {
+                if (!((mutable_bitField0_ & 0x00000100) == 0x00000100)) {
+                  vbinary_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+                  mutable_bitField0_ |= 0x00000100;
+                }
+                vbinary_.add(input.readBytes());
+                break;
+              }
+              case 85: {
+                if (!((mutable_bitField0_ & 0x00000200) == 0x00000200)) {
+                  vfloat_ = new java.util.ArrayList<java.lang.Float>();
+                  mutable_bitField0_ |= 0x00000200;
+                }
+                vfloat_.add(input.readFloat());
+                break;
+              }
+              case 82: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                if (!((mutable_bitField0_ & 0x00000200) == 0x00000200) && input.getBytesUntilLimit() > 0) {
+                  vfloat_ = new java.util.ArrayList<java.lang.Float>();
+                  mutable_bitField0_ |= 0x00000200;
+                }
+                while (input.getBytesUntilLimit() > 0) {
+                  vfloat_.add(input.readFloat());
+                }
+                input.popLimit(limit);
+                break;
+              }
+              case 89: {
+                if (!((mutable_bitField0_ & 0x00000400) == 0x00000400)) {
+                  vdouble_ = new java.util.ArrayList<java.lang.Double>();
+                  mutable_bitField0_ |= 0x00000400;
+                }
+                vdouble_.add(input.readDouble());
+                break;
+              }
+              case 90: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                if (!((mutable_bitField0_ & 0x00000400) == 0x00000400) && input.getBytesUntilLimit() > 0) {
+                  vdouble_ = new java.util.ArrayList<java.lang.Double>();
+                  mutable_bitField0_ |= 0x00000400;
+                }
+                while (input.getBytesUntilLimit() > 0) {
+                  vdouble_.add(input.readDouble());
+                }
+                input.popLimit(limit);
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+            nulls_ = java.util.Collections.unmodifiableList(nulls_);
+          }
+          if (((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+            vint64_ = java.util.Collections.unmodifiableList(vint64_);
+          }
+          if (((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
+            vint32_ = java.util.Collections.unmodifiableList(vint32_);
+          }
+          if (((mutable_bitField0_ & 0x00000080) == 0x00000080)) {
+            vbool_ = java.util.Collections.unmodifiableList(vbool_);
+          }
+          if (((mutable_bitField0_ & 0x00000100) == 0x00000100)) {
+            vbinary_ = java.util.Collections.unmodifiableList(vbinary_);
+          }
+          if (((mutable_bitField0_ & 0x00000200) == 0x00000200)) {
+            vfloat_ = java.util.Collections.unmodifiableList(vfloat_);
+          }
+          if (((mutable_bitField0_ & 0x00000400) == 0x00000400)) {
+            vdouble_ = java.util.Collections.unmodifiableList(vdouble_);
+          }
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.adeneche.metadata.Metadata.internal_static_metadata_ParquetFileMetadata_descriptor;
+        return com.adeneche.metadata.Metadata.internal_static_metadata_ParquetFileMetadata_ColumnStats_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.adeneche.metadata.Metadata.internal_static_metadata_ParquetFileMetadata_fieldAccessorTable
+        return com.adeneche.metadata.Metadata.internal_static_metadata_ParquetFileMetadata_ColumnStats_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.adeneche.metadata.Metadata.ParquetFileMetadata.class, com.adeneche.metadata.Metadata.ParquetFileMetadata.Builder.class);
+                com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats.class, com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats.Builder.class);
       }
 
-      // Construct using com.adeneche.metadata.Metadata.ParquetFileMetadata.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
-      }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getRowGroupsFieldBuilder();
+      public static com.google.protobuf.Parser<ColumnStats> PARSER =
+          new com.google.protobuf.AbstractParser<ColumnStats>() {
+        public ColumnStats parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new ColumnStats(input, extensionRegistry);
         }
-      }
-      private static Builder create() {
-        return new Builder();
-      }
+      };
 
-      public Builder clear() {
-        super.clear();
-        path_ = "";
-        bitField0_ = (bitField0_ & ~0x00000001);
-        length_ = 0L;
-        bitField0_ = (bitField0_ & ~0x00000002);
-        if (rowGroupsBuilder_ == null) {
-          rowGroups_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000004);
-        } else {
-          rowGroupsBuilder_.clear();
-        }
-        return this;
+      @java.lang.Override
+      public com.google.protobuf.Parser<ColumnStats> getParserForType() {
+        return PARSER;
       }
 
-      public Builder clone() {
-        return create().mergeFrom(buildPartial());
+      private int bitField0_;
+      // required uint32 name = 1;
+      public static final int NAME_FIELD_NUMBER = 1;
+      private int name_;
+      /**
+       * <code>required uint32 name = 1;</code>
+       */
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
-
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return com.adeneche.metadata.Metadata.internal_static_metadata_ParquetFileMetadata_descriptor;
+      /**
+       * <code>required uint32 name = 1;</code>
+       */
+      public int getName() {
+        return name_;
       }
 
-      public com.adeneche.metadata.Metadata.ParquetFileMetadata getDefaultInstanceForType() {
-        return com.adeneche.metadata.Metadata.ParquetFileMetadata.getDefaultInstance();
+      // optional bytes present = 2;
+      public static final int PRESENT_FIELD_NUMBER = 2;
+      private com.google.protobuf.ByteString present_;
+      /**
+       * <code>optional bytes present = 2;</code>
+       *
+       * <pre>
+       * over the row groups of the file, set if the row group has the column
+       * </pre>
+       */
+      public boolean hasPresent() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
-
-      public com.adeneche.metadata.Metadata.ParquetFileMetadata build() {
-        com.adeneche.metadata.Metadata.ParquetFileMetadata result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
-      }
-
-      public com.adeneche.metadata.Metadata.ParquetFileMetadata buildPartial() {
-        com.adeneche.metadata.Metadata.ParquetFileMetadata result = new com.adeneche.metadata.Metadata.ParquetFileMetadata(this);
-        int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-          to_bitField0_ |= 0x00000001;
-        }
-        result.path_ = path_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
-        }
-        result.length_ = length_;
-        if (rowGroupsBuilder_ == null) {
-          if (((bitField0_ & 0x00000004) == 0x00000004)) {
-            rowGroups_ = java.util.Collections.unmodifiableList(rowGroups_);
-            bitField0_ = (bitField0_ & ~0x00000004);
-          }
-          result.rowGroups_ = rowGroups_;
-        } else {
-          result.rowGroups_ = rowGroupsBuilder_.build();
-        }
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
+      /**
+       * <code>optional bytes present = 2;</code>
+       *
+       * <pre>
+       * over the row groups of the file, set if the row group has the column
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getPresent() {
+        return present_;
       }
 
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.adeneche.metadata.Metadata.ParquetFileMetadata) {
-          return mergeFrom((com.adeneche.metadata.Metadata.ParquetFileMetadata)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
+      // optional bytes has_nulls = 3;
+      public static final int HAS_NULLS_FIELD_NUMBER = 3;
+      private com.google.protobuf.ByteString hasNulls_;
+      /**
+       * <code>optional bytes has_nulls = 3;</code>
+       *
+       * <pre>
+       * over the row groups that have the column
+       * </pre>
+       */
+      public boolean hasHasNulls() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
       }
-
-      public Builder mergeFrom(com.adeneche.metadata.Metadata.ParquetFileMetadata other) {
-        if (other == com.adeneche.metadata.Metadata.ParquetFileMetadata.getDefaultInstance()) return this;
-        if (other.hasPath()) {
-          bitField0_ |= 0x00000001;
-          path_ = other.path_;
-          onChanged();
-        }
-        if (other.hasLength()) {
-          setLength(other.getLength());
-        }
-        if (rowGroupsBuilder_ == null) {
-          if (!other.rowGroups_.isEmpty()) {
-            if (rowGroups_.isEmpty()) {
-              rowGroups_ = other.rowGroups_;
-              bitField0_ = (bitField0_ & ~0x00000004);
-            } else {
-              ensureRowGroupsIsMutable();
-              rowGroups_.addAll(other.rowGroups_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.rowGroups_.isEmpty()) {
-            if (rowGroupsBuilder_.isEmpty()) {
-              rowGroupsBuilder_.dispose();
-              rowGroupsBuilder_ = null;
-              rowGroups_ = other.rowGroups_;
-              bitField0_ = (bitField0_ & ~0x00000004);
-              rowGroupsBuilder_ = 
-                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
-                   getRowGroupsFieldBuilder() : null;
-            } else {
-              rowGroupsBuilder_.addAllMessages(other.rowGroups_);
-            }
-          }
-        }
-        this.mergeUnknownFields(other.getUnknownFields());
-        return this;
+      /**
+       * <code>optional bytes has_nulls = 3;</code>
+       *
+       * <pre>
+       * over the row groups that have the column
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getHasNulls() {
+        return hasNulls_;
       }
 
-      public final boolean isInitialized() {
-        for (int i = 0; i < getRowGroupsCount(); i++) {
-          if (!getRowGroups(i).isInitialized()) {
-            
-            return false;
-          }
-        }
-        return true;
+      // optional bytes has_max = 4;
+      public static final int HAS_MAX_FIELD_NUMBER = 4;
+      private com.google.protobuf.ByteString hasMax_;
+      /**
+       * <code>optional bytes has_max = 4;</code>
+       *
+       * <pre>
+       * over the row groups that have the column
+       * </pre>
+       */
+      public boolean hasHasMax() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
       }
-
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        com.adeneche.metadata.Metadata.ParquetFileMetadata parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.adeneche.metadata.Metadata.ParquetFileMetadata) e.getUnfinishedMessage();
-          throw e;
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
-        return this;
+      /**
+       * <code>optional bytes has_max = 4;</code>
+       *
+       * <pre>
+       * over the row groups that have the column
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getHasMax() {
+        return hasMax_;
       }
-      private int bitField0_;
 
-      // optional string path = 1;
-      private java.lang.Object path_ = "";
+      // repeated uint64 nulls = 5 [packed = true];
+      public static final int NULLS_FIELD_NUMBER = 5;
+      private java.util.List<java.lang.Long> nulls_;
       /**
-       * <code>optional string path = 1;</code>
+       * <code>repeated uint64 nulls = 5 [packed = true];</code>
+       *
+       * <pre>
+       * of the row groups that have nulls
+       * </pre>
        */
-      public boolean hasPath() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+      public java.util.List<java.lang.Long>
+          getNullsList() {
+        return nulls_;
       }
       /**
-       * <code>optional string path = 1;</code>
+       * <code>repeated uint64 nulls = 5 [packed = true];</code>
+       *
+       * <pre>
+       * of the row groups that have nulls
+       * </pre>
        */
-      public java.lang.String getPath() {
-        java.lang.Object ref = path_;
-        if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          path_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+      public int getNullsCount() {
+        return nulls_.size();
       }
       /**
-       * <code>optional string path = 1;</code>
+       * <code>repeated uint64 nulls = 5 [packed = true];</code>
+       *
+       * <pre>
+       * of the row groups that have nulls
+       * </pre>
        */
-      public com.google.protobuf.ByteString
-          getPathBytes() {
-        java.lang.Object ref = path_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          path_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public long getNulls(int index) {
+        return nulls_.get(index);
       }
+      private int nullsMemoizedSerializedSize = -1;
+
+      // repeated sint64 vint64 = 6 [packed = true];
+      public static final int VINT64_FIELD_NUMBER = 6;
+      private java.util.List<java.lang.Long> vint64_;
       /**
-       * <code>optional string path = 1;</code>
+       * <code>repeated sint64 vint64 = 6 [packed = true];</code>
+       *
+       * <pre>
+       * max values of the row groups that have one, only the field used by the column's type is set
+       * </pre>
        */
-      public Builder setPath(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        path_ = value;
-        onChanged();
-        return this;
+      public java.util.List<java.lang.Long>
+          getVint64List() {
+        return vint64_;
       }
       /**
-       * <code>optional string path = 1;</code>
+       * <code>repeated sint64 vint64 = 6 [packed = true];</code>
+       *
+       * <pre>
+       * max values of the row groups that have one, only the field used by the column's type is set
+       * </pre>
        */
-      public Builder clearPath() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        path_ = getDefaultInstance().getPath();
-        onChanged();
-        return this;
+      public int getVint64Count() {
+        return vint64_.size();
       }
       /**
-       * <code>optional string path = 1;</code>
+       * <code>repeated sint64 vint64 = 6 [packed = true];</code>
+       *
+       * <pre>
+       * max values of the row groups that have one, only the field used by the column's type is set
+       * </pre>
        */
-      public Builder setPathBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        path_ = value;
-        onChanged();
-        return this;
+      public long getVint64(int index) {
+        return vint64_.get(index);
       }
+      private int vint64MemoizedSerializedSize = -1;
 
-      // optional uint64 length = 2;
-      private long length_ ;
+      // repeated sint32 vint32 = 7 [packed = true];
+      public static final int VINT32_FIELD_NUMBER = 7;
+      private java.util.List<java.lang.Integer> vint32_;
       /**
-       * <code>optional uint64 length = 2;</code>
+       * <code>repeated sint32 vint32 = 7 [packed = true];</code>
        */
-      public boolean hasLength() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+      public java.util.List<java.lang.Integer>
+          getVint32List() {
+        return vint32_;
       }
       /**
-       * <code>optional uint64 length = 2;</code>
+       * <code>repeated sint32 vint32 = 7 [packed = true];</code>
        */
-      public long getLength() {
-        return length_;
+      public int getVint32Count() {
+        return vint32_.size();
       }
       /**
-       * <code>optional uint64 length = 2;</code>
+       * <code>repeated sint32 vint32 = 7 [packed = true];</code>
        */
-      public Builder setLength(long value) {
-        bitField0_ |= 0x00000002;
-        length_ = value;
-        onChanged();
-        return this;
+      public int getVint32(int index) {
+        return vint32_.get(index);
       }
+      private int vint32MemoizedSerializedSize = -1;
+
+      // repeated bool vbool = 8 [packed = true];
+      public static final int VBOOL_FIELD_NUMBER = 8;
+      private java.util.List<java.lang.Boolean> vbool_;
       /**
-       * <code>optional uint64 length = 2;</code>
+       * <code>repeated bool vbool = 8 [packed = true];</code>
        */
-      public Builder clearLength() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        length_ = 0L;
-        onChanged();
-        return this;
+      public java.util.List<java.lang.Boolean>
+          getVboolList() {
+        return vbool_;
       }
-
-      // repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;
-      private java.util.List<com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup> rowGroups_ =
-        java.util.Collections.emptyList();
-      private void ensureRowGroupsIsMutable() {
-        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
-          rowGroups_ = new java.util.ArrayList<com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup>(rowGroups_);
-          bitField0_ |= 0x00000004;
-         }
+      /**
+       * <code>repeated bool vbool = 8 [packed = true];</code>
+       */
+      public int getVboolCount() {
+        return vbool_.size();
       }
-
-      private com.google.protobuf.RepeatedFieldBuilder<
-          com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup, com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.Builder, com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroupOrBuilder> rowGroupsBuilder_;
-
       /**
-       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+       * <code>repeated bool vbool = 8 [packed = true];</code>
        */
-      public java.util.List<com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup> getRowGroupsList() {
-        if (rowGroupsBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(rowGroups_);
-        } else {
-          return rowGroupsBuilder_.getMessageList();
-        }
+      public boolean getVbool(int index) {
+        return vbool_.get(index);
       }
+      private int vboolMemoizedSerializedSize = -1;
+
+      // repeated bytes vbinary = 9;
+      public static final int VBINARY_FIELD_NUMBER = 9;
+      private java.util.List<com.google.protobuf.ByteString> vbinary_;
       /**
-       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+       * <code>repeated bytes vbinary = 9;</code>
        */
-      public int getRowGroupsCount() {
-        if (rowGroupsBuilder_ == null) {
-          return rowGroups_.size();
-        } else {
-          return rowGroupsBuilder_.getCount();
-        }
+      public java.util.List<com.google.protobuf.ByteString>
+          getVbinaryList() {
+        return vbinary_;
       }
       /**
-       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+       * <code>repeated bytes vbinary = 9;</code>
        */
-      public com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup getRowGroups(int index) {
-        if (rowGroupsBuilder_ == null) {
-          return rowGroups_.get(index);
-        } else {
-          return rowGroupsBuilder_.getMessage(index);
-        }
+      public int getVbinaryCount() {
+        return vbinary_.size();
       }
       /**
-       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+       * <code>repeated bytes vbinary = 9;</code>
        */
-      public Builder setRowGroups(
-          int index, com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup value) {
-        if (rowGroupsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureRowGroupsIsMutable();
-          rowGroups_.set(index, value);
-          onChanged();
-        } else {
-          rowGroupsBuilder_.setMessage(index, value);
-        }
-        return this;
+      public com.google.protobuf.ByteString getVbinary(int index) {
+        return vbinary_.get(index);
       }
+
+      // repeated float vfloat = 10 [packed = true];
+      public static final int VFLOAT_FIELD_NUMBER = 10;
+      private java.util.List<java.lang.Float> vfloat_;
       /**
-       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+       * <code>repeated float vfloat = 10 [packed = true];</code>
        */
-      public Builder setRowGroups(
-          int index, com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.Builder builderForValue) {
-        if (rowGroupsBuilder_ == null) {
-          ensureRowGroupsIsMutable();
-          rowGroups_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          rowGroupsBuilder_.setMessage(index, builderForValue.build());
-        }
-        return this;
+      public java.util.List<java.lang.Float>
+          getVfloatList() {
+        return vfloat_;
       }
       /**
-       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+       * <code>repeated float vfloat = 10 [packed = true];</code>
        */
-      public Builder addRowGroups(com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup value) {
-        if (rowGroupsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureRowGroupsIsMutable();
-          rowGroups_.add(value);
-          onChanged();
-        } else {
-          rowGroupsBuilder_.addMessage(value);
-        }
-        return this;
+      public int getVfloatCount() {
+        return vfloat_.size();
       }
       /**
-       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+       * <code>repeated float vfloat = 10 [packed = true];</code>
        */
-      public Builder addRowGroups(
-          int index, com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup value) {
-        if (rowGroupsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureRowGroupsIsMutable();
-          rowGroups_.add(index, value);
-          onChanged();
-        } else {
-          rowGroupsBuilder_.addMessage(index, value);
-        }
-        return this;
+      public float getVfloat(int index) {
+        return vfloat_.get(index);
       }
+      private int vfloatMemoizedSerializedSize = -1;
+
+      // repeated double vdouble = 11 [packed = true];
+      public static final int VDOUBLE_FIELD_NUMBER = 11;
+      private java.util.List<java.lang.Double> vdouble_;
       /**
-       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+       * <code>repeated double vdouble = 11 [packed = true];</code>
        */
-      public Builder addRowGroups(
-          com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.Builder builderForValue) {
-        if (rowGroupsBuilder_ == null) {
-          ensureRowGroupsIsMutable();
-          rowGroups_.add(builderForValue.build());
-          onChanged();
-        } else {
-          rowGroupsBuilder_.addMessage(builderForValue.build());
-        }
-        return this;
+      public java.util.List<java.lang.Double>
+          getVdoubleList() {
+        return vdouble_;
       }
       /**
-       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+       * <code>repeated double vdouble = 11 [packed = true];</code>
        */
-      public Builder addRowGroups(
-          int index, com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.Builder builderForValue) {
-        if (rowGroupsBuilder_ == null) {
-          ensureRowGroupsIsMutable();
-          rowGroups_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          rowGroupsBuilder_.addMessage(index, builderForValue.build());
-        }
-        return this;
+      public int getVdoubleCount() {
+        return vdouble_.size();
       }
       /**
-       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+       * <code>repeated double vdouble = 11 [packed = true];</code>
        */
-      public Builder addAllRowGroups(
-          java.lang.Iterable<? extends com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup> values) {
-        if (rowGroupsBuilder_ == null) {
-          ensureRowGroupsIsMutable();
-          super.addAll(values, rowGroups_);
-          onChanged();
-        } else {
-          rowGroupsBuilder_.addAllMessages(values);
+      public double getVdouble(int index) {
+        return vdouble_.get(index);
+      }
+      private int vdoubleMemoizedSerializedSize = -1;
+
+      private void initFields() {
+        name_ = 0;
+        present_ = com.google.protobuf.ByteString.EMPTY;
+        hasNulls_ = com.google.protobuf.ByteString.EMPTY;
+        hasMax_ = com.google.protobuf.ByteString.EMPTY;
+        nulls_ = java.util.Collections.emptyList();
+        vint64_ = java.util.Collections.emptyList();
+        vint32_ = java.util.Collections.emptyList();
+        vbool_ = java.util.Collections.emptyList();
+        vbinary_ = java.util.Collections.emptyList();
+        vfloat_ = java.util.Collections.emptyList();
+        vdouble_ = java.util.Collections.emptyList();
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized != -1) return isInitialized == 1;
+
+        if (!hasName()) {
+          memoizedIsInitialized = 0;
+          return false;
         }
-        return this;
+        memoizedIsInitialized = 1;
+        return true;
       }
-      /**
-       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
-       */
-      public Builder clearRowGroups() {
-        if (rowGroupsBuilder_ == null) {
-          rowGroups_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000004);
-          onChanged();
-        } else {
-          rowGroupsBuilder_.clear();
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeUInt32(1, name_);
         }
-        return this;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          output.writeBytes(2, present_);
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          output.writeBytes(3, hasNulls_);
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          output.writeBytes(4, hasMax_);
+        }
+        if (getNullsList().size() > 0) {
+          output.writeRawVarint32(42);
+          output.writeRawVarint32(nullsMemoizedSerializedSize);
+        }
+        for (int i = 0; i < nulls_.size(); i++) {
+          output.writeUInt64NoTag(nulls_.get(i));
+        }
+        if (getVint64List().size() > 0) {
+          output.writeRawVarint32(50);
+          output.writeRawVarint32(vint64MemoizedSerializedSize);
+        }
+        for (int i = 0; i < vint64_.size(); i++) {
+          output.writeSInt64NoTag(vint64_.get(i));
+        }
+        if (getVint32List().size() > 0) {
+          output.writeRawVarint32(58);
+          output.writeRawVarint32(vint32MemoizedSerializedSize);
+        }
+        for (int i = 0; i < vint32_.size(); i++) {
+          output.writeSInt32NoTag(vint32_.get(i));
+        }
+        if (getVboolList().size() > 0) {
+          output.writeRawVarint32(66);
+          output.writeRawVarint32(vboolMemoizedSerializedSize);
+        }
+        for (int i = 0; i < vbool_.size(); i++) {
+          output.writeBoolNoTag(vbool_.get(i));
+        }
+        for (int i = 0; i < vbinary_.size(); i++) {
+          output.writeBytes(9, vbinary_.get(i));
+        }
+        if (getVfloatList().size() > 0) {
+          output.writeRawVarint32(82);
+          output.writeRawVarint32(vfloatMemoizedSerializedSize);
+        }
+        for (int i = 0; i < vfloat_.size(); i++) {
+          output.writeFloatNoTag(vfloat_.get(i));
+        }
+        if (getVdoubleList().size() > 0) {
+          output.writeRawVarint32(90);
+          output.writeRawVarint32(vdoubleMemoizedSerializedSize);
+        }
+        for (int i = 0; i < vdouble_.size(); i++) {
+          output.writeDoubleNoTag(vdouble_.get(i));
+        }
+        getUnknownFields().writeTo(output);
       }
-      /**
-       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
-       */
-      public Builder removeRowGroups(int index) {
-        if (rowGroupsBuilder_ == null) {
-          ensureRowGroupsIsMutable();
-          rowGroups_.remove(index);
-          onChanged();
-        } else {
-          rowGroupsBuilder_.remove(index);
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt32Size(1, name_);
         }
-        return this;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(2, present_);
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(3, hasNulls_);
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(4, hasMax_);
+        }
+        {
+          int dataSize = 0;
+          for (int i = 0; i < nulls_.size(); i++) {
+            dataSize += com.google.protobuf.CodedOutputStream
+              .computeUInt64SizeNoTag(nulls_.get(i));
+          }
+          size += dataSize;
+          if (!getNullsList().isEmpty()) {
+            size += 1;
+            size += com.google.protobuf.CodedOutputStream
+                .computeInt32SizeNoTag(dataSize);
+          }
+          nullsMemoizedSerializedSize = dataSize;
+        }
+        {
+          int dataSize = 0;
+          for (int i = 0; i < vint64_.size(); i++) {
+            dataSize += com.google.protobuf.CodedOutputStream
+              .computeSInt64SizeNoTag(vint64_.get(i));
+          }
+          size += dataSize;
+          if (!getVint64List().isEmpty()) {
+            size += 1;
+            size += com.google.protobuf.CodedOutputStream
+                .computeInt32SizeNoTag(dataSize);
+          }
+          vint64MemoizedSerializedSize = dataSize;
+        }
+        {
+          int dataSize = 0;
+          for (int i = 0; i < vint32_.size(); i++) {
+            dataSize += com.google.protobuf.CodedOutputStream
+              .computeSInt32SizeNoTag(vint32_.get(i));
+          }
+          size += dataSize;
+          if (!getVint32List().isEmpty()) {
+            size += 1;
+            size += com.google.protobuf.CodedOutputStream
+                .computeInt32SizeNoTag(dataSize);
+          }
+          vint32MemoizedSerializedSize = dataSize;
+        }
+        {
+          int dataSize = 0;
+          dataSize = 1 * getVboolList().size();
+          size += dataSize;
+          if (!getVboolList().isEmpty()) {
+            size += 1;
+            size += com.google.protobuf.CodedOutputStream
+                .computeInt32SizeNoTag(dataSize);
+          }
+          vboolMemoizedSerializedSize = dataSize;
+        }
+        {
+          int dataSize = 0;
+          for (int i = 0; i < vbinary_.size(); i++) {
+            dataSize += com.google.protobuf.CodedOutputStream
+              .computeBytesSizeNoTag(vbinary_.get(i));
+          }
+          size += dataSize;
+          size += 1 * getVbinaryList().size();
+        }
+        {
+          int dataSize = 0;
+          dataSize = 4 * getVfloatList().size();
+          size += dataSize;
+          if (!getVfloatList().isEmpty()) {
+            size += 1;
+            size += com.google.protobuf.CodedOutputStream
+                .computeInt32SizeNoTag(dataSize);
+          }
+          vfloatMemoizedSerializedSize = dataSize;
+        }
+        {
+          int dataSize = 0;
+          dataSize = 8 * getVdoubleList().size();
+          size += dataSize;
+          if (!getVdoubleList().isEmpty()) {
+            size += 1;
+            size += com.google.protobuf.CodedOutputStream
+                .computeInt32SizeNoTag(dataSize);
+          }
+          vdoubleMemoizedSerializedSize = dataSize;
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
       }
-      /**
-       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
-       */
-      public com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.Builder getRowGroupsBuilder(
-          int index) {
-        return getRowGroupsFieldBuilder().getBuilder(index);
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
       }
-      /**
-       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
-       */
-      public com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroupOrBuilder getRowGroupsOrBuilder(
-          int index) {
-        if (rowGroupsBuilder_ == null) {
-          return rowGroups_.get(index);  } else {
-          return rowGroupsBuilder_.getMessageOrBuilder(index);
-        }
+
+      public static com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
       }
-      /**
-       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
-       */
-      public java.util.List<? extends com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroupOrBuilder> 
-           getRowGroupsOrBuilderList() {
-        if (rowGroupsBuilder_ != null) {
-          return rowGroupsBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(rowGroups_);
-        }
+      public static com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
       }
-      /**
-       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
-       */
-      public com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.Builder addRowGroupsBuilder() {
-        return getRowGroupsFieldBuilder().addBuilder(
-            com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.getDefaultInstance());
+      public static com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
       }
-      /**
-       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
-       */
-      public com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.Builder addRowGroupsBuilder(
-          int index) {
-        return getRowGroupsFieldBuilder().addBuilder(
-            index, com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.getDefaultInstance());
+      public static com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
       }
-      /**
-       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
-       */
-      public java.util.List<com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.Builder> 
-           getRowGroupsBuilderList() {
-        return getRowGroupsFieldBuilder().getBuilderList();
+      public static com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
       }
-      private com.google.protobuf.RepeatedFieldBuilder<
-          com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup, com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.Builder, com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroupOrBuilder> 
-          getRowGroupsFieldBuilder() {
-        if (rowGroupsBuilder_ == null) {
-          rowGroupsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
-              com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup, com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.Builder, com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroupOrBuilder>(
-                  rowGroups_,
-                  ((bitField0_ & 0x00000004) == 0x00000004),
-                  getParentForChildren(),
-                  isClean());
-          rowGroups_ = null;
-        }
-        return rowGroupsBuilder_;
+      public static com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
       }
 
-      // @@protoc_insertion_point(builder_scope:metadata.ParquetFileMetadata)
-    }
-
-    static {
-      defaultInstance = new ParquetFileMetadata(true);
-      defaultInstance.initFields();
-    }
-
-    // @@protoc_insertion_point(class_scope:metadata.ParquetFileMetadata)
-  }
-
-  public interface MetadataColumnsOrBuilder
-      extends com.google.protobuf.MessageOrBuilder {
-
-    // repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;
-    /**
-     * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
-     */
-    java.util.List<com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo> 
-        getColumnsList();
-    /**
-     * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
-     */
-    com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo getColumns(int index);
-    /**
-     * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
-     */
-    int getColumnsCount();
-    /**
-     * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
-     */
-    java.util.List<? extends com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfoOrBuilder> 
-        getColumnsOrBuilderList();
-    /**
-     * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
-     */
-    com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfoOrBuilder getColumnsOrBuilder(
-        int index);
-  }
-  /**
-   * Protobuf type {@code metadata.MetadataColumns}
-   */
-  public static final class MetadataColumns extends
-      com.google.protobuf.GeneratedMessage
-      implements MetadataColumnsOrBuilder {
-    // Use MetadataColumns.newBuilder() to construct.
-    private MetadataColumns(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
-      super(builder);
-      this.unknownFields = builder.getUnknownFields();
-    }
-    private MetadataColumns(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
 
-    private static final MetadataColumns defaultInstance;
-    public static MetadataColumns getDefaultInstance() {
-      return defaultInstance;
-    }
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code metadata.ParquetFileMetadata.ColumnStats}
+       *
+       * <pre>
+       * Statistics of a column in all the row groups of the file, one value per row group in the arrays.
+       * The bitmaps have a bit per row group, bit i of byte i / 8 for the i-th one, and stop at the last set bit.
+       * present isn't written if all bits are set, has_nulls and has_max aren't written if their array is empty or has
+       * a value for each row group that has the column. Files with a single row group keep their columns in it
+       * </pre>
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder>
+         implements com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStatsOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return com.adeneche.metadata.Metadata.internal_static_metadata_ParquetFileMetadata_ColumnStats_descriptor;
+        }
 
-    public MetadataColumns getDefaultInstanceForType() {
-      return defaultInstance;
-    }
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return com.adeneche.metadata.Metadata.internal_static_metadata_ParquetFileMetadata_ColumnStats_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats.class, com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats.Builder.class);
+        }
 
-    private final com.google.protobuf.UnknownFieldSet unknownFields;
-    @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-        getUnknownFields() {
-      return this.unknownFields;
-    }
-    private MetadataColumns(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      initFields();
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            default: {
-              if (!parseUnknownField(input, unknownFields,
-                                     extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-            case 18: {
-              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-                columns_ = new java.util.ArrayList<com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo>();
-                mutable_bitField0_ |= 0x00000001;
-              }
-              columns_.add(input.readMessage(com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PARSER, extensionRegistry));
-              break;
-            }
+        // Construct using com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
           }
         }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e.getMessage()).setUnfinishedMessage(this);
-      } finally {
-        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-          columns_ = java.util.Collections.unmodifiableList(columns_);
+        private static Builder create() {
+          return new Builder();
         }
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
-      }
-    }
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return com.adeneche.metadata.Metadata.internal_static_metadata_MetadataColumns_descriptor;
-    }
 
-    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return com.adeneche.metadata.Metadata.internal_static_metadata_MetadataColumns_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              com.adeneche.metadata.Metadata.MetadataColumns.class, com.adeneche.metadata.Metadata.MetadataColumns.Builder.class);
-    }
+        public Builder clear() {
+          super.clear();
+          name_ = 0;
+          bitField0_ = (bitField0_ & ~0x00000001);
+          present_ = com.google.protobuf.ByteString.EMPTY;
+          bitField0_ = (bitField0_ & ~0x00000002);
+          hasNulls_ = com.google.protobuf.ByteString.EMPTY;
+          bitField0_ = (bitField0_ & ~0x00000004);
+          hasMax_ = com.google.protobuf.ByteString.EMPTY;
+          bitField0_ = (bitField0_ & ~0x00000008);
+          nulls_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          vint64_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+          vint32_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000040);
+          vbool_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000080);
+          vbinary_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000100);
+          vfloat_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000200);
+          vdouble_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000400);
+          return this;
+        }
 
-    public static com.google.protobuf.Parser<MetadataColumns> PARSER =
-        new com.google.protobuf.AbstractParser<MetadataColumns>() {
-      public MetadataColumns parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return new MetadataColumns(input, extensionRegistry);
-      }
-    };
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
 
-    @java.lang.Override
-    public com.google.protobuf.Parser<MetadataColumns> getParserForType() {
-      return PARSER;
-    }
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return com.adeneche.metadata.Metadata.internal_static_metadata_ParquetFileMetadata_ColumnStats_descriptor;
+        }
 
-    public interface ColumnTypeInfoOrBuilder
-        extends com.google.protobuf.MessageOrBuilder {
+        public com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats getDefaultInstanceForType() {
+          return com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats.getDefaultInstance();
+        }
 
-      // optional string name = 1;
-      /**
-       * <code>optional string name = 1;</code>
-       */
-      boolean hasName();
-      /**
-       * <code>optional string name = 1;</code>
-       */
-      java.lang.String getName();
-      /**
-       * <code>optional string name = 1;</code>
-       */
-      com.google.protobuf.ByteString
-          getNameBytes();
+        public com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats build() {
+          com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
 
-      // optional .metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName primitiveType = 2;
-      /**
-       * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName primitiveType = 2;</code>
-       */
-      boolean hasPrimitiveType();
-      /**
-       * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName primitiveType = 2;</code>
-       */
-      com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName getPrimitiveType();
+        public com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats buildPartial() {
+          com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats result = new com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.name_ = name_;
+          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+            to_bitField0_ |= 0x00000002;
+          }
+          result.present_ = present_;
+          if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+            to_bitField0_ |= 0x00000004;
+          }
+          result.hasNulls_ = hasNulls_;
+          if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+            to_bitField0_ |= 0x00000008;
+          }
+          result.hasMax_ = hasMax_;
+          if (((bitField0_ & 0x00000010) == 0x00000010)) {
+            nulls_ = java.util.Collections.unmodifiableList(nulls_);
+            bitField0_ = (bitField0_ & ~0x00000010);
+          }
+          result.nulls_ = nulls_;
+          if (((bitField0_ & 0x00000020) == 0x00000020)) {
+            vint64_ = java.util.Collections.unmodifiableList(vint64_);
+            bitField0_ = (bitField0_ & ~0x00000020);
+          }
+          result.vint64_ = vint64_;
+          if (((bitField0_ & 0x00000040) == 0x00000040)) {
+            vint32_ = java.util.Collections.unmodifiableList(vint32_);
+            bitField0_ = (bitField0_ & ~0x00000040);
+          }
+          result.vint32_ = vint32_;
+          if (((bitField0_ & 0x00000080) == 0x00000080)) {
+            vbool_ = java.util.Collections.unmodifiableList(vbool_);
+            bitField0_ = (bitField0_ & ~0x00000080);
+          }
+          result.vbool_ = vbool_;
+          if (((bitField0_ & 0x00000100) == 0x00000100)) {
+            vbinary_ = java.util.Collections.unmodifiableList(vbinary_);
+            bitField0_ = (bitField0_ & ~0x00000100);
+          }
+          result.vbinary_ = vbinary_;
+          if (((bitField0_ & 0x00000200) == 0x00000200)) {
+            vfloat_ = java.util.Collections.unmodifiableList(vfloat_);
+            bitField0_ = (bitField0_ & ~0x00000200);
+          }
+          result.vfloat_ = vfloat_;
+          if (((bitField0_ & 0x00000400) == 0x00000400)) {
+            vdouble_ = java.util.Collections.unmodifiableList(vdouble_);
+            bitField0_ = (bitField0_ & ~0x00000400);
+          }
+          result.vdouble_ = vdouble_;
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
 
-      // optional .metadata.MetadataColumns.ColumnTypeInfo.OriginalType originalType = 3;
-      /**
-       * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.OriginalType originalType = 3;</code>
-       */
-      boolean hasOriginalType();
-      /**
-       * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.OriginalType originalType = 3;</code>
-       */
-      com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.OriginalType getOriginalType();
-    }
-    /**
-     * Protobuf type {@code metadata.MetadataColumns.ColumnTypeInfo}
-     */
-    public static final class ColumnTypeInfo extends
-        com.google.protobuf.GeneratedMessage
-        implements ColumnTypeInfoOrBuilder {
-      // Use ColumnTypeInfo.newBuilder() to construct.
-      private ColumnTypeInfo(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
-        super(builder);
-        this.unknownFields = builder.getUnknownFields();
-      }
-      private ColumnTypeInfo(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
-
-      private static final ColumnTypeInfo defaultInstance;
-      public static ColumnTypeInfo getDefaultInstance() {
-        return defaultInstance;
-      }
-
-      public ColumnTypeInfo getDefaultInstanceForType() {
-        return defaultInstance;
-      }
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats) {
+            return mergeFrom((com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
 
-      private final com.google.protobuf.UnknownFieldSet unknownFields;
-      @java.lang.Override
-      public final com.google.protobuf.UnknownFieldSet
-          getUnknownFields() {
-        return this.unknownFields;
-      }
-      private ColumnTypeInfo(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        initFields();
-        int mutable_bitField0_ = 0;
-        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-            com.google.protobuf.UnknownFieldSet.newBuilder();
-        try {
-          boolean done = false;
-          while (!done) {
-            int tag = input.readTag();
-            switch (tag) {
-              case 0:
-                done = true;
-                break;
-              default: {
-                if (!parseUnknownField(input, unknownFields,
-                                       extensionRegistry, tag)) {
-                  done = true;
-                }
-                break;
-              }
-              case 10: {
-                bitField0_ |= 0x00000001;
-                name_ = input.readBytes();
-                break;
-              }
-              case 16: {
-                int rawValue = input.readEnum();
-                com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName value = com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName.valueOf(rawValue);
-                if (value == null) {
-                  unknownFields.mergeVarintField(2, rawValue);
-                } else {
-                  bitField0_ |= 0x00000002;
-                  primitiveType_ = value;
-                }
-                break;
-              }
-              case 24: {
-                int rawValue = input.readEnum();
-                com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.OriginalType value = com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.OriginalType.valueOf(rawValue);
-                if (value == null) {
-                  unknownFields.mergeVarintField(3, rawValue);
-                } else {
-                  bitField0_ |= 0x00000004;
-                  originalType_ = value;
-                }
-                break;
-              }
+        public Builder mergeFrom(com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats other) {
+          if (other == com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats.getDefaultInstance()) return this;
+          if (other.hasName()) {
+            setName(other.getName());
+          }
+          if (other.hasPresent()) {
+            setPresent(other.getPresent());
+          }
+          if (other.hasHasNulls()) {
+            setHasNulls(other.getHasNulls());
+          }
+          if (other.hasHasMax()) {
+            setHasMax(other.getHasMax());
+          }
+          if (!other.nulls_.isEmpty()) {
+            if (nulls_.isEmpty()) {
+              nulls_ = other.nulls_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+            } else {
+              ensureNullsIsMutable();
+              nulls_.addAll(other.nulls_);
             }
+            onChanged();
           }
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.setUnfinishedMessage(this);
-        } catch (java.io.IOException e) {
-          throw new com.google.protobuf.InvalidProtocolBufferException(
-              e.getMessage()).setUnfinishedMessage(this);
-        } finally {
-          this.unknownFields = unknownFields.build();
-          makeExtensionsImmutable();
+          if (!other.vint64_.isEmpty()) {
+            if (vint64_.isEmpty()) {
+              vint64_ = other.vint64_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+            } else {
+              ensureVint64IsMutable();
+              vint64_.addAll(other.vint64_);
+            }
+            onChanged();
+          }
+          if (!other.vint32_.isEmpty()) {
+            if (vint32_.isEmpty()) {
+              vint32_ = other.vint32_;
+              bitField0_ = (bitField0_ & ~0x00000040);
+            } else {
+              ensureVint32IsMutable();
+              vint32_.addAll(other.vint32_);
+            }
+            onChanged();
+          }
+          if (!other.vbool_.isEmpty()) {
+            if (vbool_.isEmpty()) {
+              vbool_ = other.vbool_;
+              bitField0_ = (bitField0_ & ~0x00000080);
+            } else {
+              ensureVboolIsMutable();
+              vbool_.addAll(other.vbool_);
+            }
+            onChanged();
+          }
+          if (!other.vbinary_.isEmpty()) {
+            if (vbinary_.isEmpty()) {
+              vbinary_ = other.vbinary_;
+              bitField0_ = (bitField0_ & ~0x00000100);
+            } else {
+              ensureVbinaryIsMutable();
+              vbinary_.addAll(other.vbinary_);
+            }
+            onChanged();
+          }
+          if (!other.vfloat_.isEmpty()) {
+            if (vfloat_.isEmpty()) {
+              vfloat_ = other.vfloat_;
+              bitField0_ = (bitField0_ & ~0x00000200);
+            } else {
+              ensureVfloatIsMutable();
+              vfloat_.addAll(other.vfloat_);
+            }
+            onChanged();
+          }
+          if (!other.vdouble_.isEmpty()) {
+            if (vdouble_.isEmpty()) {
+              vdouble_ = other.vdouble_;
+              bitField0_ = (bitField0_ & ~0x00000400);
+            } else {
+              ensureVdoubleIsMutable();
+              vdouble_.addAll(other.vdouble_);
+            }
+            onChanged();
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
         }
-      }
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return com.adeneche.metadata.Metadata.internal_static_metadata_MetadataColumns_ColumnTypeInfo_descriptor;
-      }
 
-      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return com.adeneche.metadata.Metadata.internal_static_metadata_MetadataColumns_ColumnTypeInfo_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.class, com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.Builder.class);
-      }
+        public final boolean isInitialized() {
+          if (!hasName()) {
+            
+            return false;
+          }
+          return true;
+        }
 
-      public static com.google.protobuf.Parser<ColumnTypeInfo> PARSER =
-          new com.google.protobuf.AbstractParser<ColumnTypeInfo>() {
-        public ColumnTypeInfo parsePartialFrom(
+        public Builder mergeFrom(
             com.google.protobuf.CodedInputStream input,
             com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws com.google.protobuf.InvalidProtocolBufferException {
-          return new ColumnTypeInfo(input, extensionRegistry);
+            throws java.io.IOException {
+          com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
         }
-      };
-
-      @java.lang.Override
-      public com.google.protobuf.Parser<ColumnTypeInfo> getParserForType() {
-        return PARSER;
-      }
+        private int bitField0_;
 
-      /**
-       * Protobuf enum {@code metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName}
-       */
-      public enum PrimitiveTypeName
-          implements com.google.protobuf.ProtocolMessageEnum {
+        // required uint32 name = 1;
+        private int name_ ;
         /**
-         * <code>INT64 = 0;</code>
+         * <code>required uint32 name = 1;</code>
          */
-        INT64(0, 0),
+        public boolean hasName() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
         /**
-         * <code>INT32 = 1;</code>
+         * <code>required uint32 name = 1;</code>
          */
-        INT32(1, 1),
+        public int getName() {
+          return name_;
+        }
         /**
-         * <code>BOOLEAN = 2;</code>
+         * <code>required uint32 name = 1;</code>
          */
-        BOOLEAN(2, 2),
+        public Builder setName(int value) {
+          bitField0_ |= 0x00000001;
+          name_ = value;
+          onChanged();
+          return this;
+        }
         /**
-         * <code>BINARY = 3;</code>
+         * <code>required uint32 name = 1;</code>
          */
-        BINARY(3, 3),
+        public Builder clearName() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          name_ = 0;
+          onChanged();
+          return this;
+        }
+
+        // optional bytes present = 2;
+        private com.google.protobuf.ByteString present_ = com.google.protobuf.ByteString.EMPTY;
         /**
-         * <code>FLOAT = 4;</code>
+         * <code>optional bytes present = 2;</code>
+         *
+         * <pre>
+         * over the row groups of the file, set if the row group has the column
+         * </pre>
          */
-        FLOAT(4, 4),
+        public boolean hasPresent() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
+        }
         /**
-         * <code>DOUBLE = 5;</code>
+         * <code>optional bytes present = 2;</code>
+         *
+         * <pre>
+         * over the row groups of the file, set if the row group has the column
+         * </pre>
          */
-        DOUBLE(5, 5),
+        public com.google.protobuf.ByteString getPresent() {
+          return present_;
+        }
         /**
-         * <code>INT96 = 6;</code>
+         * <code>optional bytes present = 2;</code>
+         *
+         * <pre>
+         * over the row groups of the file, set if the row group has the column
+         * </pre>
          */
-        INT96(6, 6),
+        public Builder setPresent(com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          present_ = value;
+          onChanged();
+          return this;
+        }
         /**
-         * <code>FIXED_LEN_BYTE_ARRAY = 7;</code>
+         * <code>optional bytes present = 2;</code>
+         *
+         * <pre>
+         * over the row groups of the file, set if the row group has the column
+         * </pre>
          */
-        FIXED_LEN_BYTE_ARRAY(7, 7),
-        ;
+        public Builder clearPresent() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          present_ = getDefaultInstance().getPresent();
+          onChanged();
+          return this;
+        }
 
+        // optional bytes has_nulls = 3;
+        private com.google.protobuf.ByteString hasNulls_ = com.google.protobuf.ByteString.EMPTY;
         /**
-         * <code>INT64 = 0;</code>
+         * <code>optional bytes has_nulls = 3;</code>
+         *
+         * <pre>
+         * over the row groups that have the column
+         * </pre>
          */
-        public static final int INT64_VALUE = 0;
+        public boolean hasHasNulls() {
+          return ((bitField0_ & 0x00000004) == 0x00000004);
+        }
         /**
-         * <code>INT32 = 1;</code>
+         * <code>optional bytes has_nulls = 3;</code>
+         *
+         * <pre>
+         * over the row groups that have the column
+         * </pre>
          */
-        public static final int INT32_VALUE = 1;
+        public com.google.protobuf.ByteString getHasNulls() {
+          return hasNulls_;
+        }
         /**
-         * <code>BOOLEAN = 2;</code>
+         * <code>optional bytes has_nulls = 3;</code>
+         *
+         * <pre>
+         * over the row groups that have the column
+         * </pre>
          */
-        public static final int BOOLEAN_VALUE = 2;
+        public Builder setHasNulls(com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+          hasNulls_ = value;
+          onChanged();
+          return this;
+        }
         /**
-         * <code>BINARY = 3;</code>
+         * <code>optional bytes has_nulls = 3;</code>
+         *
+         * <pre>
+         * over the row groups that have the column
+         * </pre>
          */
-        public static final int BINARY_VALUE = 3;
+        public Builder clearHasNulls() {
+          bitField0_ = (bitField0_ & ~0x00000004);
+          hasNulls_ = getDefaultInstance().getHasNulls();
+          onChanged();
+          return this;
+        }
+
+        // optional bytes has_max = 4;
+        private com.google.protobuf.ByteString hasMax_ = com.google.protobuf.ByteString.EMPTY;
         /**
-         * <code>FLOAT = 4;</code>
+         * <code>optional bytes has_max = 4;</code>
+         *
+         * <pre>
+         * over the row groups that have the column
+         * </pre>
          */
-        public static final int FLOAT_VALUE = 4;
+        public boolean hasHasMax() {
+          return ((bitField0_ & 0x00000008) == 0x00000008);
+        }
         /**
-         * <code>DOUBLE = 5;</code>
+         * <code>optional bytes has_max = 4;</code>
+         *
+         * <pre>
+         * over the row groups that have the column
+         * </pre>
          */
-        public static final int DOUBLE_VALUE = 5;
+        public com.google.protobuf.ByteString getHasMax() {
+          return hasMax_;
+        }
         /**
-         * <code>INT96 = 6;</code>
+         * <code>optional bytes has_max = 4;</code>
+         *
+         * <pre>
+         * over the row groups that have the column
+         * </pre>
          */
-        public static final int INT96_VALUE = 6;
+        public Builder setHasMax(com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+          hasMax_ = value;
+          onChanged();
+          return this;
+        }
         /**
-         * <code>FIXED_LEN_BYTE_ARRAY = 7;</code>
+         * <code>optional bytes has_max = 4;</code>
+         *
+         * <pre>
+         * over the row groups that have the column
+         * </pre>
          */
-        public static final int FIXED_LEN_BYTE_ARRAY_VALUE = 7;
-
-
-        public final int getNumber() { return value; }
-
-        public static PrimitiveTypeName valueOf(int value) {
-          switch (value) {
-            case 0: return INT64;
-            case 1: return INT32;
-            case 2: return BOOLEAN;
-            case 3: return BINARY;
-            case 4: return FLOAT;
-            case 5: return DOUBLE;
-            case 6: return INT96;
-            case 7: return FIXED_LEN_BYTE_ARRAY;
-            default: return null;
-          }
-        }
-
-        public static com.google.protobuf.Internal.EnumLiteMap<PrimitiveTypeName>
-            internalGetValueMap() {
-          return internalValueMap;
-        }
-        private static com.google.protobuf.Internal.EnumLiteMap<PrimitiveTypeName>
-            internalValueMap =
-              new com.google.protobuf.Internal.EnumLiteMap<PrimitiveTypeName>() {
-                public PrimitiveTypeName findValueByNumber(int number) {
-                  return PrimitiveTypeName.valueOf(number);
-                }
-              };
-
-        public final com.google.protobuf.Descriptors.EnumValueDescriptor
-            getValueDescriptor() {
-          return getDescriptor().getValues().get(index);
-        }
-        public final com.google.protobuf.Descriptors.EnumDescriptor
-            getDescriptorForType() {
-          return getDescriptor();
-        }
-        public static final com.google.protobuf.Descriptors.EnumDescriptor
-            getDescriptor() {
-          return com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.getDescriptor().getEnumTypes().get(0);
+        public Builder clearHasMax() {
+          bitField0_ = (bitField0_ & ~0x00000008);
+          hasMax_ = getDefaultInstance().getHasMax();
+          onChanged();
+          return this;
         }
 
-        private static final PrimitiveTypeName[] VALUES = values();
-
-        public static PrimitiveTypeName valueOf(
-            com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
-          if (desc.getType() != getDescriptor()) {
-            throw new java.lang.IllegalArgumentException(
-              "EnumValueDescriptor is not for this type.");
-          }
-          return VALUES[desc.getIndex()];
+        // repeated uint64 nulls = 5 [packed = true];
+        private java.util.List<java.lang.Long> nulls_ = java.util.Collections.emptyList();
+        private void ensureNullsIsMutable() {
+          if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+            nulls_ = new java.util.ArrayList<java.lang.Long>(nulls_);
+            bitField0_ |= 0x00000010;
+           }
         }
-
-        private final int index;
-        private final int value;
-
-        private PrimitiveTypeName(int index, int value) {
-          this.index = index;
-          this.value = value;
+        /**
+         * <code>repeated uint64 nulls = 5 [packed = true];</code>
+         *
+         * <pre>
+         * of the row groups that have nulls
+         * </pre>
+         */
+        public java.util.List<java.lang.Long>
+            getNullsList() {
+          return java.util.Collections.unmodifiableList(nulls_);
         }
-
-        // @@protoc_insertion_point(enum_scope:metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName)
-      }
-
-      /**
-       * Protobuf enum {@code metadata.MetadataColumns.ColumnTypeInfo.OriginalType}
-       */
-      public enum OriginalType
-          implements com.google.protobuf.ProtocolMessageEnum {
         /**
-         * <code>MAP = 0;</code>
+         * <code>repeated uint64 nulls = 5 [packed = true];</code>
+         *
+         * <pre>
+         * of the row groups that have nulls
+         * </pre>
          */
-        MAP(0, 0),
+        public int getNullsCount() {
+          return nulls_.size();
+        }
         /**
-         * <code>LIST = 1;</code>
+         * <code>repeated uint64 nulls = 5 [packed = true];</code>
+         *
+         * <pre>
+         * of the row groups that have nulls
+         * </pre>
          */
-        LIST(1, 1),
+        public long getNulls(int index) {
+          return nulls_.get(index);
+        }
         /**
-         * <code>UTF8 = 2;</code>
+         * <code>repeated uint64 nulls = 5 [packed = true];</code>
+         *
+         * <pre>
+         * of the row groups that have nulls
+         * </pre>
          */
-        UTF8(2, 2),
+        public Builder setNulls(
+            int index, long value) {
+          ensureNullsIsMutable();
+          nulls_.set(index, value);
+          onChanged();
+          return this;
+        }
         /**
-         * <code>MAP_KEY_VALUE = 3;</code>
+         * <code>repeated uint64 nulls = 5 [packed = true];</code>
+         *
+         * <pre>
+         * of the row groups that have nulls
+         * </pre>
          */
-        MAP_KEY_VALUE(3, 3),
+        public Builder addNulls(long value) {
+          ensureNullsIsMutable();
+          nulls_.add(value);
+          onChanged();
+          return this;
+        }
         /**
-         * <code>ENUM = 4;</code>
+         * <code>repeated uint64 nulls = 5 [packed = true];</code>
+         *
+         * <pre>
+         * of the row groups that have nulls
+         * </pre>
          */
-        ENUM(4, 4),
+        public Builder addAllNulls(
+            java.lang.Iterable<? extends java.lang.Long> values) {
+          ensureNullsIsMutable();
+          super.addAll(values, nulls_);
+          onChanged();
+          return this;
+        }
         /**
-         * <code>DECIMAL = 5;</code>
+         * <code>repeated uint64 nulls = 5 [packed = true];</code>
+         *
+         * <pre>
+         * of the row groups that have nulls
+         * </pre>
          */
-        DECIMAL(5, 5),
+        public Builder clearNulls() {
+          nulls_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          onChanged();
+          return this;
+        }
+
+        // repeated sint64 vint64 = 6 [packed = true];
+        private java.util.List<java.lang.Long> vint64_ = java.util.Collections.emptyList();
+        private void ensureVint64IsMutable() {
+          if (!((bitField0_ & 0x00000020) == 0x00000020)) {
+            vint64_ = new java.util.ArrayList<java.lang.Long>(vint64_);
+            bitField0_ |= 0x00000020;
+           }
+        }
         /**
-         * <code>DATE = 6;</code>
+         * <code>repeated sint64 vint64 = 6 [packed = true];</code>
+         *
+         * <pre>
+         * max values of the row groups that have one, only the field used by the column's type is set
+         * </pre>
          */
-        DATE(6, 6),
+        public java.util.List<java.lang.Long>
+            getVint64List() {
+          return java.util.Collections.unmodifiableList(vint64_);
+        }
         /**
-         * <code>TIME_MILLIS = 7;</code>
+         * <code>repeated sint64 vint64 = 6 [packed = true];</code>
+         *
+         * <pre>
+         * max values of the row groups that have one, only the field used by the column's type is set
+         * </pre>
          */
-        TIME_MILLIS(7, 7),
+        public int getVint64Count() {
+          return vint64_.size();
+        }
         /**
-         * <code>TIMESTAMP_MILLIS = 8;</code>
+         * <code>repeated sint64 vint64 = 6 [packed = true];</code>
+         *
+         * <pre>
+         * max values of the row groups that have one, only the field used by the column's type is set
+         * </pre>
          */
-        TIMESTAMP_MILLIS(8, 8),
+        public long getVint64(int index) {
+          return vint64_.get(index);
+        }
         /**
-         * <code>UINT_8 = 9;</code>
+         * <code>repeated sint64 vint64 = 6 [packed = true];</code>
+         *
+         * <pre>
+         * max values of the row groups that have one, only the field used by the column's type is set
+         * </pre>
          */
-        UINT_8(9, 9),
+        public Builder setVint64(
+            int index, long value) {
+          ensureVint64IsMutable();
+          vint64_.set(index, value);
+          onChanged();
+          return this;
+        }
         /**
-         * <code>UINT_16 = 10;</code>
+         * <code>repeated sint64 vint64 = 6 [packed = true];</code>
+         *
+         * <pre>
+         * max values of the row groups that have one, only the field used by the column's type is set
+         * </pre>
          */
-        UINT_16(10, 10),
+        public Builder addVint64(long value) {
+          ensureVint64IsMutable();
+          vint64_.add(value);
+          onChanged();
+          return this;
+        }
         /**
-         * <code>UINT_32 = 11;</code>
+         * <code>repeated sint64 vint64 = 6 [packed = true];</code>
+         *
+         * <pre>
+         * max values of the row groups that have one, only the field used by the column's type is set
+         * </pre>
          */
-        UINT_32(11, 11),
+        public Builder addAllVint64(
+            java.lang.Iterable<? extends java.lang.Long> values) {
+          ensureVint64IsMutable();
+          super.addAll(values, vint64_);
+          onChanged();
+          return this;
+        }
         /**
-         * <code>UINT_64 = 12;</code>
+         * <code>repeated sint64 vint64 = 6 [packed = true];</code>
+         *
+         * <pre>
+         * max values of the row groups that have one, only the field used by the column's type is set
+         * </pre>
          */
-        UINT_64(12, 12),
+        public Builder clearVint64() {
+          vint64_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+          onChanged();
+          return this;
+        }
+
+        // repeated sint32 vint32 = 7 [packed = true];
+        private java.util.List<java.lang.Integer> vint32_ = java.util.Collections.emptyList();
+        private void ensureVint32IsMutable() {
+          if (!((bitField0_ & 0x00000040) == 0x00000040)) {
+            vint32_ = new java.util.ArrayList<java.lang.Integer>(vint32_);
+            bitField0_ |= 0x00000040;
+           }
+        }
         /**
-         * <code>INT_8 = 13;</code>
+         * <code>repeated sint32 vint32 = 7 [packed = true];</code>
          */
-        INT_8(13, 13),
+        public java.util.List<java.lang.Integer>
+            getVint32List() {
+          return java.util.Collections.unmodifiableList(vint32_);
+        }
         /**
-         * <code>INT_16 = 14;</code>
+         * <code>repeated sint32 vint32 = 7 [packed = true];</code>
          */
-        INT_16(14, 14),
+        public int getVint32Count() {
+          return vint32_.size();
+        }
         /**
-         * <code>INT_32 = 15;</code>
+         * <code>repeated sint32 vint32 = 7 [packed = true];</code>
          */
-        INT_32(15, 15),
+        public int getVint32(int index) {
+          return vint32_.get(index);
+        }
         /**
-         * <code>INT_64 = 16;</code>
+         * <code>repeated sint32 vint32 = 7 [packed = true];</code>
          */
-        INT_64(16, 16),
+        public Builder setVint32(
+            int index, int value) {
+          ensureVint32IsMutable();
+          vint32_.set(index, value);
+          onChanged();
+          return this;
+        }
         /**
-         * <code>JSON = 17;</code>
+         * <code>repeated sint32 vint32 = 7 [packed = true];</code>
          */
-        JSON(17, 17),
+        public Builder addVint32(int value) {
+          ensureVint32IsMutable();
+          vint32_.add(value);
+          onChanged();
+          return this;
+        }
         /**
-         * <code>BSON = 18;</code>
+         * <code>repeated sint32 vint32 = 7 [packed = true];</code>
          */
-        BSON(18, 18),
+        public Builder addAllVint32(
+            java.lang.Iterable<? extends java.lang.Integer> values) {
+          ensureVint32IsMutable();
+          super.addAll(values, vint32_);
+          onChanged();
+          return this;
+        }
         /**
-         * <code>INTERVAL = 19;</code>
+         * <code>repeated sint32 vint32 = 7 [packed = true];</code>
          */
-        INTERVAL(19, 19),
-        ;
+        public Builder clearVint32() {
+          vint32_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000040);
+          onChanged();
+          return this;
+        }
 
+        // repeated bool vbool = 8 [packed = true];
+        private java.util.List<java.lang.Boolean> vbool_ = java.util.Collections.emptyList();
+        private void ensureVboolIsMutable() {
+          if (!((bitField0_ & 0x00000080) == 0x00000080)) {
+            vbool_ = new java.util.ArrayList<java.lang.Boolean>(vbool_);
+            bitField0_ |= 0x00000080;
+           }
+        }
         /**
-         * <code>MAP = 0;</code>
+         * <code>repeated bool vbool = 8 [packed = true];</code>
          */
-        public static final int MAP_VALUE = 0;
+        public java.util.List<java.lang.Boolean>
+            getVboolList() {
+          return java.util.Collections.unmodifiableList(vbool_);
+        }
         /**
-         * <code>LIST = 1;</code>
+         * <code>repeated bool vbool = 8 [packed = true];</code>
          */
-        public static final int LIST_VALUE = 1;
+        public int getVboolCount() {
+          return vbool_.size();
+        }
         /**
-         * <code>UTF8 = 2;</code>
+         * <code>repeated bool vbool = 8 [packed = true];</code>
          */
-        public static final int UTF8_VALUE = 2;
+        public boolean getVbool(int index) {
+          return vbool_.get(index);
+        }
         /**
-         * <code>MAP_KEY_VALUE = 3;</code>
+         * <code>repeated bool vbool = 8 [packed = true];</code>
          */
-        public static final int MAP_KEY_VALUE_VALUE = 3;
+        public Builder setVbool(
+            int index, boolean value) {
+          ensureVboolIsMutable();
+          vbool_.set(index, value);
+          onChanged();
+          return this;
+        }
         /**
-         * <code>ENUM = 4;</code>
+         * <code>repeated bool vbool = 8 [packed = true];</code>
          */
-        public static final int ENUM_VALUE = 4;
+        public Builder addVbool(boolean value) {
+          ensureVboolIsMutable();
+          vbool_.add(value);
+          onChanged();
+          return this;
+        }
         /**
-         * <code>DECIMAL = 5;</code>
+         * <code>repeated bool vbool = 8 [packed = true];</code>
          */
-        public static final int DECIMAL_VALUE = 5;
+        public Builder addAllVbool(
+            java.lang.Iterable<? extends java.lang.Boolean> values) {
+          ensureVboolIsMutable();
+          super.addAll(values, vbool_);
+          onChanged();
+          return this;
+        }
         /**
-         * <code>DATE = 6;</code>
+         * <code>repeated bool vbool = 8 [packed = true];</code>
          */
-        public static final int DATE_VALUE = 6;
+        public Builder clearVbool() {
+          vbool_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000080);
+          onChanged();
+          return this;
+        }
+
+        // repeated bytes vbinary = 9;
+        private java.util.List<com.google.protobuf.ByteString> vbinary_ = java.util.Collections.emptyList();
+        private void ensureVbinaryIsMutable() {
+          if (!((bitField0_ & 0x00000100) == 0x00000100)) {
+            vbinary_ = new java.util.ArrayList<com.google.protobuf.ByteString>(vbinary_);
+            bitField0_ |= 0x00000100;
+           }
+        }
         /**
-         * <code>TIME_MILLIS = 7;</code>
+         * <code>repeated bytes vbinary = 9;</code>
          */
-        public static final int TIME_MILLIS_VALUE = 7;
+        public java.util.List<com.google.protobuf.ByteString>
+            getVbinaryList() {
+          return java.util.Collections.unmodifiableList(vbinary_);
+        }
         /**
-         * <code>TIMESTAMP_MILLIS = 8;</code>
+         * <code>repeated bytes vbinary = 9;</code>
          */
-        public static final int TIMESTAMP_MILLIS_VALUE = 8;
+        public int getVbinaryCount() {
+          return vbinary_.size();
+        }
         /**
-         * <code>UINT_8 = 9;</code>
+         * <code>repeated bytes vbinary = 9;</code>
          */
-        public static final int UINT_8_VALUE = 9;
+        public com.google.protobuf.ByteString getVbinary(int index) {
+          return vbinary_.get(index);
+        }
         /**
-         * <code>UINT_16 = 10;</code>
+         * <code>repeated bytes vbinary = 9;</code>
          */
-        public static final int UINT_16_VALUE = 10;
+        public Builder setVbinary(
+            int index, com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureVbinaryIsMutable();
+          vbinary_.set(index, value);
+          onChanged();
+          return this;
+        }
         /**
-         * <code>UINT_32 = 11;</code>
+         * <code>repeated bytes vbinary = 9;</code>
          */
-        public static final int UINT_32_VALUE = 11;
+        public Builder addVbinary(com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureVbinaryIsMutable();
+          vbinary_.add(value);
+          onChanged();
+          return this;
+        }
         /**
-         * <code>UINT_64 = 12;</code>
+         * <code>repeated bytes vbinary = 9;</code>
          */
-        public static final int UINT_64_VALUE = 12;
+        public Builder addAllVbinary(
+            java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+          ensureVbinaryIsMutable();
+          super.addAll(values, vbinary_);
+          onChanged();
+          return this;
+        }
         /**
-         * <code>INT_8 = 13;</code>
+         * <code>repeated bytes vbinary = 9;</code>
          */
-        public static final int INT_8_VALUE = 13;
+        public Builder clearVbinary() {
+          vbinary_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000100);
+          onChanged();
+          return this;
+        }
+
+        // repeated float vfloat = 10 [packed = true];
+        private java.util.List<java.lang.Float> vfloat_ = java.util.Collections.emptyList();
+        private void ensureVfloatIsMutable() {
+          if (!((bitField0_ & 0x00000200) == 0x00000200)) {
+            vfloat_ = new java.util.ArrayList<java.lang.Float>(vfloat_);
+            bitField0_ |= 0x00000200;
+           }
+        }
         /**
-         * <code>INT_16 = 14;</code>
+         * <code>repeated float vfloat = 10 [packed = true];</code>
          */
-        public static final int INT_16_VALUE = 14;
+        public java.util.List<java.lang.Float>
+            getVfloatList() {
+          return java.util.Collections.unmodifiableList(vfloat_);
+        }
         /**
-         * <code>INT_32 = 15;</code>
+         * <code>repeated float vfloat = 10 [packed = true];</code>
          */
-        public static final int INT_32_VALUE = 15;
+        public int getVfloatCount() {
+          return vfloat_.size();
+        }
         /**
-         * <code>INT_64 = 16;</code>
+         * <code>repeated float vfloat = 10 [packed = true];</code>
          */
-        public static final int INT_64_VALUE = 16;
+        public float getVfloat(int index) {
+          return vfloat_.get(index);
+        }
         /**
-         * <code>JSON = 17;</code>
+         * <code>repeated float vfloat = 10 [packed = true];</code>
          */
-        public static final int JSON_VALUE = 17;
+        public Builder setVfloat(
+            int index, float value) {
+          ensureVfloatIsMutable();
+          vfloat_.set(index, value);
+          onChanged();
+          return this;
+        }
         /**
-         * <code>BSON = 18;</code>
+         * <code>repeated float vfloat = 10 [packed = true];</code>
          */
-        public static final int BSON_VALUE = 18;
+        public Builder addVfloat(float value) {
+          ensureVfloatIsMutable();
+          vfloat_.add(value);
+          onChanged();
+          return this;
+        }
         /**
-         * <code>INTERVAL = 19;</code>
+         * <code>repeated float vfloat = 10 [packed = true];</code>
          */
-        public static final int INTERVAL_VALUE = 19;
-
-
-        public final int getNumber() { return value; }
-
-        public static OriginalType valueOf(int value) {
-          switch (value) {
-            case 0: return MAP;
-            case 1: return LIST;
-            case 2: return UTF8;
-            case 3: return MAP_KEY_VALUE;
-            case 4: return ENUM;
-            case 5: return DECIMAL;
-            case 6: return DATE;
-            case 7: return TIME_MILLIS;
-            case 8: return TIMESTAMP_MILLIS;
-            case 9: return UINT_8;
-            case 10: return UINT_16;
-            case 11: return UINT_32;
-            case 12: return UINT_64;
-            case 13: return INT_8;
-            case 14: return INT_16;
-            case 15: return INT_32;
-            case 16: return INT_64;
-            case 17: return JSON;
-            case 18: return BSON;
-            case 19: return INTERVAL;
-            default: return null;
-          }
+        public Builder addAllVfloat(
+            java.lang.Iterable<? extends java.lang.Float> values) {
+          ensureVfloatIsMutable();
+          super.addAll(values, vfloat_);
+          onChanged();
+          return this;
         }
-
-        public static com.google.protobuf.Internal.EnumLiteMap<OriginalType>
-            internalGetValueMap() {
-          return internalValueMap;
+        /**
+         * <code>repeated float vfloat = 10 [packed = true];</code>
+         */
+        public Builder clearVfloat() {
+          vfloat_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000200);
+          onChanged();
+          return this;
         }
-        private static com.google.protobuf.Internal.EnumLiteMap<OriginalType>
-            internalValueMap =
-              new com.google.protobuf.Internal.EnumLiteMap<OriginalType>() {
-                public OriginalType findValueByNumber(int number) {
-                  return OriginalType.valueOf(number);
-                }
-              };
 
-        public final com.google.protobuf.Descriptors.EnumValueDescriptor
-            getValueDescriptor() {
-          return getDescriptor().getValues().get(index);
+        // repeated double vdouble = 11 [packed = true];
+        private java.util.List<java.lang.Double> vdouble_ = java.util.Collections.emptyList();
+        private void ensureVdoubleIsMutable() {
+          if (!((bitField0_ & 0x00000400) == 0x00000400)) {
+            vdouble_ = new java.util.ArrayList<java.lang.Double>(vdouble_);
+            bitField0_ |= 0x00000400;
+           }
         }
-        public final com.google.protobuf.Descriptors.EnumDescriptor
-            getDescriptorForType() {
-          return getDescriptor();
+        /**
+         * <code>repeated double vdouble = 11 [packed = true];</code>
+         */
+        public java.util.List<java.lang.Double>
+            getVdoubleList() {
+          return java.util.Collections.unmodifiableList(vdouble_);
         }
-        public static final com.google.protobuf.Descriptors.EnumDescriptor
-            getDescriptor() {
-          return com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.getDescriptor().getEnumTypes().get(1);
+        /**
+         * <code>repeated double vdouble = 11 [packed = true];</code>
+         */
+        public int getVdoubleCount() {
+          return vdouble_.size();
         }
-
-        private static final OriginalType[] VALUES = values();
-
-        public static OriginalType valueOf(
-            com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
-          if (desc.getType() != getDescriptor()) {
-            throw new java.lang.IllegalArgumentException(
-              "EnumValueDescriptor is not for this type.");
-          }
-          return VALUES[desc.getIndex()];
+        /**
+         * <code>repeated double vdouble = 11 [packed = true];</code>
+         */
+        public double getVdouble(int index) {
+          return vdouble_.get(index);
         }
-
-        private final int index;
-        private final int value;
-
-        private OriginalType(int index, int value) {
-          this.index = index;
-          this.value = value;
+        /**
+         * <code>repeated double vdouble = 11 [packed = true];</code>
+         */
+        public Builder setVdouble(
+            int index, double value) {
+          ensureVdoubleIsMutable();
+          vdouble_.set(index, value);
+          onChanged();
+          return this;
         }
-
-        // @@protoc_insertion_point(enum_scope:metadata.MetadataColumns.ColumnTypeInfo.OriginalType)
-      }
-
-      private int bitField0_;
-      // optional string name = 1;
-      public static final int NAME_FIELD_NUMBER = 1;
-      private java.lang.Object name_;
-      /**
-       * <code>optional string name = 1;</code>
-       */
-      public boolean hasName() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
-      }
-      /**
-       * <code>optional string name = 1;</code>
-       */
-      public java.lang.String getName() {
-        java.lang.Object ref = name_;
-        if (ref instanceof java.lang.String) {
-          return (java.lang.String) ref;
-        } else {
-          com.google.protobuf.ByteString bs = 
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            name_ = s;
-          }
-          return s;
+        /**
+         * <code>repeated double vdouble = 11 [packed = true];</code>
+         */
+        public Builder addVdouble(double value) {
+          ensureVdoubleIsMutable();
+          vdouble_.add(value);
+          onChanged();
+          return this;
         }
-      }
-      /**
-       * <code>optional string name = 1;</code>
-       */
-      public com.google.protobuf.ByteString
-          getNameBytes() {
-        java.lang.Object ref = name_;
-        if (ref instanceof java.lang.String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          name_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
+        /**
+         * <code>repeated double vdouble = 11 [packed = true];</code>
+         */
+        public Builder addAllVdouble(
+            java.lang.Iterable<? extends java.lang.Double> values) {
+          ensureVdoubleIsMutable();
+          super.addAll(values, vdouble_);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated double vdouble = 11 [packed = true];</code>
+         */
+        public Builder clearVdouble() {
+          vdouble_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000400);
+          onChanged();
+          return this;
         }
-      }
 
-      // optional .metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName primitiveType = 2;
-      public static final int PRIMITIVETYPE_FIELD_NUMBER = 2;
-      private com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName primitiveType_;
-      /**
-       * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName primitiveType = 2;</code>
-       */
-      public boolean hasPrimitiveType() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
-      }
-      /**
-       * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName primitiveType = 2;</code>
-       */
-      public com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName getPrimitiveType() {
-        return primitiveType_;
+        // @@protoc_insertion_point(builder_scope:metadata.ParquetFileMetadata.ColumnStats)
       }
 
-      // optional .metadata.MetadataColumns.ColumnTypeInfo.OriginalType originalType = 3;
-      public static final int ORIGINALTYPE_FIELD_NUMBER = 3;
-      private com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.OriginalType originalType_;
-      /**
-       * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.OriginalType originalType = 3;</code>
-       */
-      public boolean hasOriginalType() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+      static {
+        defaultInstance = new ColumnStats(true);
+        defaultInstance.initFields();
       }
-      /**
-       * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.OriginalType originalType = 3;</code>
-       */
-      public com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.OriginalType getOriginalType() {
-        return originalType_;
-      }
-
-      private void initFields() {
-        name_ = "";
-        primitiveType_ = com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName.INT64;
-        originalType_ = com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.OriginalType.MAP;
-      }
-      private byte memoizedIsInitialized = -1;
-      public final boolean isInitialized() {
-        byte isInitialized = memoizedIsInitialized;
-        if (isInitialized != -1) return isInitialized == 1;
 
-        memoizedIsInitialized = 1;
-        return true;
-      }
+      // @@protoc_insertion_point(class_scope:metadata.ParquetFileMetadata.ColumnStats)
+    }
 
-      public void writeTo(com.google.protobuf.CodedOutputStream output)
-                          throws java.io.IOException {
-        getSerializedSize();
-        if (((bitField0_ & 0x00000001) == 0x00000001)) {
-          output.writeBytes(1, getNameBytes());
-        }
-        if (((bitField0_ & 0x00000002) == 0x00000002)) {
-          output.writeEnum(2, primitiveType_.getNumber());
-        }
-        if (((bitField0_ & 0x00000004) == 0x00000004)) {
-          output.writeEnum(3, originalType_.getNumber());
+    private int bitField0_;
+    // optional string path = 1;
+    public static final int PATH_FIELD_NUMBER = 1;
+    private java.lang.Object path_;
+    /**
+     * <code>optional string path = 1;</code>
+     *
+     * <pre>
+     * relative to the directory if it is set
+     * </pre>
+     */
+    public boolean hasPath() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional string path = 1;</code>
+     *
+     * <pre>
+     * relative to the directory if it is set
+     * </pre>
+     */
+    public java.lang.String getPath() {
+      java.lang.Object ref = path_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          path_ = s;
         }
-        getUnknownFields().writeTo(output);
+        return s;
+      }
+    }
+    /**
+     * <code>optional string path = 1;</code>
+     *
+     * <pre>
+     * relative to the directory if it is set
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getPathBytes() {
+      java.lang.Object ref = path_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        path_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
+    }
 
-      private int memoizedSerializedSize = -1;
-      public int getSerializedSize() {
-        int size = memoizedSerializedSize;
-        if (size != -1) return size;
+    // optional uint64 length = 2;
+    public static final int LENGTH_FIELD_NUMBER = 2;
+    private long length_;
+    /**
+     * <code>optional uint64 length = 2;</code>
+     */
+    public boolean hasLength() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional uint64 length = 2;</code>
+     */
+    public long getLength() {
+      return length_;
+    }
 
-        size = 0;
-        if (((bitField0_ & 0x00000001) == 0x00000001)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeBytesSize(1, getNameBytes());
-        }
-        if (((bitField0_ & 0x00000002) == 0x00000002)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeEnumSize(2, primitiveType_.getNumber());
+    // repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;
+    public static final int ROWGROUPS_FIELD_NUMBER = 3;
+    private java.util.List<com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup> rowGroups_;
+    /**
+     * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+     */
+    public java.util.List<com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup> getRowGroupsList() {
+      return rowGroups_;
+    }
+    /**
+     * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+     */
+    public java.util.List<? extends com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroupOrBuilder> 
+        getRowGroupsOrBuilderList() {
+      return rowGroups_;
+    }
+    /**
+     * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+     */
+    public int getRowGroupsCount() {
+      return rowGroups_.size();
+    }
+    /**
+     * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+     */
+    public com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup getRowGroups(int index) {
+      return rowGroups_.get(index);
+    }
+    /**
+     * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+     */
+    public com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroupOrBuilder getRowGroupsOrBuilder(
+        int index) {
+      return rowGroups_.get(index);
+    }
+
+    // optional uint32 directory = 4;
+    public static final int DIRECTORY_FIELD_NUMBER = 4;
+    private int directory_;
+    /**
+     * <code>optional uint32 directory = 4;</code>
+     *
+     * <pre>
+     * index in the header's directories of the deepest one containing the file
+     * </pre>
+     */
+    public boolean hasDirectory() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional uint32 directory = 4;</code>
+     *
+     * <pre>
+     * index in the header's directories of the deepest one containing the file
+     * </pre>
+     */
+    public int getDirectory() {
+      return directory_;
+    }
+
+    // repeated .metadata.ParquetFileMetadata.ColumnStats column_stats = 5;
+    public static final int COLUMN_STATS_FIELD_NUMBER = 5;
+    private java.util.List<com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats> columnStats_;
+    /**
+     * <code>repeated .metadata.ParquetFileMetadata.ColumnStats column_stats = 5;</code>
+     *
+     * <pre>
+     * only used if the header has column_stats
+     * </pre>
+     */
+    public java.util.List<com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats> getColumnStatsList() {
+      return columnStats_;
+    }
+    /**
+     * <code>repeated .metadata.ParquetFileMetadata.ColumnStats column_stats = 5;</code>
+     *
+     * <pre>
+     * only used if the header has column_stats
+     * </pre>
+     */
+    public java.util.List<? extends com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStatsOrBuilder> 
+        getColumnStatsOrBuilderList() {
+      return columnStats_;
+    }
+    /**
+     * <code>repeated .metadata.ParquetFileMetadata.ColumnStats column_stats = 5;</code>
+     *
+     * <pre>
+     * only used if the header has column_stats
+     * </pre>
+     */
+    public int getColumnStatsCount() {
+      return columnStats_.size();
+    }
+    /**
+     * <code>repeated .metadata.ParquetFileMetadata.ColumnStats column_stats = 5;</code>
+     *
+     * <pre>
+     * only used if the header has column_stats
+     * </pre>
+     */
+    public com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats getColumnStats(int index) {
+      return columnStats_.get(index);
+    }
+    /**
+     * <code>repeated .metadata.ParquetFileMetadata.ColumnStats column_stats = 5;</code>
+     *
+     * <pre>
+     * only used if the header has column_stats
+     * </pre>
+     */
+    public com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStatsOrBuilder getColumnStatsOrBuilder(
+        int index) {
+      return columnStats_.get(index);
+    }
+
+    private void initFields() {
+      path_ = "";
+      length_ = 0L;
+      rowGroups_ = java.util.Collections.emptyList();
+      directory_ = 0;
+      columnStats_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      for (int i = 0; i < getRowGroupsCount(); i++) {
+        if (!getRowGroups(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
         }
-        if (((bitField0_ & 0x00000004) == 0x00000004)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeEnumSize(3, originalType_.getNumber());
+      }
+      for (int i = 0; i < getColumnStatsCount(); i++) {
+        if (!getColumnStats(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
         }
-        size += getUnknownFields().getSerializedSize();
-        memoizedSerializedSize = size;
-        return size;
       }
+      memoizedIsInitialized = 1;
+      return true;
+    }
 
-      private static final long serialVersionUID = 0L;
-      @java.lang.Override
-      protected java.lang.Object writeReplace()
-          throws java.io.ObjectStreamException {
-        return super.writeReplace();
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getPathBytes());
       }
-
-      public static com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo parseFrom(
-          com.google.protobuf.ByteString data)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data);
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeUInt64(2, length_);
       }
-      public static com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo parseFrom(
-          com.google.protobuf.ByteString data,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data, extensionRegistry);
+      for (int i = 0; i < rowGroups_.size(); i++) {
+        output.writeMessage(3, rowGroups_.get(i));
       }
-      public static com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo parseFrom(byte[] data)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data);
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeUInt32(4, directory_);
       }
-      public static com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo parseFrom(
-          byte[] data,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data, extensionRegistry);
+      for (int i = 0; i < columnStats_.size(); i++) {
+        output.writeMessage(5, columnStats_.get(i));
       }
-      public static com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo parseFrom(java.io.InputStream input)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input);
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getPathBytes());
       }
-      public static com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo parseFrom(
-          java.io.InputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input, extensionRegistry);
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, length_);
       }
-      public static com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo parseDelimitedFrom(java.io.InputStream input)
-          throws java.io.IOException {
-        return PARSER.parseDelimitedFrom(input);
+      for (int i = 0; i < rowGroups_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, rowGroups_.get(i));
       }
-      public static com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo parseDelimitedFrom(
-          java.io.InputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(4, directory_);
       }
-      public static com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo parseFrom(
-          com.google.protobuf.CodedInputStream input)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input);
+      for (int i = 0; i < columnStats_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, columnStats_.get(i));
       }
-      public static com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo parseFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input, extensionRegistry);
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.adeneche.metadata.Metadata.ParquetFileMetadata parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.adeneche.metadata.Metadata.ParquetFileMetadata parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.adeneche.metadata.Metadata.ParquetFileMetadata parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.adeneche.metadata.Metadata.ParquetFileMetadata parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.adeneche.metadata.Metadata.ParquetFileMetadata parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.adeneche.metadata.Metadata.ParquetFileMetadata parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.adeneche.metadata.Metadata.ParquetFileMetadata parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.adeneche.metadata.Metadata.ParquetFileMetadata parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.adeneche.metadata.Metadata.ParquetFileMetadata parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.adeneche.metadata.Metadata.ParquetFileMetadata parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.adeneche.metadata.Metadata.ParquetFileMetadata prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code metadata.ParquetFileMetadata}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.adeneche.metadata.Metadata.ParquetFileMetadataOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.adeneche.metadata.Metadata.internal_static_metadata_ParquetFileMetadata_descriptor;
       }
 
-      public static Builder newBuilder() { return Builder.create(); }
-      public Builder newBuilderForType() { return newBuilder(); }
-      public static Builder newBuilder(com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo prototype) {
-        return newBuilder().mergeFrom(prototype);
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.adeneche.metadata.Metadata.internal_static_metadata_ParquetFileMetadata_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.adeneche.metadata.Metadata.ParquetFileMetadata.class, com.adeneche.metadata.Metadata.ParquetFileMetadata.Builder.class);
       }
-      public Builder toBuilder() { return newBuilder(this); }
 
-      @java.lang.Override
-      protected Builder newBuilderForType(
+      // Construct using com.adeneche.metadata.Metadata.ParquetFileMetadata.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
           com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        Builder builder = new Builder(parent);
-        return builder;
+        super(parent);
+        maybeForceBuilderInitialization();
       }
-      /**
-       * Protobuf type {@code metadata.MetadataColumns.ColumnTypeInfo}
-       */
-      public static final class Builder extends
-          com.google.protobuf.GeneratedMessage.Builder<Builder>
-         implements com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfoOrBuilder {
-        public static final com.google.protobuf.Descriptors.Descriptor
-            getDescriptor() {
-          return com.adeneche.metadata.Metadata.internal_static_metadata_MetadataColumns_ColumnTypeInfo_descriptor;
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getRowGroupsFieldBuilder();
+          getColumnStatsFieldBuilder();
         }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
 
-        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-            internalGetFieldAccessorTable() {
-          return com.adeneche.metadata.Metadata.internal_static_metadata_MetadataColumns_ColumnTypeInfo_fieldAccessorTable
-              .ensureFieldAccessorsInitialized(
-                  com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.class, com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.Builder.class);
+      public Builder clear() {
+        super.clear();
+        path_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        length_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (rowGroupsBuilder_ == null) {
+          rowGroups_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        } else {
+          rowGroupsBuilder_.clear();
+        }
+        directory_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        if (columnStatsBuilder_ == null) {
+          columnStats_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+        } else {
+          columnStatsBuilder_.clear();
         }
+        return this;
+      }
 
-        // Construct using com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.newBuilder()
-        private Builder() {
-          maybeForceBuilderInitialization();
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.adeneche.metadata.Metadata.internal_static_metadata_ParquetFileMetadata_descriptor;
+      }
+
+      public com.adeneche.metadata.Metadata.ParquetFileMetadata getDefaultInstanceForType() {
+        return com.adeneche.metadata.Metadata.ParquetFileMetadata.getDefaultInstance();
+      }
+
+      public com.adeneche.metadata.Metadata.ParquetFileMetadata build() {
+        com.adeneche.metadata.Metadata.ParquetFileMetadata result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
         }
+        return result;
+      }
 
-        private Builder(
-            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-          super(parent);
-          maybeForceBuilderInitialization();
+      public com.adeneche.metadata.Metadata.ParquetFileMetadata buildPartial() {
+        com.adeneche.metadata.Metadata.ParquetFileMetadata result = new com.adeneche.metadata.Metadata.ParquetFileMetadata(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
         }
-        private void maybeForceBuilderInitialization() {
-          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        result.path_ = path_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.length_ = length_;
+        if (rowGroupsBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004)) {
+            rowGroups_ = java.util.Collections.unmodifiableList(rowGroups_);
+            bitField0_ = (bitField0_ & ~0x00000004);
           }
+          result.rowGroups_ = rowGroups_;
+        } else {
+          result.rowGroups_ = rowGroupsBuilder_.build();
         }
-        private static Builder create() {
-          return new Builder();
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000004;
         }
-
-        public Builder clear() {
-          super.clear();
-          name_ = "";
-          bitField0_ = (bitField0_ & ~0x00000001);
-          primitiveType_ = com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName.INT64;
-          bitField0_ = (bitField0_ & ~0x00000002);
-          originalType_ = com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.OriginalType.MAP;
-          bitField0_ = (bitField0_ & ~0x00000004);
-          return this;
+        result.directory_ = directory_;
+        if (columnStatsBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) == 0x00000010)) {
+            columnStats_ = java.util.Collections.unmodifiableList(columnStats_);
+            bitField0_ = (bitField0_ & ~0x00000010);
+          }
+          result.columnStats_ = columnStats_;
+        } else {
+          result.columnStats_ = columnStatsBuilder_.build();
         }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
 
-        public Builder clone() {
-          return create().mergeFrom(buildPartial());
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.adeneche.metadata.Metadata.ParquetFileMetadata) {
+          return mergeFrom((com.adeneche.metadata.Metadata.ParquetFileMetadata)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
         }
+      }
 
-        public com.google.protobuf.Descriptors.Descriptor
-            getDescriptorForType() {
-          return com.adeneche.metadata.Metadata.internal_static_metadata_MetadataColumns_ColumnTypeInfo_descriptor;
+      public Builder mergeFrom(com.adeneche.metadata.Metadata.ParquetFileMetadata other) {
+        if (other == com.adeneche.metadata.Metadata.ParquetFileMetadata.getDefaultInstance()) return this;
+        if (other.hasPath()) {
+          bitField0_ |= 0x00000001;
+          path_ = other.path_;
+          onChanged();
         }
-
-        public com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo getDefaultInstanceForType() {
-          return com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.getDefaultInstance();
+        if (other.hasLength()) {
+          setLength(other.getLength());
         }
-
-        public com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo build() {
-          com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo result = buildPartial();
-          if (!result.isInitialized()) {
-            throw newUninitializedMessageException(result);
+        if (rowGroupsBuilder_ == null) {
+          if (!other.rowGroups_.isEmpty()) {
+            if (rowGroups_.isEmpty()) {
+              rowGroups_ = other.rowGroups_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureRowGroupsIsMutable();
+              rowGroups_.addAll(other.rowGroups_);
+            }
+            onChanged();
           }
-          return result;
-        }
-
-        public com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo buildPartial() {
-          com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo result = new com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo(this);
-          int from_bitField0_ = bitField0_;
-          int to_bitField0_ = 0;
-          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-            to_bitField0_ |= 0x00000001;
-          }
-          result.name_ = name_;
-          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-            to_bitField0_ |= 0x00000002;
-          }
-          result.primitiveType_ = primitiveType_;
-          if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-            to_bitField0_ |= 0x00000004;
+        } else {
+          if (!other.rowGroups_.isEmpty()) {
+            if (rowGroupsBuilder_.isEmpty()) {
+              rowGroupsBuilder_.dispose();
+              rowGroupsBuilder_ = null;
+              rowGroups_ = other.rowGroups_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              rowGroupsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getRowGroupsFieldBuilder() : null;
+            } else {
+              rowGroupsBuilder_.addAllMessages(other.rowGroups_);
+            }
           }
-          result.originalType_ = originalType_;
-          result.bitField0_ = to_bitField0_;
-          onBuilt();
-          return result;
         }
-
-        public Builder mergeFrom(com.google.protobuf.Message other) {
-          if (other instanceof com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo) {
-            return mergeFrom((com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo)other);
-          } else {
-            super.mergeFrom(other);
-            return this;
-          }
+        if (other.hasDirectory()) {
+          setDirectory(other.getDirectory());
         }
-
-        public Builder mergeFrom(com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo other) {
-          if (other == com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.getDefaultInstance()) return this;
-          if (other.hasName()) {
-            bitField0_ |= 0x00000001;
-            name_ = other.name_;
+        if (columnStatsBuilder_ == null) {
+          if (!other.columnStats_.isEmpty()) {
+            if (columnStats_.isEmpty()) {
+              columnStats_ = other.columnStats_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+            } else {
+              ensureColumnStatsIsMutable();
+              columnStats_.addAll(other.columnStats_);
+            }
             onChanged();
           }
-          if (other.hasPrimitiveType()) {
-            setPrimitiveType(other.getPrimitiveType());
-          }
-          if (other.hasOriginalType()) {
-            setOriginalType(other.getOriginalType());
+        } else {
+          if (!other.columnStats_.isEmpty()) {
+            if (columnStatsBuilder_.isEmpty()) {
+              columnStatsBuilder_.dispose();
+              columnStatsBuilder_ = null;
+              columnStats_ = other.columnStats_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+              columnStatsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getColumnStatsFieldBuilder() : null;
+            } else {
+              columnStatsBuilder_.addAllMessages(other.columnStats_);
+            }
           }
-          this.mergeUnknownFields(other.getUnknownFields());
-          return this;
         }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
 
-        public final boolean isInitialized() {
-          return true;
+      public final boolean isInitialized() {
+        for (int i = 0; i < getRowGroupsCount(); i++) {
+          if (!getRowGroups(i).isInitialized()) {
+            
+            return false;
+          }
         }
-
-        public Builder mergeFrom(
-            com.google.protobuf.CodedInputStream input,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws java.io.IOException {
-          com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo parsedMessage = null;
-          try {
-            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-            parsedMessage = (com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo) e.getUnfinishedMessage();
-            throw e;
-          } finally {
-            if (parsedMessage != null) {
-              mergeFrom(parsedMessage);
-            }
+        for (int i = 0; i < getColumnStatsCount(); i++) {
+          if (!getColumnStats(i).isInitialized()) {
+            
+            return false;
           }
-          return this;
         }
-        private int bitField0_;
+        return true;
+      }
 
-        // optional string name = 1;
-        private java.lang.Object name_ = "";
-        /**
-         * <code>optional string name = 1;</code>
-         */
-        public boolean hasName() {
-          return ((bitField0_ & 0x00000001) == 0x00000001);
-        }
-        /**
-         * <code>optional string name = 1;</code>
-         */
-        public java.lang.String getName() {
-          java.lang.Object ref = name_;
-          if (!(ref instanceof java.lang.String)) {
-            java.lang.String s = ((com.google.protobuf.ByteString) ref)
-                .toStringUtf8();
-            name_ = s;
-            return s;
-          } else {
-            return (java.lang.String) ref;
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.adeneche.metadata.Metadata.ParquetFileMetadata parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.adeneche.metadata.Metadata.ParquetFileMetadata) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
           }
         }
-        /**
-         * <code>optional string name = 1;</code>
-         */
-        public com.google.protobuf.ByteString
-            getNameBytes() {
-          java.lang.Object ref = name_;
-          if (ref instanceof String) {
-            com.google.protobuf.ByteString b = 
-                com.google.protobuf.ByteString.copyFromUtf8(
-                    (java.lang.String) ref);
-            name_ = b;
-            return b;
-          } else {
-            return (com.google.protobuf.ByteString) ref;
-          }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional string path = 1;
+      private java.lang.Object path_ = "";
+      /**
+       * <code>optional string path = 1;</code>
+       *
+       * <pre>
+       * relative to the directory if it is set
+       * </pre>
+       */
+      public boolean hasPath() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string path = 1;</code>
+       *
+       * <pre>
+       * relative to the directory if it is set
+       * </pre>
+       */
+      public java.lang.String getPath() {
+        java.lang.Object ref = path_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          path_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
         }
-        /**
-         * <code>optional string name = 1;</code>
-         */
-        public Builder setName(
-            java.lang.String value) {
-          if (value == null) {
+      }
+      /**
+       * <code>optional string path = 1;</code>
+       *
+       * <pre>
+       * relative to the directory if it is set
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getPathBytes() {
+        java.lang.Object ref = path_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          path_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string path = 1;</code>
+       *
+       * <pre>
+       * relative to the directory if it is set
+       * </pre>
+       */
+      public Builder setPath(
+          java.lang.String value) {
+        if (value == null) {
     throw new NullPointerException();
   }
   bitField0_ |= 0x00000001;
-          name_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>optional string name = 1;</code>
-         */
-        public Builder clearName() {
-          bitField0_ = (bitField0_ & ~0x00000001);
-          name_ = getDefaultInstance().getName();
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>optional string name = 1;</code>
-         */
-        public Builder setNameBytes(
-            com.google.protobuf.ByteString value) {
-          if (value == null) {
+        path_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string path = 1;</code>
+       *
+       * <pre>
+       * relative to the directory if it is set
+       * </pre>
+       */
+      public Builder clearPath() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        path_ = getDefaultInstance().getPath();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string path = 1;</code>
+       *
+       * <pre>
+       * relative to the directory if it is set
+       * </pre>
+       */
+      public Builder setPathBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
     throw new NullPointerException();
   }
   bitField0_ |= 0x00000001;
-          name_ = value;
-          onChanged();
-          return this;
-        }
+        path_ = value;
+        onChanged();
+        return this;
+      }
 
-        // optional .metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName primitiveType = 2;
-        private com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName primitiveType_ = com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName.INT64;
-        /**
-         * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName primitiveType = 2;</code>
-         */
-        public boolean hasPrimitiveType() {
-          return ((bitField0_ & 0x00000002) == 0x00000002);
-        }
-        /**
-         * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName primitiveType = 2;</code>
-         */
-        public com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName getPrimitiveType() {
-          return primitiveType_;
-        }
-        /**
-         * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName primitiveType = 2;</code>
-         */
-        public Builder setPrimitiveType(com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName value) {
+      // optional uint64 length = 2;
+      private long length_ ;
+      /**
+       * <code>optional uint64 length = 2;</code>
+       */
+      public boolean hasLength() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional uint64 length = 2;</code>
+       */
+      public long getLength() {
+        return length_;
+      }
+      /**
+       * <code>optional uint64 length = 2;</code>
+       */
+      public Builder setLength(long value) {
+        bitField0_ |= 0x00000002;
+        length_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 length = 2;</code>
+       */
+      public Builder clearLength() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        length_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;
+      private java.util.List<com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup> rowGroups_ =
+        java.util.Collections.emptyList();
+      private void ensureRowGroupsIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          rowGroups_ = new java.util.ArrayList<com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup>(rowGroups_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup, com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.Builder, com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroupOrBuilder> rowGroupsBuilder_;
+
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+       */
+      public java.util.List<com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup> getRowGroupsList() {
+        if (rowGroupsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(rowGroups_);
+        } else {
+          return rowGroupsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+       */
+      public int getRowGroupsCount() {
+        if (rowGroupsBuilder_ == null) {
+          return rowGroups_.size();
+        } else {
+          return rowGroupsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+       */
+      public com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup getRowGroups(int index) {
+        if (rowGroupsBuilder_ == null) {
+          return rowGroups_.get(index);
+        } else {
+          return rowGroupsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+       */
+      public Builder setRowGroups(
+          int index, com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup value) {
+        if (rowGroupsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRowGroupsIsMutable();
+          rowGroups_.set(index, value);
+          onChanged();
+        } else {
+          rowGroupsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+       */
+      public Builder setRowGroups(
+          int index, com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.Builder builderForValue) {
+        if (rowGroupsBuilder_ == null) {
+          ensureRowGroupsIsMutable();
+          rowGroups_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          rowGroupsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+       */
+      public Builder addRowGroups(com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup value) {
+        if (rowGroupsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRowGroupsIsMutable();
+          rowGroups_.add(value);
+          onChanged();
+        } else {
+          rowGroupsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+       */
+      public Builder addRowGroups(
+          int index, com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup value) {
+        if (rowGroupsBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          bitField0_ |= 0x00000002;
-          primitiveType_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName primitiveType = 2;</code>
-         */
-        public Builder clearPrimitiveType() {
-          bitField0_ = (bitField0_ & ~0x00000002);
-          primitiveType_ = com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName.INT64;
-          onChanged();
-          return this;
-        }
-
-        // optional .metadata.MetadataColumns.ColumnTypeInfo.OriginalType originalType = 3;
-        private com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.OriginalType originalType_ = com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.OriginalType.MAP;
-        /**
-         * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.OriginalType originalType = 3;</code>
-         */
-        public boolean hasOriginalType() {
-          return ((bitField0_ & 0x00000004) == 0x00000004);
-        }
-        /**
-         * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.OriginalType originalType = 3;</code>
-         */
-        public com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.OriginalType getOriginalType() {
-          return originalType_;
+          ensureRowGroupsIsMutable();
+          rowGroups_.add(index, value);
+          onChanged();
+        } else {
+          rowGroupsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+       */
+      public Builder addRowGroups(
+          com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.Builder builderForValue) {
+        if (rowGroupsBuilder_ == null) {
+          ensureRowGroupsIsMutable();
+          rowGroups_.add(builderForValue.build());
+          onChanged();
+        } else {
+          rowGroupsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+       */
+      public Builder addRowGroups(
+          int index, com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.Builder builderForValue) {
+        if (rowGroupsBuilder_ == null) {
+          ensureRowGroupsIsMutable();
+          rowGroups_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          rowGroupsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+       */
+      public Builder addAllRowGroups(
+          java.lang.Iterable<? extends com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup> values) {
+        if (rowGroupsBuilder_ == null) {
+          ensureRowGroupsIsMutable();
+          super.addAll(values, rowGroups_);
+          onChanged();
+        } else {
+          rowGroupsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+       */
+      public Builder clearRowGroups() {
+        if (rowGroupsBuilder_ == null) {
+          rowGroups_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          rowGroupsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+       */
+      public Builder removeRowGroups(int index) {
+        if (rowGroupsBuilder_ == null) {
+          ensureRowGroupsIsMutable();
+          rowGroups_.remove(index);
+          onChanged();
+        } else {
+          rowGroupsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+       */
+      public com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.Builder getRowGroupsBuilder(
+          int index) {
+        return getRowGroupsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+       */
+      public com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroupOrBuilder getRowGroupsOrBuilder(
+          int index) {
+        if (rowGroupsBuilder_ == null) {
+          return rowGroups_.get(index);  } else {
+          return rowGroupsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+       */
+      public java.util.List<? extends com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroupOrBuilder> 
+           getRowGroupsOrBuilderList() {
+        if (rowGroupsBuilder_ != null) {
+          return rowGroupsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(rowGroups_);
+        }
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+       */
+      public com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.Builder addRowGroupsBuilder() {
+        return getRowGroupsFieldBuilder().addBuilder(
+            com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+       */
+      public com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.Builder addRowGroupsBuilder(
+          int index) {
+        return getRowGroupsFieldBuilder().addBuilder(
+            index, com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.RowGroup rowGroups = 3;</code>
+       */
+      public java.util.List<com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.Builder> 
+           getRowGroupsBuilderList() {
+        return getRowGroupsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup, com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.Builder, com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroupOrBuilder> 
+          getRowGroupsFieldBuilder() {
+        if (rowGroupsBuilder_ == null) {
+          rowGroupsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup, com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroup.Builder, com.adeneche.metadata.Metadata.ParquetFileMetadata.RowGroupOrBuilder>(
+                  rowGroups_,
+                  ((bitField0_ & 0x00000004) == 0x00000004),
+                  getParentForChildren(),
+                  isClean());
+          rowGroups_ = null;
+        }
+        return rowGroupsBuilder_;
+      }
+
+      // optional uint32 directory = 4;
+      private int directory_ ;
+      /**
+       * <code>optional uint32 directory = 4;</code>
+       *
+       * <pre>
+       * index in the header's directories of the deepest one containing the file
+       * </pre>
+       */
+      public boolean hasDirectory() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional uint32 directory = 4;</code>
+       *
+       * <pre>
+       * index in the header's directories of the deepest one containing the file
+       * </pre>
+       */
+      public int getDirectory() {
+        return directory_;
+      }
+      /**
+       * <code>optional uint32 directory = 4;</code>
+       *
+       * <pre>
+       * index in the header's directories of the deepest one containing the file
+       * </pre>
+       */
+      public Builder setDirectory(int value) {
+        bitField0_ |= 0x00000008;
+        directory_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 directory = 4;</code>
+       *
+       * <pre>
+       * index in the header's directories of the deepest one containing the file
+       * </pre>
+       */
+      public Builder clearDirectory() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        directory_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // repeated .metadata.ParquetFileMetadata.ColumnStats column_stats = 5;
+      private java.util.List<com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats> columnStats_ =
+        java.util.Collections.emptyList();
+      private void ensureColumnStatsIsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          columnStats_ = new java.util.ArrayList<com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats>(columnStats_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats, com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats.Builder, com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStatsOrBuilder> columnStatsBuilder_;
+
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.ColumnStats column_stats = 5;</code>
+       *
+       * <pre>
+       * only used if the header has column_stats
+       * </pre>
+       */
+      public java.util.List<com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats> getColumnStatsList() {
+        if (columnStatsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(columnStats_);
+        } else {
+          return columnStatsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.ColumnStats column_stats = 5;</code>
+       *
+       * <pre>
+       * only used if the header has column_stats
+       * </pre>
+       */
+      public int getColumnStatsCount() {
+        if (columnStatsBuilder_ == null) {
+          return columnStats_.size();
+        } else {
+          return columnStatsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.ColumnStats column_stats = 5;</code>
+       *
+       * <pre>
+       * only used if the header has column_stats
+       * </pre>
+       */
+      public com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats getColumnStats(int index) {
+        if (columnStatsBuilder_ == null) {
+          return columnStats_.get(index);
+        } else {
+          return columnStatsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.ColumnStats column_stats = 5;</code>
+       *
+       * <pre>
+       * only used if the header has column_stats
+       * </pre>
+       */
+      public Builder setColumnStats(
+          int index, com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats value) {
+        if (columnStatsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnStatsIsMutable();
+          columnStats_.set(index, value);
+          onChanged();
+        } else {
+          columnStatsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.ColumnStats column_stats = 5;</code>
+       *
+       * <pre>
+       * only used if the header has column_stats
+       * </pre>
+       */
+      public Builder setColumnStats(
+          int index, com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats.Builder builderForValue) {
+        if (columnStatsBuilder_ == null) {
+          ensureColumnStatsIsMutable();
+          columnStats_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          columnStatsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.ColumnStats column_stats = 5;</code>
+       *
+       * <pre>
+       * only used if the header has column_stats
+       * </pre>
+       */
+      public Builder addColumnStats(com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats value) {
+        if (columnStatsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnStatsIsMutable();
+          columnStats_.add(value);
+          onChanged();
+        } else {
+          columnStatsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.ColumnStats column_stats = 5;</code>
+       *
+       * <pre>
+       * only used if the header has column_stats
+       * </pre>
+       */
+      public Builder addColumnStats(
+          int index, com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats value) {
+        if (columnStatsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnStatsIsMutable();
+          columnStats_.add(index, value);
+          onChanged();
+        } else {
+          columnStatsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.ColumnStats column_stats = 5;</code>
+       *
+       * <pre>
+       * only used if the header has column_stats
+       * </pre>
+       */
+      public Builder addColumnStats(
+          com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats.Builder builderForValue) {
+        if (columnStatsBuilder_ == null) {
+          ensureColumnStatsIsMutable();
+          columnStats_.add(builderForValue.build());
+          onChanged();
+        } else {
+          columnStatsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.ColumnStats column_stats = 5;</code>
+       *
+       * <pre>
+       * only used if the header has column_stats
+       * </pre>
+       */
+      public Builder addColumnStats(
+          int index, com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats.Builder builderForValue) {
+        if (columnStatsBuilder_ == null) {
+          ensureColumnStatsIsMutable();
+          columnStats_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          columnStatsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.ColumnStats column_stats = 5;</code>
+       *
+       * <pre>
+       * only used if the header has column_stats
+       * </pre>
+       */
+      public Builder addAllColumnStats(
+          java.lang.Iterable<? extends com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats> values) {
+        if (columnStatsBuilder_ == null) {
+          ensureColumnStatsIsMutable();
+          super.addAll(values, columnStats_);
+          onChanged();
+        } else {
+          columnStatsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.ColumnStats column_stats = 5;</code>
+       *
+       * <pre>
+       * only used if the header has column_stats
+       * </pre>
+       */
+      public Builder clearColumnStats() {
+        if (columnStatsBuilder_ == null) {
+          columnStats_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          onChanged();
+        } else {
+          columnStatsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.ColumnStats column_stats = 5;</code>
+       *
+       * <pre>
+       * only used if the header has column_stats
+       * </pre>
+       */
+      public Builder removeColumnStats(int index) {
+        if (columnStatsBuilder_ == null) {
+          ensureColumnStatsIsMutable();
+          columnStats_.remove(index);
+          onChanged();
+        } else {
+          columnStatsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.ColumnStats column_stats = 5;</code>
+       *
+       * <pre>
+       * only used if the header has column_stats
+       * </pre>
+       */
+      public com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats.Builder getColumnStatsBuilder(
+          int index) {
+        return getColumnStatsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.ColumnStats column_stats = 5;</code>
+       *
+       * <pre>
+       * only used if the header has column_stats
+       * </pre>
+       */
+      public com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStatsOrBuilder getColumnStatsOrBuilder(
+          int index) {
+        if (columnStatsBuilder_ == null) {
+          return columnStats_.get(index);  } else {
+          return columnStatsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.ColumnStats column_stats = 5;</code>
+       *
+       * <pre>
+       * only used if the header has column_stats
+       * </pre>
+       */
+      public java.util.List<? extends com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStatsOrBuilder> 
+           getColumnStatsOrBuilderList() {
+        if (columnStatsBuilder_ != null) {
+          return columnStatsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(columnStats_);
+        }
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.ColumnStats column_stats = 5;</code>
+       *
+       * <pre>
+       * only used if the header has column_stats
+       * </pre>
+       */
+      public com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats.Builder addColumnStatsBuilder() {
+        return getColumnStatsFieldBuilder().addBuilder(
+            com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.ColumnStats column_stats = 5;</code>
+       *
+       * <pre>
+       * only used if the header has column_stats
+       * </pre>
+       */
+      public com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats.Builder addColumnStatsBuilder(
+          int index) {
+        return getColumnStatsFieldBuilder().addBuilder(
+            index, com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .metadata.ParquetFileMetadata.ColumnStats column_stats = 5;</code>
+       *
+       * <pre>
+       * only used if the header has column_stats
+       * </pre>
+       */
+      public java.util.List<com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats.Builder> 
+           getColumnStatsBuilderList() {
+        return getColumnStatsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats, com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats.Builder, com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStatsOrBuilder> 
+          getColumnStatsFieldBuilder() {
+        if (columnStatsBuilder_ == null) {
+          columnStatsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats, com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStats.Builder, com.adeneche.metadata.Metadata.ParquetFileMetadata.ColumnStatsOrBuilder>(
+                  columnStats_,
+                  ((bitField0_ & 0x00000010) == 0x00000010),
+                  getParentForChildren(),
+                  isClean());
+          columnStats_ = null;
+        }
+        return columnStatsBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:metadata.ParquetFileMetadata)
+    }
+
+    static {
+      defaultInstance = new ParquetFileMetadata(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:metadata.ParquetFileMetadata)
+  }
+
+  public interface MetadataColumnsOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;
+    /**
+     * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+     */
+    java.util.List<com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo> 
+        getColumnsList();
+    /**
+     * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+     */
+    com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo getColumns(int index);
+    /**
+     * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+     */
+    int getColumnsCount();
+    /**
+     * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+     */
+    java.util.List<? extends com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfoOrBuilder> 
+        getColumnsOrBuilderList();
+    /**
+     * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+     */
+    com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfoOrBuilder getColumnsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code metadata.MetadataColumns}
+   */
+  public static final class MetadataColumns extends
+      com.google.protobuf.GeneratedMessage
+      implements MetadataColumnsOrBuilder {
+    // Use MetadataColumns.newBuilder() to construct.
+    private MetadataColumns(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private MetadataColumns(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final MetadataColumns defaultInstance;
+    public static MetadataColumns getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public MetadataColumns getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private MetadataColumns(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                columns_ = new java.util.ArrayList<com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              columns_.add(input.readMessage(com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          columns_ = java.util.Collections.unmodifiableList(columns_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.adeneche.metadata.Metadata.internal_static_metadata_MetadataColumns_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.adeneche.metadata.Metadata.internal_static_metadata_MetadataColumns_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.adeneche.metadata.Metadata.MetadataColumns.class, com.adeneche.metadata.Metadata.MetadataColumns.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<MetadataColumns> PARSER =
+        new com.google.protobuf.AbstractParser<MetadataColumns>() {
+      public MetadataColumns parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new MetadataColumns(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<MetadataColumns> getParserForType() {
+      return PARSER;
+    }
+
+    public interface ColumnTypeInfoOrBuilder
+        extends com.google.protobuf.MessageOrBuilder {
+
+      // optional string name = 1;
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      boolean hasName();
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      java.lang.String getName();
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      com.google.protobuf.ByteString
+          getNameBytes();
+
+      // optional .metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName primitiveType = 2;
+      /**
+       * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName primitiveType = 2;</code>
+       */
+      boolean hasPrimitiveType();
+      /**
+       * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName primitiveType = 2;</code>
+       */
+      com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName getPrimitiveType();
+
+      // optional .metadata.MetadataColumns.ColumnTypeInfo.OriginalType originalType = 3;
+      /**
+       * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.OriginalType originalType = 3;</code>
+       */
+      boolean hasOriginalType();
+      /**
+       * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.OriginalType originalType = 3;</code>
+       */
+      com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.OriginalType getOriginalType();
+    }
+    /**
+     * Protobuf type {@code metadata.MetadataColumns.ColumnTypeInfo}
+     */
+    public static final class ColumnTypeInfo extends
+        com.google.protobuf.GeneratedMessage
+        implements ColumnTypeInfoOrBuilder {
+      // Use ColumnTypeInfo.newBuilder() to construct.
+      private ColumnTypeInfo(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private ColumnTypeInfo(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final ColumnTypeInfo defaultInstance;
+      public static ColumnTypeInfo getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public ColumnTypeInfo getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private ColumnTypeInfo(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 10: {
+                bitField0_ |= 0x00000001;
+                name_ = input.readBytes();
+                break;
+              }
+              case 16: {
+                int rawValue = input.readEnum();
+                com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName value = com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName.valueOf(rawValue);
+                if (value == null) {
+                  unknownFields.mergeVarintField(2, rawValue);
+                } else {
+                  bitField0_ |= 0x00000002;
+                  primitiveType_ = value;
+                }
+                break;
+              }
+              case 24: {
+                int rawValue = input.readEnum();
+                com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.OriginalType value = com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.OriginalType.valueOf(rawValue);
+                if (value == null) {
+                  unknownFields.mergeVarintField(3, rawValue);
+                } else {
+                  bitField0_ |= 0x00000004;
+                  originalType_ = value;
+                }
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.adeneche.metadata.Metadata.internal_static_metadata_MetadataColumns_ColumnTypeInfo_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.adeneche.metadata.Metadata.internal_static_metadata_MetadataColumns_ColumnTypeInfo_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.class, com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<ColumnTypeInfo> PARSER =
+          new com.google.protobuf.AbstractParser<ColumnTypeInfo>() {
+        public ColumnTypeInfo parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new ColumnTypeInfo(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<ColumnTypeInfo> getParserForType() {
+        return PARSER;
+      }
+
+      /**
+       * Protobuf enum {@code metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName}
+       */
+      public enum PrimitiveTypeName
+          implements com.google.protobuf.ProtocolMessageEnum {
+        /**
+         * <code>INT64 = 0;</code>
+         */
+        INT64(0, 0),
+        /**
+         * <code>INT32 = 1;</code>
+         */
+        INT32(1, 1),
+        /**
+         * <code>BOOLEAN = 2;</code>
+         */
+        BOOLEAN(2, 2),
+        /**
+         * <code>BINARY = 3;</code>
+         */
+        BINARY(3, 3),
+        /**
+         * <code>FLOAT = 4;</code>
+         */
+        FLOAT(4, 4),
+        /**
+         * <code>DOUBLE = 5;</code>
+         */
+        DOUBLE(5, 5),
+        /**
+         * <code>INT96 = 6;</code>
+         */
+        INT96(6, 6),
+        /**
+         * <code>FIXED_LEN_BYTE_ARRAY = 7;</code>
+         */
+        FIXED_LEN_BYTE_ARRAY(7, 7),
+        ;
+
+        /**
+         * <code>INT64 = 0;</code>
+         */
+        public static final int INT64_VALUE = 0;
+        /**
+         * <code>INT32 = 1;</code>
+         */
+        public static final int INT32_VALUE = 1;
+        /**
+         * <code>BOOLEAN = 2;</code>
+         */
+        public static final int BOOLEAN_VALUE = 2;
+        /**
+         * <code>BINARY = 3;</code>
+         */
+        public static final int BINARY_VALUE = 3;
+        /**
+         * <code>FLOAT = 4;</code>
+         */
+        public static final int FLOAT_VALUE = 4;
+        /**
+         * <code>DOUBLE = 5;</code>
+         */
+        public static final int DOUBLE_VALUE = 5;
+        /**
+         * <code>INT96 = 6;</code>
+         */
+        public static final int INT96_VALUE = 6;
+        /**
+         * <code>FIXED_LEN_BYTE_ARRAY = 7;</code>
+         */
+        public static final int FIXED_LEN_BYTE_ARRAY_VALUE = 7;
+
+
+        public final int getNumber() { return value; }
+
+        public static PrimitiveTypeName valueOf(int value) {
+          switch (value) {
+            case 0: return INT64;
+            case 1: return INT32;
+            case 2: return BOOLEAN;
+            case 3: return BINARY;
+            case 4: return FLOAT;
+            case 5: return DOUBLE;
+            case 6: return INT96;
+            case 7: return FIXED_LEN_BYTE_ARRAY;
+            default: return null;
+          }
+        }
+
+        public static com.google.protobuf.Internal.EnumLiteMap<PrimitiveTypeName>
+            internalGetValueMap() {
+          return internalValueMap;
+        }
+        private static com.google.protobuf.Internal.EnumLiteMap<PrimitiveTypeName>
+            internalValueMap =
+              new com.google.protobuf.Internal.EnumLiteMap<PrimitiveTypeName>() {
+                public PrimitiveTypeName findValueByNumber(int number) {
+                  return PrimitiveTypeName.valueOf(number);
+                }
+              };
+
+        public final com.google.protobuf.Descriptors.EnumValueDescriptor
+            getValueDescriptor() {
+          return getDescriptor().getValues().get(index);
+        }
+        public final com.google.protobuf.Descriptors.EnumDescriptor
+            getDescriptorForType() {
+          return getDescriptor();
+        }
+        public static final com.google.protobuf.Descriptors.EnumDescriptor
+            getDescriptor() {
+          return com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.getDescriptor().getEnumTypes().get(0);
+        }
+
+        private static final PrimitiveTypeName[] VALUES = values();
+
+        public static PrimitiveTypeName valueOf(
+            com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+          if (desc.getType() != getDescriptor()) {
+            throw new java.lang.IllegalArgumentException(
+              "EnumValueDescriptor is not for this type.");
+          }
+          return VALUES[desc.getIndex()];
+        }
+
+        private final int index;
+        private final int value;
+
+        private PrimitiveTypeName(int index, int value) {
+          this.index = index;
+          this.value = value;
+        }
+
+        // @@protoc_insertion_point(enum_scope:metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName)
+      }
+
+      /**
+       * Protobuf enum {@code metadata.MetadataColumns.ColumnTypeInfo.OriginalType}
+       */
+      public enum OriginalType
+          implements com.google.protobuf.ProtocolMessageEnum {
+        /**
+         * <code>MAP = 0;</code>
+         */
+        MAP(0, 0),
+        /**
+         * <code>LIST = 1;</code>
+         */
+        LIST(1, 1),
+        /**
+         * <code>UTF8 = 2;</code>
+         */
+        UTF8(2, 2),
+        /**
+         * <code>MAP_KEY_VALUE = 3;</code>
+         */
+        MAP_KEY_VALUE(3, 3),
+        /**
+         * <code>ENUM = 4;</code>
+         */
+        ENUM(4, 4),
+        /**
+         * <code>DECIMAL = 5;</code>
+         */
+        DECIMAL(5, 5),
+        /**
+         * <code>DATE = 6;</code>
+         */
+        DATE(6, 6),
+        /**
+         * <code>TIME_MILLIS = 7;</code>
+         */
+        TIME_MILLIS(7, 7),
+        /**
+         * <code>TIMESTAMP_MILLIS = 8;</code>
+         */
+        TIMESTAMP_MILLIS(8, 8),
+        /**
+         * <code>UINT_8 = 9;</code>
+         */
+        UINT_8(9, 9),
+        /**
+         * <code>UINT_16 = 10;</code>
+         */
+        UINT_16(10, 10),
+        /**
+         * <code>UINT_32 = 11;</code>
+         */
+        UINT_32(11, 11),
+        /**
+         * <code>UINT_64 = 12;</code>
+         */
+        UINT_64(12, 12),
+        /**
+         * <code>INT_8 = 13;</code>
+         */
+        INT_8(13, 13),
+        /**
+         * <code>INT_16 = 14;</code>
+         */
+        INT_16(14, 14),
+        /**
+         * <code>INT_32 = 15;</code>
+         */
+        INT_32(15, 15),
+        /**
+         * <code>INT_64 = 16;</code>
+         */
+        INT_64(16, 16),
+        /**
+         * <code>JSON = 17;</code>
+         */
+        JSON(17, 17),
+        /**
+         * <code>BSON = 18;</code>
+         */
+        BSON(18, 18),
+        /**
+         * <code>INTERVAL = 19;</code>
+         */
+        INTERVAL(19, 19),
+        ;
+
+        /**
+         * <code>MAP = 0;</code>
+         */
+        public static final int MAP_VALUE = 0;
+        /**
+         * <code>LIST = 1;</code>
+         */
+        public static final int LIST_VALUE = 1;
+        /**
+         * <code>UTF8 = 2;</code>
+         */
+        public static final int UTF8_VALUE = 2;
+        /**
+         * <code>MAP_KEY_VALUE = 3;</code>
+         */
+        public static final int MAP_KEY_VALUE_VALUE = 3;
+        /**
+         * <code>ENUM = 4;</code>
+         */
+        public static final int ENUM_VALUE = 4;
+        /**
+         * <code>DECIMAL = 5;</code>
+         */
+        public static final int DECIMAL_VALUE = 5;
+        /**
+         * <code>DATE = 6;</code>
+         */
+        public static final int DATE_VALUE = 6;
+        /**
+         * <code>TIME_MILLIS = 7;</code>
+         */
+        public static final int TIME_MILLIS_VALUE = 7;
+        /**
+         * <code>TIMESTAMP_MILLIS = 8;</code>
+         */
+        public static final int TIMESTAMP_MILLIS_VALUE = 8;
+        /**
+         * <code>UINT_8 = 9;</code>
+         */
+        public static final int UINT_8_VALUE = 9;
+        /**
+         * <code>UINT_16 = 10;</code>
+         */
+        public static final int UINT_16_VALUE = 10;
+        /**
+         * <code>UINT_32 = 11;</code>
+         */
+        public static final int UINT_32_VALUE = 11;
+        /**
+         * <code>UINT_64 = 12;</code>
+         */
+        public static final int UINT_64_VALUE = 12;
+        /**
+         * <code>INT_8 = 13;</code>
+         */
+        public static final int INT_8_VALUE = 13;
+        /**
+         * <code>INT_16 = 14;</code>
+         */
+        public static final int INT_16_VALUE = 14;
+        /**
+         * <code>INT_32 = 15;</code>
+         */
+        public static final int INT_32_VALUE = 15;
+        /**
+         * <code>INT_64 = 16;</code>
+         */
+        public static final int INT_64_VALUE = 16;
+        /**
+         * <code>JSON = 17;</code>
+         */
+        public static final int JSON_VALUE = 17;
+        /**
+         * <code>BSON = 18;</code>
+         */
+        public static final int BSON_VALUE = 18;
+        /**
+         * <code>INTERVAL = 19;</code>
+         */
+        public static final int INTERVAL_VALUE = 19;
+
+
+        public final int getNumber() { return value; }
+
+        public static OriginalType valueOf(int value) {
+          switch (value) {
+            case 0: return MAP;
+            case 1: return LIST;
+            case 2: return UTF8;
+            case 3: return MAP_KEY_VALUE;
+            case 4: return ENUM;
+            case 5: return DECIMAL;
+            case 6: return DATE;
+            case 7: return TIME_MILLIS;
+            case 8: return TIMESTAMP_MILLIS;
+            case 9: return UINT_8;
+            case 10: return UINT_16;
+            case 11: return UINT_32;
+            case 12: return UINT_64;
+            case 13: return INT_8;
+            case 14: return INT_16;
+            case 15: return INT_32;
+            case 16: return INT_64;
+            case 17: return JSON;
+            case 18: return BSON;
+            case 19: return INTERVAL;
+            default: return null;
+          }
+        }
+
+        public static com.google.protobuf.Internal.EnumLiteMap<OriginalType>
+            internalGetValueMap() {
+          return internalValueMap;
+        }
+        private static com.google.protobuf.Internal.EnumLiteMap<OriginalType>
+            internalValueMap =
+              new com.google.protobuf.Internal.EnumLiteMap<OriginalType>() {
+                public OriginalType findValueByNumber(int number) {
+                  return OriginalType.valueOf(number);
+                }
+              };
+
+        public final com.google.protobuf.Descriptors.EnumValueDescriptor
+            getValueDescriptor() {
+          return getDescriptor().getValues().get(index);
+        }
+        public final com.google.protobuf.Descriptors.EnumDescriptor
+            getDescriptorForType() {
+          return getDescriptor();
+        }
+        public static final com.google.protobuf.Descriptors.EnumDescriptor
+            getDescriptor() {
+          return com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.getDescriptor().getEnumTypes().get(1);
+        }
+
+        private static final OriginalType[] VALUES = values();
+
+        public static OriginalType valueOf(
+            com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+          if (desc.getType() != getDescriptor()) {
+            throw new java.lang.IllegalArgumentException(
+              "EnumValueDescriptor is not for this type.");
+          }
+          return VALUES[desc.getIndex()];
+        }
+
+        private final int index;
+        private final int value;
+
+        private OriginalType(int index, int value) {
+          this.index = index;
+          this.value = value;
+        }
+
+        // @@protoc_insertion_point(enum_scope:metadata.MetadataColumns.ColumnTypeInfo.OriginalType)
+      }
+
+      private int bitField0_;
+      // optional string name = 1;
+      public static final int NAME_FIELD_NUMBER = 1;
+      private java.lang.Object name_;
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            name_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      // optional .metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName primitiveType = 2;
+      public static final int PRIMITIVETYPE_FIELD_NUMBER = 2;
+      private com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName primitiveType_;
+      /**
+       * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName primitiveType = 2;</code>
+       */
+      public boolean hasPrimitiveType() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName primitiveType = 2;</code>
+       */
+      public com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName getPrimitiveType() {
+        return primitiveType_;
+      }
+
+      // optional .metadata.MetadataColumns.ColumnTypeInfo.OriginalType originalType = 3;
+      public static final int ORIGINALTYPE_FIELD_NUMBER = 3;
+      private com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.OriginalType originalType_;
+      /**
+       * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.OriginalType originalType = 3;</code>
+       */
+      public boolean hasOriginalType() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.OriginalType originalType = 3;</code>
+       */
+      public com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.OriginalType getOriginalType() {
+        return originalType_;
+      }
+
+      private void initFields() {
+        name_ = "";
+        primitiveType_ = com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName.INT64;
+        originalType_ = com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.OriginalType.MAP;
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized != -1) return isInitialized == 1;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeBytes(1, getNameBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          output.writeEnum(2, primitiveType_.getNumber());
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          output.writeEnum(3, originalType_.getNumber());
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(1, getNameBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeEnumSize(2, primitiveType_.getNumber());
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeEnumSize(3, originalType_.getNumber());
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code metadata.MetadataColumns.ColumnTypeInfo}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder>
+         implements com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfoOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return com.adeneche.metadata.Metadata.internal_static_metadata_MetadataColumns_ColumnTypeInfo_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return com.adeneche.metadata.Metadata.internal_static_metadata_MetadataColumns_ColumnTypeInfo_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.class, com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.Builder.class);
+        }
+
+        // Construct using com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          name_ = "";
+          bitField0_ = (bitField0_ & ~0x00000001);
+          primitiveType_ = com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName.INT64;
+          bitField0_ = (bitField0_ & ~0x00000002);
+          originalType_ = com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.OriginalType.MAP;
+          bitField0_ = (bitField0_ & ~0x00000004);
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return com.adeneche.metadata.Metadata.internal_static_metadata_MetadataColumns_ColumnTypeInfo_descriptor;
+        }
+
+        public com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo getDefaultInstanceForType() {
+          return com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.getDefaultInstance();
+        }
+
+        public com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo build() {
+          com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo buildPartial() {
+          com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo result = new com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.name_ = name_;
+          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+            to_bitField0_ |= 0x00000002;
+          }
+          result.primitiveType_ = primitiveType_;
+          if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+            to_bitField0_ |= 0x00000004;
+          }
+          result.originalType_ = originalType_;
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo) {
+            return mergeFrom((com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo other) {
+          if (other == com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.getDefaultInstance()) return this;
+          if (other.hasName()) {
+            bitField0_ |= 0x00000001;
+            name_ = other.name_;
+            onChanged();
+          }
+          if (other.hasPrimitiveType()) {
+            setPrimitiveType(other.getPrimitiveType());
+          }
+          if (other.hasOriginalType()) {
+            setOriginalType(other.getOriginalType());
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        // optional string name = 1;
+        private java.lang.Object name_ = "";
+        /**
+         * <code>optional string name = 1;</code>
+         */
+        public boolean hasName() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>optional string name = 1;</code>
+         */
+        public java.lang.String getName() {
+          java.lang.Object ref = name_;
+          if (!(ref instanceof java.lang.String)) {
+            java.lang.String s = ((com.google.protobuf.ByteString) ref)
+                .toStringUtf8();
+            name_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string name = 1;</code>
+         */
+        public com.google.protobuf.ByteString
+            getNameBytes() {
+          java.lang.Object ref = name_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            name_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string name = 1;</code>
+         */
+        public Builder setName(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          name_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string name = 1;</code>
+         */
+        public Builder clearName() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          name_ = getDefaultInstance().getName();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string name = 1;</code>
+         */
+        public Builder setNameBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          name_ = value;
+          onChanged();
+          return this;
+        }
+
+        // optional .metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName primitiveType = 2;
+        private com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName primitiveType_ = com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName.INT64;
+        /**
+         * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName primitiveType = 2;</code>
+         */
+        public boolean hasPrimitiveType() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
+        }
+        /**
+         * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName primitiveType = 2;</code>
+         */
+        public com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName getPrimitiveType() {
+          return primitiveType_;
+        }
+        /**
+         * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName primitiveType = 2;</code>
+         */
+        public Builder setPrimitiveType(com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName value) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          bitField0_ |= 0x00000002;
+          primitiveType_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName primitiveType = 2;</code>
+         */
+        public Builder clearPrimitiveType() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          primitiveType_ = com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName.INT64;
+          onChanged();
+          return this;
+        }
+
+        // optional .metadata.MetadataColumns.ColumnTypeInfo.OriginalType originalType = 3;
+        private com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.OriginalType originalType_ = com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.OriginalType.MAP;
+        /**
+         * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.OriginalType originalType = 3;</code>
+         */
+        public boolean hasOriginalType() {
+          return ((bitField0_ & 0x00000004) == 0x00000004);
+        }
+        /**
+         * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.OriginalType originalType = 3;</code>
+         */
+        public com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.OriginalType getOriginalType() {
+          return originalType_;
+        }
+        /**
+         * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.OriginalType originalType = 3;</code>
+         */
+        public Builder setOriginalType(com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.OriginalType value) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          bitField0_ |= 0x00000004;
+          originalType_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.OriginalType originalType = 3;</code>
+         */
+        public Builder clearOriginalType() {
+          bitField0_ = (bitField0_ & ~0x00000004);
+          originalType_ = com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.OriginalType.MAP;
+          onChanged();
+          return this;
+        }
+
+        // @@protoc_insertion_point(builder_scope:metadata.MetadataColumns.ColumnTypeInfo)
+      }
+
+      static {
+        defaultInstance = new ColumnTypeInfo(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:metadata.MetadataColumns.ColumnTypeInfo)
+    }
+
+    // repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;
+    public static final int COLUMNS_FIELD_NUMBER = 2;
+    private java.util.List<com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo> columns_;
+    /**
+     * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+     */
+    public java.util.List<com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo> getColumnsList() {
+      return columns_;
+    }
+    /**
+     * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+     */
+    public java.util.List<? extends com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfoOrBuilder> 
+        getColumnsOrBuilderList() {
+      return columns_;
+    }
+    /**
+     * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+     */
+    public int getColumnsCount() {
+      return columns_.size();
+    }
+    /**
+     * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+     */
+    public com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo getColumns(int index) {
+      return columns_.get(index);
+    }
+    /**
+     * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+     */
+    public com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfoOrBuilder getColumnsOrBuilder(
+        int index) {
+      return columns_.get(index);
+    }
+
+    private void initFields() {
+      columns_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < columns_.size(); i++) {
+        output.writeMessage(2, columns_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < columns_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, columns_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.adeneche.metadata.Metadata.MetadataColumns parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.adeneche.metadata.Metadata.MetadataColumns parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.adeneche.metadata.Metadata.MetadataColumns parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.adeneche.metadata.Metadata.MetadataColumns parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.adeneche.metadata.Metadata.MetadataColumns parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.adeneche.metadata.Metadata.MetadataColumns parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.adeneche.metadata.Metadata.MetadataColumns parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.adeneche.metadata.Metadata.MetadataColumns parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.adeneche.metadata.Metadata.MetadataColumns parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.adeneche.metadata.Metadata.MetadataColumns parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.adeneche.metadata.Metadata.MetadataColumns prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code metadata.MetadataColumns}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.adeneche.metadata.Metadata.MetadataColumnsOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.adeneche.metadata.Metadata.internal_static_metadata_MetadataColumns_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.adeneche.metadata.Metadata.internal_static_metadata_MetadataColumns_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.adeneche.metadata.Metadata.MetadataColumns.class, com.adeneche.metadata.Metadata.MetadataColumns.Builder.class);
+      }
+
+      // Construct using com.adeneche.metadata.Metadata.MetadataColumns.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getColumnsFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (columnsBuilder_ == null) {
+          columns_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          columnsBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.adeneche.metadata.Metadata.internal_static_metadata_MetadataColumns_descriptor;
+      }
+
+      public com.adeneche.metadata.Metadata.MetadataColumns getDefaultInstanceForType() {
+        return com.adeneche.metadata.Metadata.MetadataColumns.getDefaultInstance();
+      }
+
+      public com.adeneche.metadata.Metadata.MetadataColumns build() {
+        com.adeneche.metadata.Metadata.MetadataColumns result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.adeneche.metadata.Metadata.MetadataColumns buildPartial() {
+        com.adeneche.metadata.Metadata.MetadataColumns result = new com.adeneche.metadata.Metadata.MetadataColumns(this);
+        int from_bitField0_ = bitField0_;
+        if (columnsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            columns_ = java.util.Collections.unmodifiableList(columns_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.columns_ = columns_;
+        } else {
+          result.columns_ = columnsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.adeneche.metadata.Metadata.MetadataColumns) {
+          return mergeFrom((com.adeneche.metadata.Metadata.MetadataColumns)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.adeneche.metadata.Metadata.MetadataColumns other) {
+        if (other == com.adeneche.metadata.Metadata.MetadataColumns.getDefaultInstance()) return this;
+        if (columnsBuilder_ == null) {
+          if (!other.columns_.isEmpty()) {
+            if (columns_.isEmpty()) {
+              columns_ = other.columns_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureColumnsIsMutable();
+              columns_.addAll(other.columns_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.columns_.isEmpty()) {
+            if (columnsBuilder_.isEmpty()) {
+              columnsBuilder_.dispose();
+              columnsBuilder_ = null;
+              columns_ = other.columns_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              columnsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getColumnsFieldBuilder() : null;
+            } else {
+              columnsBuilder_.addAllMessages(other.columns_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.adeneche.metadata.Metadata.MetadataColumns parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.adeneche.metadata.Metadata.MetadataColumns) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;
+      private java.util.List<com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo> columns_ =
+        java.util.Collections.emptyList();
+      private void ensureColumnsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          columns_ = new java.util.ArrayList<com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo>(columns_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo, com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.Builder, com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfoOrBuilder> columnsBuilder_;
+
+      /**
+       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       */
+      public java.util.List<com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo> getColumnsList() {
+        if (columnsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(columns_);
+        } else {
+          return columnsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       */
+      public int getColumnsCount() {
+        if (columnsBuilder_ == null) {
+          return columns_.size();
+        } else {
+          return columnsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       */
+      public com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo getColumns(int index) {
+        if (columnsBuilder_ == null) {
+          return columns_.get(index);
+        } else {
+          return columnsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       */
+      public Builder setColumns(
+          int index, com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo value) {
+        if (columnsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnsIsMutable();
+          columns_.set(index, value);
+          onChanged();
+        } else {
+          columnsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       */
+      public Builder setColumns(
+          int index, com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.Builder builderForValue) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          columnsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       */
+      public Builder addColumns(com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo value) {
+        if (columnsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnsIsMutable();
+          columns_.add(value);
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       */
+      public Builder addColumns(
+          int index, com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo value) {
+        if (columnsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureColumnsIsMutable();
+          columns_.add(index, value);
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       */
+      public Builder addColumns(
+          com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.Builder builderForValue) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.add(builderForValue.build());
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       */
+      public Builder addColumns(
+          int index, com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.Builder builderForValue) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          columnsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       */
+      public Builder addAllColumns(
+          java.lang.Iterable<? extends com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo> values) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          super.addAll(values, columns_);
+          onChanged();
+        } else {
+          columnsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       */
+      public Builder clearColumns() {
+        if (columnsBuilder_ == null) {
+          columns_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          columnsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       */
+      public Builder removeColumns(int index) {
+        if (columnsBuilder_ == null) {
+          ensureColumnsIsMutable();
+          columns_.remove(index);
+          onChanged();
+        } else {
+          columnsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       */
+      public com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.Builder getColumnsBuilder(
+          int index) {
+        return getColumnsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       */
+      public com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfoOrBuilder getColumnsOrBuilder(
+          int index) {
+        if (columnsBuilder_ == null) {
+          return columns_.get(index);  } else {
+          return columnsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       */
+      public java.util.List<? extends com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfoOrBuilder> 
+           getColumnsOrBuilderList() {
+        if (columnsBuilder_ != null) {
+          return columnsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(columns_);
+        }
+      }
+      /**
+       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       */
+      public com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.Builder addColumnsBuilder() {
+        return getColumnsFieldBuilder().addBuilder(
+            com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       */
+      public com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.Builder addColumnsBuilder(
+          int index) {
+        return getColumnsFieldBuilder().addBuilder(
+            index, com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       */
+      public java.util.List<com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.Builder> 
+           getColumnsBuilderList() {
+        return getColumnsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo, com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.Builder, com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfoOrBuilder> 
+          getColumnsFieldBuilder() {
+        if (columnsBuilder_ == null) {
+          columnsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo, com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.Builder, com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfoOrBuilder>(
+                  columns_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          columns_ = null;
+        }
+        return columnsBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:metadata.MetadataColumns)
+    }
+
+    static {
+      defaultInstance = new MetadataColumns(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:metadata.MetadataColumns)
+  }
+
+  public interface MetadataHostsOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // repeated string hosts = 1;
+    /**
+     * <code>repeated string hosts = 1;</code>
+     */
+    java.util.List<java.lang.String>
+    getHostsList();
+    /**
+     * <code>repeated string hosts = 1;</code>
+     */
+    int getHostsCount();
+    /**
+     * <code>repeated string hosts = 1;</code>
+     */
+    java.lang.String getHosts(int index);
+    /**
+     * <code>repeated string hosts = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getHostsBytes(int index);
+  }
+  /**
+   * Protobuf type {@code metadata.MetadataHosts}
+   *
+   * <pre>
+   * Hosts of all the row groups, each one written once
+   * </pre>
+   */
+  public static final class MetadataHosts extends
+      com.google.protobuf.GeneratedMessage
+      implements MetadataHostsOrBuilder {
+    // Use MetadataHosts.newBuilder() to construct.
+    private MetadataHosts(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private MetadataHosts(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final MetadataHosts defaultInstance;
+    public static MetadataHosts getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public MetadataHosts getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private MetadataHosts(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                hosts_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              hosts_.add(input.readBytes());
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          hosts_ = new com.google.protobuf.UnmodifiableLazyStringList(hosts_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.adeneche.metadata.Metadata.internal_static_metadata_MetadataHosts_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.adeneche.metadata.Metadata.internal_static_metadata_MetadataHosts_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.adeneche.metadata.Metadata.MetadataHosts.class, com.adeneche.metadata.Metadata.MetadataHosts.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<MetadataHosts> PARSER =
+        new com.google.protobuf.AbstractParser<MetadataHosts>() {
+      public MetadataHosts parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new MetadataHosts(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<MetadataHosts> getParserForType() {
+      return PARSER;
+    }
+
+    // repeated string hosts = 1;
+    public static final int HOSTS_FIELD_NUMBER = 1;
+    private com.google.protobuf.LazyStringList hosts_;
+    /**
+     * <code>repeated string hosts = 1;</code>
+     */
+    public java.util.List<java.lang.String>
+        getHostsList() {
+      return hosts_;
+    }
+    /**
+     * <code>repeated string hosts = 1;</code>
+     */
+    public int getHostsCount() {
+      return hosts_.size();
+    }
+    /**
+     * <code>repeated string hosts = 1;</code>
+     */
+    public java.lang.String getHosts(int index) {
+      return hosts_.get(index);
+    }
+    /**
+     * <code>repeated string hosts = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getHostsBytes(int index) {
+      return hosts_.getByteString(index);
+    }
+
+    private void initFields() {
+      hosts_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < hosts_.size(); i++) {
+        output.writeBytes(1, hosts_.getByteString(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < hosts_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(hosts_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getHostsList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.adeneche.metadata.Metadata.MetadataHosts parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.adeneche.metadata.Metadata.MetadataHosts parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.adeneche.metadata.Metadata.MetadataHosts parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.adeneche.metadata.Metadata.MetadataHosts parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.adeneche.metadata.Metadata.MetadataHosts parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.adeneche.metadata.Metadata.MetadataHosts parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.adeneche.metadata.Metadata.MetadataHosts parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.adeneche.metadata.Metadata.MetadataHosts parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.adeneche.metadata.Metadata.MetadataHosts parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.adeneche.metadata.Metadata.MetadataHosts parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.adeneche.metadata.Metadata.MetadataHosts prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code metadata.MetadataHosts}
+     *
+     * <pre>
+     * Hosts of all the row groups, each one written once
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.adeneche.metadata.Metadata.MetadataHostsOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.adeneche.metadata.Metadata.internal_static_metadata_MetadataHosts_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.adeneche.metadata.Metadata.internal_static_metadata_MetadataHosts_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.adeneche.metadata.Metadata.MetadataHosts.class, com.adeneche.metadata.Metadata.MetadataHosts.Builder.class);
+      }
+
+      // Construct using com.adeneche.metadata.Metadata.MetadataHosts.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        hosts_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.adeneche.metadata.Metadata.internal_static_metadata_MetadataHosts_descriptor;
+      }
+
+      public com.adeneche.metadata.Metadata.MetadataHosts getDefaultInstanceForType() {
+        return com.adeneche.metadata.Metadata.MetadataHosts.getDefaultInstance();
+      }
+
+      public com.adeneche.metadata.Metadata.MetadataHosts build() {
+        com.adeneche.metadata.Metadata.MetadataHosts result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.adeneche.metadata.Metadata.MetadataHosts buildPartial() {
+        com.adeneche.metadata.Metadata.MetadataHosts result = new com.adeneche.metadata.Metadata.MetadataHosts(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          hosts_ = new com.google.protobuf.UnmodifiableLazyStringList(
+              hosts_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.hosts_ = hosts_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.adeneche.metadata.Metadata.MetadataHosts) {
+          return mergeFrom((com.adeneche.metadata.Metadata.MetadataHosts)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.adeneche.metadata.Metadata.MetadataHosts other) {
+        if (other == com.adeneche.metadata.Metadata.MetadataHosts.getDefaultInstance()) return this;
+        if (!other.hosts_.isEmpty()) {
+          if (hosts_.isEmpty()) {
+            hosts_ = other.hosts_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureHostsIsMutable();
+            hosts_.addAll(other.hosts_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.adeneche.metadata.Metadata.MetadataHosts parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.adeneche.metadata.Metadata.MetadataHosts) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // repeated string hosts = 1;
+      private com.google.protobuf.LazyStringList hosts_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureHostsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          hosts_ = new com.google.protobuf.LazyStringArrayList(hosts_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated string hosts = 1;</code>
+       */
+      public java.util.List<java.lang.String>
+          getHostsList() {
+        return java.util.Collections.unmodifiableList(hosts_);
+      }
+      /**
+       * <code>repeated string hosts = 1;</code>
+       */
+      public int getHostsCount() {
+        return hosts_.size();
+      }
+      /**
+       * <code>repeated string hosts = 1;</code>
+       */
+      public java.lang.String getHosts(int index) {
+        return hosts_.get(index);
+      }
+      /**
+       * <code>repeated string hosts = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getHostsBytes(int index) {
+        return hosts_.getByteString(index);
+      }
+      /**
+       * <code>repeated string hosts = 1;</code>
+       */
+      public Builder setHosts(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureHostsIsMutable();
+        hosts_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string hosts = 1;</code>
+       */
+      public Builder addHosts(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureHostsIsMutable();
+        hosts_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string hosts = 1;</code>
+       */
+      public Builder addAllHosts(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureHostsIsMutable();
+        super.addAll(values, hosts_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string hosts = 1;</code>
+       */
+      public Builder clearHosts() {
+        hosts_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string hosts = 1;</code>
+       */
+      public Builder addHostsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureHostsIsMutable();
+        hosts_.add(value);
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:metadata.MetadataHosts)
+    }
+
+    static {
+      defaultInstance = new MetadataHosts(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:metadata.MetadataHosts)
+  }
+
+  public interface MetadataIndexOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional uint32 num_files = 1;
+    /**
+     * <code>optional uint32 num_files = 1;</code>
+     */
+    boolean hasNumFiles();
+    /**
+     * <code>optional uint32 num_files = 1;</code>
+     */
+    int getNumFiles();
+
+    // optional uint64 num_row_groups = 2;
+    /**
+     * <code>optional uint64 num_row_groups = 2;</code>
+     */
+    boolean hasNumRowGroups();
+    /**
+     * <code>optional uint64 num_row_groups = 2;</code>
+     */
+    long getNumRowGroups();
+
+    // optional uint32 num_columns = 3;
+    /**
+     * <code>optional uint32 num_columns = 3;</code>
+     */
+    boolean hasNumColumns();
+    /**
+     * <code>optional uint32 num_columns = 3;</code>
+     */
+    int getNumColumns();
+
+    // repeated fixed64 path_hashes = 4 [packed = true];
+    /**
+     * <code>repeated fixed64 path_hashes = 4 [packed = true];</code>
+     *
+     * <pre>
+     * for each file in order: hash of its path and offset of its record, or of its block if the files are
+     * compressed, from the start of the cache
+     * </pre>
+     */
+    java.util.List<java.lang.Long> getPathHashesList();
+    /**
+     * <code>repeated fixed64 path_hashes = 4 [packed = true];</code>
+     *
+     * <pre>
+     * for each file in order: hash of its path and offset of its record, or of its block if the files are
+     * compressed, from the start of the cache
+     * </pre>
+     */
+    int getPathHashesCount();
+    /**
+     * <code>repeated fixed64 path_hashes = 4 [packed = true];</code>
+     *
+     * <pre>
+     * for each file in order: hash of its path and offset of its record, or of its block if the files are
+     * compressed, from the start of the cache
+     * </pre>
+     */
+    long getPathHashes(int index);
+
+    // repeated uint64 offsets = 5 [packed = true];
+    /**
+     * <code>repeated uint64 offsets = 5 [packed = true];</code>
+     */
+    java.util.List<java.lang.Long> getOffsetsList();
+    /**
+     * <code>repeated uint64 offsets = 5 [packed = true];</code>
+     */
+    int getOffsetsCount();
+    /**
+     * <code>repeated uint64 offsets = 5 [packed = true];</code>
+     */
+    long getOffsets(int index);
+  }
+  /**
+   * Protobuf type {@code metadata.MetadataIndex}
+   *
+   * <pre>
+   * Written after the files, followed by its size and a magic number as two little endian fixed32
+   * </pre>
+   */
+  public static final class MetadataIndex extends
+      com.google.protobuf.GeneratedMessage
+      implements MetadataIndexOrBuilder {
+    // Use MetadataIndex.newBuilder() to construct.
+    private MetadataIndex(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private MetadataIndex(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final MetadataIndex defaultInstance;
+    public static MetadataIndex getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public MetadataIndex getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private MetadataIndex(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              numFiles_ = input.readUInt32();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              numRowGroups_ = input.readUInt64();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              numColumns_ = input.readUInt32();
+              break;
+            }
+            case 33: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                pathHashes_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              pathHashes_.add(input.readFixed64());
+              break;
+            }
+            case 34: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008) && input.getBytesUntilLimit() > 0) {
+                pathHashes_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                pathHashes_.add(input.readFixed64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 40: {
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                offsets_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              offsets_.add(input.readUInt64());
+              break;
+            }
+            case 42: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010) && input.getBytesUntilLimit() > 0) {
+                offsets_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                offsets_.add(input.readUInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+          }
         }
-        /**
-         * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.OriginalType originalType = 3;</code>
-         */
-        public Builder setOriginalType(com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.OriginalType value) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          bitField0_ |= 0x00000004;
-          originalType_ = value;
-          onChanged();
-          return this;
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          pathHashes_ = java.util.Collections.unmodifiableList(pathHashes_);
         }
-        /**
-         * <code>optional .metadata.MetadataColumns.ColumnTypeInfo.OriginalType originalType = 3;</code>
-         */
-        public Builder clearOriginalType() {
-          bitField0_ = (bitField0_ & ~0x00000004);
-          originalType_ = com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.OriginalType.MAP;
-          onChanged();
-          return this;
+        if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+          offsets_ = java.util.Collections.unmodifiableList(offsets_);
         }
-
-        // @@protoc_insertion_point(builder_scope:metadata.MetadataColumns.ColumnTypeInfo)
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
       }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.adeneche.metadata.Metadata.internal_static_metadata_MetadataIndex_descriptor;
+    }
 
-      static {
-        defaultInstance = new ColumnTypeInfo(true);
-        defaultInstance.initFields();
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.adeneche.metadata.Metadata.internal_static_metadata_MetadataIndex_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.adeneche.metadata.Metadata.MetadataIndex.class, com.adeneche.metadata.Metadata.MetadataIndex.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<MetadataIndex> PARSER =
+        new com.google.protobuf.AbstractParser<MetadataIndex>() {
+      public MetadataIndex parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new MetadataIndex(input, extensionRegistry);
       }
+    };
 
-      // @@protoc_insertion_point(class_scope:metadata.MetadataColumns.ColumnTypeInfo)
+    @java.lang.Override
+    public com.google.protobuf.Parser<MetadataIndex> getParserForType() {
+      return PARSER;
     }
 
-    // repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;
-    public static final int COLUMNS_FIELD_NUMBER = 2;
-    private java.util.List<com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo> columns_;
+    private int bitField0_;
+    // optional uint32 num_files = 1;
+    public static final int NUM_FILES_FIELD_NUMBER = 1;
+    private int numFiles_;
     /**
-     * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+     * <code>optional uint32 num_files = 1;</code>
      */
-    public java.util.List<com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo> getColumnsList() {
-      return columns_;
+    public boolean hasNumFiles() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+     * <code>optional uint32 num_files = 1;</code>
      */
-    public java.util.List<? extends com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfoOrBuilder> 
-        getColumnsOrBuilderList() {
-      return columns_;
+    public int getNumFiles() {
+      return numFiles_;
     }
+
+    // optional uint64 num_row_groups = 2;
+    public static final int NUM_ROW_GROUPS_FIELD_NUMBER = 2;
+    private long numRowGroups_;
     /**
-     * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+     * <code>optional uint64 num_row_groups = 2;</code>
      */
-    public int getColumnsCount() {
-      return columns_.size();
+    public boolean hasNumRowGroups() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
     }
     /**
-     * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+     * <code>optional uint64 num_row_groups = 2;</code>
      */
-    public com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo getColumns(int index) {
-      return columns_.get(index);
+    public long getNumRowGroups() {
+      return numRowGroups_;
     }
+
+    // optional uint32 num_columns = 3;
+    public static final int NUM_COLUMNS_FIELD_NUMBER = 3;
+    private int numColumns_;
     /**
-     * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+     * <code>optional uint32 num_columns = 3;</code>
      */
-    public com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfoOrBuilder getColumnsOrBuilder(
-        int index) {
-      return columns_.get(index);
+    public boolean hasNumColumns() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional uint32 num_columns = 3;</code>
+     */
+    public int getNumColumns() {
+      return numColumns_;
+    }
+
+    // repeated fixed64 path_hashes = 4 [packed = true];
+    public static final int PATH_HASHES_FIELD_NUMBER = 4;
+    private java.util.List<java.lang.Long> pathHashes_;
+    /**
+     * <code>repeated fixed64 path_hashes = 4 [packed = true];</code>
+     *
+     * <pre>
+     * for each file in order: hash of its path and offset of its record, or of its block if the files are
+     * compressed, from the start of the cache
+     * </pre>
+     */
+    public java.util.List<java.lang.Long>
+        getPathHashesList() {
+      return pathHashes_;
+    }
+    /**
+     * <code>repeated fixed64 path_hashes = 4 [packed = true];</code>
+     *
+     * <pre>
+     * for each file in order: hash of its path and offset of its record, or of its block if the files are
+     * compressed, from the start of the cache
+     * </pre>
+     */
+    public int getPathHashesCount() {
+      return pathHashes_.size();
     }
+    /**
+     * <code>repeated fixed64 path_hashes = 4 [packed = true];</code>
+     *
+     * <pre>
+     * for each file in order: hash of its path and offset of its record, or of its block if the files are
+     * compressed, from the start of the cache
+     * </pre>
+     */
+    public long getPathHashes(int index) {
+      return pathHashes_.get(index);
+    }
+    private int pathHashesMemoizedSerializedSize = -1;
+
+    // repeated uint64 offsets = 5 [packed = true];
+    public static final int OFFSETS_FIELD_NUMBER = 5;
+    private java.util.List<java.lang.Long> offsets_;
+    /**
+     * <code>repeated uint64 offsets = 5 [packed = true];</code>
+     */
+    public java.util.List<java.lang.Long>
+        getOffsetsList() {
+      return offsets_;
+    }
+    /**
+     * <code>repeated uint64 offsets = 5 [packed = true];</code>
+     */
+    public int getOffsetsCount() {
+      return offsets_.size();
+    }
+    /**
+     * <code>repeated uint64 offsets = 5 [packed = true];</code>
+     */
+    public long getOffsets(int index) {
+      return offsets_.get(index);
+    }
+    private int offsetsMemoizedSerializedSize = -1;
 
     private void initFields() {
-      columns_ = java.util.Collections.emptyList();
+      numFiles_ = 0;
+      numRowGroups_ = 0L;
+      numColumns_ = 0;
+      pathHashes_ = java.util.Collections.emptyList();
+      offsets_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -5661,8 +10864,28 @@ public final class Metadata {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
-      for (int i = 0; i < columns_.size(); i++) {
-        output.writeMessage(2, columns_.get(i));
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt32(1, numFiles_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeUInt64(2, numRowGroups_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeUInt32(3, numColumns_);
+      }
+      if (getPathHashesList().size() > 0) {
+        output.writeRawVarint32(34);
+        output.writeRawVarint32(pathHashesMemoizedSerializedSize);
+      }
+      for (int i = 0; i < pathHashes_.size(); i++) {
+        output.writeFixed64NoTag(pathHashes_.get(i));
+      }
+      if (getOffsetsList().size() > 0) {
+        output.writeRawVarint32(42);
+        output.writeRawVarint32(offsetsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < offsets_.size(); i++) {
+        output.writeUInt64NoTag(offsets_.get(i));
       }
       getUnknownFields().writeTo(output);
     }
@@ -5673,9 +10896,42 @@ public final class Metadata {
       if (size != -1) return size;
 
       size = 0;
-      for (int i = 0; i < columns_.size(); i++) {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, columns_.get(i));
+          .computeUInt32Size(1, numFiles_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, numRowGroups_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(3, numColumns_);
+      }
+      {
+        int dataSize = 0;
+        dataSize = 8 * getPathHashesList().size();
+        size += dataSize;
+        if (!getPathHashesList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        pathHashesMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < offsets_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt64SizeNoTag(offsets_.get(i));
+        }
+        size += dataSize;
+        if (!getOffsetsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        offsetsMemoizedSerializedSize = dataSize;
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -5689,53 +10945,53 @@ public final class Metadata {
       return super.writeReplace();
     }
 
-    public static com.adeneche.metadata.Metadata.MetadataColumns parseFrom(
+    public static com.adeneche.metadata.Metadata.MetadataIndex parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.adeneche.metadata.Metadata.MetadataColumns parseFrom(
+    public static com.adeneche.metadata.Metadata.MetadataIndex parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.adeneche.metadata.Metadata.MetadataColumns parseFrom(byte[] data)
+    public static com.adeneche.metadata.Metadata.MetadataIndex parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.adeneche.metadata.Metadata.MetadataColumns parseFrom(
+    public static com.adeneche.metadata.Metadata.MetadataIndex parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.adeneche.metadata.Metadata.MetadataColumns parseFrom(java.io.InputStream input)
+    public static com.adeneche.metadata.Metadata.MetadataIndex parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.adeneche.metadata.Metadata.MetadataColumns parseFrom(
+    public static com.adeneche.metadata.Metadata.MetadataIndex parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static com.adeneche.metadata.Metadata.MetadataColumns parseDelimitedFrom(java.io.InputStream input)
+    public static com.adeneche.metadata.Metadata.MetadataIndex parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static com.adeneche.metadata.Metadata.MetadataColumns parseDelimitedFrom(
+    public static com.adeneche.metadata.Metadata.MetadataIndex parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static com.adeneche.metadata.Metadata.MetadataColumns parseFrom(
+    public static com.adeneche.metadata.Metadata.MetadataIndex parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.adeneche.metadata.Metadata.MetadataColumns parseFrom(
+    public static com.adeneche.metadata.Metadata.MetadataIndex parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -5744,7 +11000,7 @@ public final class Metadata {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.adeneche.metadata.Metadata.MetadataColumns prototype) {
+    public static Builder newBuilder(com.adeneche.metadata.Metadata.MetadataIndex prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -5756,24 +11012,28 @@ public final class Metadata {
       return builder;
     }
     /**
-     * Protobuf type {@code metadata.MetadataColumns}
+     * Protobuf type {@code metadata.MetadataIndex}
+     *
+     * <pre>
+     * Written after the files, followed by its size and a magic number as two little endian fixed32
+     * </pre>
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements com.adeneche.metadata.Metadata.MetadataColumnsOrBuilder {
+       implements com.adeneche.metadata.Metadata.MetadataIndexOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.adeneche.metadata.Metadata.internal_static_metadata_MetadataColumns_descriptor;
+        return com.adeneche.metadata.Metadata.internal_static_metadata_MetadataIndex_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.adeneche.metadata.Metadata.internal_static_metadata_MetadataColumns_fieldAccessorTable
+        return com.adeneche.metadata.Metadata.internal_static_metadata_MetadataIndex_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.adeneche.metadata.Metadata.MetadataColumns.class, com.adeneche.metadata.Metadata.MetadataColumns.Builder.class);
+                com.adeneche.metadata.Metadata.MetadataIndex.class, com.adeneche.metadata.Metadata.MetadataIndex.Builder.class);
       }
 
-      // Construct using com.adeneche.metadata.Metadata.MetadataColumns.newBuilder()
+      // Construct using com.adeneche.metadata.Metadata.MetadataIndex.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -5785,7 +11045,6 @@ public final class Metadata {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getColumnsFieldBuilder();
         }
       }
       private static Builder create() {
@@ -5794,12 +11053,16 @@ public final class Metadata {
 
       public Builder clear() {
         super.clear();
-        if (columnsBuilder_ == null) {
-          columns_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
-        } else {
-          columnsBuilder_.clear();
-        }
+        numFiles_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        numRowGroups_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        numColumns_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        pathHashes_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        offsets_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
         return this;
       }
 
@@ -5809,73 +11072,91 @@ public final class Metadata {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.adeneche.metadata.Metadata.internal_static_metadata_MetadataColumns_descriptor;
+        return com.adeneche.metadata.Metadata.internal_static_metadata_MetadataIndex_descriptor;
       }
 
-      public com.adeneche.metadata.Metadata.MetadataColumns getDefaultInstanceForType() {
-        return com.adeneche.metadata.Metadata.MetadataColumns.getDefaultInstance();
+      public com.adeneche.metadata.Metadata.MetadataIndex getDefaultInstanceForType() {
+        return com.adeneche.metadata.Metadata.MetadataIndex.getDefaultInstance();
       }
 
-      public com.adeneche.metadata.Metadata.MetadataColumns build() {
-        com.adeneche.metadata.Metadata.MetadataColumns result = buildPartial();
+      public com.adeneche.metadata.Metadata.MetadataIndex build() {
+        com.adeneche.metadata.Metadata.MetadataIndex result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.adeneche.metadata.Metadata.MetadataColumns buildPartial() {
-        com.adeneche.metadata.Metadata.MetadataColumns result = new com.adeneche.metadata.Metadata.MetadataColumns(this);
+      public com.adeneche.metadata.Metadata.MetadataIndex buildPartial() {
+        com.adeneche.metadata.Metadata.MetadataIndex result = new com.adeneche.metadata.Metadata.MetadataIndex(this);
         int from_bitField0_ = bitField0_;
-        if (columnsBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) == 0x00000001)) {
-            columns_ = java.util.Collections.unmodifiableList(columns_);
-            bitField0_ = (bitField0_ & ~0x00000001);
-          }
-          result.columns_ = columns_;
-        } else {
-          result.columns_ = columnsBuilder_.build();
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.numFiles_ = numFiles_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.numRowGroups_ = numRowGroups_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.numColumns_ = numColumns_;
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          pathHashes_ = java.util.Collections.unmodifiableList(pathHashes_);
+          bitField0_ = (bitField0_ & ~0x00000008);
+        }
+        result.pathHashes_ = pathHashes_;
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          offsets_ = java.util.Collections.unmodifiableList(offsets_);
+          bitField0_ = (bitField0_ & ~0x00000010);
         }
+        result.offsets_ = offsets_;
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.adeneche.metadata.Metadata.MetadataColumns) {
-          return mergeFrom((com.adeneche.metadata.Metadata.MetadataColumns)other);
+        if (other instanceof com.adeneche.metadata.Metadata.MetadataIndex) {
+          return mergeFrom((com.adeneche.metadata.Metadata.MetadataIndex)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.adeneche.metadata.Metadata.MetadataColumns other) {
-        if (other == com.adeneche.metadata.Metadata.MetadataColumns.getDefaultInstance()) return this;
-        if (columnsBuilder_ == null) {
-          if (!other.columns_.isEmpty()) {
-            if (columns_.isEmpty()) {
-              columns_ = other.columns_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-            } else {
-              ensureColumnsIsMutable();
-              columns_.addAll(other.columns_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.columns_.isEmpty()) {
-            if (columnsBuilder_.isEmpty()) {
-              columnsBuilder_.dispose();
-              columnsBuilder_ = null;
-              columns_ = other.columns_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-              columnsBuilder_ = 
-                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
-                   getColumnsFieldBuilder() : null;
-            } else {
-              columnsBuilder_.addAllMessages(other.columns_);
-            }
+      public Builder mergeFrom(com.adeneche.metadata.Metadata.MetadataIndex other) {
+        if (other == com.adeneche.metadata.Metadata.MetadataIndex.getDefaultInstance()) return this;
+        if (other.hasNumFiles()) {
+          setNumFiles(other.getNumFiles());
+        }
+        if (other.hasNumRowGroups()) {
+          setNumRowGroups(other.getNumRowGroups());
+        }
+        if (other.hasNumColumns()) {
+          setNumColumns(other.getNumColumns());
+        }
+        if (!other.pathHashes_.isEmpty()) {
+          if (pathHashes_.isEmpty()) {
+            pathHashes_ = other.pathHashes_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensurePathHashesIsMutable();
+            pathHashes_.addAll(other.pathHashes_);
+          }
+          onChanged();
+        }
+        if (!other.offsets_.isEmpty()) {
+          if (offsets_.isEmpty()) {
+            offsets_ = other.offsets_;
+            bitField0_ = (bitField0_ & ~0x00000010);
+          } else {
+            ensureOffsetsIsMutable();
+            offsets_.addAll(other.offsets_);
           }
+          onChanged();
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
@@ -5889,11 +11170,11 @@ public final class Metadata {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.adeneche.metadata.Metadata.MetadataColumns parsedMessage = null;
+        com.adeneche.metadata.Metadata.MetadataIndex parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.adeneche.metadata.Metadata.MetadataColumns) e.getUnfinishedMessage();
+          parsedMessage = (com.adeneche.metadata.Metadata.MetadataIndex) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -5904,255 +11185,281 @@ public final class Metadata {
       }
       private int bitField0_;
 
-      // repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;
-      private java.util.List<com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo> columns_ =
-        java.util.Collections.emptyList();
-      private void ensureColumnsIsMutable() {
-        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
-          columns_ = new java.util.ArrayList<com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo>(columns_);
-          bitField0_ |= 0x00000001;
-         }
-      }
-
-      private com.google.protobuf.RepeatedFieldBuilder<
-          com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo, com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.Builder, com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfoOrBuilder> columnsBuilder_;
-
+      // optional uint32 num_files = 1;
+      private int numFiles_ ;
       /**
-       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       * <code>optional uint32 num_files = 1;</code>
        */
-      public java.util.List<com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo> getColumnsList() {
-        if (columnsBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(columns_);
-        } else {
-          return columnsBuilder_.getMessageList();
-        }
+      public boolean hasNumFiles() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       * <code>optional uint32 num_files = 1;</code>
        */
-      public int getColumnsCount() {
-        if (columnsBuilder_ == null) {
-          return columns_.size();
-        } else {
-          return columnsBuilder_.getCount();
-        }
+      public int getNumFiles() {
+        return numFiles_;
       }
       /**
-       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       * <code>optional uint32 num_files = 1;</code>
        */
-      public com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo getColumns(int index) {
-        if (columnsBuilder_ == null) {
-          return columns_.get(index);
-        } else {
-          return columnsBuilder_.getMessage(index);
-        }
+      public Builder setNumFiles(int value) {
+        bitField0_ |= 0x00000001;
+        numFiles_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       * <code>optional uint32 num_files = 1;</code>
        */
-      public Builder setColumns(
-          int index, com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo value) {
-        if (columnsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureColumnsIsMutable();
-          columns_.set(index, value);
-          onChanged();
-        } else {
-          columnsBuilder_.setMessage(index, value);
-        }
+      public Builder clearNumFiles() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        numFiles_ = 0;
+        onChanged();
         return this;
       }
+
+      // optional uint64 num_row_groups = 2;
+      private long numRowGroups_ ;
       /**
-       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       * <code>optional uint64 num_row_groups = 2;</code>
        */
-      public Builder setColumns(
-          int index, com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.Builder builderForValue) {
-        if (columnsBuilder_ == null) {
-          ensureColumnsIsMutable();
-          columns_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          columnsBuilder_.setMessage(index, builderForValue.build());
-        }
+      public boolean hasNumRowGroups() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional uint64 num_row_groups = 2;</code>
+       */
+      public long getNumRowGroups() {
+        return numRowGroups_;
+      }
+      /**
+       * <code>optional uint64 num_row_groups = 2;</code>
+       */
+      public Builder setNumRowGroups(long value) {
+        bitField0_ |= 0x00000002;
+        numRowGroups_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       * <code>optional uint64 num_row_groups = 2;</code>
        */
-      public Builder addColumns(com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo value) {
-        if (columnsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureColumnsIsMutable();
-          columns_.add(value);
-          onChanged();
-        } else {
-          columnsBuilder_.addMessage(value);
-        }
+      public Builder clearNumRowGroups() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        numRowGroups_ = 0L;
+        onChanged();
         return this;
       }
+
+      // optional uint32 num_columns = 3;
+      private int numColumns_ ;
       /**
-       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       * <code>optional uint32 num_columns = 3;</code>
        */
-      public Builder addColumns(
-          int index, com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo value) {
-        if (columnsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureColumnsIsMutable();
-          columns_.add(index, value);
-          onChanged();
-        } else {
-          columnsBuilder_.addMessage(index, value);
-        }
+      public boolean hasNumColumns() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional uint32 num_columns = 3;</code>
+       */
+      public int getNumColumns() {
+        return numColumns_;
+      }
+      /**
+       * <code>optional uint32 num_columns = 3;</code>
+       */
+      public Builder setNumColumns(int value) {
+        bitField0_ |= 0x00000004;
+        numColumns_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       * <code>optional uint32 num_columns = 3;</code>
        */
-      public Builder addColumns(
-          com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.Builder builderForValue) {
-        if (columnsBuilder_ == null) {
-          ensureColumnsIsMutable();
-          columns_.add(builderForValue.build());
-          onChanged();
-        } else {
-          columnsBuilder_.addMessage(builderForValue.build());
-        }
+      public Builder clearNumColumns() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        numColumns_ = 0;
+        onChanged();
         return this;
       }
+
+      // repeated fixed64 path_hashes = 4 [packed = true];
+      private java.util.List<java.lang.Long> pathHashes_ = java.util.Collections.emptyList();
+      private void ensurePathHashesIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          pathHashes_ = new java.util.ArrayList<java.lang.Long>(pathHashes_);
+          bitField0_ |= 0x00000008;
+         }
+      }
       /**
-       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       * <code>repeated fixed64 path_hashes = 4 [packed = true];</code>
+       *
+       * <pre>
+       * for each file in order: hash of its path and offset of its record, or of its block if the files are
+       * compressed, from the start of the cache
+       * </pre>
        */
-      public Builder addColumns(
-          int index, com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.Builder builderForValue) {
-        if (columnsBuilder_ == null) {
-          ensureColumnsIsMutable();
-          columns_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          columnsBuilder_.addMessage(index, builderForValue.build());
-        }
+      public java.util.List<java.lang.Long>
+          getPathHashesList() {
+        return java.util.Collections.unmodifiableList(pathHashes_);
+      }
+      /**
+       * <code>repeated fixed64 path_hashes = 4 [packed = true];</code>
+       *
+       * <pre>
+       * for each file in order: hash of its path and offset of its record, or of its block if the files are
+       * compressed, from the start of the cache
+       * </pre>
+       */
+      public int getPathHashesCount() {
+        return pathHashes_.size();
+      }
+      /**
+       * <code>repeated fixed64 path_hashes = 4 [packed = true];</code>
+       *
+       * <pre>
+       * for each file in order: hash of its path and offset of its record, or of its block if the files are
+       * compressed, from the start of the cache
+       * </pre>
+       */
+      public long getPathHashes(int index) {
+        return pathHashes_.get(index);
+      }
+      /**
+       * <code>repeated fixed64 path_hashes = 4 [packed = true];</code>
+       *
+       * <pre>
+       * for each file in order: hash of its path and offset of its record, or of its block if the files are
+       * compressed, from the start of the cache
+       * </pre>
+       */
+      public Builder setPathHashes(
+          int index, long value) {
+        ensurePathHashesIsMutable();
+        pathHashes_.set(index, value);
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       * <code>repeated fixed64 path_hashes = 4 [packed = true];</code>
+       *
+       * <pre>
+       * for each file in order: hash of its path and offset of its record, or of its block if the files are
+       * compressed, from the start of the cache
+       * </pre>
        */
-      public Builder addAllColumns(
-          java.lang.Iterable<? extends com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo> values) {
-        if (columnsBuilder_ == null) {
-          ensureColumnsIsMutable();
-          super.addAll(values, columns_);
-          onChanged();
-        } else {
-          columnsBuilder_.addAllMessages(values);
-        }
+      public Builder addPathHashes(long value) {
+        ensurePathHashesIsMutable();
+        pathHashes_.add(value);
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       * <code>repeated fixed64 path_hashes = 4 [packed = true];</code>
+       *
+       * <pre>
+       * for each file in order: hash of its path and offset of its record, or of its block if the files are
+       * compressed, from the start of the cache
+       * </pre>
        */
-      public Builder clearColumns() {
-        if (columnsBuilder_ == null) {
-          columns_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
-          onChanged();
-        } else {
-          columnsBuilder_.clear();
-        }
+      public Builder addAllPathHashes(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensurePathHashesIsMutable();
+        super.addAll(values, pathHashes_);
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       * <code>repeated fixed64 path_hashes = 4 [packed = true];</code>
+       *
+       * <pre>
+       * for each file in order: hash of its path and offset of its record, or of its block if the files are
+       * compressed, from the start of the cache
+       * </pre>
        */
-      public Builder removeColumns(int index) {
-        if (columnsBuilder_ == null) {
-          ensureColumnsIsMutable();
-          columns_.remove(index);
-          onChanged();
-        } else {
-          columnsBuilder_.remove(index);
-        }
+      public Builder clearPathHashes() {
+        pathHashes_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
         return this;
       }
+
+      // repeated uint64 offsets = 5 [packed = true];
+      private java.util.List<java.lang.Long> offsets_ = java.util.Collections.emptyList();
+      private void ensureOffsetsIsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          offsets_ = new java.util.ArrayList<java.lang.Long>(offsets_);
+          bitField0_ |= 0x00000010;
+         }
+      }
       /**
-       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       * <code>repeated uint64 offsets = 5 [packed = true];</code>
        */
-      public com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.Builder getColumnsBuilder(
-          int index) {
-        return getColumnsFieldBuilder().getBuilder(index);
+      public java.util.List<java.lang.Long>
+          getOffsetsList() {
+        return java.util.Collections.unmodifiableList(offsets_);
       }
       /**
-       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       * <code>repeated uint64 offsets = 5 [packed = true];</code>
        */
-      public com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfoOrBuilder getColumnsOrBuilder(
-          int index) {
-        if (columnsBuilder_ == null) {
-          return columns_.get(index);  } else {
-          return columnsBuilder_.getMessageOrBuilder(index);
-        }
+      public int getOffsetsCount() {
+        return offsets_.size();
       }
       /**
-       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       * <code>repeated uint64 offsets = 5 [packed = true];</code>
        */
-      public java.util.List<? extends com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfoOrBuilder> 
-           getColumnsOrBuilderList() {
-        if (columnsBuilder_ != null) {
-          return columnsBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(columns_);
-        }
+      public long getOffsets(int index) {
+        return offsets_.get(index);
       }
       /**
-       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       * <code>repeated uint64 offsets = 5 [packed = true];</code>
        */
-      public com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.Builder addColumnsBuilder() {
-        return getColumnsFieldBuilder().addBuilder(
-            com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.getDefaultInstance());
+      public Builder setOffsets(
+          int index, long value) {
+        ensureOffsetsIsMutable();
+        offsets_.set(index, value);
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       * <code>repeated uint64 offsets = 5 [packed = true];</code>
        */
-      public com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.Builder addColumnsBuilder(
-          int index) {
-        return getColumnsFieldBuilder().addBuilder(
-            index, com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.getDefaultInstance());
+      public Builder addOffsets(long value) {
+        ensureOffsetsIsMutable();
+        offsets_.add(value);
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .metadata.MetadataColumns.ColumnTypeInfo columns = 2;</code>
+       * <code>repeated uint64 offsets = 5 [packed = true];</code>
        */
-      public java.util.List<com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.Builder> 
-           getColumnsBuilderList() {
-        return getColumnsFieldBuilder().getBuilderList();
+      public Builder addAllOffsets(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureOffsetsIsMutable();
+        super.addAll(values, offsets_);
+        onChanged();
+        return this;
       }
-      private com.google.protobuf.RepeatedFieldBuilder<
-          com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo, com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.Builder, com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfoOrBuilder> 
-          getColumnsFieldBuilder() {
-        if (columnsBuilder_ == null) {
-          columnsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
-              com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo, com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.Builder, com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfoOrBuilder>(
-                  columns_,
-                  ((bitField0_ & 0x00000001) == 0x00000001),
-                  getParentForChildren(),
-                  isClean());
-          columns_ = null;
-        }
-        return columnsBuilder_;
+      /**
+       * <code>repeated uint64 offsets = 5 [packed = true];</code>
+       */
+      public Builder clearOffsets() {
+        offsets_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:metadata.MetadataColumns)
+      // @@protoc_insertion_point(builder_scope:metadata.MetadataIndex)
     }
 
     static {
-      defaultInstance = new MetadataColumns(true);
+      defaultInstance = new MetadataIndex(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:metadata.MetadataColumns)
+    // @@protoc_insertion_point(class_scope:metadata.MetadataIndex)
   }
 
   private static com.google.protobuf.Descriptors.Descriptor
@@ -6180,6 +11487,11 @@ public final class Metadata {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_metadata_ParquetFileMetadata_RowGroup_ColumnMetadata_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_metadata_ParquetFileMetadata_ColumnStats_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_metadata_ParquetFileMetadata_ColumnStats_fieldAccessorTable;
   private static com.google.protobuf.Descriptors.Descriptor
     internal_static_metadata_MetadataColumns_descriptor;
   private static
@@ -6190,6 +11502,16 @@ public final class Metadata {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_metadata_MetadataColumns_ColumnTypeInfo_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_metadata_MetadataHosts_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_metadata_MetadataHosts_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_metadata_MetadataIndex_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_metadata_MetadataIndex_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -6199,39 +11521,57 @@ public final class Metadata {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\022src/metadata.proto\022\010metadata\"?\n\016Metada" +
-      "taHeader\022\030\n\020metadata_version\030\001 \002(\t\022\023\n\013di" +
-      "rectories\030\004 \003(\t\"\372\003\n\023ParquetFileMetadata\022" +
-      "\014\n\004path\030\001 \001(\t\022\016\n\006length\030\002 \001(\004\0229\n\trowGrou" +
-      "ps\030\003 \003(\0132&.metadata.ParquetFileMetadata." +
-      "RowGroup\032\211\003\n\010RowGroup\022\r\n\005start\030\001 \001(\004\022\016\n\006" +
-      "length\030\002 \001(\004\022\020\n\010rowCount\030\003 \001(\004\022G\n\naffini" +
-      "ties\030\004 \003(\01323.metadata.ParquetFileMetadat" +
-      "a.RowGroup.HostAffinity\022F\n\007columns\030\005 \003(\013" +
-      "25.metadata.ParquetFileMetadata.RowGroup",
-      ".ColumnMetadata\032*\n\014HostAffinity\022\013\n\003key\030\001" +
-      " \001(\t\022\r\n\005value\030\002 \001(\002\032\216\001\n\016ColumnMetadata\022\014" +
-      "\n\004name\030\001 \002(\r\022\r\n\005nulls\030\002 \001(\004\022\016\n\006vint64\030\003 " +
-      "\001(\022\022\016\n\006vint32\030\004 \001(\021\022\r\n\005vbool\030\005 \001(\010\022\017\n\007vb" +
-      "inary\030\006 \001(\014\022\016\n\006vfloat\030\007 \001(\002\022\017\n\007vdouble\030\010" +
-      " \001(\001\"\232\005\n\017MetadataColumns\0229\n\007columns\030\002 \003(" +
-      "\0132(.metadata.MetadataColumns.ColumnTypeI" +
-      "nfo\032\313\004\n\016ColumnTypeInfo\022\014\n\004name\030\001 \001(\t\022Q\n\r" +
-      "primitiveType\030\002 \001(\0162:.metadata.MetadataC" +
-      "olumns.ColumnTypeInfo.PrimitiveTypeName\022",
-      "K\n\014originalType\030\003 \001(\01625.metadata.Metadat" +
-      "aColumns.ColumnTypeInfo.OriginalType\"~\n\021" +
-      "PrimitiveTypeName\022\t\n\005INT64\020\000\022\t\n\005INT32\020\001\022" +
-      "\013\n\007BOOLEAN\020\002\022\n\n\006BINARY\020\003\022\t\n\005FLOAT\020\004\022\n\n\006D" +
-      "OUBLE\020\005\022\t\n\005INT96\020\006\022\030\n\024FIXED_LEN_BYTE_ARR" +
-      "AY\020\007\"\212\002\n\014OriginalType\022\007\n\003MAP\020\000\022\010\n\004LIST\020\001" +
-      "\022\010\n\004UTF8\020\002\022\021\n\rMAP_KEY_VALUE\020\003\022\010\n\004ENUM\020\004\022" +
-      "\013\n\007DECIMAL\020\005\022\010\n\004DATE\020\006\022\017\n\013TIME_MILLIS\020\007\022" +
-      "\024\n\020TIMESTAMP_MILLIS\020\010\022\n\n\006UINT_8\020\t\022\013\n\007UIN" +
-      "T_16\020\n\022\013\n\007UINT_32\020\013\022\013\n\007UINT_64\020\014\022\t\n\005INT_",
-      "8\020\r\022\n\n\006INT_16\020\016\022\n\n\006INT_32\020\017\022\n\n\006INT_64\020\020\022" +
-      "\010\n\004JSON\020\021\022\010\n\004BSON\020\022\022\014\n\010INTERVAL\020\023B!\n\025com" +
-      ".adeneche.metadataB\010Metadata"
+      "\n\022src/metadata.proto\022\010metadata\"\243\002\n\016Metad" +
+      "ataHeader\022\030\n\020metadata_version\030\001 \002(\t\022\023\n\013d" +
+      "irectories\030\004 \003(\t\022\017\n\007indexed\030\005 \001(\010\022\027\n\017hos" +
+      "t_dictionary\030\006 \001(\010\0229\n\013compression\030\007 \001(\0162" +
+      "$.metadata.MetadataHeader.Compression\022\023\n" +
+      "\013block_files\030\010 \001(\r\022\024\n\014start_deltas\030\t \001(\010" +
+      "\022\024\n\014column_stats\030\n \001(\010\022\026\n\016relative_paths" +
+      "\030\013 \001(\010\"$\n\013Compression\022\010\n\004NONE\020\000\022\013\n\007DEFLA" +
+      "TE\020\001\"\314\006\n\023ParquetFileMetadata\022\014\n\004path\030\001 \001" +
+      "(\t\022\016\n\006length\030\002 \001(\004\0229\n\trowGroups\030\003 \003(\0132&.",
+      "metadata.ParquetFileMetadata.RowGroup\022\021\n" +
+      "\tdirectory\030\004 \001(\r\022?\n\014column_stats\030\005 \003(\0132)" +
+      ".metadata.ParquetFileMetadata.ColumnStat" +
+      "s\032\254\003\n\010RowGroup\022\r\n\005start\030\001 \001(\004\022\016\n\006length\030" +
+      "\002 \001(\004\022\020\n\010rowCount\030\003 \001(\004\022\023\n\013start_delta\030\006" +
+      " \001(\022\022G\n\naffinities\030\004 \003(\01323.metadata.Parq" +
+      "uetFileMetadata.RowGroup.HostAffinity\022F\n" +
+      "\007columns\030\005 \003(\01325.metadata.ParquetFileMet" +
+      "adata.RowGroup.ColumnMetadata\0328\n\014HostAff" +
+      "inity\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\002\022\014\n\004hos",
+      "t\030\003 \001(\r\032\216\001\n\016ColumnMetadata\022\014\n\004name\030\001 \002(\r" +
+      "\022\r\n\005nulls\030\002 \001(\004\022\016\n\006vint64\030\003 \001(\022\022\016\n\006vint3" +
+      "2\030\004 \001(\021\022\r\n\005vbool\030\005 \001(\010\022\017\n\007vbinary\030\006 \001(\014\022" +
+      "\016\n\006vfloat\030\007 \001(\002\022\017\n\007vdouble\030\010 \001(\001\032\330\001\n\013Col" +
+      "umnStats\022\014\n\004name\030\001 \002(\r\022\017\n\007present\030\002 \001(\014\022" +
+      "\021\n\thas_nulls\030\003 \001(\014\022\017\n\007has_max\030\004 \001(\014\022\021\n\005n" +
+      "ulls\030\005 \003(\004B\002\020\001\022\022\n\006vint64\030\006 \003(\022B\002\020\001\022\022\n\006vi" +
+      "nt32\030\007 \003(\021B\002\020\001\022\021\n\005vbool\030\010 \003(\010B\002\020\001\022\017\n\007vbi" +
+      "nary\030\t \003(\014\022\022\n\006vfloat\030\n \003(\002B\002\020\001\022\023\n\007vdoubl" +
+      "e\030\013 \003(\001B\002\020\001\"\232\005\n\017MetadataColumns\0229\n\007colum",
+      "ns\030\002 \003(\0132(.metadata.MetadataColumns.Colu" +
+      "mnTypeInfo\032\313\004\n\016ColumnTypeInfo\022\014\n\004name\030\001 " +
+      "\001(\t\022Q\n\rprimitiveType\030\002 \001(\0162:.metadata.Me" +
+      "tadataColumns.ColumnTypeInfo.PrimitiveTy" +
+      "peName\022K\n\014originalType\030\003 \001(\01625.metadata." +
+      "MetadataColumns.ColumnTypeInfo.OriginalT" +
+      "ype\"~\n\021PrimitiveTypeName\022\t\n\005INT64\020\000\022\t\n\005I" +
+      "NT32\020\001\022\013\n\007BOOLEAN\020\002\022\n\n\006BINARY\020\003\022\t\n\005FLOAT" +
+      "\020\004\022\n\n\006DOUBLE\020\005\022\t\n\005INT96\020\006\022\030\n\024FIXED_LEN_B" +
+      "YTE_ARRAY\020\007\"\212\002\n\014OriginalType\022\007\n\003MAP\020\000\022\010\n",
+      "\004LIST\020\001\022\010\n\004UTF8\020\002\022\021\n\rMAP_KEY_VALUE\020\003\022\010\n\004" +
+      "ENUM\020\004\022\013\n\007DECIMAL\020\005\022\010\n\004DATE\020\006\022\017\n\013TIME_MI" +
+      "LLIS\020\007\022\024\n\020TIMESTAMP_MILLIS\020\010\022\n\n\006UINT_8\020\t" +
+      "\022\013\n\007UINT_16\020\n\022\013\n\007UINT_32\020\013\022\013\n\007UINT_64\020\014\022" +
+      "\t\n\005INT_8\020\r\022\n\n\006INT_16\020\016\022\n\n\006INT_32\020\017\022\n\n\006IN" +
+      "T_64\020\020\022\010\n\004JSON\020\021\022\010\n\004BSON\020\022\022\014\n\010INTERVAL\020\023" +
+      "\"\036\n\rMetadataHosts\022\r\n\005hosts\030\001 \003(\t\"}\n\rMeta" +
+      "dataIndex\022\021\n\tnum_files\030\001 \001(\r\022\026\n\016num_row_" +
+      "groups\030\002 \001(\004\022\023\n\013num_columns\030\003 \001(\r\022\027\n\013pat" +
+      "h_hashes\030\004 \003(\006B\002\020\001\022\023\n\007offsets\030\005 \003(\004B\002\020\001B",
+      "!\n\025com.adeneche.metadataB\010Metadata"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
       new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
@@ -6243,31 +11583,37 @@ public final class Metadata {
           internal_static_metadata_MetadataHeader_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_metadata_MetadataHeader_descriptor,
-              new java.lang.String[] { "MetadataVersion", "Directories", });
+              new java.lang.String[] { "MetadataVersion", "Directories", "Indexed", "HostDictionary", "Compression", "BlockFiles", "StartDeltas", "ColumnStats", "RelativePaths", });
           internal_static_metadata_ParquetFileMetadata_descriptor =
             getDescriptor().getMessageTypes().get(1);
           internal_static_metadata_ParquetFileMetadata_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_metadata_ParquetFileMetadata_descriptor,
-              new java.lang.String[] { "Path", "Length", "RowGroups", });
+              new java.lang.String[] { "Path", "Length", "RowGroups", "Directory", "ColumnStats", });
           internal_static_metadata_ParquetFileMetadata_RowGroup_descriptor =
             internal_static_metadata_ParquetFileMetadata_descriptor.getNestedTypes().get(0);
           internal_static_metadata_ParquetFileMetadata_RowGroup_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_metadata_ParquetFileMetadata_RowGroup_descriptor,
-              new java.lang.String[] { "Start", "Length", "RowCount", "Affinities", "Columns", });
+              new java.lang.String[] { "Start", "Length", "RowCount", "StartDelta", "Affinities", "Columns", });
           internal_static_metadata_ParquetFileMetadata_RowGroup_HostAffinity_descriptor =
             internal_static_metadata_ParquetFileMetadata_RowGroup_descriptor.getNestedTypes().get(0);
           internal_static_metadata_ParquetFileMetadata_RowGroup_HostAffinity_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_metadata_ParquetFileMetadata_RowGroup_HostAffinity_descriptor,
-              new java.lang.String[] { "Key", "Value", });
+              new java.lang.String[] { "Key", "Value", "Host", });
           internal_static_metadata_ParquetFileMetadata_RowGroup_ColumnMetadata_descriptor =
             internal_static_metadata_ParquetFileMetadata_RowGroup_descriptor.getNestedTypes().get(1);
           internal_static_metadata_ParquetFileMetadata_RowGroup_ColumnMetadata_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_metadata_ParquetFileMetadata_RowGroup_ColumnMetadata_descriptor,
               new java.lang.String[] { "Name", "Nulls", "Vint64", "Vint32", "Vbool", "Vbinary", "Vfloat", "Vdouble", });
+          internal_static_metadata_ParquetFileMetadata_ColumnStats_descriptor =
+            internal_static_metadata_ParquetFileMetadata_descriptor.getNestedTypes().get(1);
+          internal_static_metadata_ParquetFileMetadata_ColumnStats_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_metadata_ParquetFileMetadata_ColumnStats_descriptor,
+              new java.lang.String[] { "Name", "Present", "HasNulls", "HasMax", "Nulls", "Vint64", "Vint32", "Vbool", "Vbinary", "Vfloat", "Vdouble", });
           internal_static_metadata_MetadataColumns_descriptor =
             getDescriptor().getMessageTypes().get(2);
           internal_static_metadata_MetadataColumns_fieldAccessorTable = new
@@ -6280,6 +11626,18 @@ public final class Metadata {
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_metadata_MetadataColumns_ColumnTypeInfo_descriptor,
               new java.lang.String[] { "Name", "PrimitiveType", "OriginalType", });
+          internal_static_metadata_MetadataHosts_descriptor =
+            getDescriptor().getMessageTypes().get(3);
+          internal_static_metadata_MetadataHosts_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_metadata_MetadataHosts_descriptor,
+              new java.lang.String[] { "Hosts", });
+          internal_static_metadata_MetadataIndex_descriptor =
+            getDescriptor().getMessageTypes().get(4);
+          internal_static_metadata_MetadataIndex_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_metadata_MetadataIndex_descriptor,
+              new java.lang.String[] { "NumFiles", "NumRowGroups", "NumColumns", "PathHashes", "Offsets", });
           return null;
         }
       };
@@ -0,0 +1,111 @@
+package com.adeneche;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import junit.framework.TestCase;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class ColumnarTableMetadataTest extends TestCase {
+
+  public void testFromHolders() {
+    final Holders.ParquetTableMetadata table = TestTables.table(1, 100, 15);
+    assertSameTable(table, ColumnarTableMetadata.of(table));
+  }
+
+  public void testFromProtos() {
+    final MetadataHolder holder = MetadataHolderTest.holder(TestTables.table(2, 100, 15));
+    assertSameTable(holder.toParquetTableMetadata(), holder.toColumnar());
+  }
+
+  public void testSparseColumns() {
+    // the first column is only in one file out of 50, the others in all of them
+    final Holders.ParquetTableMetadata table = TestTables.table(3, 200, 5);
+    final String[] sparse = table.files.get(0).rowGroups.get(0).columns.get(0).name;
+    for (int f = 0; f < table.files.size(); f++) {
+      for (final Holders.RowGroupMetadata rowGroup : table.files.get(f).rowGroups) {
+        if (f % 50 != 0) {
+          rowGroup.columns.remove(0);
+        }
+        // columns of a row group don't have to be in column id order
+        Collections.reverse(rowGroup.columns);
+      }
+    }
+    final ColumnarTableMetadata columnar = ColumnarTableMetadata.of(table);
+    assertSameTable(table, columnar);
+
+    final int column = columnar.getColumnId(sparse);
+    int rowGroup = 0;
+    for (int f = 0; f < table.files.size(); f++) {
+      for (int r = 0; r < table.files.get(f).rowGroups.size(); r++, rowGroup++) {
+        assertEquals(f % 50 == 0, columnar.hasColumn(rowGroup, column));
+      }
+    }
+  }
+
+  public void testColumnWithoutPrimitiveType() {
+    final Holders.ColumnTypeMetadata untyped = new Holders.ColumnTypeMetadata(new String[] { "u" }, null, null);
+    final Holders.ParquetTableMetadata table = new Holders.ParquetTableMetadata();
+    table.columnTypeInfo = Maps.newHashMap();
+    table.columnTypeInfo.put(untyped.key(), untyped);
+    table.directories = Lists.newArrayList();
+    table.files = Lists.newArrayList(new Holders.ParquetFileMetadata("/t/file_0.parquet", 200L, Lists.newArrayList(
+      new Holders.RowGroupMetadata(4L, 100L, 10L, Maps.<String, Float>newHashMap(), Lists.newArrayList(
+        new Holders.ColumnMetadata(untyped.name, null, 5L, 2L))))));
+
+    // its max values aren't kept
+    final ColumnarTableMetadata.ColumnView column =
+      ColumnarTableMetadata.of(table).getFile(0).getRowGroups().get(0).getColumns().get(0);
+    assertTrue(Arrays.equals(untyped.name, column.getName()));
+    assertNull(column.getPrimitiveType());
+    assertFalse(column.hasSingleValue());
+    assertNull(column.getMaxValue());
+    assertEquals(Long.valueOf(2), column.getNulls());
+  }
+
+  private static void assertSameTable(final Holders.ParquetTableMetadata expected,
+                                      final ColumnarTableMetadata columnar) {
+    assertEquals(expected.directories, columnar.getDirectories());
+    assertEquals(expected.columnTypeInfo.size(), columnar.getNumColumns());
+    assertEquals(expected.files.size(), columnar.getNumFiles());
+
+    for (int f = 0; f < expected.files.size(); f++) {
+      final Holders.ParquetFileMetadata file = expected.files.get(f);
+      final ColumnarTableMetadata.FileView view = columnar.getFile(f);
+      assertEquals(file.getPath(), view.getPath());
+      assertEquals((long) file.getLength(), view.getLength());
+      assertEquals(file.getRowGroups().size(), view.getRowGroups().size());
+
+      for (int r = 0; r < file.getRowGroups().size(); r++) {
+        final Holders.RowGroupMetadata rowGroup = file.getRowGroups().get(r);
+        final ColumnarTableMetadata.RowGroupView rowGroupView = view.getRowGroups().get(r);
+        assertEquals((long) rowGroup.getStart(), rowGroupView.getStart());
+        assertEquals((long) rowGroup.getLength(), rowGroupView.getLength());
+        assertEquals((long) rowGroup.getRowCount(), rowGroupView.getRowCount());
+        assertEquals(rowGroup.getHostAffinity(), rowGroupView.getHostAffinity());
+
+        final List<ColumnarTableMetadata.ColumnView> columnViews = rowGroupView.getColumns();
+        assertEquals(rowGroup.getColumns().size(), columnViews.size());
+        for (final Holders.ColumnMetadata column : rowGroup.getColumns()) {
+          final ColumnarTableMetadata.ColumnView columnView = find(columnViews, column.getName());
+          assertEquals(column.getNulls(), columnView.getNulls());
+          assertEquals(column.hasSingleValue(), columnView.hasSingleValue());
+          assertEquals(column.getMaxValue(), columnView.getMaxValue());
+        }
+      }
+    }
+  }
+
+  private static ColumnarTableMetadata.ColumnView find(final List<ColumnarTableMetadata.ColumnView> columns,
+                                                       final String[] name) {
+    for (final ColumnarTableMetadata.ColumnView column : columns) {
+      if (Arrays.equals(name, column.getName())) {
+        return column;
+      }
+    }
+    fail("column " + Arrays.toString(name) + " not found");
+    return null;
+  }
+}
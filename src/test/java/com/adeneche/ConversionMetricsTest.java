@@ -0,0 +1,49 @@
+package com.adeneche;
+
+import com.adeneche.ConversionListener.Stage;
+import junit.framework.TestCase;
+
+public class ConversionMetricsTest extends TestCase {
+
+  private static final int ALLOCATION = 8 << 20;
+
+  private static volatile byte[] sink;
+
+  public void testThreadsExitingDuringStage() throws InterruptedException {
+    final ConversionMetrics metrics = new ConversionMetrics();
+    metrics.stageStarted(Stage.LOAD);
+    final Thread worker = new Thread() {
+      @Override
+      public void run() {
+        sink = new byte[ALLOCATION];
+        metrics.fileProcessed(Stage.LOAD, 1, 1);
+      }
+    };
+    worker.start();
+    worker.join();
+    metrics.stageFinished(Stage.LOAD);
+
+    if (metrics.getAllocatedBytes(Stage.LOAD) >= 0) {
+      assertTrue(metrics.getAllocatedBytes(Stage.LOAD) >= ALLOCATION);
+    }
+  }
+
+  public void testRerunStartsOver() {
+    final ConversionMetrics metrics = new ConversionMetrics();
+    metrics.stageStarted(Stage.WRITE);
+    sink = new byte[ALLOCATION];
+    metrics.fileProcessed(Stage.WRITE, 2, 10);
+    metrics.bytesProcessed(Stage.WRITE, 100);
+    metrics.stageFinished(Stage.WRITE);
+
+    metrics.stageStarted(Stage.WRITE);
+    metrics.fileProcessed(Stage.WRITE, 1, 5);
+    metrics.stageFinished(Stage.WRITE);
+
+    assertEquals(1, metrics.getFiles(Stage.WRITE));
+    assertEquals(1, metrics.getRowGroups(Stage.WRITE));
+    assertEquals(5, metrics.getColumns(Stage.WRITE));
+    assertEquals(0, metrics.getBytes(Stage.WRITE));
+    assertTrue(metrics.getAllocatedBytes(Stage.WRITE) < ALLOCATION);
+  }
+}
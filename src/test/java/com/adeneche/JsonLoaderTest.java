@@ -0,0 +1,191 @@
+package com.adeneche;
+
+import com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.OriginalType;
+import com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.protobuf.ByteString;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+public class JsonLoaderTest extends TestCase {
+
+  private static final String TABLE = "{\"metadata_version\": \"v2\", \"columnTypeInfo\": {"
+    + "\"`a`.`b`\": {\"name\": [\"a\", \"b\"], \"primitiveType\": \"INT64\", \"originalType\": null},"
+    + "\"`s`\": {\"name\": [\"s\"], \"primitiveType\": \"BINARY\", \"originalType\": \"UTF8\", \"scale\": 0},"
+    + "\"`f`\": {\"name\": [\"f\"], \"primitiveType\": \"DOUBLE\", \"originalType\": null}"
+    + "}, \"files\": ["
+    + "{\"path\": \"/t/a/0.parquet\", \"length\": 1000, \"modificationTime\": 12, \"rowGroups\": ["
+    // nulls == 0 with a value, mxValue before name, null mxValue with nulls
+    + "{\"start\": 4, \"length\": 500, \"rowCount\": 10, \"hostAffinity\": {\"h1\": 1.0, \"h2\": 0.5}, \"columns\": ["
+    + "{\"name\": [\"a\", \"b\"], \"mxValue\": 42, \"nulls\": 0},"
+    + "{\"mxValue\": \"x\", \"name\": [\"s\"], \"nulls\": 0},"
+    + "{\"name\": [\"f\"], \"mxValue\": null, \"nulls\": 3}"
+    + "]},"
+    // no value and no nulls, unknown field in a column, mxValue before name for a number
+    + "{\"start\": 504, \"length\": 400, \"rowCount\": 5, \"hostAffinity\": {}, \"columns\": ["
+    + "{\"name\": [\"a\", \"b\"], \"nulls\": 0},"
+    + "{\"name\": [\"s\"], \"nulls\": 2, \"minValue\": \"a\"},"
+    + "{\"mxValue\": 1.5, \"nulls\": 0, \"name\": [\"f\"]}"
+    + "]}]},"
+    + "{\"path\": \"/t/b/1.parquet\", \"length\": 10, \"rowGroups\": []}"
+    + "], \"directories\": [\"/t/a\", \"/t/b\"], \"drillVersion\": \"1.9.0\"}";
+
+  private static Holders.ParquetTableMetadata load(final String json) throws IOException {
+    return new JsonLoader().load(new JsonReader(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))));
+  }
+
+  public void testLoad() throws IOException {
+    final Holders.ParquetTableMetadata table = load(TABLE);
+
+    final Holders.ParquetTableMetadata expected = new Holders.ParquetTableMetadata();
+    final Holders.ColumnTypeMetadata ab =
+      new Holders.ColumnTypeMetadata(new String[] { "a", "b" }, PrimitiveTypeName.INT64, null);
+    final Holders.ColumnTypeMetadata s =
+      new Holders.ColumnTypeMetadata(new String[] { "s" }, PrimitiveTypeName.BINARY, OriginalType.UTF8);
+    final Holders.ColumnTypeMetadata f =
+      new Holders.ColumnTypeMetadata(new String[] { "f" }, PrimitiveTypeName.DOUBLE, null);
+    expected.columnTypeInfo = Maps.newHashMap();
+    for (final Holders.ColumnTypeMetadata column : Arrays.asList(ab, s, f)) {
+      expected.columnTypeInfo.put(column.key(), column);
+    }
+    expected.directories = Arrays.asList("/t/a", "/t/b");
+    expected.files = Lists.newArrayList(
+      new Holders.ParquetFileMetadata("/t/a/0.parquet", 1000L, Lists.newArrayList(
+        new Holders.RowGroupMetadata(4L, 500L, 10L, ImmutableMap.of("h1", 1.0f, "h2", 0.5f), Lists.newArrayList(
+          new Holders.ColumnMetadata(ab.name, ab.primitiveType, 42L, 0L),
+          new Holders.ColumnMetadata(s.name, s.primitiveType, ByteString.copyFromUtf8("x"), 0L),
+          new Holders.ColumnMetadata(f.name, f.primitiveType, null, null))),
+        new Holders.RowGroupMetadata(504L, 400L, 5L, ImmutableMap.<String, Float>of(), Lists.newArrayList(
+          new Holders.ColumnMetadata(s.name, s.primitiveType, null, null),
+          new Holders.ColumnMetadata(f.name, f.primitiveType, 1.5, 0L))))),
+      new Holders.ParquetFileMetadata("/t/b/1.parquet", 10L, Lists.<Holders.RowGroupMetadata>newArrayList()));
+
+    assertTableEquals(expected, table);
+
+    // row group columns share the name of their column type
+    for (final Holders.ParquetFileMetadata file : table.files) {
+      for (final Holders.RowGroupMetadata rowGroup : file.rowGroups) {
+        for (final Holders.ColumnMetadata column : rowGroup.columns) {
+          assertSame(table.getColumnTypeInfo(column.name).name, column.name);
+        }
+      }
+    }
+  }
+
+  public void testParallelLoad() throws IOException {
+    final CacheGenerator generator = new CacheGenerator();
+    generator.numFiles = 300;
+    generator.rowGroupsPerFile = 2;
+    generator.numColumns = 12;
+    final File input = File.createTempFile("metadata", ".json");
+    try {
+      try (OutputStream out = new FileOutputStream(input)) {
+        generator.write(out);
+      }
+      // files must cross the refills of the reader's buffer
+      assertTrue(input.length() > 4 * (1 << 16));
+
+      final Holders.ParquetTableMetadata expected;
+      try (JsonReader reader = new JsonReader(new FileInputStream(input))) {
+        expected = new JsonLoader().load(reader);
+      }
+      for (final int parallelism : new int[] { 1, 3, 8 }) {
+        assertTableEquals(expected, new JsonLoader().load(input, parallelism));
+      }
+    } finally {
+      input.delete();
+    }
+  }
+
+  public void testInvalidParallelism() throws IOException {
+    for (final int parallelism : new int[] { 0, -1 }) {
+      try {
+        new JsonLoader().load(new File("not_read.json"), parallelism);
+        fail();
+      } catch (IllegalArgumentException e) {
+        assertEquals("parallelism must be positive, got " + parallelism, e.getMessage());
+      }
+    }
+  }
+
+  public void testFilesBeforeColumnTypes() throws IOException {
+    try {
+      load("{\"metadata_version\": \"v2\", \"files\": [], \"columnTypeInfo\": {}}");
+      fail();
+    } catch (RuntimeException e) {
+      assertEquals("columnTypeInfo must be defined before files", e.getMessage());
+    }
+  }
+
+  public void testUnknownColumn() throws IOException {
+    try {
+      load("{\"metadata_version\": \"v2\", \"columnTypeInfo\": {}, \"files\": [{\"path\": \"p\", \"rowGroups\": ["
+        + "{\"columns\": [{\"name\": [\"x\"], \"mxValue\": 1, \"nulls\": 0}]}]}]}");
+      fail();
+    } catch (RuntimeException e) {
+      assertEquals("column 'x' not found in columnTypeInfo", e.getMessage());
+    }
+  }
+
+  public void testVersion() throws IOException {
+    try {
+      load("{\"metadata_version\": \"v1\"}");
+      fail();
+    } catch (RuntimeException e) {
+      assertEquals("invalid metadata_version: v1", e.getMessage());
+    }
+  }
+
+  static void assertTableEquals(final Holders.ParquetTableMetadata expected,
+                                final Holders.ParquetTableMetadata table) {
+    assertEquals(expected.directories, table.directories);
+    assertEquals(expected.columnTypeInfo.keySet(), table.columnTypeInfo.keySet());
+    for (final Map.Entry<Holders.ColumnTypeMetadata.Key, Holders.ColumnTypeMetadata> entry
+        : expected.columnTypeInfo.entrySet()) {
+      final Holders.ColumnTypeMetadata column = table.columnTypeInfo.get(entry.getKey());
+      assertTrue(Arrays.equals(entry.getValue().name, column.name));
+      assertEquals(entry.getValue().primitiveType, column.primitiveType);
+      assertEquals(entry.getValue().originalType, column.originalType);
+    }
+
+    assertEquals(expected.files.size(), table.files.size());
+    for (int f = 0; f < expected.files.size(); f++) {
+      assertFileEquals(expected.files.get(f), table.files.get(f));
+    }
+  }
+
+  static void assertFileEquals(final Holders.ParquetFileMetadata expected, final Holders.ParquetFileMetadata file) {
+    assertEquals(expected.path, file.path);
+    assertEquals(expected.length, file.length);
+    assertEquals(expected.rowGroups.size(), file.rowGroups.size());
+
+    for (int r = 0; r < expected.rowGroups.size(); r++) {
+      final Holders.RowGroupMetadata expectedRowGroup = expected.rowGroups.get(r);
+      final Holders.RowGroupMetadata rowGroup = file.rowGroups.get(r);
+      assertEquals(expectedRowGroup.start, rowGroup.start);
+      assertEquals(expectedRowGroup.length, rowGroup.length);
+      assertEquals(expectedRowGroup.rowCount, rowGroup.rowCount);
+      assertEquals(expectedRowGroup.hostAffinity, rowGroup.hostAffinity);
+
+      assertEquals(expectedRowGroup.columns.size(), rowGroup.columns.size());
+      for (int c = 0; c < expectedRowGroup.columns.size(); c++) {
+        final Holders.ColumnMetadata expectedColumn = expectedRowGroup.columns.get(c);
+        final Holders.ColumnMetadata column = rowGroup.columns.get(c);
+        assertTrue(Arrays.equals(expectedColumn.name, column.name));
+        assertEquals(expectedColumn.nulls, column.nulls);
+        assertEquals(expectedColumn.mxValue, column.mxValue);
+      }
+    }
+  }
+}
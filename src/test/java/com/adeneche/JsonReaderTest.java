@@ -0,0 +1,84 @@
+package com.adeneche;
+
+import com.google.protobuf.ByteString;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+public class JsonReaderTest extends TestCase {
+
+  private static JsonReader reader(final String json) {
+    return new JsonReader(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  public void testValues() throws IOException {
+    final JsonReader reader = reader("{\"a\": [1, -25, 123456789012345678901, 1.5e2, true, false, null, \"x\"]}");
+    reader.beginObject();
+    assertEquals("a", reader.nextName());
+    reader.beginArray();
+    assertEquals(1, reader.nextInt());
+    assertEquals(-25L, reader.nextLong());
+    assertEquals("123456789012345678901", reader.nextString());
+    assertEquals(150.0, reader.nextDouble());
+    assertTrue(reader.nextBoolean());
+    assertFalse(reader.nextBoolean());
+    reader.nextNull();
+    assertEquals("x", reader.nextString());
+    assertFalse(reader.hasNext());
+    reader.endArray();
+    reader.endObject();
+    assertEquals(JsonReader.Token.END_DOCUMENT, reader.peek());
+  }
+
+  public void testEscapedStrings() throws IOException {
+    final JsonReader reader = reader("[\"vé\\\"x\", \"\\u00e9\\n\", \"café\"]");
+    reader.beginArray();
+    assertEquals("vé\"x", reader.nextString());
+    assertEquals(ByteString.copyFromUtf8("é\n"), reader.nextUtf8());
+    assertEquals(ByteString.copyFromUtf8("café"), reader.nextUtf8());
+    reader.endArray();
+  }
+
+  public void testSelectAndSkip() throws IOException {
+    final JsonReader.Names names = JsonReader.Names.of("start", "length");
+    final JsonReader reader = reader("{\"other\": {\"a\": [\"]}\", {}]}, \"length\": 7, \"start\": 3}");
+    reader.beginObject();
+    assertEquals(-1, reader.selectName(names));
+    reader.skipValue();
+    assertEquals(1, reader.selectName(names));
+    assertEquals(7, reader.nextLong());
+    assertEquals(0, reader.selectName(names));
+    assertEquals(3, reader.nextLong());
+    reader.endObject();
+  }
+
+  public void testSkipNumbersAcrossBufferRefills() throws IOException {
+    final StringBuilder json = new StringBuilder("[");
+    for (int i = 0; i < 20000; i++) {
+      json.append("1234567,");
+    }
+    json.append("1]");
+
+    final JsonReader reader = reader(json.toString());
+    reader.beginArray();
+    int count = 0;
+    while (reader.hasNext()) {
+      reader.skipValue();
+      count++;
+    }
+    reader.endArray();
+    assertEquals(20001, count);
+  }
+
+  public void testPosition() throws IOException {
+    final JsonReader reader = reader("[ {\"a\": 1}, {\"a\": 2} ]");
+    reader.beginArray();
+    reader.peek();
+    assertEquals(2, reader.position());
+    reader.skipValue();
+    reader.peek();
+    assertEquals(12, reader.position());
+  }
+}
@@ -0,0 +1,550 @@
+package com.adeneche;
+
+import com.adeneche.ConversionListener.Stage;
+import com.adeneche.metadata.Metadata;
+import com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.OriginalType;
+import com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+public class MetadataHolderTest extends TestCase {
+
+  private File cache;
+
+  @Override
+  protected void setUp() throws IOException {
+    cache = File.createTempFile("metadata", ".bin");
+  }
+
+  @Override
+  protected void tearDown() {
+    cache.delete();
+  }
+
+  public void testRoundTrip() throws IOException {
+    final MetadataHolder holder = holder(TestTables.table(1, 100, 20));
+    write(holder, new WriteOptions());
+    assertEquals(holder, read());
+  }
+
+  public void testToParquetTableMetadata() {
+    final MetadataHolder holder = holder(TestTables.table(7, 50, 12));
+    final Holders.ParquetTableMetadata table = holder.toParquetTableMetadata();
+    assertEquals(holder, holder(table));
+
+    // row group columns share their column type's name
+    for (final Holders.ParquetFileMetadata file : table.files) {
+      for (final Holders.RowGroupMetadata rowGroup : file.rowGroups) {
+        for (final Holders.ColumnMetadata column : rowGroup.columns) {
+          assertSame(table.getColumnTypeInfo(column.name).name, column.name);
+        }
+      }
+    }
+  }
+
+  public void testRelativePaths() {
+    final Holders.ParquetTableMetadata table = TestTables.table(8, 4, 5);
+    table.directories = Lists.newArrayList("/table/", "/table/a");
+    table.files.get(1).path = "/elsewhere/file_1.parquet";
+
+    assertFalse(new ProtoBuilder(table).buildFiles().get(0).hasDirectory());
+
+    final WriteOptions relativePaths = new WriteOptions();
+    relativePaths.relativePaths = true;
+    final List<Metadata.ParquetFileMetadata> files =
+      new ProtoBuilder(table, relativePaths, ConversionListener.NONE).buildFiles();
+    assertEquals(1, files.get(0).getDirectory());
+    assertEquals("file_0.parquet", files.get(0).getPath());
+    assertFalse(files.get(1).hasDirectory());
+    assertEquals(0, files.get(3).getDirectory());
+    assertEquals("b/file_3.parquet", files.get(3).getPath());
+
+    final Holders.ParquetTableMetadata parsed = holder(table, relativePaths).toParquetTableMetadata();
+    for (int f = 0; f < table.files.size(); f++) {
+      assertEquals(table.files.get(f).path, parsed.files.get(f).path);
+    }
+  }
+
+  public void testStartDeltas() {
+    final Holders.ParquetTableMetadata table = TestTables.table(12, 3, 5);
+    // a gap before the first row group of file 1, and row groups out of order in file 2
+    table.files.get(1).rowGroups.get(0).start += 10;
+    final List<Holders.RowGroupMetadata> rowGroups = table.files.get(2).rowGroups;
+    rowGroups.add(rowGroups.remove(0));
+
+    assertEquals(4, new ProtoBuilder(table).buildFiles().get(0).getRowGroups(0).getStart());
+
+    final WriteOptions startDeltas = new WriteOptions();
+    startDeltas.startDeltas = true;
+    final List<Metadata.ParquetFileMetadata> files =
+      new ProtoBuilder(table, startDeltas, ConversionListener.NONE).buildFiles();
+    for (final Metadata.ParquetFileMetadata.RowGroup rowGroup : files.get(0).getRowGroupsList()) {
+      assertFalse(rowGroup.hasStart());
+      assertFalse(rowGroup.hasStartDelta());
+    }
+    assertEquals(10, files.get(1).getRowGroups(0).getStartDelta());
+
+    final Holders.ParquetTableMetadata parsed = holder(table, startDeltas).toParquetTableMetadata();
+    for (int f = 0; f < table.files.size(); f++) {
+      for (int r = 0; r < table.files.get(f).rowGroups.size(); r++) {
+        assertEquals(table.files.get(f).rowGroups.get(r).start, parsed.files.get(f).rowGroups.get(r).start);
+      }
+    }
+  }
+
+  public void testEncodings() throws IOException {
+    final Holders.ParquetTableMetadata table = TestTables.table(14, 30, 8);
+    table.directories = Lists.newArrayList("/table/a");
+    final MetadataHolder plain = holder(table);
+    final MetadataHolder encoded = holder(table, encodings());
+    assertFalse(plain.getHeader().getHostDictionary());
+    assertTrue(encoded.getHeader().getHostDictionary());
+    assertTrue(encoded.getHeader().getRelativePaths());
+    assertTrue(encoded.getHeader().getStartDeltas());
+
+    // the files are converted to the encodings of the options when they don't match the holder's
+    write(plain, encodings());
+    assertEquals(encoded, read());
+    write(encoded, new WriteOptions());
+    assertEquals(plain, read());
+    write(encoded, encodings());
+    assertEquals(encoded, read());
+
+    // the holders keep their own encodings
+    assertFalse(plain.getHeader().getHostDictionary());
+    assertTrue(encoded.getHeader().getStartDeltas());
+    assertEquals(plain, holder(encoded.toParquetTableMetadata()));
+  }
+
+  public void testColumnStats() throws IOException {
+    // chunks without nulls or max value aren't written, so columns are missing from some row groups
+    final Holders.ParquetTableMetadata table = TestTables.table(13, 100, 15);
+    for (final Metadata.ParquetFileMetadata file : new ProtoBuilder(table).buildFiles()) {
+      final Metadata.ParquetFileMetadata columnStats = ColumnStatsLayout.toColumnStats(file);
+      assertEquals(Utils.numColumns(file), Utils.numColumns(columnStats));
+      assertEquals(file, ColumnStatsLayout.toRowGroupColumns(columnStats));
+    }
+
+    final WriteOptions options = new WriteOptions();
+    options.columnStats = true;
+    write(holder(table), options);
+    final MetadataHolder columnar = read();
+    assertTrue(columnar.getHeader().getColumnStats());
+    assertEquals(holder(table), holder(columnar.toParquetTableMetadata()));
+
+    // written back by row group
+    write(columnar, new WriteOptions());
+    assertEquals(holder(table), read());
+  }
+
+  public void testProjection() throws IOException {
+    final MetadataHolder holder = holder(TestTables.table(14, 100, 15));
+    final Metadata.MetadataColumns columns = holder.getColumns();
+    final List<String> projected = Lists.newArrayList(columns.getColumns(2).getName(),
+      columns.getColumns(9).getName(), "not.there");
+
+    for (final boolean columnStats : new boolean[] { false, true }) {
+      final WriteOptions options = new WriteOptions();
+      options.columnStats = columnStats;
+      options.compression = Metadata.MetadataHeader.Compression.DEFLATE;
+      write(holder, options);
+      final List<Metadata.ParquetFileMetadata> files = read().getFiles();
+
+      final MetadataHolder streamed = new MetadataHolder();
+      try (FileInputStream stream = new FileInputStream(cache)) {
+        streamed.parseFrom(CodedInputStream.newInstance(stream), projected);
+      }
+      final MetadataHolder mapped = new MetadataHolder();
+      mapped.parseFrom(cache.getPath(), 4, projected);
+      assertEquals(streamed, mapped);
+      assertEquals(columns, mapped.getColumns());
+
+      for (int f = 0; f < files.size(); f++) {
+        final Metadata.ParquetFileMetadata.Builder expected = files.get(f).toBuilder();
+        for (final Metadata.ParquetFileMetadata.RowGroup.Builder rowGroup : expected.getRowGroupsBuilderList()) {
+          final List<Metadata.ParquetFileMetadata.RowGroup.ColumnMetadata> kept = Lists.newArrayList();
+          for (final Metadata.ParquetFileMetadata.RowGroup.ColumnMetadata column : rowGroup.getColumnsList()) {
+            if (column.getName() == 2 || column.getName() == 9) {
+              kept.add(column);
+            }
+          }
+          rowGroup.clearColumns().addAllColumns(kept);
+        }
+        final List<Metadata.ParquetFileMetadata.ColumnStats> kept = Lists.newArrayList();
+        for (final Metadata.ParquetFileMetadata.ColumnStats stats : expected.getColumnStatsList()) {
+          if (stats.getName() == 2 || stats.getName() == 9) {
+            kept.add(stats);
+          }
+        }
+        expected.clearColumnStats().addAllColumnStats(kept);
+        assertEquals(expected.build(), mapped.getFiles().get(f));
+      }
+    }
+  }
+
+  public void testPrune() throws IOException {
+    final Holders.ParquetTableMetadata table = new Holders.ParquetTableMetadata();
+    final Holders.ColumnTypeMetadata a = new Holders.ColumnTypeMetadata(new String[] { "a" }, PrimitiveTypeName.INT64,
+      null);
+    final Holders.ColumnTypeMetadata b = new Holders.ColumnTypeMetadata(new String[] { "s", "b" },
+      PrimitiveTypeName.BINARY, OriginalType.UTF8);
+    table.columnTypeInfo = Maps.newHashMap();
+    table.columnTypeInfo.put(a.key(), a);
+    table.columnTypeInfo.put(b.key(), b);
+    table.directories = Lists.newArrayList();
+    final Map<String, Float> affinity = Maps.newHashMap();
+    // row group 1 of file_0 only has nulls in a
+    table.files = Lists.newArrayList(
+      new Holders.ParquetFileMetadata("/t/file_0.parquet", 300L, Lists.newArrayList(
+        new Holders.RowGroupMetadata(4L, 100L, 10L, affinity, Lists.newArrayList(
+          new Holders.ColumnMetadata(a.name, a.primitiveType, 5L, 0L),
+          new Holders.ColumnMetadata(b.name, b.primitiveType, ByteString.copyFromUtf8("x"), 0L))),
+        new Holders.RowGroupMetadata(104L, 100L, 10L, affinity, Lists.newArrayList(
+          new Holders.ColumnMetadata(a.name, a.primitiveType, null, 10L))))),
+      new Holders.ParquetFileMetadata("/t/file_1.parquet", 200L, Lists.newArrayList(
+        new Holders.RowGroupMetadata(4L, 100L, 10L, affinity, Lists.newArrayList(
+          new Holders.ColumnMetadata(a.name, a.primitiveType, 7L, 2L),
+          new Holders.ColumnMetadata(b.name, b.primitiveType, ByteString.copyFromUtf8("y"), null))))));
+    final MetadataHolder holder = holder(table);
+
+    final Map<String, List<Integer>> file0 = ImmutableMap.of("/t/file_0.parquet", Arrays.asList(0));
+    final Map<String, List<Integer>> file1 = ImmutableMap.of("/t/file_1.parquet", Arrays.asList(0));
+    final Map<String, List<Integer>> all = ImmutableMap.of("/t/file_0.parquet", Arrays.asList(0, 1),
+      "/t/file_1.parquet", Arrays.asList(0));
+    final List<List<ColumnPredicate>> predicates = Lists.newArrayList();
+    final List<Map<String, List<Integer>>> expected = Lists.newArrayList();
+    predicates.add(Arrays.asList(ColumnPredicate.eq("a", 5L)));
+    expected.add(file0);
+    predicates.add(Arrays.asList(ColumnPredicate.gt("a", 5)));
+    expected.add(file1);
+    predicates.add(Arrays.asList(ColumnPredicate.lt("a", 6L)));
+    expected.add(file0);
+    predicates.add(Arrays.asList(ColumnPredicate.in("a", 1L, 7L, 9L)));
+    expected.add(file1);
+    predicates.add(Arrays.asList(ColumnPredicate.in("a", 6L)));
+    expected.add(ImmutableMap.<String, List<Integer>>of());
+    predicates.add(Arrays.asList(ColumnPredicate.isNull("a")));
+    expected.add(all);
+    predicates.add(Arrays.asList(ColumnPredicate.gt("a", 1L), ColumnPredicate.eq("s.b", "y")));
+    expected.add(file1);
+    predicates.add(Arrays.asList(ColumnPredicate.eq("not.there", 1L)));
+    expected.add(all);
+
+    final WriteOptions options = new WriteOptions();
+    options.columnStats = true;
+    write(holder, options);
+    for (int i = 0; i < predicates.size(); i++) {
+      assertEquals(predicates.get(i).toString(), expected.get(i), holder.prune(predicates.get(i)));
+      assertEquals(predicates.get(i).toString(), expected.get(i),
+        RowGroupPruner.prune(cache.getPath(), predicates.get(i)));
+    }
+
+    try {
+      holder.prune(Arrays.asList(ColumnPredicate.eq("a", "5")));
+      fail("a string can't be compared to an INT64");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+
+  public void testPruneUnknownCounts() throws IOException {
+    final Holders.ParquetTableMetadata table = new Holders.ParquetTableMetadata();
+    final Holders.ColumnTypeMetadata a = new Holders.ColumnTypeMetadata(new String[] { "a" }, PrimitiveTypeName.INT64,
+      null);
+    table.columnTypeInfo = Maps.newHashMap();
+    table.columnTypeInfo.put(a.key(), a);
+    table.directories = Lists.newArrayList();
+    final Map<String, Float> affinity = Maps.newHashMap();
+    // the null count of row group 0 and the row count of row group 1 aren't known
+    table.files = Lists.newArrayList(
+      new Holders.ParquetFileMetadata("/t/file_0.parquet", 300L, Lists.newArrayList(
+        new Holders.RowGroupMetadata(4L, 100L, 10L, affinity, Lists.newArrayList(
+          new Holders.ColumnMetadata(a.name, a.primitiveType, 5L, -1L))),
+        new Holders.RowGroupMetadata(104L, 100L, -1L, affinity, Lists.newArrayList(
+          new Holders.ColumnMetadata(a.name, a.primitiveType, null, 3L))))));
+    final MetadataHolder holder = holder(table);
+
+    final Map<String, List<Integer>> both = ImmutableMap.of("/t/file_0.parquet", Arrays.asList(0, 1));
+    final Map<String, List<Integer>> second = ImmutableMap.of("/t/file_0.parquet", Arrays.asList(1));
+    final WriteOptions options = new WriteOptions();
+    options.columnStats = true;
+    write(holder, options);
+    for (final MetadataHolder parsed : Arrays.asList(holder, read())) {
+      assertEquals(both, parsed.prune(Arrays.asList(ColumnPredicate.isNull("a"))));
+      assertEquals(both, parsed.prune(Arrays.asList(ColumnPredicate.eq("a", 5L))));
+      assertEquals(second, parsed.prune(Arrays.asList(ColumnPredicate.eq("a", 6L))));
+    }
+  }
+
+  public void testMetrics() throws IOException {
+    final Holders.ParquetTableMetadata table = TestTables.table(6, 200, 10);
+    final ConversionMetrics metrics = new ConversionMetrics();
+    final MetadataHolder holder = new MetadataHolder();
+    holder.setListener(metrics);
+    holder.parseFrom(table, 4);
+    write(holder, new WriteOptions());
+
+    final Stage[] stages = { Stage.BUILD, Stage.WRITE };
+    for (final Stage stage : stages) {
+      assertEquals(200, metrics.getFiles(stage));
+      assertEquals(metrics.getRowGroups(Stage.BUILD), metrics.getRowGroups(stage));
+      assertEquals(metrics.getColumns(Stage.BUILD), metrics.getColumns(stage));
+    }
+    assertEquals(cache.length(), metrics.getBytes(Stage.WRITE));
+
+    // a stage that runs again starts over
+    write(holder, new WriteOptions());
+    assertEquals(200, metrics.getFiles(Stage.WRITE));
+    assertEquals(cache.length(), metrics.getBytes(Stage.WRITE));
+  }
+
+  public void testMappedRead() throws IOException {
+    final MetadataHolder holder = holder(TestTables.table(3, 100, 20));
+    write(holder, new WriteOptions());
+
+    final MetadataHolder mapped = new MetadataHolder();
+    mapped.parseFrom(cache.getPath());
+    assertEquals(holder, mapped);
+  }
+
+  public void testParallelRead() throws IOException {
+    final MetadataHolder holder = holder(TestTables.table(5, 500, 10));
+    write(holder, new WriteOptions());
+
+    final MetadataHolder parallel = new MetadataHolder();
+    parallel.parseFrom(cache.getPath(), 4);
+    assertEquals(holder, parallel);
+  }
+
+  public void testLazyRead() throws IOException {
+    final MetadataHolder holder = holder(TestTables.table(4, 100, 20));
+    write(holder, new WriteOptions());
+
+    for (final boolean cacheFiles : new boolean[] { false, true }) {
+      final MetadataHolder lazy = new MetadataHolder();
+      try (MappedMetadataReader reader = new MappedMetadataReader(cache.getPath())) {
+        lazy.parseLazily(reader, cacheFiles);
+      }
+      assertEquals(holder, lazy);
+    }
+  }
+
+  public void testIndex() throws IOException {
+    final MetadataHolder holder = holder(TestTables.table(2, 100, 20));
+    final WriteOptions options = new WriteOptions();
+    options.index = true;
+    write(holder, options);
+
+    // the index is ignored by sequential readers
+    assertEquals(holder, read());
+
+    try (IndexedMetadataReader reader = new IndexedMetadataReader(cache.getPath())) {
+      assertEquals(100, reader.getNumFiles());
+      assertEquals(20, reader.getNumColumns());
+      for (int i = 0; i < reader.getNumFiles(); i++) {
+        final Metadata.ParquetFileMetadata file = reader.getFile(i);
+        assertEquals(file, reader.getFile(reader.getPath(file)));
+      }
+      assertNull(reader.getFile("/not/there"));
+    }
+  }
+
+  public void testGetFile() throws IOException {
+    final Holders.ParquetTableMetadata table = TestTables.table(15, 300, 5);
+    final WriteOptions options = encodings();
+    options.columnStats = true;
+    options.index = true;
+    final MetadataHolder holder = holder(table, options);
+    write(holder, options);
+
+    // the index is built from the paths, or read from the cache
+    final MetadataHolder lazy = new MetadataHolder();
+    try (MappedMetadataReader reader = new MappedMetadataReader(cache.getPath())) {
+      lazy.parseLazily(reader, false);
+    }
+    final Holders.ParquetTableMetadata decoded = holder.toParquetTableMetadata();
+    for (final MetadataHolder parsed : Arrays.asList(holder, read(), lazy)) {
+      for (int f = 0; f < table.files.size(); f++) {
+        // files are decoded from the encodings of the cache
+        JsonLoaderTest.assertFileEquals(decoded.files.get(f), parsed.getFile(table.files.get(f).path));
+      }
+      assertNull(parsed.getFile("/not/there"));
+    }
+
+    // the index follows updates, file_0 is replaced by itself after file_1 is removed
+    holder.update(TestTables.table(15, 1, 5), Lists.newArrayList(table.files.get(1).path));
+    final Holders.ParquetTableMetadata updated = holder.toParquetTableMetadata();
+    JsonLoaderTest.assertFileEquals(updated.files.get(0), holder.getFile(table.files.get(0).path));
+    JsonLoaderTest.assertFileEquals(updated.files.get(1), holder.getFile(table.files.get(2).path));
+    assertNull(holder.getFile(table.files.get(1).path));
+  }
+
+  public void testMetadataCache() throws IOException {
+    final MetadataHolder holder = holder(TestTables.table(16, 50, 5));
+    write(holder, new WriteOptions());
+    final File other = File.createTempFile("metadata", ".bin");
+    try {
+      try (FileOutputStream stream = new FileOutputStream(other)) {
+        holder(TestTables.table(17, 50, 5)).writeTo(CodedOutputStream.newInstance(stream));
+      }
+
+      // room for one of the caches only
+      final MetadataCache metadataCache = new MetadataCache(cache.length() * 3 / 2, 2);
+      final MetadataHolder cached = metadataCache.get(cache.getPath());
+      assertEquals(holder, cached);
+      assertSame(cached, metadataCache.get(cache.getAbsoluteFile().getParent() + "/./" + cache.getName()));
+      assertEquals(1, metadataCache.stats().hitCount());
+      assertEquals(1, metadataCache.stats().missCount());
+
+      // shared holders can't be changed
+      assertTrue(cached.isReadOnly());
+      try {
+        cached.update(TestTables.table(16, 1, 5), Lists.<String>newArrayList());
+        fail();
+      } catch (IllegalStateException e) {
+        assertEquals("holder is read only", e.getMessage());
+      }
+      try {
+        cached.getFiles().clear();
+        fail();
+      } catch (UnsupportedOperationException e) {
+        // expected
+      }
+      assertEquals(holder, cached);
+
+      metadataCache.get(other.getPath());
+      assertEquals(1, metadataCache.stats().evictionCount());
+      assertNotSame(cached, metadataCache.get(cache.getPath()));
+
+      // a new version of the cache is parsed again
+      final MetadataHolder updated = holder(TestTables.table(18, 40, 5));
+      write(updated, new WriteOptions());
+      assertTrue(cache.setLastModified(cache.lastModified() - 10000));
+      assertEquals(updated, metadataCache.get(cache.getPath()));
+      assertEquals(4, metadataCache.stats().missCount());
+    } finally {
+      other.delete();
+    }
+  }
+
+  public void testCompression() throws IOException {
+    final Holders.ParquetTableMetadata table = TestTables.table(9, 100, 15);
+    final MetadataHolder holder = holder(table);
+    final WriteOptions options = new WriteOptions();
+    options.index = true;
+    options.compression = Metadata.MetadataHeader.Compression.DEFLATE;
+    // the last block only has 2 files
+    options.blockFiles = 7;
+    write(holder, options);
+
+    assertEquals(holder, read());
+    final MetadataHolder mapped = new MetadataHolder();
+    mapped.parseFrom(cache.getPath(), 4);
+    assertEquals(holder, mapped);
+    for (final boolean cacheFiles : new boolean[] { false, true }) {
+      final MetadataHolder lazy = new MetadataHolder();
+      try (MappedMetadataReader reader = new MappedMetadataReader(cache.getPath())) {
+        lazy.parseLazily(reader, cacheFiles);
+      }
+      assertEquals(holder, lazy);
+    }
+
+    final List<Metadata.ParquetFileMetadata> files = new ProtoBuilder(table).buildFiles();
+    try (IndexedMetadataReader reader = new IndexedMetadataReader(cache.getPath())) {
+      for (int i = 0; i < files.size(); i++) {
+        assertEquals(files.get(i), reader.getFile(i));
+        assertEquals(files.get(i), reader.getFile(reader.getPath(files.get(i))));
+      }
+    }
+  }
+
+  public void testUpdate() throws IOException {
+    checkUpdate(new WriteOptions());
+    checkUpdate(encodings());
+  }
+
+  private void checkUpdate(final WriteOptions encoding) throws IOException {
+    final Holders.ParquetTableMetadata table = TestTables.table(10, 50, 10);
+    final MetadataHolder holder = holder(table, encoding);
+    final List<Metadata.ParquetFileMetadata> files = new ProtoBuilder(table, encoding, ConversionListener.NONE)
+      .buildFiles();
+
+    // replaces files 0 to 8, adds a file in a new directory with new columns and hosts, and removes file 11
+    final Holders.ParquetTableMetadata delta = TestTables.table(11, 10, 12);
+    delta.directories = Lists.newArrayList("/table/a", "/table/b", "/table/c");
+    delta.files.get(9).path = "/table/c/file_50.parquet";
+    delta.files.get(9).rowGroups.get(0).hostAffinity.put("new_host", 0.5f);
+    holder.update(delta, Lists.newArrayList("/table/b/file_11.parquet", "/not/there"));
+    write(holder, encoding);
+    final MetadataHolder updated = read();
+    assertEquals(holder, updated);
+    assertEquals(encoding.hostDictionary, updated.getHeader().getHostDictionary());
+
+    final Holders.ParquetTableMetadata expected = TestTables.table(10, 50, 10);
+    expected.directories = delta.directories;
+    expected.columnTypeInfo.putAll(delta.columnTypeInfo);
+    for (int f = 0; f < 9; f++) {
+      expected.files.set(f, delta.files.get(f));
+    }
+    expected.files.remove(11);
+    expected.files.add(delta.files.get(9));
+    assertEquals(holder(expected), holder(updated.toParquetTableMetadata()));
+
+    // files of the cache are kept as they were
+    try (MappedMetadataReader reader = new MappedMetadataReader(cache.getPath())) {
+      final List<Metadata.ParquetFileMetadata> updatedFiles = reader.readFiles();
+      assertEquals(files.get(9), updatedFiles.get(9));
+      assertEquals(files.get(10), updatedFiles.get(10));
+      for (int f = 12; f < 50; f++) {
+        assertEquals(files.get(f), updatedFiles.get(f - 1));
+      }
+    }
+  }
+
+  static MetadataHolder holder(final Holders.ParquetTableMetadata table) {
+    final MetadataHolder holder = new MetadataHolder();
+    holder.parseFrom(table);
+    return holder;
+  }
+
+  private static MetadataHolder holder(final Holders.ParquetTableMetadata table, final WriteOptions encoding) {
+    final MetadataHolder holder = new MetadataHolder();
+    holder.parseFrom(table, 1, encoding);
+    return holder;
+  }
+
+  private static WriteOptions encodings() {
+    final WriteOptions options = new WriteOptions();
+    options.hostDictionary = true;
+    options.relativePaths = true;
+    options.startDeltas = true;
+    return options;
+  }
+
+  private void write(final MetadataHolder holder, final WriteOptions options) throws IOException {
+    try (FileOutputStream stream = new FileOutputStream(cache)) {
+      holder.writeTo(CodedOutputStream.newInstance(stream), options);
+    }
+  }
+
+  private MetadataHolder read() throws IOException {
+    final MetadataHolder holder = new MetadataHolder();
+    try (FileInputStream stream = new FileInputStream(cache)) {
+      holder.parseFrom(CodedInputStream.newInstance(stream));
+    }
+    return holder;
+  }
+}
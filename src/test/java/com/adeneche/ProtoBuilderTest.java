@@ -0,0 +1,66 @@
+package com.adeneche;
+
+import com.google.common.collect.Lists;
+import junit.framework.TestCase;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class ProtoBuilderTest extends TestCase {
+
+  public void testRepeatedConversionsAreIdentical() {
+    final Holders.ParquetTableMetadata table = TestTables.table(1, 20, 10);
+    final MetadataHolder first = convert(table);
+
+    convert(TestTables.table(2, 20, 30));
+
+    assertEquals(first, convert(table));
+  }
+
+  public void testParallelBuildKeepsOrder() {
+    final ProtoBuilder protoBuilder = new ProtoBuilder(TestTables.table(3, 1000, 12));
+    assertEquals(protoBuilder.buildFiles(), protoBuilder.buildFiles(4));
+  }
+
+  /**
+   * converts different tables from many threads at once, every conversion must match the single threaded one
+   */
+  public void testConcurrentConversions() throws Exception {
+    final int numTables = 8;
+    final List<Holders.ParquetTableMetadata> tables = Lists.newArrayList();
+    final List<MetadataHolder> expected = Lists.newArrayList();
+    for (int i = 0; i < numTables; i++) {
+      tables.add(TestTables.table(i + 1, 50, 5 + i * 7));
+      expected.add(convert(tables.get(i)));
+    }
+
+    final ExecutorService executor = Executors.newFixedThreadPool(numTables);
+    try {
+      final List<Future<Boolean>> results = Lists.newArrayList();
+      for (int i = 0; i < numTables * 25; i++) {
+        final int table = i % numTables;
+        results.add(executor.submit(new Callable<Boolean>() {
+          @Override
+          public Boolean call() {
+            return expected.get(table).equals(convert(tables.get(table)));
+          }
+        }));
+      }
+
+      for (final Future<Boolean> result : results) {
+        assertTrue(result.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static MetadataHolder convert(final Holders.ParquetTableMetadata table) {
+    final MetadataHolder holder = new MetadataHolder();
+    holder.parseFrom(table);
+    return holder;
+  }
+}
@@ -0,0 +1,68 @@
+package com.adeneche;
+
+import com.adeneche.metadata.Metadata.MetadataHeader.Compression;
+import com.google.protobuf.CodedOutputStream;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+public class StreamingConverterTest extends TestCase {
+
+  private File input;
+
+  @Override
+  protected void setUp() throws IOException {
+    final CacheGenerator generator = new CacheGenerator();
+    generator.numFiles = 200;
+    generator.rowGroupsPerFile = 2;
+    generator.numColumns = 10;
+    generator.hostsPerRowGroup = 2;
+    input = File.createTempFile("metadata", ".json");
+    try (OutputStream out = new FileOutputStream(input)) {
+      generator.write(out);
+    }
+  }
+
+  @Override
+  protected void tearDown() {
+    input.delete();
+  }
+
+  public void testSameBytesAsHolder() throws IOException {
+    final WriteOptions compressed = new WriteOptions();
+    compressed.compression = Compression.DEFLATE;
+    compressed.blockFiles = 16;
+    compressed.index = true;
+    final WriteOptions columnStats = new WriteOptions();
+    columnStats.columnStats = true;
+    final WriteOptions encodings = new WriteOptions();
+    encodings.hostDictionary = true;
+    encodings.relativePaths = true;
+    encodings.startDeltas = true;
+    encodings.index = true;
+
+    for (final WriteOptions options : Arrays.asList(new WriteOptions(), compressed, columnStats, encodings)) {
+      final ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+      final CodedOutputStream streamedOutput = CodedOutputStream.newInstance(streamed);
+      new StreamingConverter(input).convert(streamedOutput, options);
+      streamedOutput.flush();
+
+      final MetadataHolder holder = new MetadataHolder();
+      try (JsonReader reader = new JsonReader(new FileInputStream(input))) {
+        holder.parseFrom(new JsonLoader().load(reader));
+      }
+      final ByteArrayOutputStream written = new ByteArrayOutputStream();
+      final CodedOutputStream writtenOutput = CodedOutputStream.newInstance(written);
+      holder.writeTo(writtenOutput, options);
+      writtenOutput.flush();
+
+      assertTrue(Arrays.equals(written.toByteArray(), streamed.toByteArray()));
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.adeneche;
+
+import com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.OriginalType;
+import com.adeneche.metadata.Metadata.MetadataColumns.ColumnTypeInfo.PrimitiveTypeName;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.protobuf.ByteString;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Builds small random tables for the tests
+ */
+class TestTables {
+
+  static Holders.ParquetTableMetadata table(final long seed, final int numFiles, final int numColumns) {
+    final Random random = new Random(seed);
+    final PrimitiveTypeName[] types = PrimitiveTypeName.values();
+
+    final Holders.ParquetTableMetadata table = new Holders.ParquetTableMetadata();
+    table.columnTypeInfo = Maps.newHashMap();
+    final List<Holders.ColumnTypeMetadata> columns = Lists.newArrayList();
+    for (int c = 0; c < numColumns; c++) {
+      // columns names depend on the seed so different tables have different dictionaries
+      final String[] name = c % 3 == 0 ? new String[] { "s" + seed, "c" + c } : new String[] { "c" + (c * seed) };
+      final PrimitiveTypeName type = types[random.nextInt(types.length)];
+      final Holders.ColumnTypeMetadata column =
+        new Holders.ColumnTypeMetadata(name, type, type == PrimitiveTypeName.BINARY ? OriginalType.UTF8 : null);
+      table.columnTypeInfo.put(column.key(), column);
+      columns.add(column);
+    }
+
+    table.directories = Lists.newArrayList("/table/a", "/table/b");
+    table.files = Lists.newArrayList();
+    for (int f = 0; f < numFiles; f++) {
+      final List<Holders.RowGroupMetadata> rowGroups = Lists.newArrayList();
+      long start = 4;
+      for (int r = 0; r < 1 + random.nextInt(3); r++) {
+        final long length = 100 + random.nextInt(1000);
+        final Map<String, Float> affinity = Maps.newHashMap();
+        for (int h = 0; h < random.nextInt(4); h++) {
+          affinity.put("host" + random.nextInt(10), random.nextFloat());
+        }
+        final List<Holders.ColumnMetadata> rowGroupColumns = Lists.newArrayList();
+        for (final Holders.ColumnTypeMetadata column : columns) {
+          final Object mxValue = random.nextBoolean() ? value(random, column.primitiveType) : null;
+          rowGroupColumns.add(new Holders.ColumnMetadata(column.name, column.primitiveType, mxValue,
+            mxValue == null ? (long) random.nextInt(5) : null));
+        }
+        rowGroups.add(new Holders.RowGroupMetadata(start, length, (long) random.nextInt(1000), affinity,
+          rowGroupColumns));
+        start += length;
+      }
+      table.files.add(new Holders.ParquetFileMetadata("/table/" + (f % 2 == 0 ? "a" : "b") + "/file_" + f
+        + ".parquet", start + 100, rowGroups));
+    }
+    return table;
+  }
+
+  private static Object value(final Random random, final PrimitiveTypeName type) {
+    switch (type) {
+      case INT64:
+        return random.nextLong();
+      case INT32:
+        return random.nextInt();
+      case BOOLEAN:
+        return random.nextBoolean();
+      case FLOAT:
+        return random.nextFloat();
+      case DOUBLE:
+        return random.nextDouble();
+      default:
+        return ByteString.copyFromUtf8("v" + random.nextInt(100));
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package com.adeneche;
+
+import com.adeneche.metadata.Metadata;
+import com.adeneche.metadata.Metadata.MetadataHeader.Compression;
+import com.google.common.collect.Lists;
+import com.google.protobuf.CodedOutputStream;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+public class UpdateCacheTest extends TestCase {
+
+  private File cache;
+
+  @Override
+  protected void setUp() throws IOException {
+    cache = File.createTempFile("metadata", ".bin");
+  }
+
+  @Override
+  protected void tearDown() {
+    cache.delete();
+  }
+
+  public void testSameBytesAsHolder() throws IOException {
+    final WriteOptions indexed = new WriteOptions();
+    indexed.index = true;
+    final WriteOptions compressed = new WriteOptions();
+    compressed.compression = Compression.DEFLATE;
+    compressed.blockFiles = 7;
+    compressed.index = true;
+    final WriteOptions columnStats = new WriteOptions();
+    columnStats.columnStats = true;
+    final WriteOptions encodings = new WriteOptions();
+    encodings.hostDictionary = true;
+    encodings.relativePaths = true;
+    encodings.startDeltas = true;
+    encodings.columnStats = true;
+    encodings.index = true;
+
+    for (final WriteOptions options : Arrays.asList(new WriteOptions(), indexed, compressed, columnStats, encodings)) {
+      final MetadataHolder holder = new MetadataHolder();
+      holder.parseFrom(TestTables.table(10, 50, 10), 1, options);
+      try (FileOutputStream stream = new FileOutputStream(cache)) {
+        holder.writeTo(CodedOutputStream.newInstance(stream), options);
+      }
+
+      // replaces files 0 to 8 and file_2 twice, adds a file in a new directory with new columns and hosts, and
+      // removes file 11
+      final Holders.ParquetTableMetadata delta = TestTables.table(11, 11, 12);
+      delta.directories = Lists.newArrayList("/table/a", "/table/b", "/table/c");
+      delta.files.get(9).path = "/table/c/file_50.parquet";
+      delta.files.get(9).rowGroups.get(0).hostAffinity.put("new_host", 0.5f);
+      delta.files.get(10).path = delta.files.get(2).path;
+      final List<String> removed = Lists.newArrayList("/table/b/file_11.parquet", "/not/there");
+
+      final ByteArrayOutputStream copied = new ByteArrayOutputStream();
+      final CodedOutputStream copiedOutput = CodedOutputStream.newInstance(copied);
+      try (MappedMetadataReader reader = new MappedMetadataReader(cache.getPath())) {
+        UpdateCache.update(reader, delta, removed, copiedOutput, ConversionListener.NONE);
+      }
+
+      final MetadataHolder updated = new MetadataHolder();
+      updated.parseFrom(cache.getPath());
+      updated.update(delta, removed);
+      final ByteArrayOutputStream written = new ByteArrayOutputStream();
+      final CodedOutputStream writtenOutput = CodedOutputStream.newInstance(written);
+      updated.writeTo(writtenOutput, WriteOptions.of(updated.getHeader()));
+      writtenOutput.flush();
+
+      assertTrue(Arrays.equals(written.toByteArray(), copied.toByteArray()));
+    }
+  }
+
+  public void testMetrics() throws IOException {
+    final WriteOptions options = new WriteOptions();
+    options.columnStats = true;
+    final MetadataHolder holder = new MetadataHolder();
+    holder.parseFrom(TestTables.table(12, 20, 8), 1, options);
+    try (FileOutputStream stream = new FileOutputStream(cache)) {
+      holder.writeTo(CodedOutputStream.newInstance(stream), options);
+    }
+
+    // copied records report the same row groups and columns as decoded ones
+    final ConversionMetrics metrics = new ConversionMetrics();
+    try (MappedMetadataReader reader = new MappedMetadataReader(cache.getPath())) {
+      UpdateCache.update(reader, TestTables.table(13, 0, 8), Lists.<String>newArrayList(),
+        CodedOutputStream.newInstance(new ByteArrayOutputStream()), metrics);
+    }
+    long rowGroups = 0;
+    long columns = 0;
+    for (final Metadata.ParquetFileMetadata file : holder.getFiles()) {
+      rowGroups += file.getRowGroupsCount();
+      columns += Utils.numColumns(file);
+    }
+    for (final ConversionListener.Stage stage : Arrays.asList(ConversionListener.Stage.PARSE,
+        ConversionListener.Stage.WRITE)) {
+      assertEquals(20, metrics.getFiles(stage));
+      assertEquals(rowGroups, metrics.getRowGroups(stage));
+      assertEquals(columns, metrics.getColumns(stage));
+    }
+  }
+}